@@ -12,7 +12,7 @@ import com.knezevic.edaf.v3.repr.types.RealVector;
 /**
  * Dedicated low-rank covariance EDA driver for high-dimensional continuous optimization.
  *
- * <p>Typical paired model approximates covariance as:
+ * <p>Typical paired model ({@code gaussian-lowrank}) approximates covariance as:
  * <pre>
  *   Σ ≈ U U^T + diag(v)
  * </pre>
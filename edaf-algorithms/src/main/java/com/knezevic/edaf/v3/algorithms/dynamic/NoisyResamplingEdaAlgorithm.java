@@ -95,6 +95,26 @@ public final class NoisyResamplingEdaAlgorithm<G> extends AdaptiveRatioEdaAlgori
         return new VectorFitness(objectiveSums, scalarMean);
     }
 
+    /**
+     * Disables fitness memoization because repeated evaluations of one genotype differ by design.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean cachesFitness() {
+        return false;
+    }
+
+    /**
+     * Keeps every evaluation on the resampling path of {@link #evaluateGenotype}.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean evaluatesInBatches() {
+        return false;
+    }
+
     /**
      * Updates adaptive ratio using noise estimate and improvement signal.
      *
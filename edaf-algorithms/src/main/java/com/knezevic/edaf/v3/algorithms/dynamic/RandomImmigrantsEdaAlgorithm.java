@@ -65,6 +65,9 @@ public final class RandomImmigrantsEdaAlgorithm<G> extends AdaptiveRatioEdaAlgor
     /**
      * Injects random immigrants by replacing the worst-ranked individuals.
      *
+     * <p>Immigrants are refined by the configured local search on the evaluation executor, and the
+     * evaluations it spends are charged to the run.</p>
+     *
      * @param context algorithm runtime context
      * @param previous previous population
      * @param next next population
@@ -87,6 +90,7 @@ public final class RandomImmigrantsEdaAlgorithm<G> extends AdaptiveRatioEdaAlgor
             updated.add(sorted.get(i));
         }
 
+        List<Individual<G>> arrivals = new ArrayList<>(immigrants);
         for (int i = 0; i < immigrants; i++) {
             G genotype = context.representation().random(context.rngManager().stream("immigrant-init"));
             G feasible = context.constraintHandling().enforce(
@@ -96,14 +100,10 @@ public final class RandomImmigrantsEdaAlgorithm<G> extends AdaptiveRatioEdaAlgor
                     context.rngManager().stream("immigrant-constraint")
             );
             Fitness fitness = context.problem().evaluate(feasible);
-            Individual<G> immigrant = new Individual<>(feasible, fitness);
-            updated.add(context.localSearch().refine(
-                    immigrant,
-                    context.problem(),
-                    context.representation(),
-                    context.rngManager().stream("immigrant-local-search")
-            ));
+            arrivals.add(new Individual<>(feasible, fitness));
         }
+        refineIndividuals(context, arrivals, "immigrant-local-search");
+        updated.addAll(arrivals);
         return updated;
     }
 }
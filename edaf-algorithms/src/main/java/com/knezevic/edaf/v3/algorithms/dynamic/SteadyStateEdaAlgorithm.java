@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.algorithms.dynamic;
+
+import com.knezevic.edaf.v3.core.api.AbstractEdaAlgorithm;
+import com.knezevic.edaf.v3.core.api.AlgorithmContext;
+import com.knezevic.edaf.v3.core.api.AlgorithmState;
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.ObjectiveSense;
+import com.knezevic.edaf.v3.core.api.Population;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.EvaluationCancelledException;
+import com.knezevic.edaf.v3.core.runtime.EvaluationExecutor;
+import com.knezevic.edaf.v3.core.runtime.VirtualThreadEvaluationExecutor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Asynchronous steady-state EDA driver that folds each finished evaluation into the model.
+ *
+ * <p>Instead of the generational sample-all, evaluate-all, fit cycle, the driver keeps
+ * {@code inFlight} evaluations running at all times. Whenever one finishes, its individual
+ * replaces the current worst member if it is better, the model absorbs it through
+ * {@link com.knezevic.edaf.v3.core.api.Model#update} when it ranks inside the elite fraction,
+ * and a fresh sample is submitted immediately. Slow evaluations therefore never idle the other
+ * workers behind a generation barrier.</p>
+ *
+ * <p>Every evaluation runs through the configured
+ * {@link com.knezevic.edaf.v3.core.runtime.EvaluationExecutor} as a batch of one, so a
+ * per-evaluation deadline abandons a hung evaluation and records the timeout penalty in its place.
+ * The in-flight window defaults to the executor's parallelism; under {@code virtual-threads} it
+ * is also capped at {@code maxConcurrency}.</p>
+ *
+ * <p>One reported iteration covers {@code reportEvery} completed evaluations (population size by
+ * default). The model must implement {@code update}; batch-only models would never move. With
+ * {@code inFlight = 1} the run is fully reproducible; with more workers, completion order and
+ * therefore the trajectory depend on evaluation timing.</p>
+ *
+ * <p>References:
+ * <ol>
+ *   <li>G. Syswerda, "A study of reproduction in generational and steady-state genetic
+ *   algorithms," Foundations of Genetic Algorithms, 1991.</li>
+ *   <li>S. Baluja, "Population-Based Incremental Learning," Carnegie Mellon University,
+ *   CMU-CS-94-163, 1994.</li>
+ * </ol>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class SteadyStateEdaAlgorithm<G> extends AbstractEdaAlgorithm<G> {
+
+    private static final long WAIT_SLICE_MILLIS = 50L;
+
+    private final double selectionRatio;
+    private final double learningRate;
+    private final int configuredInFlight;
+    private final int configuredReportEvery;
+
+    private ExecutorService workers;
+    private ExecutorCompletionService<Completed<G>> completions;
+    private int inFlight;
+    private int inFlightLimit;
+    private long submitted;
+    private long modelUpdates;
+    private long replacements;
+    private double evaluationsPerSecond;
+
+    /**
+     * Creates a new steady-state driver.
+     *
+     * @param selectionRatio elite fraction whose members update the model
+     * @param learningRate step passed to {@code Model.update}
+     * @param inFlight evaluations kept running, or {@code 0} for the executor's parallelism
+     * @param reportEvery completed evaluations per published iteration, or {@code 0} for population size
+     */
+    public SteadyStateEdaAlgorithm(double selectionRatio, double learningRate, int inFlight, int reportEvery) {
+        this.selectionRatio = Math.max(0.01, Math.min(1.0, selectionRatio));
+        this.learningRate = Math.max(1.0e-6, Math.min(1.0, learningRate));
+        this.configuredInFlight = Math.max(0, inFlight);
+        this.configuredReportEvery = Math.max(0, reportEvery);
+    }
+
+    /**
+     * Returns algorithm identifier.
+     *
+     * @return algorithm id
+     */
+    @Override
+    public String id() {
+        return "steady-state-eda";
+    }
+
+    @Override
+    protected int selectionSize(AlgorithmContext<G> context, Population<G> population) {
+        return Math.max(1, (int) Math.round(population.size() * selectionRatio));
+    }
+
+    /**
+     * Evaluations bypass the batch path, so the run-level fitness cache never applies.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean cachesFitness() {
+        return false;
+    }
+
+    /**
+     * Evaluates the initial population and fits the model once so incremental updates have a
+     * starting distribution.
+     *
+     * @param context algorithm runtime context
+     */
+    @Override
+    public void initialize(AlgorithmContext<G> context) {
+        shutdownWorkers();
+        submitted = 0L;
+        modelUpdates = 0L;
+        replacements = 0L;
+        evaluationsPerSecond = 0.0;
+        super.initialize(context);
+        Population<G> population = state().population();
+        List<Individual<G>> selected = context.selectionPolicy().select(
+                population,
+                Math.min(selectionSize(context, population), population.size()),
+                context.rngManager().stream("selection")
+        );
+        context.model().fit(selected, context.representation(), context.rngManager().stream("model-fit"));
+    }
+
+    /**
+     * Consumes {@code reportEvery} finished evaluations and publishes one iteration event.
+     *
+     * @param context algorithm runtime context
+     */
+    @Override
+    public void iterate(AlgorithmContext<G> context) {
+        AlgorithmState<G> current = state();
+        if (current == null) {
+            throw new IllegalStateException("initialize(context) must be called before iterate(context)");
+        }
+        ensureWorkers(context);
+
+        ObjectiveSense sense = context.problem().objectiveSense();
+        List<Individual<G>> members = new ArrayList<>(current.population().asList());
+        members.sort((left, right) -> compare(sense, left, right));
+        int eliteCount = Math.min(members.size(), selectionSize(context, current.population()));
+        int target = configuredReportEvery > 0 ? configuredReportEvery : context.populationSize();
+        RngStream updateRng = context.rngManager().stream("model-update");
+
+        long started = System.nanoTime();
+        for (int done = 0; done < target; done++) {
+            submitUpToLimit(context);
+            Completed<G> finished = awaitCompletion(context);
+            Individual<G> individual = new Individual<>(finished.genotype(), finished.fitness());
+
+            int rank = insertionRank(sense, members, individual);
+            if (rank < eliteCount) {
+                context.model().update(individual, learningRate, context.representation(), updateRng);
+                modelUpdates++;
+            }
+            if (rank < members.size()) {
+                members.add(rank, individual);
+                members.remove(members.size() - 1);
+                replacements++;
+            }
+        }
+        submitUpToLimit(context);
+        double seconds = (System.nanoTime() - started) / 1.0e9;
+        evaluationsPerSecond = seconds > 0.0 ? target / seconds : 0.0;
+
+        Population<G> next = new Population<>(sense, members);
+        Individual<G> best = compare(sense, members.get(0), current.best()) < 0 ? members.get(0) : current.best();
+        AlgorithmState<G> nextState = new AlgorithmState<>(
+                current.runId(),
+                id(),
+                current.iteration() + 1,
+                current.evaluations() + target,
+                current.startedAt(),
+                next,
+                best
+        );
+        commitIteration(context, nextState, List.copyOf(members.subList(0, Math.max(1, eliteCount))));
+    }
+
+    /**
+     * Abandons evaluations still in flight and finalizes the run.
+     *
+     * @param context algorithm runtime context
+     * @param artifacts artifact map with output paths
+     */
+    @Override
+    public void complete(AlgorithmContext<G> context, Map<String, String> artifacts) {
+        shutdownWorkers();
+        super.complete(context, artifacts);
+    }
+
+    /**
+     * Stops the worker pool and abandons in-flight evaluations of a stopped or failed run.
+     */
+    @Override
+    public void close() {
+        shutdownWorkers();
+    }
+
+    @Override
+    protected Map<String, Double> iterationMetrics() {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("steady_state_in_flight", (double) inFlight);
+        metrics.put("steady_state_model_updates", (double) modelUpdates);
+        metrics.put("steady_state_replacements", (double) replacements);
+        metrics.put("steady_state_evaluations_per_second", evaluationsPerSecond);
+        return metrics;
+    }
+
+    private void ensureWorkers(AlgorithmContext<G> context) {
+        if (workers != null) {
+            return;
+        }
+        EvaluationExecutor executor = context.evaluationExecutor();
+        boolean virtual = executor instanceof VirtualThreadEvaluationExecutor;
+        int limit = configuredInFlight > 0 ? configuredInFlight : executor.parallelism();
+        if (virtual) {
+            limit = Math.min(limit, executor.parallelism());
+        }
+        ThreadFactory threads = virtual
+                ? Thread.ofVirtual().name("edaf-steady-state-", 0).factory()
+                : Thread.ofPlatform().daemon().name("edaf-steady-state-", 0).factory();
+        workers = Executors.newFixedThreadPool(limit, threads);
+        completions = new ExecutorCompletionService<>(workers);
+        inFlight = 0;
+        inFlightLimit = limit;
+    }
+
+    private void submitUpToLimit(AlgorithmContext<G> context) {
+        RngStream sampleRng = context.rngManager().stream("model-sample");
+        Fitness penalty = timeoutPenalty(context);
+        while (inFlight < inFlightLimit) {
+            G genotype = context.model().sample(
+                    1,
+                    context.representation(),
+                    context.problem(),
+                    context.constraintHandling(),
+                    sampleRng
+            ).get(0);
+            RngStream evaluationRng = context.rngManager().ephemeralStream("evaluation/steady-state/seq-" + submitted);
+            submitted++;
+            completions.submit(() -> new Completed<>(genotype, evaluate(context, genotype, evaluationRng, penalty)));
+            inFlight++;
+        }
+    }
+
+    private Fitness evaluate(AlgorithmContext<G> context, G genotype, RngStream evaluationRng, Fitness penalty) {
+        // An evaluation abandoned after its deadline may still finish later; the first outcome wins.
+        AtomicReference<Fitness> outcome = new AtomicReference<>();
+        context.evaluationExecutor().execute(
+                1,
+                slot -> outcome.compareAndSet(null, evaluateGenotype(context, genotype, evaluationRng)),
+                slot -> outcome.compareAndSet(null, penalty),
+                context.cancellation()
+        );
+        return outcome.get();
+    }
+
+    private Completed<G> awaitCompletion(AlgorithmContext<G> context) {
+        try {
+            Future<Completed<G>> future;
+            while ((future = completions.poll(WAIT_SLICE_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                if (context.cancellation().isCancelled()) {
+                    shutdownWorkers();
+                    throw new EvaluationCancelledException("Run cancellation requested during fitness evaluation");
+                }
+            }
+            inFlight--;
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shutdownWorkers();
+            throw new EvaluationCancelledException("Interrupted while waiting for fitness evaluation");
+        } catch (ExecutionException e) {
+            shutdownWorkers();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error fatal) {
+                throw fatal;
+            }
+            throw new IllegalStateException("Asynchronous fitness evaluation failed", cause);
+        }
+    }
+
+    private void shutdownWorkers() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+        workers = null;
+        completions = null;
+        inFlight = 0;
+    }
+
+    private static <G> int insertionRank(ObjectiveSense sense, List<Individual<G>> sorted, Individual<G> candidate) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(sense, sorted.get(mid), candidate) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static <G> int compare(ObjectiveSense sense, Individual<G> left, Individual<G> right) {
+        int ascending = Double.compare(left.fitness().scalar(), right.fitness().scalar());
+        return sense == ObjectiveSense.MAXIMIZE ? -ascending : ascending;
+    }
+
+    private record Completed<G>(G genotype, Fitness fitness) {
+    }
+}
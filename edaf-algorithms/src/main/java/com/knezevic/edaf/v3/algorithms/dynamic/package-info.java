@@ -8,6 +8,8 @@
  *
  * <p>Provides adaptive selection, random immigrants, resampling and memory-window variants
  * for non-stationary objectives. These drivers modulate exploration pressure using online
- * progress signals (improvement, diversity, entropy-collapse indicators).</p>
+ * progress signals (improvement, diversity, entropy-collapse indicators). The steady-state
+ * driver removes the generation barrier altogether for objectives with uneven evaluation
+ * times.</p>
  */
 package com.knezevic.edaf.v3.algorithms.dynamic;
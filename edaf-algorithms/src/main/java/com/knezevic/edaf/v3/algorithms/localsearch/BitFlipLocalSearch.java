@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.algorithms.localsearch;
+
+import com.knezevic.edaf.v3.core.api.EvaluationBudget;
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.IncrementalProblem;
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.LocalSearch;
+import com.knezevic.edaf.v3.core.api.ObjectiveSense;
+import com.knezevic.edaf.v3.core.api.Problem;
+import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.types.BitString;
+
+import java.util.Arrays;
+
+/**
+ * First-improvement single-bit-flip hill climber with don't-look bits.
+ *
+ * <p>Positions are visited in a random cyclic order. A rejected or accepted flip sets the
+ * position's don't-look bit, so each sweep tries every position once wherever it started. When
+ * all bits are set and the sweep improved, bits are cleared for another sweep; a sweep without
+ * improvement proves a one-flip local optimum and ends the search.</p>
+ *
+ * <p>When the problem is an {@link IncrementalProblem}, moves are scored with
+ * {@link IncrementalProblem#evaluateDelta} and rejected moves are reverted in place; building the
+ * initial state counts as one evaluation and every {@code length} scored moves count as one more.
+ * Otherwise every move is a full evaluation. Evaluations count against {@code maxEvaluations} and
+ * are charged to the {@link EvaluationBudget} before they are scored.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class BitFlipLocalSearch implements LocalSearch<BitString> {
+
+    private final int maxEvaluations;
+
+    /**
+     * Creates a bit-flip searcher.
+     *
+     * @param maxEvaluations evaluation budget per call
+     */
+    public BitFlipLocalSearch(int maxEvaluations) {
+        if (maxEvaluations <= 0) {
+            throw new IllegalArgumentException("maxEvaluations must be > 0");
+        }
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    /**
+     * Refines an individual, discarding the evaluation count.
+     *
+     * @param individual individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream
+     * @return refined individual
+     */
+    @Override
+    public Individual<BitString> refine(Individual<BitString> individual,
+                                        Problem<BitString> problem,
+                                        Representation<BitString> representation,
+                                        RngStream rng) {
+        return search(individual, problem, representation, rng).individual();
+    }
+
+    /**
+     * Climbs to a one-flip local optimum or until the budget is spent.
+     *
+     * @param individual evaluated individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream owned by this call
+     * @return refined individual and evaluation cost
+     */
+    @Override
+    public Outcome<BitString> search(Individual<BitString> individual,
+                                     Problem<BitString> problem,
+                                     Representation<BitString> representation,
+                                     RngStream rng) {
+        return search(individual, problem, representation, rng, EvaluationBudget.unlimited());
+    }
+
+    /**
+     * Climbs to a one-flip local optimum or until the per-call or run budget is spent.
+     *
+     * @param individual evaluated individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream owned by this call
+     * @param budget evaluation allowance of this call, a share of the run budget
+     * @return refined individual and evaluation cost
+     */
+    @Override
+    public Outcome<BitString> search(Individual<BitString> individual,
+                                     Problem<BitString> problem,
+                                     Representation<BitString> representation,
+                                     RngStream rng,
+                                     EvaluationBudget budget) {
+        if (individual.genotype().length() == 0) {
+            return new Outcome<>(individual, 0L);
+        }
+        EvaluationMeter meter = new EvaluationMeter(maxEvaluations, individual.genotype().length(), budget);
+        if (problem instanceof IncrementalProblem<BitString, ?> incremental) {
+            if (!meter.evaluation()) {
+                return new Outcome<>(individual, 0L);
+            }
+            return climb(individual, new DeltaScorer<>(incremental, individual.genotype()),
+                    problem.objectiveSense(), rng, meter);
+        }
+        return climb(individual, (base, candidate, position) -> problem.evaluate(candidate),
+                problem.objectiveSense(), rng, meter);
+    }
+
+    /**
+     * Returns local-search identifier.
+     *
+     * @return local-search identifier
+     */
+    @Override
+    public String name() {
+        return "bit-flip";
+    }
+
+    private Outcome<BitString> climb(Individual<BitString> individual,
+                                     Scorer scorer,
+                                     ObjectiveSense sense,
+                                     RngStream rng,
+                                     EvaluationMeter meter) {
+        BitString current = individual.genotype();
+        Fitness currentFitness = individual.fitness();
+        double sign = sense == ObjectiveSense.MAXIMIZE ? -1.0 : 1.0;
+        double currentScore = sign * currentFitness.scalar();
+
+        int length = current.length();
+        long[] words = current.words();
+        int[] order = shuffledPositions(length, rng);
+        boolean[] dontLook = new boolean[length];
+        int open = length;
+        boolean sweepImproved = false;
+        boolean improved = false;
+        int cursor = 0;
+
+        while (meter.open()) {
+            if (open == 0) {
+                if (!sweepImproved) {
+                    break;
+                }
+                Arrays.fill(dontLook, false);
+                open = length;
+                sweepImproved = false;
+            }
+            int position = order[cursor];
+            cursor = cursor + 1 == length ? 0 : cursor + 1;
+            if (dontLook[position]) {
+                continue;
+            }
+            dontLook[position] = true;
+            open--;
+            if (!scorer.charge(meter)) {
+                break;
+            }
+
+            words[position >>> 6] ^= 1L << position;
+            BitString candidate = BitString.fromWords(words, length);
+            Fitness fitness = scorer.score(current, candidate, position);
+            double score = sign * fitness.scalar();
+            if (score < currentScore) {
+                current = candidate;
+                currentFitness = fitness;
+                currentScore = score;
+                sweepImproved = true;
+                improved = true;
+            } else {
+                words[position >>> 6] ^= 1L << position;
+                scorer.reject(current, candidate, position);
+            }
+        }
+        return new Outcome<>(improved ? new Individual<>(current, currentFitness) : individual, meter.spent());
+    }
+
+    private static int[] shuffledPositions(int length, RngStream rng) {
+        int[] order = new int[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        for (int i = length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
+    }
+
+    /**
+     * Scores one flipped position.
+     */
+    private interface Scorer {
+
+        Fitness score(BitString base, BitString candidate, int position);
+
+        default void reject(BitString base, BitString candidate, int position) {
+            // full evaluations keep no state
+        }
+
+        default boolean charge(EvaluationMeter meter) {
+            return meter.evaluation();
+        }
+    }
+
+    /**
+     * Scores moves through a per-call incremental evaluation state.
+     */
+    private static final class DeltaScorer<S> implements Scorer {
+
+        private final IncrementalProblem<BitString, S> problem;
+        private final S state;
+        private final int[] changed = new int[1];
+
+        private DeltaScorer(IncrementalProblem<BitString, S> problem, BitString start) {
+            this.problem = problem;
+            this.state = problem.evaluationState(start);
+        }
+
+        @Override
+        public Fitness score(BitString base, BitString candidate, int position) {
+            changed[0] = position;
+            return problem.evaluateDelta(base, state, candidate, changed);
+        }
+
+        @Override
+        public void reject(BitString base, BitString candidate, int position) {
+            changed[0] = position;
+            problem.evaluateDelta(candidate, state, base, changed);
+        }
+
+        @Override
+        public boolean charge(EvaluationMeter meter) {
+            return meter.delta();
+        }
+    }
+}
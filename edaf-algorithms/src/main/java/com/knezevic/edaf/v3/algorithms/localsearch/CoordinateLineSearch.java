@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.algorithms.localsearch;
+
+import com.knezevic.edaf.v3.core.api.EvaluationBudget;
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.LocalSearch;
+import com.knezevic.edaf.v3.core.api.ObjectiveSense;
+import com.knezevic.edaf.v3.core.api.Problem;
+import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+
+import java.util.Arrays;
+
+/**
+ * Coordinate line search with per-coordinate step adaptation.
+ *
+ * <p>Each sweep visits coordinates in random order and probes {@code x_i + s_i} and, if that
+ * fails, {@code x_i - s_i}. A successful probe is accepted and doubles {@code s_i}; a coordinate
+ * where both probes fail halves {@code s_i}. Probes are repaired by the representation, so box
+ * bounds hold. The search ends when every step is below {@code minStep} or the budget is spent.
+ * Each probe counts as one evaluation.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class CoordinateLineSearch implements LocalSearch<RealVector> {
+
+    private final int maxEvaluations;
+    private final double initialStep;
+    private final double minStep;
+
+    /**
+     * Creates a coordinate line searcher.
+     *
+     * @param maxEvaluations evaluation budget per call
+     * @param initialStep starting step for every coordinate
+     * @param minStep step below which a coordinate is no longer probed
+     */
+    public CoordinateLineSearch(int maxEvaluations, double initialStep, double minStep) {
+        if (maxEvaluations <= 0) {
+            throw new IllegalArgumentException("maxEvaluations must be > 0");
+        }
+        if (!(initialStep > 0.0) || !(minStep > 0.0)) {
+            throw new IllegalArgumentException("initialStep and minStep must be > 0");
+        }
+        this.maxEvaluations = maxEvaluations;
+        this.initialStep = initialStep;
+        this.minStep = minStep;
+    }
+
+    /**
+     * Refines an individual, discarding the evaluation count.
+     *
+     * @param individual individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream
+     * @return refined individual
+     */
+    @Override
+    public Individual<RealVector> refine(Individual<RealVector> individual,
+                                         Problem<RealVector> problem,
+                                         Representation<RealVector> representation,
+                                         RngStream rng) {
+        return search(individual, problem, representation, rng).individual();
+    }
+
+    /**
+     * Runs coordinate sweeps until steps collapse or the budget is spent.
+     *
+     * @param individual evaluated individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream owned by this call
+     * @return refined individual and evaluation cost
+     */
+    @Override
+    public Outcome<RealVector> search(Individual<RealVector> individual,
+                                      Problem<RealVector> problem,
+                                      Representation<RealVector> representation,
+                                      RngStream rng) {
+        return search(individual, problem, representation, rng, EvaluationBudget.unlimited());
+    }
+
+    /**
+     * Runs coordinate sweeps until steps collapse or the per-call or run budget is spent.
+     *
+     * @param individual evaluated individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream owned by this call
+     * @param budget evaluation allowance of this call, a share of the run budget
+     * @return refined individual and evaluation cost
+     */
+    @Override
+    public Outcome<RealVector> search(Individual<RealVector> individual,
+                                      Problem<RealVector> problem,
+                                      Representation<RealVector> representation,
+                                      RngStream rng,
+                                      EvaluationBudget budget) {
+        double[] x = individual.genotype().values().clone();
+        int dimension = x.length;
+        double sign = problem.objectiveSense() == ObjectiveSense.MAXIMIZE ? -1.0 : 1.0;
+        double currentScore = sign * individual.fitness().scalar();
+        RealVector current = individual.genotype();
+        Fitness currentFitness = individual.fitness();
+
+        double[] steps = new double[dimension];
+        Arrays.fill(steps, initialStep);
+        int[] order = new int[dimension];
+        for (int i = 0; i < dimension; i++) {
+            order[i] = i;
+        }
+        boolean improved = false;
+        long spent = 0L;
+        boolean active = dimension > 0;
+
+        while (active && spent < maxEvaluations) {
+            active = false;
+            shuffle(order, rng);
+            for (int k = 0; k < dimension && spent < maxEvaluations; k++) {
+                int i = order[k];
+                if (steps[i] < minStep) {
+                    continue;
+                }
+                active = true;
+                boolean success = false;
+                for (int direction = 1; direction >= -1 && spent < maxEvaluations; direction -= 2) {
+                    double original = x[i];
+                    x[i] = original + direction * steps[i];
+                    RealVector candidate = representation.repair(new RealVector(x));
+                    x[i] = original;
+                    if (candidate.values()[i] == original) {
+                        // the bound clipped the probe back onto the current point
+                        continue;
+                    }
+                    if (!budget.tryCharge()) {
+                        return new Outcome<>(improved ? new Individual<>(current, currentFitness) : individual, spent);
+                    }
+                    Fitness fitness = problem.evaluate(candidate);
+                    spent++;
+                    double score = sign * fitness.scalar();
+                    if (score < currentScore) {
+                        current = candidate;
+                        currentFitness = fitness;
+                        currentScore = score;
+                        System.arraycopy(candidate.values(), 0, x, 0, dimension);
+                        success = true;
+                        improved = true;
+                        break;
+                    }
+                }
+                steps[i] = success ? steps[i] * 2.0 : steps[i] * 0.5;
+            }
+        }
+        return new Outcome<>(improved ? new Individual<>(current, currentFitness) : individual, spent);
+    }
+
+    /**
+     * Returns local-search identifier.
+     *
+     * @return local-search identifier
+     */
+    @Override
+    public String name() {
+        return "line-search";
+    }
+
+    private static void shuffle(int[] order, RngStream rng) {
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.algorithms.localsearch;
+
+import com.knezevic.edaf.v3.core.api.EvaluationBudget;
+
+/**
+ * Evaluation accounting of one search call.
+ *
+ * <p>All searchers follow one rule: a full problem evaluation costs one evaluation, and
+ * {@code deltasPerEvaluation} delta-scored moves (the genotype size) together cost one. A delta
+ * block is charged to the {@link EvaluationBudget} before its first move, so {@link #spent()} is
+ * {@code full + ceil(deltas / deltasPerEvaluation)} and never exceeds the per-call limit.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+final class EvaluationMeter {
+
+    private final long limit;
+    private final int deltasPerEvaluation;
+    private final EvaluationBudget budget;
+    private long spent;
+    private int blockDeltas;
+
+    /**
+     * Creates a meter.
+     *
+     * @param limit per-call evaluation limit
+     * @param deltasPerEvaluation delta-scored moves that cost one evaluation
+     * @param budget run-level allowance charged before every evaluation
+     */
+    EvaluationMeter(long limit, int deltasPerEvaluation, EvaluationBudget budget) {
+        this.limit = limit;
+        this.deltasPerEvaluation = Math.max(1, deltasPerEvaluation);
+        this.budget = budget;
+    }
+
+    /**
+     * Charges one full evaluation.
+     *
+     * @return false when the per-call limit or the run budget refuses it
+     */
+    boolean evaluation() {
+        if (spent >= limit || !budget.tryCharge()) {
+            return false;
+        }
+        spent++;
+        return true;
+    }
+
+    /**
+     * Charges one delta-scored move, opening a new charged block every {@code deltasPerEvaluation} moves.
+     *
+     * @return false when a new block is needed and refused
+     */
+    boolean delta() {
+        if (blockDeltas == 0) {
+            if (!evaluation()) {
+                return false;
+            }
+            blockDeltas = deltasPerEvaluation;
+        }
+        blockDeltas--;
+        return true;
+    }
+
+    /**
+     * Returns whether another move could still be charged.
+     *
+     * @return true when the current delta block has room or the limit allows another evaluation
+     */
+    boolean open() {
+        return blockDeltas > 0 || spent < limit;
+    }
+
+    /**
+     * Returns evaluations charged so far.
+     *
+     * @return spent evaluations
+     */
+    long spent() {
+        return spent;
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.algorithms.localsearch;
+
+import com.knezevic.edaf.v3.core.api.EvaluationBudget;
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.LocalSearch;
+import com.knezevic.edaf.v3.core.api.ObjectiveSense;
+import com.knezevic.edaf.v3.core.api.Problem;
+import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.distance.DistanceProvider;
+import com.knezevic.edaf.v3.repr.distance.TourDistances;
+import com.knezevic.edaf.v3.repr.types.PermutationVector;
+
+/**
+ * 2-opt and Or-opt tour improvement driven by neighbour lists and don't-look bits.
+ *
+ * <p>Works on problems that expose {@link TourDistances} with symmetric distances; other
+ * problems are returned unchanged at no cost. A queue holds cities whose don't-look bit is
+ * clear. For a city {@code a}, 2-opt tries to connect {@code a} to each neighbour {@code c}
+ * that is closer than {@code a}'s current successor (or predecessor), and Or-opt moves the
+ * segment of one to three cities starting at {@code a} next to a neighbour, in either
+ * orientation. The first improving move is applied and its endpoints are queued again.</p>
+ *
+ * <p>The tour is an array with a position index. A 2-opt move reverses whichever side of the
+ * cut is shorter, and an Or-opt move shifts whichever side of the gap is shorter, so both
+ * touch at most {@code n / 2} cities. Moves are scored from edge deltas; every {@code n} deltas
+ * count as one evaluation, and the final tour is evaluated once through the problem. Each
+ * evaluation is charged to the {@link EvaluationBudget} when its first delta is scored.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class TwoOptLocalSearch implements LocalSearch<PermutationVector> {
+
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT = 3;
+
+    private final int maxEvaluations;
+    private final boolean orOpt;
+
+    /**
+     * Creates a tour searcher.
+     *
+     * @param maxEvaluations evaluation budget per call, in full-tour equivalents
+     * @param orOpt whether Or-opt segment moves are tried after 2-opt
+     */
+    public TwoOptLocalSearch(int maxEvaluations, boolean orOpt) {
+        if (maxEvaluations <= 1) {
+            throw new IllegalArgumentException("maxEvaluations must be > 1");
+        }
+        this.maxEvaluations = maxEvaluations;
+        this.orOpt = orOpt;
+    }
+
+    /**
+     * Refines an individual, discarding the evaluation count.
+     *
+     * @param individual individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream
+     * @return refined individual
+     */
+    @Override
+    public Individual<PermutationVector> refine(Individual<PermutationVector> individual,
+                                                Problem<PermutationVector> problem,
+                                                Representation<PermutationVector> representation,
+                                                RngStream rng) {
+        return search(individual, problem, representation, rng).individual();
+    }
+
+    /**
+     * Improves the tour until no queued city yields a move or the budget is spent.
+     *
+     * @param individual evaluated individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream owned by this call
+     * @return refined individual and evaluation cost
+     */
+    @Override
+    public Outcome<PermutationVector> search(Individual<PermutationVector> individual,
+                                             Problem<PermutationVector> problem,
+                                             Representation<PermutationVector> representation,
+                                             RngStream rng) {
+        return search(individual, problem, representation, rng, EvaluationBudget.unlimited());
+    }
+
+    /**
+     * Improves the tour until no queued city yields a move or the per-call or run budget is spent.
+     *
+     * @param individual evaluated individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream owned by this call
+     * @param budget evaluation allowance of this call, a share of the run budget
+     * @return refined individual and evaluation cost
+     */
+    @Override
+    public Outcome<PermutationVector> search(Individual<PermutationVector> individual,
+                                             Problem<PermutationVector> problem,
+                                             Representation<PermutationVector> representation,
+                                             RngStream rng,
+                                             EvaluationBudget budget) {
+        int[] order = individual.genotype().order();
+        if (!(problem instanceof TourDistances tour)
+                || problem.objectiveSense() != ObjectiveSense.MINIMIZE
+                || order.length < 5
+                || tour.distances().size() != order.length) {
+            return new Outcome<>(individual, 0L);
+        }
+        // one evaluation stays reserved for the final tour
+        EvaluationMeter meter = new EvaluationMeter(maxEvaluations - 1L, order.length, budget);
+        Walk walk = new Walk(tour.distances(), order, meter);
+        walk.run(rng, orOpt);
+        long spent = meter.spent();
+        if (!walk.improved || !budget.tryCharge()) {
+            return new Outcome<>(individual, spent);
+        }
+        PermutationVector refined = new PermutationVector(walk.tour);
+        Fitness fitness = problem.evaluate(refined);
+        spent++;
+        if (!(fitness.scalar() < individual.fitness().scalar())) {
+            return new Outcome<>(individual, spent);
+        }
+        return new Outcome<>(new Individual<>(refined, fitness), spent);
+    }
+
+    /**
+     * Returns local-search identifier.
+     *
+     * @return local-search identifier
+     */
+    @Override
+    public String name() {
+        return "two-opt";
+    }
+
+    /**
+     * Mutable tour state of one search call.
+     */
+    private static final class Walk {
+
+        private final DistanceProvider distances;
+        private final int n;
+        private final int[] tour;
+        private final int[] pos;
+        private final int[] scratch;
+        private final int[] queue;
+        private final boolean[] queued;
+        private final EvaluationMeter meter;
+        private boolean exhausted;
+        private int head;
+        private int count;
+        private boolean improved;
+
+        private Walk(DistanceProvider distances, int[] order, EvaluationMeter meter) {
+            this.distances = distances;
+            this.n = order.length;
+            this.tour = order.clone();
+            this.pos = new int[n];
+            for (int i = 0; i < n; i++) {
+                pos[tour[i]] = i;
+            }
+            this.scratch = new int[n];
+            this.queue = new int[n];
+            this.queued = new boolean[n];
+            this.meter = meter;
+        }
+
+        private void run(RngStream rng, boolean orOpt) {
+            int[] start = tour.clone();
+            for (int i = n - 1; i > 0; i--) {
+                int j = rng.nextInt(i + 1);
+                int tmp = start[i];
+                start[i] = start[j];
+                start[j] = tmp;
+            }
+            for (int city : start) {
+                push(city);
+            }
+            while (count > 0 && !exhausted) {
+                int a = queue[head];
+                head = head + 1 == n ? 0 : head + 1;
+                count--;
+                queued[a] = false;
+                if (twoOpt(a) || (orOpt && orOpt(a))) {
+                    improved = true;
+                    push(a);
+                }
+            }
+        }
+
+        /**
+         * Charges one scored delta; once refused, the walk is exhausted.
+         */
+        private boolean charge() {
+            if (exhausted || !meter.delta()) {
+                exhausted = true;
+                return false;
+            }
+            return true;
+        }
+
+        private void push(int city) {
+            if (!queued[city]) {
+                queued[city] = true;
+                queue[(head + count) % n] = city;
+                count++;
+            }
+        }
+
+        private int succ(int city) {
+            int p = pos[city] + 1;
+            return tour[p == n ? 0 : p];
+        }
+
+        private int pred(int city) {
+            int p = pos[city] - 1;
+            return tour[p < 0 ? n - 1 : p];
+        }
+
+        private boolean twoOpt(int a) {
+            for (int side = 0; side < 2; side++) {
+                boolean forward = side == 0;
+                int an = forward ? succ(a) : pred(a);
+                double removed = distances.distance(a, an);
+                for (int c : distances.neighbors(a)) {
+                    double added = distances.distance(a, c);
+                    if (added >= removed) {
+                        break;
+                    }
+                    if (exhausted) {
+                        return false;
+                    }
+                    int cn = forward ? succ(c) : pred(c);
+                    if (c == an || cn == a) {
+                        continue;
+                    }
+                    if (!charge()) {
+                        return false;
+                    }
+                    double delta = added + distances.distance(an, cn) - removed - distances.distance(c, cn);
+                    if (delta < -EPSILON) {
+                        if (forward) {
+                            reverse(pos[an], pos[c]);
+                        } else {
+                            reverse(pos[c], pos[an]);
+                        }
+                        push(an);
+                        push(c);
+                        push(cn);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean orOpt(int a) {
+            int p = pred(a);
+            int e = a;
+            for (int length = 1; length <= MAX_SEGMENT && length + 2 < n; length++) {
+                if (length > 1) {
+                    e = succ(e);
+                }
+                int nx = succ(e);
+                double gain = distances.distance(p, a) + distances.distance(e, nx) - distances.distance(p, nx);
+                if (gain <= EPSILON) {
+                    continue;
+                }
+                for (int c : distances.neighbors(a)) {
+                    if (distances.distance(a, c) >= gain) {
+                        break;
+                    }
+                    if (exhausted) {
+                        return false;
+                    }
+                    if (inSegment(c, a, length)) {
+                        continue;
+                    }
+                    // forward: c [a..e] succ(c); reversed: pred(c) [e..a] c
+                    int g = c;
+                    int h = succ(c);
+                    if (g != p) {
+                        if (!charge()) {
+                            return false;
+                        }
+                        double insert = distances.distance(g, a) + distances.distance(e, h) - distances.distance(g, h);
+                        if (insert - gain < -EPSILON) {
+                            moveSegment(a, length, g, false);
+                            pushAll(p, nx, g, h, a, e);
+                            return true;
+                        }
+                    }
+                    g = pred(c);
+                    h = c;
+                    if (h != a && !inSegment(g, a, length) && g != p) {
+                        if (!charge()) {
+                            return false;
+                        }
+                        double insert = distances.distance(g, e) + distances.distance(a, h) - distances.distance(g, h);
+                        if (insert - gain < -EPSILON) {
+                            moveSegment(a, length, g, true);
+                            pushAll(p, nx, g, h, a, e);
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void pushAll(int... cities) {
+            for (int city : cities) {
+                push(city);
+            }
+        }
+
+        private boolean inSegment(int city, int first, int length) {
+            int offset = pos[city] - pos[first];
+            if (offset < 0) {
+                offset += n;
+            }
+            return offset < length;
+        }
+
+        /**
+         * Reverses tour positions {@code from .. to} cyclically, or the complementary side when shorter.
+         */
+        private void reverse(int from, int to) {
+            int inner = to - from;
+            if (inner < 0) {
+                inner += n;
+            }
+            inner++;
+            if (2 * inner > n) {
+                int next = to + 1 == n ? 0 : to + 1;
+                to = from == 0 ? n - 1 : from - 1;
+                from = next;
+                inner = n - inner;
+            }
+            for (int k = 0; k < inner / 2; k++) {
+                int i = from + k;
+                int j = to - k;
+                if (i >= n) {
+                    i -= n;
+                }
+                if (j < 0) {
+                    j += n;
+                }
+                int ci = tour[i];
+                int cj = tour[j];
+                tour[i] = cj;
+                tour[j] = ci;
+                pos[cj] = i;
+                pos[ci] = j;
+            }
+        }
+
+        /**
+         * Moves the segment of {@code length} cities starting at {@code first} between {@code g} and its successor.
+         */
+        private void moveSegment(int first, int length, int g, boolean reversed) {
+            int start = pos[first];
+            int afterSegment = (start + length) % n;
+            // cities strictly after the segment up to and including g
+            int between = pos[g] - afterSegment;
+            if (between < 0) {
+                between += n;
+            }
+            between++;
+            int[] segment = new int[length];
+            for (int k = 0; k < length; k++) {
+                segment[reversed ? length - 1 - k : k] = tour[(start + k) % n];
+            }
+            if (between <= n - length - between) {
+                // shift the cities after the segment back over it, then write the segment after g
+                for (int k = 0; k < between; k++) {
+                    scratch[k] = tour[(afterSegment + k) % n];
+                }
+                int write = start;
+                for (int k = 0; k < between; k++) {
+                    place(scratch[k], write);
+                    write = write + 1 == n ? 0 : write + 1;
+                }
+                for (int city : segment) {
+                    place(city, write);
+                    write = write + 1 == n ? 0 : write + 1;
+                }
+            } else {
+                // shift the cities from succ(g) up to the segment forward, then write the segment before them
+                int other = n - length - between;
+                int from = (pos[g] + 1) % n;
+                for (int k = 0; k < other; k++) {
+                    scratch[k] = tour[(from + k) % n];
+                }
+                int write = from;
+                for (int city : segment) {
+                    place(city, write);
+                    write = write + 1 == n ? 0 : write + 1;
+                }
+                for (int k = 0; k < other; k++) {
+                    place(scratch[k], write);
+                    write = write + 1 == n ? 0 : write + 1;
+                }
+            }
+        }
+
+        private void place(int city, int position) {
+            tour[position] = city;
+            pos[city] = position;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+/**
+ * Local-search hooks for memetic EDA runs.
+ *
+ * <p>Each searcher refines one offspring at a time and is called concurrently from the
+ * evaluation workers, so searchers keep no mutable state between calls. Every call reports the
+ * fitness evaluations it spent, and the driver charges them to the run budget. A full problem
+ * evaluation counts as one; delta-scored moves count as one per genotype-size moves, for bit flips
+ * and tour moves alike (see {@code EvaluationMeter}). Searchers use
+ * problem capabilities when present: {@code IncrementalProblem} delta evaluation for bit flips
+ * and {@code TourDistances} neighbour lists and constant-time deltas for tour moves.</p>
+ */
+package com.knezevic.edaf.v3.algorithms.localsearch;
@@ -357,6 +357,7 @@ public final class CocoCampaignRunner {
         config.getProblem().getParams().put("instanceId", instanceId);
 
         autoTuneCmaPopulation(config, dimension);
+        autoSelectCmaCovarianceMode(config, dimension);
 
         int populationSize = intParam(config.getAlgorithm().getParams(), "populationSize", 100);
         int maxIterations = Math.max(1, (int) Math.ceil(budgetEvaluations / (double) Math.max(1, populationSize)));
@@ -442,6 +443,24 @@ public final class CocoCampaignRunner {
         }
     }
 
+    private static void autoSelectCmaCovarianceMode(ExperimentConfig config, int dimension) {
+        if (!"cma-es".equalsIgnoreCase(config.getAlgorithm().getType())
+                || !"cma-es".equalsIgnoreCase(config.getModel().getType())
+                || config.getModel().getParams().containsKey("covarianceMode")) {
+            return;
+        }
+        Map<String, Object> params = config.getAlgorithm().getParams();
+        if (!boolParam(params, "autoCovarianceMode", true)) {
+            return;
+        }
+
+        int threshold = intParam(params, "linearCovarianceDimension", 100);
+        if (dimension >= threshold) {
+            Object mode = params.getOrDefault("linearCovarianceMode", "sep");
+            config.getModel().getParams().put("covarianceMode", String.valueOf(mode));
+        }
+    }
+
     private static void ensureToken(List<String> values, String token) {
         if (values == null) {
             return;
@@ -12,7 +12,8 @@ import com.knezevic.edaf.v3.core.events.RunStartedEvent;
 import com.knezevic.edaf.v3.core.metrics.LatentKnowledgeAnalyzer;
 import com.knezevic.edaf.v3.core.metrics.PopulationMetrics;
 import com.knezevic.edaf.v3.core.rng.RngStream;
-import com.knezevic.edaf.v3.core.runtime.ExecutionParallelism;
+import com.knezevic.edaf.v3.core.runtime.FitnessCache;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
 import com.knezevic.edaf.v3.core.util.Params;
 
 import java.lang.reflect.Method;
@@ -20,16 +21,12 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Template-method base implementation for model-based algorithms.
@@ -40,17 +37,14 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
 
-    /**
-     * Shared global pool used by per-run evaluators.
-     *
-     * <p>The number of worker tasks per run is decided dynamically from
-     * {@link ExecutionParallelism#suggestedFitnessWorkersPerRun()}.</p>
-     */
-    private static final int FITNESS_EVALUATION_WORKERS = ExecutionParallelism.availableProcessors();
-    private static final ExecutorService FITNESS_EVALUATION_POOL = newFixedFitnessPool();
-
     private AlgorithmState<G> state;
     private RunResult<G> result;
+    private SampleBatch<G> sampleBatch;
+    private final GenotypeHasher genotypeHasher = new GenotypeHasher();
+    private int lastCacheHits;
+    private int lastCacheLookups;
+    private long lastRefinementEvaluations;
+    private long iterationEvaluations;
 
     private LatentTelemetry previousTelemetry = LatentTelemetry.empty();
     private double previousBestFitness = Double.NaN;
@@ -91,6 +85,66 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
         return context.problem().evaluate(feasibleGenotype);
     }
 
+    /**
+     * Returns whether pending evaluations may go through {@link BatchProblem#evaluateBatch}.
+     *
+     * <p>The batch path bypasses {@link #evaluateGenotype}, so algorithms that override that hook
+     * return false.</p>
+     *
+     * @return true when batch-capable problems may be evaluated in chunks
+     */
+    protected boolean evaluatesInBatches() {
+        return true;
+    }
+
+    /**
+     * Returns whether evaluated fitness may be memoized across generations.
+     *
+     * <p>Algorithms whose {@link #evaluateGenotype} is stochastic return false so the run-level
+     * fitness cache is bypassed even when configured.</p>
+     *
+     * @return true when the fitness cache may be used
+     */
+    protected boolean cachesFitness() {
+        return true;
+    }
+
+    /**
+     * Returns algorithm-specific metrics merged into each published iteration event.
+     *
+     * @return metric map, empty by default
+     */
+    protected Map<String, Double> iterationMetrics() {
+        return Map.of();
+    }
+
+    /**
+     * Installs a state produced outside the generational {@link #iterate} template and publishes
+     * its iteration event.
+     *
+     * <p>Drivers that schedule sampling and evaluation themselves, such as steady-state engines,
+     * use this to keep latent telemetry, metric collectors and events identical to generational
+     * runs.</p>
+     *
+     * @param context algorithm runtime context
+     * @param next state to install
+     * @param elite individuals considered the current elite for telemetry
+     */
+    protected final void commitIteration(AlgorithmContext<G> context, AlgorithmState<G> next, List<Individual<G>> elite) {
+        LatentTelemetry telemetry = LatentKnowledgeAnalyzer.analyze(
+                next.population(),
+                elite,
+                context.model(),
+                previousTelemetry,
+                context.parameters()
+        );
+        lastCacheHits = 0;
+        lastCacheLookups = 0;
+        this.state = next;
+        this.previousTelemetry = telemetry;
+        publishIterationEvent(context, next, telemetry, List.of(), elite.size());
+    }
+
     /**
      * Allows algorithm-specific population post-processing after replacement,
      * niching, and restarts (for example random immigrants injection).
@@ -123,9 +177,9 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
             initialGenotypes.add(genotype);
         }
 
-        List<Fitness> initialFitness = evaluateFitnessBatch(context, initialGenotypes, 0, "init");
+        EvaluatedBatch initialFitness = evaluateFitnessBatch(context, initialGenotypes, 0, "init");
         for (int i = 0; i < initialGenotypes.size(); i++) {
-            population.add(new Individual<>(initialGenotypes.get(i), initialFitness.get(i)));
+            population.add(new Individual<>(initialGenotypes.get(i), initialFitness.fitness().get(i)));
         }
 
         population.sortByFitness();
@@ -135,13 +189,14 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
                 context.runId(),
                 id(),
                 0,
-                population.size(),
+                initialFitness.countedEvaluations(),
                 Instant.now(),
                 population,
                 best
         );
         this.previousBestFitness = PopulationMetrics.best(population);
         this.stagnationIterations = 0;
+        this.sampleBatch = null;
 
         context.eventBus().publish(new RunStartedEvent(
                 context.runId(),
@@ -212,7 +267,11 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
             }
         }
 
-        List<G> sampled = context.model().sample(
+        if (sampleBatch == null) {
+            sampleBatch = context.model().newSampleBatch(context.representation(), context.populationSize());
+        }
+        context.model().sampleInto(
+                sampleBatch,
                 context.populationSize(),
                 context.representation(),
                 context.problem(),
@@ -220,31 +279,19 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
                 context.rngManager().stream("model-sample")
         );
 
-        sampled = applyAdaptiveSamplingControls(context, sampled, telemetry, adaptivePlan);
-
-        List<G> feasibleSamples = new ArrayList<>(sampled.size());
-        for (G genotype : sampled) {
-            G feasible = context.constraintHandling().enforce(
-                    genotype,
-                    context.representation(),
-                    context.problem(),
-                    context.rngManager().stream("constraint")
-            );
-            feasibleSamples.add(feasible);
-        }
+        // Models enforce constraints while sampling; only adaptively replaced entries need another pass.
+        List<G> feasibleSamples = applyAdaptiveSamplingControls(context, sampleBatch.toList(), telemetry, adaptivePlan);
 
-        List<Fitness> fitnesses = evaluateFitnessBatch(context, feasibleSamples, state.iteration() + 1, "iterate");
+        EvaluatedBatch evaluated = evaluateFitnessBatch(context, feasibleSamples, state.iteration() + 1, "iterate");
+        List<Fitness> fitnesses = evaluated.fitness();
+        iterationEvaluations = evaluated.countedEvaluations();
+        lastRefinementEvaluations = 0L;
 
         List<Individual<G>> offspring = new ArrayList<>(feasibleSamples.size());
         for (int i = 0; i < feasibleSamples.size(); i++) {
-            Individual<G> individual = new Individual<>(feasibleSamples.get(i), fitnesses.get(i));
-            offspring.add(context.localSearch().refine(
-                    individual,
-                    context.problem(),
-                    context.representation(),
-                    context.rngManager().stream("local-search")
-            ));
+            offspring.add(new Individual<>(feasibleSamples.get(i), fitnesses.get(i)));
         }
+        refineIndividuals(context, offspring, "local-search");
 
         Population<G> next = context.replacementPolicy().replace(
                 current,
@@ -269,7 +316,7 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
                 : previousBest;
 
         int newIteration = state.iteration() + 1;
-        long newEvaluations = state.evaluations() + sampled.size();
+        long newEvaluations = state.evaluations() + iterationEvaluations;
 
         AlgorithmState<G> newState = new AlgorithmState<>(
                 state.runId(),
@@ -288,60 +335,231 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
         publishIterationEvent(context, newState, telemetry, adaptivePlan.actions(), elite.size());
     }
 
-    private List<Fitness> evaluateFitnessBatch(AlgorithmContext<G> context,
-                                               List<G> feasibleGenotypes,
-                                               int iteration,
-                                               String phase) {
-        if (feasibleGenotypes.isEmpty()) {
-            return List.of();
+    private EvaluatedBatch evaluateFitnessBatch(AlgorithmContext<G> context,
+                                                List<G> feasibleGenotypes,
+                                                int iteration,
+                                                String phase) {
+        int size = feasibleGenotypes.size();
+        lastCacheHits = 0;
+        lastCacheLookups = size;
+        if (size == 0) {
+            return new EvaluatedBatch(List.of(), 0);
         }
 
-        int workerBudget = Math.max(
-                1,
-                Math.min(feasibleGenotypes.size(), ExecutionParallelism.suggestedFitnessWorkersPerRun())
-        );
-        if (workerBudget <= 1 || feasibleGenotypes.size() <= 1) {
-            List<Fitness> serial = new ArrayList<>(feasibleGenotypes.size());
-            for (int i = 0; i < feasibleGenotypes.size(); i++) {
-                serial.add(evaluateGenotype(
-                        context,
-                        feasibleGenotypes.get(i),
-                        evaluationStream(context, phase, iteration, i)
-                ));
+        FitnessCache cache = cachesFitness() ? context.fitnessCache() : FitnessCache.disabled();
+        Fitness[] resolved = new Fitness[size];
+        FitnessCache.Key[] keys = new FitnessCache.Key[size];
+        int[] duplicateOf = new int[size];
+        int[] pending = new int[size];
+        int pendingCount = 0;
+        int hits = 0;
+        HashMap<FitnessCache.Key, Integer> firstInBatch = cache.enabled() ? new HashMap<>() : null;
+        for (int i = 0; i < size; i++) {
+            duplicateOf[i] = -1;
+            if (cache.enabled() && context.representation().hashContents(feasibleGenotypes.get(i), genotypeHasher.reset())) {
+                FitnessCache.Key key = genotypeHasher.digest();
+                Integer first = firstInBatch.get(key);
+                if (first != null) {
+                    duplicateOf[i] = first;
+                    cache.recordHit();
+                    hits++;
+                    continue;
+                }
+                Fitness cached = cache.get(key);
+                if (cached != null) {
+                    resolved[i] = cached;
+                    hits++;
+                    continue;
+                }
+                keys[i] = key;
+                firstInBatch.put(key, i);
             }
-            return serial;
+            pending[pendingCount++] = i;
         }
 
-        Fitness[] evaluated = new Fitness[feasibleGenotypes.size()];
-        List<CompletableFuture<Void>> futures = new ArrayList<>(workerBudget);
-        for (int workerIndex = 0; workerIndex < workerBudget; workerIndex++) {
-            final int lane = workerIndex;
-            futures.add(CompletableFuture.runAsync(() -> {
-                for (int index = lane; index < feasibleGenotypes.size(); index += workerBudget) {
-                    evaluated[index] = evaluateGenotype(
+        // An evaluation abandoned after its deadline may still finish later; the first outcome wins.
+        Fitness penalty = timeoutPenalty(context);
+        AtomicReferenceArray<Fitness> evaluated = new AtomicReferenceArray<>(pendingCount);
+        BatchProblem<G> batchProblem = pendingCount > 0 ? batchProblem(context) : null;
+        if (batchProblem != null) {
+            evaluateInChunks(context, batchProblem, feasibleGenotypes, pending, pendingCount, evaluated, penalty);
+        } else if (pendingCount > 0) {
+            context.evaluationExecutor().execute(
+                    pendingCount,
+                    slot -> evaluated.compareAndSet(slot, null, evaluateGenotype(
                             context,
-                            feasibleGenotypes.get(index),
-                            evaluationStream(context, phase, iteration, index)
-                    );
-                }
-            }, FITNESS_EVALUATION_POOL));
+                            feasibleGenotypes.get(pending[slot]),
+                            evaluationStream(context, phase, iteration, pending[slot])
+                    )),
+                    slot -> evaluated.compareAndSet(slot, null, penalty),
+                    context.cancellation()
+            );
+        }
+        for (int slot = 0; slot < pendingCount; slot++) {
+            int index = pending[slot];
+            resolved[index] = evaluated.get(slot);
+            if (keys[index] != null && resolved[index] != penalty) {
+                cache.put(keys[index], resolved[index]);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (duplicateOf[i] >= 0) {
+                resolved[i] = resolved[duplicateOf[i]];
+            }
         }
 
-        for (CompletableFuture<Void> future : futures) {
-            try {
-                future.join();
-            } catch (CompletionException e) {
-                if (e.getCause() instanceof RuntimeException runtime) {
-                    throw runtime;
-                }
-                throw new RuntimeException("Parallel fitness evaluation failed", e.getCause());
+        lastCacheHits = hits;
+        int counted = cache.countsHits() ? size : size - hits;
+        return new EvaluatedBatch(Arrays.asList(resolved), counted);
+    }
+
+    /**
+     * Returns the problem as a {@link BatchProblem} when this algorithm and the executor allow
+     * chunked evaluation, otherwise null. Deadline-enforcing executors keep one candidate per
+     * task so the timeout stays per evaluation.
+     */
+    private BatchProblem<G> batchProblem(AlgorithmContext<G> context) {
+        if (evaluatesInBatches()
+                && !context.evaluationExecutor().enforcesDeadlines()
+                && context.problem() instanceof BatchProblem<G> batchProblem) {
+            return batchProblem;
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates pending slots as executor tasks of at most {@link BatchProblem#preferredBatchSize()}
+     * candidates each, split finely enough that every executor worker gets a chunk.
+     */
+    private void evaluateInChunks(AlgorithmContext<G> context,
+                                  BatchProblem<G> problem,
+                                  List<G> feasibleGenotypes,
+                                  int[] pending,
+                                  int pendingCount,
+                                  AtomicReferenceArray<Fitness> evaluated,
+                                  Fitness penalty) {
+        int chunkSize = chunkSize(problem.preferredBatchSize(), pendingCount,
+                context.evaluationExecutor().parallelism());
+        int chunks = (pendingCount + chunkSize - 1) / chunkSize;
+        context.evaluationExecutor().execute(
+                chunks,
+                chunk -> {
+                    int from = chunk * chunkSize;
+                    int to = Math.min(pendingCount, from + chunkSize);
+                    List<G> genotypes = new ArrayList<>(to - from);
+                    for (int slot = from; slot < to; slot++) {
+                        genotypes.add(feasibleGenotypes.get(pending[slot]));
+                    }
+                    List<Fitness> fitness = problem.evaluateBatch(genotypes);
+                    for (int slot = from; slot < to; slot++) {
+                        evaluated.compareAndSet(slot, null, fitness.get(slot - from));
+                    }
+                },
+                chunk -> {
+                    int to = Math.min(pendingCount, (chunk + 1) * chunkSize);
+                    for (int slot = chunk * chunkSize; slot < to; slot++) {
+                        evaluated.compareAndSet(slot, null, penalty);
+                    }
+                },
+                context.cancellation()
+        );
+    }
+
+    /**
+     * Returns {@code min(preferred, ceil(pending / parallelism))}, at least one, so a batch smaller
+     * than {@code preferred * parallelism} still spreads over every worker.
+     */
+    static int chunkSize(int preferred, int pending, int parallelism) {
+        int workers = Math.max(1, parallelism);
+        int perWorker = (int) ((pending + (long) workers - 1L) / workers);
+        return Math.max(1, Math.min(preferred, perWorker));
+    }
+
+    /**
+     * Runs local search over individuals on the evaluation executor and replaces them in place.
+     *
+     * <p>Each individual gets its own ephemeral random stream named after {@code phase} and its own
+     * {@link EvaluationBudget}. When the stopping condition limits evaluations, what it still
+     * allows this iteration is split into fixed quotas by index before any search starts, so
+     * which individuals get refined, and how far, does not depend on worker scheduling. Searches
+     * charge their budget as they evaluate, so an individual whose refinement times out is kept
+     * unrefined but its spent evaluations still count. The total is added to the iteration's
+     * evaluations. Subclasses may call this from {@link #postProcessPopulation}.</p>
+     *
+     * @param context algorithm runtime context
+     * @param individuals evaluated individuals, replaced by their refined versions
+     * @param phase random stream prefix of this refinement pass
+     */
+    protected final void refineIndividuals(AlgorithmContext<G> context, List<Individual<G>> individuals, String phase) {
+        LocalSearch<G> localSearch = context.localSearch();
+        int size = individuals.size();
+        if (!localSearch.active() || size == 0) {
+            return;
+        }
+        long remaining = context.stoppingCondition().remainingEvaluations(state);
+        long allowed = remaining == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0L, remaining - iterationEvaluations);
+        EvaluationBudget[] budgets = new EvaluationBudget[size];
+        for (int slot = 0; slot < size; slot++) {
+            budgets[slot] = allowed == Long.MAX_VALUE
+                    ? EvaluationBudget.unlimited()
+                    : new EvaluationBudget(allowed / size + (slot < allowed % size ? 1L : 0L));
+        }
+        int iteration = state.iteration() + 1;
+        AtomicReferenceArray<Individual<G>> refined = new AtomicReferenceArray<>(size);
+        try {
+            context.evaluationExecutor().execute(
+                    size,
+                    slot -> refined.compareAndSet(slot, null, localSearch.search(
+                            individuals.get(slot),
+                            context.problem(),
+                            context.representation(),
+                            context.rngManager().ephemeralStream(phase + "/iter-" + iteration + "/idx-" + slot),
+                            budgets[slot]
+                    ).individual()),
+                    slot -> refined.compareAndSet(slot, null, individuals.get(slot)),
+                    context.cancellation()
+            );
+        } finally {
+            // Searches abandoned by a timeout stop at their next charge.
+            for (EvaluationBudget budget : budgets) {
+                budget.close();
             }
         }
-        List<Fitness> result = new ArrayList<>(feasibleGenotypes.size());
-        for (Fitness fitness : evaluated) {
-            result.add(fitness);
+        for (int slot = 0; slot < size; slot++) {
+            Individual<G> individual = refined.get(slot);
+            if (individual != null) {
+                individuals.set(slot, individual);
+            }
         }
-        return result;
+        long spent = 0L;
+        for (EvaluationBudget budget : budgets) {
+            spent += budget.spent();
+        }
+        lastRefinementEvaluations += spent;
+        iterationEvaluations += spent;
+    }
+
+    /**
+     * Returns the fitness recorded for an evaluation abandoned after its deadline: the configured
+     * penalty, or the worst finite value for the objective sense, once per objective.
+     *
+     * @param context algorithm runtime context
+     * @return timeout penalty fitness
+     */
+    protected final Fitness timeoutPenalty(AlgorithmContext<G> context) {
+        double penalty = context.evaluationTimeoutPenalty();
+        if (Double.isNaN(penalty)) {
+            penalty = context.problem().objectiveSense() == ObjectiveSense.MAXIMIZE
+                    ? -Double.MAX_VALUE
+                    : Double.MAX_VALUE;
+        }
+        int objectives = context.problem().objectiveCount();
+        if (objectives <= 1) {
+            return new ScalarFitness(penalty);
+        }
+        double[] values = new double[objectives];
+        Arrays.fill(values, penalty);
+        return new VectorFitness(values, penalty);
     }
 
     private RngStream evaluationStream(AlgorithmContext<G> context, String phase, int iteration, int candidateIndex) {
@@ -356,11 +574,15 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
      */
     @Override
     public void run(AlgorithmContext<G> context) {
-        initialize(context);
-        while (!context.stoppingCondition().shouldStop(state)) {
-            iterate(context);
+        try {
+            initialize(context);
+            while (!context.stoppingCondition().shouldStop(state)) {
+                iterate(context);
+            }
+            complete(context, Map.of());
+        } finally {
+            close();
         }
-        complete(context, Map.of());
     }
 
     /**
@@ -392,6 +614,7 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
         this.state = restoredState;
         this.previousBestFitness = PopulationMetrics.best(restoredState.population());
         this.stagnationIterations = 0;
+        this.sampleBatch = null;
         this.previousTelemetry = LatentTelemetry.empty();
     }
 
@@ -438,6 +661,17 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
         }
         metrics.putAll(telemetry.flattenedNumeric());
         metrics.put("adaptive_event_count", (double) adaptiveActions.size());
+        metrics.putAll(iterationMetrics());
+        if (context.localSearch().active()) {
+            metrics.put("local_search_evaluations", (double) lastRefinementEvaluations);
+        }
+        FitnessCache cache = context.fitnessCache();
+        if (cache.enabled() && cachesFitness()) {
+            metrics.put("fitness_cache_hits", (double) lastCacheHits);
+            metrics.put("fitness_cache_hit_rate", lastCacheLookups == 0 ? 0.0 : (double) lastCacheHits / lastCacheLookups);
+            metrics.put("fitness_cache_hit_rate_total", cache.hitRate());
+            metrics.put("fitness_cache_size", (double) cache.size());
+        }
 
         context.eventBus().publish(new IterationCompletedEvent(
                 current.runId(),
@@ -598,7 +832,8 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
             return sampled;
         }
 
-        List<G> adapted = new ArrayList<>(sampled);
+        List<G> adapted = sampled;
+        boolean[] touched = new boolean[adapted.size()];
         RngStream restartRng = context.rngManager().stream("adaptive-restart");
         RngStream noiseRng = context.rngManager().stream("adaptive-noise");
 
@@ -610,6 +845,7 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
                     break;
                 }
                 adapted.set(index, context.representation().random(restartRng));
+                touched[index] = true;
             }
         }
 
@@ -625,9 +861,21 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
                         noiseRng,
                         telemetry.representationFamily()
                 ));
+                touched[index] = true;
             }
         }
 
+        RngStream constraintRng = context.rngManager().stream("constraint");
+        for (int i = 0; i < adapted.size(); i++) {
+            if (touched[i]) {
+                adapted.set(i, context.constraintHandling().enforce(
+                        adapted.get(i),
+                        context.representation(),
+                        context.problem(),
+                        constraintRng
+                ));
+            }
+        }
         return adapted;
     }
 
@@ -761,15 +1009,10 @@ public abstract class AbstractEdaAlgorithm<G> implements Algorithm<G> {
         return Math.max(min, Math.min(max, value));
     }
 
-    private static ExecutorService newFixedFitnessPool() {
-        AtomicInteger counter = new AtomicInteger(1);
-        ThreadFactory threadFactory = runnable -> {
-            Thread thread = new Thread(runnable);
-            thread.setName("edaf-fitness-worker-" + counter.getAndIncrement());
-            thread.setDaemon(true);
-            return thread;
-        };
-        return Executors.newFixedThreadPool(FITNESS_EVALUATION_WORKERS, threadFactory);
+    /**
+     * Fitness values of one batch and the number of evaluations charged for it after cache hits.
+     */
+    private record EvaluatedBatch(List<Fitness> fitness, int countedEvaluations) {
     }
 
     /**
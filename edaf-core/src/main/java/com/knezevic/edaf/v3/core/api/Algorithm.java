@@ -12,7 +12,7 @@ package com.knezevic.edaf.v3.core.api;
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public interface Algorithm<G> {
+public interface Algorithm<G> extends AutoCloseable {
 
     /**
      * Returns the unique algorithm identifier used in configuration and persistence.
@@ -55,4 +55,15 @@ public interface Algorithm<G> {
      * @param context immutable runtime context with all run components
      */
     void run(AlgorithmContext<G> context);
+
+    /**
+     * Releases run-scoped resources such as worker threads.
+     *
+     * <p>Runners call this once the run has completed, stopped or failed, so it must be safe to
+     * call more than once. The default holds nothing to release.</p>
+     */
+    @Override
+    default void close() {
+        // no run-scoped resources
+    }
 }
@@ -7,6 +7,10 @@ package com.knezevic.edaf.v3.core.api;
 
 import com.knezevic.edaf.v3.core.events.EventBus;
 import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.core.runtime.CancellationToken;
+import com.knezevic.edaf.v3.core.runtime.EvaluationExecutor;
+import com.knezevic.edaf.v3.core.runtime.FitnessCache;
+import com.knezevic.edaf.v3.core.runtime.WorkStealingEvaluationExecutor;
 
 import java.util.Collections;
 import java.util.List;
@@ -39,6 +43,10 @@ public final class AlgorithmContext<G> {
     private final int populationSize;
     private final int elitism;
     private final Map<String, Object> parameters;
+    private final EvaluationExecutor evaluationExecutor;
+    private final CancellationToken cancellation;
+    private final double evaluationTimeoutPenalty;
+    private final FitnessCache fitnessCache;
 
     private AlgorithmContext(Builder<G> builder) {
         this.runId = Objects.requireNonNull(builder.runId, "runId must not be null");
@@ -58,6 +66,10 @@ public final class AlgorithmContext<G> {
         this.populationSize = builder.populationSize;
         this.elitism = builder.elitism;
         this.parameters = Collections.unmodifiableMap(builder.parameters);
+        this.evaluationExecutor = Objects.requireNonNull(builder.evaluationExecutor, "evaluationExecutor must not be null");
+        this.cancellation = Objects.requireNonNull(builder.cancellation, "cancellation must not be null");
+        this.evaluationTimeoutPenalty = builder.evaluationTimeoutPenalty;
+        this.fitnessCache = Objects.requireNonNull(builder.fitnessCache, "fitnessCache must not be null");
     }
 
     /**
@@ -213,6 +225,42 @@ public final class AlgorithmContext<G> {
         return parameters;
     }
 
+    /**
+     * Returns executor used for fitness evaluation batches.
+     *
+     * @return evaluation executor
+     */
+    public EvaluationExecutor evaluationExecutor() {
+        return evaluationExecutor;
+    }
+
+    /**
+     * Returns run cancellation signal honored during fitness evaluation.
+     *
+     * @return cancellation token
+     */
+    public CancellationToken cancellation() {
+        return cancellation;
+    }
+
+    /**
+     * Returns scalar fitness assigned to evaluations abandoned after their deadline.
+     *
+     * @return penalty value, or {@code NaN} for the worst finite value of the objective sense
+     */
+    public double evaluationTimeoutPenalty() {
+        return evaluationTimeoutPenalty;
+    }
+
+    /**
+     * Returns run-scoped fitness memo consulted before evaluation.
+     *
+     * @return fitness cache, disabled unless configured
+     */
+    public FitnessCache fitnessCache() {
+        return fitnessCache;
+    }
+
     /**
      * Builder to keep algorithm setup explicit and readable.
      *
@@ -238,6 +286,10 @@ public final class AlgorithmContext<G> {
         private int populationSize;
         private int elitism;
         private Map<String, Object> parameters = Map.of();
+        private EvaluationExecutor evaluationExecutor = WorkStealingEvaluationExecutor.shared();
+        private CancellationToken cancellation = CancellationToken.none();
+        private double evaluationTimeoutPenalty = Double.NaN;
+        private FitnessCache fitnessCache = FitnessCache.disabled();
 
         /**
          * Sets run identifier.
@@ -375,6 +427,38 @@ public final class AlgorithmContext<G> {
          */
         public Builder<G> parameters(Map<String, Object> parameters) { this.parameters = parameters; return this; }
 
+        /**
+         * Sets fitness evaluation executor.
+         *
+         * @param evaluationExecutor evaluation executor
+         * @return this builder
+         */
+        public Builder<G> evaluationExecutor(EvaluationExecutor evaluationExecutor) { this.evaluationExecutor = evaluationExecutor; return this; }
+
+        /**
+         * Sets run cancellation signal.
+         *
+         * @param cancellation cancellation token
+         * @return this builder
+         */
+        public Builder<G> cancellation(CancellationToken cancellation) { this.cancellation = cancellation; return this; }
+
+        /**
+         * Sets scalar fitness assigned to timed-out evaluations.
+         *
+         * @param evaluationTimeoutPenalty penalty value, or {@code NaN} for the worst finite value
+         * @return this builder
+         */
+        public Builder<G> evaluationTimeoutPenalty(double evaluationTimeoutPenalty) { this.evaluationTimeoutPenalty = evaluationTimeoutPenalty; return this; }
+
+        /**
+         * Sets run-scoped fitness memo.
+         *
+         * @param fitnessCache fitness cache
+         * @return this builder
+         */
+        public Builder<G> fitnessCache(FitnessCache fitnessCache) { this.fitnessCache = fitnessCache; return this; }
+
         /**
          * Builds immutable algorithm context from provided builder values.
          *
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.api;
+
+import java.util.List;
+
+/**
+ * Optional extension of {@link Problem} for evaluating many genotypes in one call.
+ *
+ * <p>Problems whose evaluation is dominated by a shared operand, such as a rotation matrix or a
+ * dataset, can process a whole block of genotypes while that operand stays in cache. The
+ * generational engine splits each batch of pending evaluations into chunks of at most
+ * {@link #preferredBatchSize()}, smaller when needed to give every executor worker a chunk, and
+ * hands every chunk to the evaluation executor as one task so chunks still run in parallel.
+ * Executors that enforce an evaluation timeout never take this path: they evaluate one genotype
+ * per task through {@link #evaluate} so the deadline and penalty stay per candidate.</p>
+ *
+ * <p>For every index {@code i}, {@code evaluateBatch(genotypes).get(i)} equals
+ * {@code evaluate(genotypes.get(i))}. Implementations must be thread-safe.</p>
+ *
+ * @param <G> genotype value type
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public interface BatchProblem<G> extends Problem<G> {
+
+    /**
+     * Evaluates a block of genotypes.
+     *
+     * @param genotypes candidate solutions to evaluate
+     * @return one fitness per genotype, in input order
+     */
+    List<Fitness> evaluateBatch(List<G> genotypes);
+
+    /**
+     * Returns the largest number of genotypes the engine should hand to one {@link #evaluateBatch}
+     * call.
+     *
+     * @return preferred chunk size, at least one
+     */
+    default int preferredBatchSize() {
+        return 64;
+    }
+}
@@ -19,6 +19,15 @@ public interface ConstraintHandling<G> {
      */
     G enforce(G candidate, Representation<G> representation, Problem<G> problem, RngStream rng);
 
+    /**
+     * Enforces constraints on every sample of a batch in index order.
+     */
+    default void enforceBatch(SampleBatch<G> batch, Representation<G> representation, Problem<G> problem, RngStream rng) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.set(i, enforce(batch.get(i), representation, problem, rng));
+        }
+    }
+
     /**
      * Strategy identifier used in diagnostics.
      */
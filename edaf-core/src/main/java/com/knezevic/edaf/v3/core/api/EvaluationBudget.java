@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.api;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evaluation allowance of one local-search call, a fixed share of the run's remaining evaluations.
+ *
+ * <p>Searches call {@link #tryCharge()} before every evaluation, so {@link #spent()} is current
+ * even for a call that is abandoned by an executor timeout. Once the limit is reached or the pass
+ * is {@link #close() closed}, further charges are refused and searches return the best
+ * individual found so far. Instances are thread-safe.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class EvaluationBudget {
+
+    private final long limit;
+    private final AtomicLong spent = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * Creates a budget.
+     *
+     * @param limit maximum number of evaluations
+     */
+    public EvaluationBudget(long limit) {
+        if (limit < 0L) {
+            throw new IllegalArgumentException("limit must be >= 0");
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a budget without a run-level limit.
+     *
+     * @return unlimited budget
+     */
+    public static EvaluationBudget unlimited() {
+        return new EvaluationBudget(Long.MAX_VALUE);
+    }
+
+    /**
+     * Charges one evaluation if the allowance permits it.
+     *
+     * @return true when the caller may evaluate, false when the budget is spent or closed
+     */
+    public boolean tryCharge() {
+        if (closed) {
+            return false;
+        }
+        long current;
+        do {
+            current = spent.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!spent.compareAndSet(current, current + 1L));
+        return true;
+    }
+
+    /**
+     * Records evaluations that were spent without being charged up front.
+     *
+     * @param evaluations evaluations already spent
+     */
+    public void charge(long evaluations) {
+        if (evaluations > 0L) {
+            spent.addAndGet(evaluations);
+        }
+    }
+
+    /**
+     * Returns evaluations charged so far.
+     *
+     * @return spent evaluations
+     */
+    public long spent() {
+        return spent.get();
+    }
+
+    /**
+     * Refuses all further charges.
+     */
+    public void close() {
+        closed = true;
+    }
+}
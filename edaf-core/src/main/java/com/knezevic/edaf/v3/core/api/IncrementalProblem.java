@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.api;
+
+/**
+ * Optional extension of {@link Problem} for delta evaluation of small genotype changes.
+ *
+ * <p>A full evaluation produces a problem-specific evaluation state, for example per-clause
+ * satisfied-literal counts. When a candidate differs from an evaluated base genotype at a few
+ * positions, {@link #evaluateDelta} updates that state in place and returns the candidate fitness
+ * while touching only the data that depends on the changed positions. Applying the same
+ * positions again with base and candidate swapped restores the original state, so local searches
+ * can reject a move without copying. States are not thread-safe; each worker owns its own.</p>
+ *
+ * <p>For every reachable state, {@code fitness(state)} equals {@code evaluate(g)} for the
+ * genotype {@code g} the state describes.</p>
+ *
+ * @param <G> genotype value type
+ * @param <S> mutable evaluation state type
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public interface IncrementalProblem<G, S> extends Problem<G> {
+
+    /**
+     * Evaluates a genotype from scratch and returns its evaluation state.
+     *
+     * @param genotype genotype to evaluate
+     * @return new evaluation state describing {@code genotype}
+     */
+    S evaluationState(G genotype);
+
+    /**
+     * Returns the fitness described by an evaluation state.
+     *
+     * @param state evaluation state
+     * @return fitness
+     */
+    Fitness fitness(S state);
+
+    /**
+     * Moves a state from {@code base} to {@code candidate} and returns the candidate fitness.
+     *
+     * <p>{@code changedPositions} must list every position where the genotypes differ, each at
+     * most once. Listed positions that did not change are ignored.</p>
+     *
+     * @param base genotype currently described by {@code state}
+     * @param state evaluation state of {@code base}, updated in place to describe {@code candidate}
+     * @param candidate changed genotype
+     * @param changedPositions positions where {@code candidate} may differ from {@code base}
+     * @return candidate fitness
+     */
+    Fitness evaluateDelta(G base, S state, G candidate, int[] changedPositions);
+
+    /**
+     * Returns an independent copy of a state.
+     *
+     * @param state evaluation state
+     * @return deep copy
+     */
+    S copyState(S state);
+}
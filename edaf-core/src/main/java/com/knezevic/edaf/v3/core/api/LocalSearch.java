@@ -9,6 +9,13 @@ import com.knezevic.edaf.v3.core.rng.RngStream;
 
 /**
  * Optional local-search hook for memetic EDA variants.
+ *
+ * <p>Generational drivers call {@link #search(Individual, Problem, Representation, RngStream,
+ * EvaluationBudget)} for every offspring on the evaluation executor's workers, so implementations
+ * must be safe for concurrent calls with distinct random streams. Every call gets its own
+ * {@link EvaluationBudget}, a fixed share of the run's remaining evaluations, and everything
+ * charged to it is added to the run's evaluation count. A full problem evaluation costs one
+ * evaluation; moves scored by delta cost one evaluation per genotype-size moves.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
@@ -23,4 +30,63 @@ public interface LocalSearch<G> {
      * Hook identifier used in logs.
      */
     String name();
+
+    /**
+     * Applies local search and reports how many evaluations it spent.
+     *
+     * <p>The default adapter delegates to {@link #refine} and reports zero evaluations.</p>
+     *
+     * @param individual evaluated individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream owned by this call
+     * @return refined individual and evaluation cost
+     */
+    default Outcome<G> search(Individual<G> individual, Problem<G> problem, Representation<G> representation, RngStream rng) {
+        return new Outcome<>(refine(individual, problem, representation, rng), 0L);
+    }
+
+    /**
+     * Applies local search, charging every evaluation to its run budget as it happens.
+     *
+     * <p>The default adapter runs {@link #search(Individual, Problem, Representation, RngStream)}
+     * and charges its reported evaluations afterwards, so it neither honours the budget limit nor
+     * reports evaluations of a call abandoned by a timeout. Implementations should override it and
+     * stop as soon as {@link EvaluationBudget#tryCharge()} refuses.</p>
+     *
+     * @param individual evaluated individual to refine
+     * @param problem optimization problem
+     * @param representation genotype representation
+     * @param rng random stream owned by this call
+     * @param budget evaluation allowance of this call, a share of the run budget
+     * @return refined individual and the evaluations this call charged
+     */
+    default Outcome<G> search(Individual<G> individual,
+                              Problem<G> problem,
+                              Representation<G> representation,
+                              RngStream rng,
+                              EvaluationBudget budget) {
+        Outcome<G> outcome = search(individual, problem, representation, rng);
+        budget.charge(outcome.evaluations());
+        return outcome;
+    }
+
+    /**
+     * Returns whether the hook can change individuals; drivers skip the refinement pass otherwise.
+     *
+     * @return true unless the hook is a no-op
+     */
+    default boolean active() {
+        return true;
+    }
+
+    /**
+     * Result of one local-search call.
+     *
+     * @param individual refined individual, never worse than the input
+     * @param evaluations fitness evaluations spent, counting each scored move once
+     * @param <G> genotype value type
+     */
+    record Outcome<G>(Individual<G> individual, long evaluations) {
+    }
 }
@@ -5,6 +5,7 @@
 
 package com.knezevic.edaf.v3.core.api;
 
+import com.knezevic.edaf.v3.core.api.defaults.ObjectSampleBatch;
 import com.knezevic.edaf.v3.core.rng.RngStream;
 
 import java.util.List;
@@ -62,6 +63,50 @@ public interface Model<G> {
                    ConstraintHandling<G> constraintHandling,
                    RngStream rng);
 
+    /**
+     * Creates the reusable population buffer passed to {@link #sampleInto}.
+     *
+     * <p>The default stores genotype references, because the default {@link #sampleInto} adapter
+     * only hands over finished genotypes and a flat buffer would copy and re-materialize each one.
+     * Models that write a representation's flat layout directly return
+     * {@link Representation#newSampleBatch}.</p>
+     *
+     * @param representation genotype representation
+     * @param capacity initial number of samples
+     * @return empty sample batch
+     */
+    default SampleBatch<G> newSampleBatch(Representation<G> representation, int capacity) {
+        return new ObjectSampleBatch<>(capacity);
+    }
+
+    /**
+     * Samples new genotypes directly into a reusable population buffer.
+     *
+     * <p>On return the batch holds {@code count} constraint-enforced samples. The default adapter
+     * copies the output of {@link #sample}; models over primitive genotypes override this to write
+     * into the batch's flat storage and repair the whole population in one
+     * {@link ConstraintHandling#enforceBatch} pass.</p>
+     *
+     * @param batch destination batch, reset to {@code count} samples
+     * @param count number of genotypes to sample
+     * @param representation genotype representation used for validation and repair
+     * @param problem optimization problem for constraint context
+     * @param constraintHandling configured constraint handling strategy
+     * @param rng random stream dedicated to model sampling
+     */
+    default void sampleInto(SampleBatch<G> batch,
+                            int count,
+                            Representation<G> representation,
+                            Problem<G> problem,
+                            ConstraintHandling<G> constraintHandling,
+                            RngStream rng) {
+        List<G> samples = sample(count, representation, problem, constraintHandling, rng);
+        batch.reset(samples.size());
+        for (int i = 0; i < samples.size(); i++) {
+            batch.set(i, samples.get(i));
+        }
+    }
+
     /**
      * Returns model diagnostics such as entropy or covariance conditioning.
      *
@@ -5,7 +5,9 @@
 
 package com.knezevic.edaf.v3.core.api;
 
+import com.knezevic.edaf.v3.core.api.defaults.ObjectSampleBatch;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
 
 /**
  * Domain-specific genotype representation.
@@ -47,6 +49,46 @@ public interface Representation<G> {
      */
     G repair(G genotype);
 
+    /**
+     * Creates a reusable sample batch for this representation.
+     *
+     * <p>The default stores genotype references; representations with a primitive layout return
+     * a flat buffer that models can fill without per-individual allocation. Algorithms obtain
+     * batches through {@link Model#newSampleBatch}, so the flat layout is only used by models
+     * that write it.</p>
+     *
+     * @param capacity initial number of samples
+     * @return empty sample batch
+     */
+    default SampleBatch<G> newSampleBatch(int capacity) {
+        return new ObjectSampleBatch<>(capacity);
+    }
+
+    /**
+     * Repairs every sample of a batch in place.
+     *
+     * @param batch batch to repair
+     */
+    default void repairBatch(SampleBatch<G> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.set(i, repair(batch.get(i)));
+        }
+    }
+
+    /**
+     * Feeds the primitive contents of a genotype into a fingerprint hasher.
+     *
+     * <p>Two genotypes must produce the same hash input exactly when they evaluate identically.
+     * The default reports the genotype as unhashable, which bypasses the fitness cache.</p>
+     *
+     * @param genotype genotype to digest
+     * @param hasher hasher receiving the contents
+     * @return true when the genotype was digested
+     */
+    default boolean hashContents(G genotype, GenotypeHasher hasher) {
+        return false;
+    }
+
     /**
      * Returns a stable and concise genotype summary for logs and reports.
      *
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reusable population buffer filled by {@link Model#sampleInto}.
+ *
+ * <p>Representations with a primitive genotype layout provide batches that keep the whole
+ * population in one flat array so models can write samples and constraint handlers can repair
+ * them without allocating per-individual objects. Genotype values are materialized only on
+ * {@link #get(int)}. A batch is owned by one algorithm run and is not thread-safe.</p>
+ *
+ * @param <G> genotype value type
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public interface SampleBatch<G> {
+
+    /**
+     * Returns the number of samples currently held.
+     *
+     * @return batch size
+     */
+    int size();
+
+    /**
+     * Resizes the batch to hold {@code count} samples, growing backing storage when needed.
+     * Existing contents are unspecified after reset.
+     *
+     * @param count number of samples
+     */
+    void reset(int count);
+
+    /**
+     * Materializes the genotype stored at index.
+     *
+     * @param index sample index
+     * @return genotype value
+     */
+    G get(int index);
+
+    /**
+     * Stores a genotype at index.
+     *
+     * @param index sample index
+     * @param genotype genotype value
+     */
+    void set(int index, G genotype);
+
+    /**
+     * Materializes all samples in index order.
+     *
+     * @return new genotype list
+     */
+    default List<G> toList() {
+        List<G> values = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            values.add(get(i));
+        }
+        return values;
+    }
+}
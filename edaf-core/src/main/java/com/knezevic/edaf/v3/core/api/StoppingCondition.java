@@ -21,6 +21,19 @@ public interface StoppingCondition<G> {
      */
     boolean shouldStop(AlgorithmState<G> state);
 
+    /**
+     * Returns how many more evaluations the run may spend before this condition stops it.
+     *
+     * <p>Drivers use this to cap work that spends evaluations inside one iteration, such as
+     * local search. The default imposes no evaluation limit.</p>
+     *
+     * @param state current algorithm state snapshot
+     * @return remaining evaluations, or {@link Long#MAX_VALUE} when unlimited
+     */
+    default long remainingEvaluations(AlgorithmState<G> state) {
+        return Long.MAX_VALUE;
+    }
+
     /**
      * Returns the condition identifier used in diagnostics.
      *
@@ -62,6 +62,20 @@ public final class BudgetOrTargetStoppingCondition<G> implements StoppingConditi
         return false;
     }
 
+    /**
+     * Returns evaluations left before the evaluation budget is reached.
+     *
+     * @param state current algorithm state
+     * @return remaining evaluations, or {@link Long#MAX_VALUE} when no budget is configured
+     */
+    @Override
+    public long remainingEvaluations(AlgorithmState<G> state) {
+        if (maxEvaluations == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, maxEvaluations - state.evaluations());
+    }
+
     /**
      * Returns stopping-condition identifier.
      *
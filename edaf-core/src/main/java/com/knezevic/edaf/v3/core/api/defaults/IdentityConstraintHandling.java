@@ -8,6 +8,7 @@ package com.knezevic.edaf.v3.core.api.defaults;
 import com.knezevic.edaf.v3.core.api.ConstraintHandling;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
 import com.knezevic.edaf.v3.core.rng.RngStream;
 
 /**
@@ -32,6 +33,19 @@ public final class IdentityConstraintHandling<G> implements ConstraintHandling<G
         return representation.repair(candidate);
     }
 
+    /**
+     * Repairs the whole batch through representation-level batch repair.
+     *
+     * @param batch sampled batch
+     * @param representation genotype representation
+     * @param problem optimization problem
+     * @param rng random stream
+     */
+    @Override
+    public void enforceBatch(SampleBatch<G> batch, Representation<G> representation, Problem<G> problem, RngStream rng) {
+        representation.repairBatch(batch);
+    }
+
     /**
      * Returns constraint-handling identifier.
      *
@@ -42,4 +42,14 @@ public final class NoOpLocalSearch<G> implements LocalSearch<G> {
     public String name() {
         return "none";
     }
+
+    /**
+     * Reports that this hook never changes individuals.
+     *
+     * @return false
+     */
+    @Override
+    public boolean active() {
+        return false;
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.api.defaults;
+
+import com.knezevic.edaf.v3.core.api.SampleBatch;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Generic sample batch storing genotype references for representations without a primitive layout.
+ *
+ * @param <G> genotype value type
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class ObjectSampleBatch<G> implements SampleBatch<G> {
+
+    private Object[] values;
+    private int size;
+
+    /**
+     * Creates an empty batch with initial capacity.
+     *
+     * @param capacity initial capacity
+     */
+    public ObjectSampleBatch(int capacity) {
+        this.values = new Object[Math.max(0, capacity)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void reset(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        if (count > values.length) {
+            values = new Object[count];
+        } else if (count < size) {
+            Arrays.fill(values, count, size, null);
+        }
+        size = count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public G get(int index) {
+        return (G) values[checkIndex(index)];
+    }
+
+    @Override
+    public void set(int index, G genotype) {
+        values[checkIndex(index)] = genotype;
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+}
@@ -7,6 +7,7 @@ package com.knezevic.edaf.v3.core.config;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -525,6 +526,9 @@ public class ExperimentConfig {
         private int checkpointEveryIterations = 0;
         @Min(value = 1, message = "run.runCount must be >= 1")
         private int runCount = 1;
+        @Valid
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private EvaluationSection evaluation;
 
         /**
          * Executes get id.
@@ -633,6 +637,224 @@ public class ExperimentConfig {
         public void setRunCount(int runCount) {
             this.runCount = runCount;
         }
+
+        /**
+         * Returns fitness evaluation execution settings.
+         *
+         * <p>{@code null} when the section is omitted; runs then use the default work-stealing
+         * executor. The section is left out of canonical config output unless set, so existing
+         * experiment fingerprints are unchanged.</p>
+         *
+         * @return evaluation section or null
+         */
+        public EvaluationSection getEvaluation() {
+            return evaluation;
+        }
+
+        /**
+         * Sets fitness evaluation execution settings.
+         *
+         * @param evaluation evaluation section
+         */
+        public void setEvaluation(EvaluationSection evaluation) {
+            this.evaluation = evaluation;
+        }
+    }
+
+    /**
+     * Fitness evaluation execution settings nested under {@code run.evaluation}.
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ *
+     */
+    @JsonIgnoreProperties(ignoreUnknown = false)
+    public static class EvaluationSection {
+        private String mode = "work-stealing";
+        @Min(value = 1, message = "run.evaluation.maxConcurrency must be >= 1")
+        private int maxConcurrency = 256;
+        @Min(value = 0, message = "run.evaluation.timeoutMillis must be >= 0")
+        private long timeoutMillis = 0L;
+        private Double timeoutPenalty;
+        @Valid
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private FitnessCacheSection cache;
+
+        /**
+         * Returns evaluation mode ({@code work-stealing} or {@code virtual-threads}).
+         *
+         * @return evaluation mode
+         */
+        public String getMode() {
+            return mode;
+        }
+
+        /**
+         * Sets evaluation mode.
+         *
+         * @param mode evaluation mode
+         */
+        public void setMode(String mode) {
+            this.mode = mode;
+        }
+
+        /**
+         * Returns maximum number of in-flight evaluations in virtual-thread mode.
+         *
+         * @return concurrency limit
+         */
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        /**
+         * Sets maximum number of in-flight evaluations in virtual-thread mode.
+         *
+         * @param maxConcurrency concurrency limit
+         */
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        /**
+         * Returns per-evaluation timeout in milliseconds; 0 disables timeouts.
+         *
+         * @return timeout in milliseconds
+         */
+        public long getTimeoutMillis() {
+            return timeoutMillis;
+        }
+
+        /**
+         * Sets per-evaluation timeout in milliseconds.
+         *
+         * @param timeoutMillis timeout in milliseconds
+         */
+        public void setTimeoutMillis(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        /**
+         * Returns fitness assigned to timed-out evaluations, or null for the worst finite value.
+         *
+         * @return timeout penalty or null
+         */
+        public Double getTimeoutPenalty() {
+            return timeoutPenalty;
+        }
+
+        /**
+         * Sets fitness assigned to timed-out evaluations.
+         *
+         * @param timeoutPenalty timeout penalty
+         */
+        public void setTimeoutPenalty(Double timeoutPenalty) {
+            this.timeoutPenalty = timeoutPenalty;
+        }
+
+        /**
+         * Returns fitness memoization settings, or null when not configured.
+         *
+         * @return cache section or null
+         */
+        public FitnessCacheSection getCache() {
+            return cache;
+        }
+
+        /**
+         * Sets fitness memoization settings.
+         *
+         * @param cache cache section
+         */
+        public void setCache(FitnessCacheSection cache) {
+            this.cache = cache;
+        }
+    }
+
+    /**
+     * Fitness memoization settings nested under {@code run.evaluation.cache}.
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ *
+     */
+    @JsonIgnoreProperties(ignoreUnknown = false)
+    public static class FitnessCacheSection {
+        private boolean enabled = false;
+        @Min(value = 1, message = "run.evaluation.cache.capacity must be >= 1")
+        private int capacity = 65_536;
+        private String policy = "lru";
+        private boolean countHits = true;
+
+        /**
+         * Returns whether evaluated fitness is memoized across generations.
+         *
+         * @return true when enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Enables or disables fitness memoization.
+         *
+         * @param enabled cache flag
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns maximum number of cached genotypes.
+         *
+         * @return cache capacity
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Sets maximum number of cached genotypes.
+         *
+         * @param capacity cache capacity
+         */
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Returns eviction policy ({@code lru} or {@code clock}).
+         *
+         * @return eviction policy
+         */
+        public String getPolicy() {
+            return policy;
+        }
+
+        /**
+         * Sets eviction policy.
+         *
+         * @param policy eviction policy
+         */
+        public void setPolicy(String policy) {
+            this.policy = policy;
+        }
+
+        /**
+         * Returns whether cache hits count towards the run's evaluation total.
+         *
+         * @return true when hits are counted
+         */
+        public boolean isCountHits() {
+            return countHits;
+        }
+
+        /**
+         * Sets whether cache hits count towards the run's evaluation total.
+         *
+         * @param countHits hit counting flag
+         */
+        public void setCountHits(boolean countHits) {
+            this.countHits = countHits;
+        }
     }
 
     /**
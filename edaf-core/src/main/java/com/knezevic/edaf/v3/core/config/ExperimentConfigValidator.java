@@ -8,6 +8,7 @@ package com.knezevic.edaf.v3.core.config;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -28,28 +29,39 @@ public final class ExperimentConfigValidator {
             "umda-bernoulli", "pbil-frequency", "cga-frequency", "bmda", "mimic-chow-liu", "boa-ebna",
             "hboa-network", "token-categorical");
     private static final Set<String> CONTINUOUS_MODELS = Set.of(
-            "gaussian-diag", "gaussian-full", "gmm", "kde", "copula-baseline", "snes", "xnes", "cma-es",
-            "normalizing-flow");
-    private static final Set<String> PERMUTATION_MODELS = Set.of("ehm", "plackett-luce", "mallows");
+            "gaussian-diag", "gaussian-full", "gaussian-lowrank", "gmm", "kde", "copula-baseline", "snes", "xnes",
+            "cma-es", "normalizing-flow");
+    private static final Set<String> PERMUTATION_MODELS = Set.of("ehm", "ehm-sparse", "plackett-luce", "mallows");
 
     private static final Set<String> DISCRETE_ALGORITHMS = Set.of(
             "umda", "umdad", "pbil", "cga", "bmda", "mimic", "boa", "ebna",
             "hboa", "factorized-discrete-eda", "dependency-tree-eda", "chow-liu-eda",
             "mo-eda-skeleton", "pareto-eda", "indicator-eda", "tree-eda",
-            "sliding-window-eda", "memory-eda", "random-immigrants-eda", "noisy-resampling-eda");
+            "sliding-window-eda", "memory-eda", "random-immigrants-eda", "noisy-resampling-eda", "steady-state-eda");
     private static final Set<String> CONTINUOUS_ALGORITHMS = Set.of(
             "gaussian-eda", "gmm-eda", "kde-eda", "copula-eda", "snes", "xnes", "cma-es",
             "cem", "umda-continuous", "umdac", "univariate-keda", "multivariate-keda",
             "emna", "egna", "speda", "pbil-real", "mimic-continuous",
             "full-covariance-eda", "lowrank-covariance-eda", "block-covariance-eda", "flow-eda", "igo",
             "mo-eda-skeleton", "pareto-eda", "indicator-eda",
-            "sliding-window-eda", "memory-eda", "random-immigrants-eda", "noisy-resampling-eda");
+            "sliding-window-eda", "memory-eda", "random-immigrants-eda", "noisy-resampling-eda", "steady-state-eda");
     private static final Set<String> PERMUTATION_ALGORITHMS = Set.of(
             "ehm-eda", "ehbsa", "position-based-permutation-eda", "kendall-permutation-eda",
             "plackett-luce-eda", "mallows-eda",
             "mo-eda-skeleton", "pareto-eda", "indicator-eda",
-            "sliding-window-eda", "memory-eda", "random-immigrants-eda", "noisy-resampling-eda");
+            "sliding-window-eda", "memory-eda", "random-immigrants-eda", "noisy-resampling-eda", "steady-state-eda");
 
+    private static final Set<String> INCREMENTAL_MODELS = Set.of(
+            "umda-bernoulli", "pbil-frequency", "cga-frequency", "gaussian-diag", "token-categorical");
+
+    private static final Map<String, String> LOCAL_SEARCH_REPRESENTATIONS = Map.of(
+            "bit-flip", "bitstring",
+            "two-opt", "permutation-vector",
+            "2-opt", "permutation-vector",
+            "line-search", "real-vector");
+
+    private static final Set<String> EVALUATION_MODES = Set.of("work-stealing", "virtual-threads");
+    private static final Set<String> FITNESS_CACHE_POLICIES = Set.of("lru", "clock");
     private static final Set<String> SUPPORTED_LOGGING_MODES = Set.of("console", "jsonl", "file", "db");
     private static final Set<String> SUPPORTED_PERSISTENCE_SINKS = Set.of("console", "csv", "jsonl", "file", "db");
 
@@ -97,6 +109,29 @@ public final class ExperimentConfigValidator {
             ));
         }
 
+        if ("steady-state-eda".equals(algorithm)) {
+            validateMembership(model, INCREMENTAL_MODELS, "model.type", issues,
+                    "steady-state-eda folds results through Model.update; use one of: " + INCREMENTAL_MODELS);
+        }
+
+        String localSearch = normalize(config.getLocalSearch().getType());
+        if (!"none".equals(localSearch)) {
+            String required = LOCAL_SEARCH_REPRESENTATIONS.get(localSearch);
+            if (required == null) {
+                issues.add(new ConfigIssue(
+                        "localSearch.type",
+                        "Unsupported local search type '" + config.getLocalSearch().getType() + "'",
+                        "Use one of: none, " + new java.util.TreeSet<>(LOCAL_SEARCH_REPRESENTATIONS.keySet())
+                ));
+            } else if (!required.equals(representation)) {
+                issues.add(new ConfigIssue(
+                        "localSearch.type",
+                        "Local search '" + localSearch + "' requires representation '" + required + "'",
+                        "Use localSearch.type: none for representation '" + representation + "'"
+                ));
+            }
+        }
+
         String stoppingType = normalize(config.getStopping().getType());
         if (!Set.of("max-iterations", "budget-or-target", "max-evaluations-or-target").contains(stoppingType)) {
             issues.add(new ConfigIssue(
@@ -117,6 +152,32 @@ public final class ExperimentConfigValidator {
             ));
         }
 
+        ExperimentConfig.EvaluationSection evaluation = config.getRun().getEvaluation();
+        if (evaluation != null) {
+            String mode = normalize(evaluation.getMode());
+            validateMembership(mode, EVALUATION_MODES, "run.evaluation.mode", issues,
+                    "Supported values: " + EVALUATION_MODES);
+            if ("work-stealing".equals(mode) && evaluation.getTimeoutMillis() > 0) {
+                issues.add(new ConfigIssue(
+                        "run.evaluation.timeoutMillis",
+                        "Per-evaluation timeouts require run.evaluation.mode: virtual-threads",
+                        "Set mode: virtual-threads or remove timeoutMillis"
+                ));
+            }
+            ExperimentConfig.FitnessCacheSection cache = evaluation.getCache();
+            if (cache != null) {
+                validateMembership(normalize(cache.getPolicy()), FITNESS_CACHE_POLICIES, "run.evaluation.cache.policy", issues,
+                        "Supported values: " + FITNESS_CACHE_POLICIES);
+                if (cache.isEnabled() && "noisy-resampling-eda".equals(algorithm)) {
+                    issues.add(new ConfigIssue(
+                            "run.evaluation.cache.enabled",
+                            "Fitness caching would freeze the first noisy sample of each genotype",
+                            "Disable run.evaluation.cache for noisy-resampling-eda"
+                    ));
+                }
+            }
+        }
+
         if (config.getLogging().getModes() == null || config.getLogging().getModes().isEmpty()) {
             issues.add(new ConfigIssue(
                     "logging.modes",
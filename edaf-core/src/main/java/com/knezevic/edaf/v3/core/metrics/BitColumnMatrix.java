@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bit-transposed binary sample matrix for pairwise dependency statistics.
+ *
+ * <p>Each column (locus) is stored as a run of 64-bit words holding 64 samples each, so the
+ * {@code (1,1)} cell of a 2x2 contingency table is one {@code AND} plus {@link Long#bitCount}
+ * per word; the other three cells follow from per-column one counts. {@link #pairMatrix} tiles
+ * the upper triangle into 64x64 locus blocks and evaluates them on the common fork-join pool once
+ * the work is large enough to amortize task overhead. Counts are exact integers, so results do
+ * not depend on how blocks are scheduled.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class BitColumnMatrix {
+
+    private static final int TILE = 64;
+    private static final long PARALLEL_WORD_THRESHOLD = 1L << 20;
+
+    private final int rows;
+    private final int columns;
+    private final int wordsPerColumn;
+    private final long[] bits;
+    private final long lastWordMask;
+
+    /**
+     * Creates an all-zero matrix.
+     *
+     * @param rows number of samples
+     * @param columns number of loci
+     */
+    public BitColumnMatrix(int rows, int columns) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("rows and columns must be >= 0");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.wordsPerColumn = (rows + 63) >>> 6;
+        this.bits = new long[Math.multiplyExact(wordsPerColumn, columns)];
+        this.lastWordMask = (rows & 63) == 0 ? -1L : (1L << (rows & 63)) - 1L;
+    }
+
+    /**
+     * Builds a matrix from unpacked rows, keeping the first {@code columns} loci of each.
+     *
+     * @param samples sample rows
+     * @param columns number of loci to keep
+     * @return transposed matrix
+     */
+    public static BitColumnMatrix fromRows(List<boolean[]> samples, int columns) {
+        BitColumnMatrix matrix = new BitColumnMatrix(samples.size(), columns);
+        for (int row = 0; row < samples.size(); row++) {
+            boolean[] values = samples.get(row);
+            int limit = Math.min(columns, values.length);
+            for (int column = 0; column < limit; column++) {
+                if (values[column]) {
+                    matrix.set(row, column);
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Returns number of samples.
+     *
+     * @return rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns number of loci.
+     *
+     * @return columns
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Sets one sample bit.
+     *
+     * @param row sample index
+     * @param column locus index
+     */
+    public void set(int row, int column) {
+        checkRow(row);
+        if (column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("column " + column + " out of range [0, " + columns + ")");
+        }
+        bits[column * wordsPerColumn + (row >>> 6)] |= 1L << (row & 63);
+    }
+
+    /**
+     * Scatters one packed row word, whose bit {@code b} is locus {@code 64 * wordIndex + b}.
+     *
+     * <p>Only set bits are visited; bits beyond {@link #columns()} are ignored.</p>
+     *
+     * @param row sample index
+     * @param wordIndex index of the packed word within the row
+     * @param word packed row bits
+     */
+    public void setRowWord(int row, int wordIndex, long word) {
+        checkRow(row);
+        int base = wordIndex << 6;
+        long mask = 1L << (row & 63);
+        int rowWord = row >>> 6;
+        while (word != 0L) {
+            int column = base + Long.numberOfTrailingZeros(word);
+            if (column >= columns) {
+                break;
+            }
+            bits[column * wordsPerColumn + rowWord] |= mask;
+            word &= word - 1;
+        }
+    }
+
+    /**
+     * Returns one sample bit.
+     *
+     * @param row sample index
+     * @param column locus index
+     * @return bit value
+     */
+    public boolean get(int row, int column) {
+        checkRow(row);
+        return (bits[column * wordsPerColumn + (row >>> 6)] & (1L << (row & 63))) != 0L;
+    }
+
+    /**
+     * Counts samples with a one at the given locus.
+     *
+     * @param column locus index
+     * @return one count
+     */
+    public int ones(int column) {
+        int offset = column * wordsPerColumn;
+        int count = 0;
+        for (int w = 0; w < wordsPerColumn; w++) {
+            count += Long.bitCount(bits[offset + w]);
+        }
+        return count;
+    }
+
+    /**
+     * Counts samples with a one at both loci.
+     *
+     * @param a first locus
+     * @param b second locus
+     * @return joint one count
+     */
+    public int both(int a, int b) {
+        return jointOnes(a * wordsPerColumn, b * wordsPerColumn);
+    }
+
+    /**
+     * Counts samples per joint parent configuration and how many of them have the child set.
+     *
+     * <p>Configuration {@code s} sets bit {@code i} when {@code parents[i]} is one. Counts are
+     * bit-sliced: each word is split by the first parent, each half by the next parent and so
+     * on, so one word costs {@code O(2^(p+1))} {@code AND}/{@code bitCount} operations.</p>
+     *
+     * @param child child locus
+     * @param parents parent loci, at most 30
+     * @param totals receives sample count per configuration, length {@code 2^parents.length}
+     * @param childOnes receives child one count per configuration, same length
+     */
+    public void familyCounts(int child, int[] parents, int[] totals, int[] childOnes) {
+        int states = 1 << parents.length;
+        if (totals.length < states || childOnes.length < states) {
+            throw new IllegalArgumentException("count buffers must hold " + states + " configurations");
+        }
+        Arrays.fill(totals, 0, states, 0);
+        Arrays.fill(childOnes, 0, states, 0);
+        int childOffset = child * wordsPerColumn;
+        int[] parentOffsets = new int[parents.length];
+        for (int i = 0; i < parents.length; i++) {
+            parentOffsets[i] = parents[i] * wordsPerColumn;
+        }
+        for (int w = 0; w < wordsPerColumn; w++) {
+            long valid = w == wordsPerColumn - 1 ? lastWordMask : -1L;
+            splitByParents(w, valid, 0, 0, parentOffsets, bits[childOffset + w], totals, childOnes);
+        }
+    }
+
+    private void splitByParents(int word,
+                                long mask,
+                                int depth,
+                                int state,
+                                int[] parentOffsets,
+                                long childWord,
+                                int[] totals,
+                                int[] childOnes) {
+        if (mask == 0L) {
+            return;
+        }
+        if (depth == parentOffsets.length) {
+            totals[state] += Long.bitCount(mask);
+            childOnes[state] += Long.bitCount(mask & childWord);
+            return;
+        }
+        long parentWord = bits[parentOffsets[depth] + word];
+        splitByParents(word, mask & ~parentWord, depth + 1, state, parentOffsets, childWord, totals, childOnes);
+        splitByParents(word, mask & parentWord, depth + 1, state | (1 << depth), parentOffsets, childWord, totals, childOnes);
+    }
+
+    /**
+     * Evaluates a statistic over the contingency table of one locus pair.
+     *
+     * @param a first locus
+     * @param b second locus
+     * @param statistic contingency-table statistic
+     * @return statistic value
+     */
+    public double pair(int a, int b, PairStatistic statistic) {
+        int onesA = ones(a);
+        int onesB = ones(b);
+        int c11 = both(a, b);
+        return statistic.apply(rows - onesA - onesB + c11, onesB - c11, onesA - c11, c11);
+    }
+
+    /**
+     * Keeps the {@code k} highest-scoring partners of every locus without materializing the
+     * full pair matrix.
+     *
+     * <p>Each locus row is scanned in full, so the time stays quadratic in the number of loci
+     * while memory drops to {@code O(columns * k)}. Ties prefer the lower partner index.</p>
+     *
+     * @param k partners kept per locus
+     * @param statistic pure function of the four cell counts; called concurrently
+     * @return neighbor lists
+     */
+    public Neighbors topNeighbors(int k, PairStatistic statistic) {
+        int width = Math.max(0, Math.min(k, columns - 1));
+        Neighbors neighbors = new Neighbors(columns, width);
+        if (width == 0) {
+            return neighbors;
+        }
+        int[] ones = new int[columns];
+        for (int c = 0; c < columns; c++) {
+            ones[c] = ones(c);
+        }
+
+        int tiles = (columns + TILE - 1) / TILE;
+        long work = (long) columns * columns * Math.max(1, wordsPerColumn);
+        if (tiles == 1 || work < PARALLEL_WORD_THRESHOLD) {
+            for (int tile = 0; tile < tiles; tile++) {
+                fillNeighbors(tile, ones, statistic, neighbors);
+            }
+            return neighbors;
+        }
+
+        List<RecursiveAction> tasks = new ArrayList<>(tiles);
+        for (int tile = 0; tile < tiles; tile++) {
+            int rowTile = tile;
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    fillNeighbors(rowTile, ones, statistic, neighbors);
+                }
+            });
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+        return neighbors;
+    }
+
+    /**
+     * Evaluates a statistic over the contingency table of every locus pair.
+     *
+     * @param statistic pure function of the four cell counts; called concurrently
+     * @return symmetric matrix with zero diagonal
+     */
+    public double[][] pairMatrix(PairStatistic statistic) {
+        double[][] matrix = new double[columns][columns];
+        if (columns < 2) {
+            return matrix;
+        }
+        int[] ones = new int[columns];
+        for (int c = 0; c < columns; c++) {
+            ones[c] = ones(c);
+        }
+
+        int tiles = (columns + TILE - 1) / TILE;
+        long work = (long) columns * columns / 2L * Math.max(1, wordsPerColumn);
+        if (tiles == 1 || work < PARALLEL_WORD_THRESHOLD) {
+            for (int ti = 0; ti < tiles; ti++) {
+                for (int tj = ti; tj < tiles; tj++) {
+                    fillTile(ti, tj, ones, statistic, matrix);
+                }
+            }
+            return matrix;
+        }
+
+        List<RecursiveAction> tasks = new ArrayList<>(tiles * (tiles + 1) / 2);
+        for (int ti = 0; ti < tiles; ti++) {
+            for (int tj = ti; tj < tiles; tj++) {
+                int rowTile = ti;
+                int columnTile = tj;
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        fillTile(rowTile, columnTile, ones, statistic, matrix);
+                    }
+                });
+            }
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+        return matrix;
+    }
+
+    private void fillTile(int rowTile, int columnTile, int[] ones, PairStatistic statistic, double[][] matrix) {
+        int iStart = rowTile * TILE;
+        int iEnd = Math.min(columns, iStart + TILE);
+        int jEnd = Math.min(columns, columnTile * TILE + TILE);
+        for (int i = iStart; i < iEnd; i++) {
+            int iOffset = i * wordsPerColumn;
+            int jStart = Math.max(i + 1, columnTile * TILE);
+            for (int j = jStart; j < jEnd; j++) {
+                int c11 = jointOnes(iOffset, j * wordsPerColumn);
+                int c10 = ones[i] - c11;
+                int c01 = ones[j] - c11;
+                int c00 = rows - ones[i] - ones[j] + c11;
+                double value = statistic.apply(c00, c01, c10, c11);
+                matrix[i][j] = value;
+                matrix[j][i] = value;
+            }
+        }
+    }
+
+    private void fillNeighbors(int rowTile, int[] ones, PairStatistic statistic, Neighbors neighbors) {
+        int iStart = rowTile * TILE;
+        int iEnd = Math.min(columns, iStart + TILE);
+        int k = neighbors.width;
+        for (int i = iStart; i < iEnd; i++) {
+            int iOffset = i * wordsPerColumn;
+            int base = i * k;
+            int size = 0;
+            for (int j = 0; j < columns; j++) {
+                if (j == i) {
+                    continue;
+                }
+                int c11 = jointOnes(iOffset, j * wordsPerColumn);
+                int c10 = ones[i] - c11;
+                int c01 = ones[j] - c11;
+                int c00 = rows - ones[i] - ones[j] + c11;
+                double value = statistic.apply(c00, c01, c10, c11);
+                if (size == k && !(value > neighbors.weight[base + k - 1])) {
+                    continue;
+                }
+                // Insertion into the sorted row; partners arrive in ascending index order, so
+                // strict comparison keeps the lower index ahead on ties.
+                int position = size < k ? size++ : k - 1;
+                while (position > 0 && value > neighbors.weight[base + position - 1]) {
+                    neighbors.weight[base + position] = neighbors.weight[base + position - 1];
+                    neighbors.index[base + position] = neighbors.index[base + position - 1];
+                    position--;
+                }
+                neighbors.weight[base + position] = value;
+                neighbors.index[base + position] = j;
+            }
+        }
+    }
+
+    private int jointOnes(int aOffset, int bOffset) {
+        int count = 0;
+        for (int w = 0; w < wordsPerColumn; w++) {
+            count += Long.bitCount(bits[aOffset + w] & bits[bOffset + w]);
+        }
+        return count;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException("row " + row + " out of range [0, " + rows + ")");
+        }
+    }
+
+    /**
+     * Fixed-width partner lists produced by {@link #topNeighbors}, best partner first.
+     */
+    public static final class Neighbors {
+
+        private final int width;
+        private final int[] index;
+        private final double[] weight;
+
+        private Neighbors(int columns, int width) {
+            this.width = width;
+            this.index = new int[columns * width];
+            this.weight = new double[columns * width];
+        }
+
+        /**
+         * Returns number of partners kept per locus.
+         *
+         * @return list width
+         */
+        public int width() {
+            return width;
+        }
+
+        /**
+         * Returns partner locus at a rank.
+         *
+         * @param column locus index
+         * @param rank rank, 0 for the best partner
+         * @return partner locus
+         */
+        public int neighbor(int column, int rank) {
+            return index[column * width + rank];
+        }
+
+        /**
+         * Returns statistic value of the partner at a rank.
+         *
+         * @param column locus index
+         * @param rank rank, 0 for the best partner
+         * @return statistic value
+         */
+        public double weight(int column, int rank) {
+            return weight[column * width + rank];
+        }
+    }
+
+    /**
+     * Statistic of one 2x2 contingency table.
+     */
+    @FunctionalInterface
+    public interface PairStatistic {
+
+        /**
+         * Computes the statistic from cell counts, indexed as {@code c<first><second>}.
+         *
+         * @param c00 samples with zero at both loci
+         * @param c01 samples with zero at the first and one at the second locus
+         * @param c10 samples with one at the first and zero at the second locus
+         * @param c11 samples with one at both loci
+         * @return statistic value
+         */
+        double apply(int c00, int c01, int c10, int c11);
+    }
+}
@@ -231,7 +231,7 @@ public final class LatentKnowledgeAnalyzer {
         Map<String, Double> drift = new LinkedHashMap<>();
         if (previousConsensus != null && previousConsensus.length == consensus.length) {
             drift.put("consensus_kendall",
-                    kendallDistanceNormalized(consensus, previousConsensus));
+                    PermutationMetrics.kendallDistanceNormalized(consensus, previousConsensus));
         } else {
             drift.put("consensus_kendall", 0.0);
         }
@@ -494,25 +494,36 @@ public final class LatentKnowledgeAnalyzer {
     }
 
     private static DependencySummary dependencySummary(List<boolean[]> eliteGenes, int dims, int topK) {
-        List<Map<String, Object>> allEdges = new ArrayList<>();
+        BitColumnMatrix columns = BitColumnMatrix.fromRows(eliteGenes, dims);
+        double[][] mutualInformation = columns.pairMatrix((c00, c01, c10, c11) ->
+                binaryDependencyStats(c00, c01, c10, c11)[0]);
+
+        List<int[]> allPairs = new ArrayList<>();
         double maxWeight = 0.0;
         for (int i = 0; i < dims; i++) {
             for (int j = i + 1; j < dims; j++) {
-                double[] stats = binaryDependencyStats(eliteGenes, i, j);
-                double mi = stats[0];
-                double corr = stats[1];
-                Map<String, Object> edge = new LinkedHashMap<>();
-                edge.put("i", i);
-                edge.put("j", j);
-                edge.put("weight", mi);
-                edge.put("correlation", corr);
-                allEdges.add(edge);
-                maxWeight = Math.max(maxWeight, mi);
+                allPairs.add(new int[]{i, j});
+                maxWeight = Math.max(maxWeight, mutualInformation[i][j]);
             }
         }
 
-        allEdges.sort(Comparator.comparingDouble((Map<String, Object> e) -> asDouble(e.get("weight"), 0.0)).reversed());
-        List<Map<String, Object>> topEdges = allEdges.subList(0, Math.min(topK, allEdges.size()));
+        allPairs.sort(Comparator.comparingDouble((int[] pair) -> mutualInformation[pair[0]][pair[1]]).reversed());
+        int n = eliteGenes.size();
+        List<Map<String, Object>> topEdges = new ArrayList<>();
+        for (int[] pair : allPairs.subList(0, Math.min(topK, allPairs.size()))) {
+            int i = pair[0];
+            int j = pair[1];
+            int c11 = columns.both(i, j);
+            int c10 = columns.ones(i) - c11;
+            int c01 = columns.ones(j) - c11;
+            int c00 = n - c11 - c10 - c01;
+            Map<String, Object> edge = new LinkedHashMap<>();
+            edge.put("i", i);
+            edge.put("j", j);
+            edge.put("weight", mutualInformation[i][j]);
+            edge.put("correlation", binaryDependencyStats(c00, c01, c10, c11)[1]);
+            topEdges.add(edge);
+        }
 
         UnionFind unionFind = new UnionFind(dims);
         for (Map<String, Object> edge : topEdges) {
@@ -529,28 +540,15 @@ public final class LatentKnowledgeAnalyzer {
                 .filter(cluster -> cluster.size() > 1)
                 .toList();
 
-        return new DependencySummary(new ArrayList<>(topEdges), clusters, maxWeight);
+        return new DependencySummary(topEdges, clusters, maxWeight);
     }
 
-    private static double[] binaryDependencyStats(List<boolean[]> eliteGenes, int i, int j) {
+    private static double[] binaryDependencyStats(int n00, int n01, int n10, int n11) {
         double smooth = 1.0;
-        double c00 = smooth;
-        double c01 = smooth;
-        double c10 = smooth;
-        double c11 = smooth;
-        for (boolean[] genes : eliteGenes) {
-            boolean xi = genes[i];
-            boolean xj = genes[j];
-            if (!xi && !xj) {
-                c00++;
-            } else if (!xi) {
-                c01++;
-            } else if (!xj) {
-                c10++;
-            } else {
-                c11++;
-            }
-        }
+        double c00 = n00 + smooth;
+        double c01 = n01 + smooth;
+        double c10 = n10 + smooth;
+        double c11 = n11 + smooth;
 
         double total = c00 + c01 + c10 + c11;
         double p00 = c00 / total;
@@ -682,46 +680,17 @@ public final class LatentKnowledgeAnalyzer {
         if (permutations.size() <= 1) {
             return 0.0;
         }
-        int n = permutations.getFirst().length;
-        double normalizer = n <= 1 ? 1.0 : (n * (n - 1)) / 2.0;
         int pairs = 0;
         double sum = 0.0;
         for (int i = 0; i < permutations.size() && pairs < pairLimit; i++) {
             for (int j = i + 1; j < permutations.size() && pairs < pairLimit; j++) {
-                sum += kendallDistance(permutations.get(i), permutations.get(j)) / normalizer;
+                sum += PermutationMetrics.kendallDistanceNormalized(permutations.get(i), permutations.get(j));
                 pairs++;
             }
         }
         return pairs == 0 ? 0.0 : sum / pairs;
     }
 
-    private static int kendallDistance(int[] a, int[] b) {
-        int n = a.length;
-        int[] position = new int[n];
-        for (int i = 0; i < n; i++) {
-            position[b[i]] = i;
-        }
-        int inversions = 0;
-        int[] mapped = new int[n];
-        for (int i = 0; i < n; i++) {
-            mapped[i] = position[a[i]];
-        }
-        for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                if (mapped[i] > mapped[j]) {
-                    inversions++;
-                }
-            }
-        }
-        return inversions;
-    }
-
-    private static double kendallDistanceNormalized(int[] a, int[] b) {
-        int n = a.length;
-        double normalizer = n <= 1 ? 1.0 : (n * (n - 1)) / 2.0;
-        return kendallDistance(a, b) / normalizer;
-    }
-
     private static double[] estimateMean(List<double[]> values, int dim) {
         double[] mean = new double[dim];
         if (values.isEmpty()) {
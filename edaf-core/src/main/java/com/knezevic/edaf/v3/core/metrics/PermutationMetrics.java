@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.metrics;
+
+/**
+ * Shared permutation distance kernels over raw {@code int[]} orders.
+ *
+ * <p>Kendall distance is the inversion count of {@code a} relabelled by positions in {@code b}.
+ * It is counted with a bottom-up merge sort in {@code O(n log n)}. Short runs are first ordered
+ * by insertion sort, where every shift is exactly one inversion. Counts are {@code long}, since
+ * {@code n(n-1)/2} overflows {@code int} beyond about 65k elements.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class PermutationMetrics {
+
+    private static final int INSERTION_RUN = 16;
+
+    private PermutationMetrics() {
+        // utility class
+    }
+
+    /**
+     * Computes Kendall tau distance (number of discordant pairs) between two permutations.
+     *
+     * @param a first permutation of {@code 0..n-1}
+     * @param b second permutation of {@code 0..n-1}
+     * @return discordant pair count in {@code [0, n(n-1)/2]}
+     */
+    public static long kendallDistance(int[] a, int[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Permutations must have same size");
+        }
+        int n = a.length;
+        int[] position = new int[n];
+        for (int i = 0; i < n; i++) {
+            position[b[i]] = i;
+        }
+        int[] mapped = new int[n];
+        for (int i = 0; i < n; i++) {
+            mapped[i] = position[a[i]];
+        }
+        return countInversionsInPlace(mapped, new int[n]);
+    }
+
+    /**
+     * Computes Kendall distance divided by its maximum {@code n(n-1)/2}.
+     *
+     * @param a first permutation
+     * @param b second permutation
+     * @return normalized distance in {@code [0, 1]}, zero for {@code n <= 1}
+     */
+    public static double kendallDistanceNormalized(int[] a, int[] b) {
+        int n = a.length;
+        double maximum = maxKendallDistance(n);
+        return maximum <= 0.0 ? 0.0 : kendallDistance(a, b) / maximum;
+    }
+
+    /**
+     * Returns the largest possible Kendall distance for permutations of length {@code n}.
+     *
+     * @param n permutation length
+     * @return {@code n(n-1)/2}
+     */
+    public static double maxKendallDistance(int n) {
+        return n <= 1 ? 0.0 : n * (n - 1.0) / 2.0;
+    }
+
+    /**
+     * Counts pairs {@code i < j} with {@code values[i] > values[j]} without modifying the input.
+     *
+     * @param values values to inspect
+     * @return inversion count
+     */
+    public static long countInversions(int[] values) {
+        int[] copy = values.clone();
+        return countInversionsInPlace(copy, new int[copy.length]);
+    }
+
+    private static long countInversionsInPlace(int[] values, int[] scratch) {
+        int n = values.length;
+        long inversions = 0L;
+        for (int start = 0; start < n; start += INSERTION_RUN) {
+            int end = Math.min(n, start + INSERTION_RUN);
+            for (int i = start + 1; i < end; i++) {
+                int value = values[i];
+                int j = i - 1;
+                while (j >= start && values[j] > value) {
+                    values[j + 1] = values[j];
+                    j--;
+                }
+                inversions += i - 1 - j;
+                values[j + 1] = value;
+            }
+        }
+
+        int[] source = values;
+        int[] target = scratch;
+        for (int width = INSERTION_RUN; width < n; width <<= 1) {
+            for (int left = 0; left < n; left += width << 1) {
+                int middle = Math.min(n, left + width);
+                int right = Math.min(n, left + (width << 1));
+                int i = left;
+                int j = middle;
+                int k = left;
+                while (i < middle && j < right) {
+                    if (source[i] <= source[j]) {
+                        target[k++] = source[i++];
+                    } else {
+                        // Every element still waiting in the left run is greater than source[j].
+                        inversions += middle - i;
+                        target[k++] = source[j++];
+                    }
+                }
+                while (i < middle) {
+                    target[k++] = source[i++];
+                }
+                while (j < right) {
+                    target[k++] = source[j++];
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        return inversions;
+    }
+}
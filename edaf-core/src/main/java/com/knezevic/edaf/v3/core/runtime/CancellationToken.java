@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Cooperative cancellation signal for one run.
+ *
+ * <p>A token is either cancelled explicitly through {@link #cancel()} or backed by a probe such as a
+ * stop-request store lookup. Probes are rate-limited so evaluators can check the token between
+ * work chunks without hammering the backing store; once a probe reports true the token stays
+ * cancelled.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class CancellationToken {
+
+    private static final CancellationToken NONE = new CancellationToken(null, 0L);
+
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+    private final BooleanSupplier probe;
+    private final long pollIntervalNanos;
+    private final AtomicLong nextPollNanos;
+
+    private CancellationToken(BooleanSupplier probe, long pollIntervalNanos) {
+        this.probe = probe;
+        this.pollIntervalNanos = pollIntervalNanos;
+        this.nextPollNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Returns shared token that is never cancelled.
+     *
+     * @return non-cancellable token
+     */
+    public static CancellationToken none() {
+        return NONE;
+    }
+
+    /**
+     * Creates token cancelled only through {@link #cancel()}.
+     *
+     * @return manual token
+     */
+    public static CancellationToken manual() {
+        return new CancellationToken(null, 0L);
+    }
+
+    /**
+     * Creates token that polls an external probe at most once per interval.
+     *
+     * @param probe returns true once cancellation was requested
+     * @param interval minimum time between probe calls
+     * @return polling token
+     */
+    public static CancellationToken polling(BooleanSupplier probe, Duration interval) {
+        Objects.requireNonNull(probe, "probe must not be null");
+        if (interval == null || interval.isNegative()) {
+            throw new IllegalArgumentException("interval must be >= 0");
+        }
+        return new CancellationToken(probe, interval.toNanos());
+    }
+
+    /**
+     * Requests cancellation.
+     */
+    public void cancel() {
+        if (this == NONE) {
+            throw new IllegalStateException("Shared non-cancellable token cannot be cancelled");
+        }
+        cancelled.set(true);
+    }
+
+    /**
+     * Returns whether cancellation was requested, polling the probe when its interval elapsed.
+     *
+     * @return true when cancelled
+     */
+    public boolean isCancelled() {
+        if (cancelled.get()) {
+            return true;
+        }
+        if (probe == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        long next = nextPollNanos.get();
+        if (now - next >= 0L && nextPollNanos.compareAndSet(next, now + pollIntervalNanos)
+                && probe.getAsBoolean()) {
+            cancelled.set(true);
+        }
+        return cancelled.get();
+    }
+
+    /**
+     * Throws when cancellation was requested.
+     *
+     * @throws EvaluationCancelledException when cancelled
+     */
+    public void throwIfCancelled() {
+        if (isCancelled()) {
+            throw new EvaluationCancelledException("Run cancellation requested");
+        }
+    }
+}
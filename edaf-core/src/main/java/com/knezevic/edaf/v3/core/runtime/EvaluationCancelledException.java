@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+/**
+ * Thrown when a run is cancelled while a fitness batch is being evaluated.
+ *
+ * <p>The algorithm state is left at the last completed iteration, so callers can finalize the run
+ * as stopped rather than failed.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class EvaluationCancelledException extends RuntimeException {
+
+    /**
+     * Creates cancellation exception.
+     *
+     * @param message cancellation reason
+     */
+    public EvaluationCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Strategy that runs one batch of candidate evaluations for a single run.
+ *
+ * <p>Implementations decide how indices {@code [0, count)} are scheduled across threads. Every
+ * index must be evaluated (or reported as timed out) exactly once unless the batch fails or is
+ * cancelled, in which case the call throws and partially written results must be discarded by the
+ * caller.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public interface EvaluationExecutor {
+
+    /**
+     * Evaluates indices {@code [0, count)} and returns when all of them are done.
+     *
+     * @param count number of candidates
+     * @param evaluation per-index evaluation callback; must be safe to call concurrently for distinct indices
+     * @param cancellation run cancellation signal checked between work chunks
+     * @throws EvaluationCancelledException when cancellation is observed before the batch completes
+     */
+    default void execute(int count, IntConsumer evaluation, CancellationToken cancellation) {
+        execute(count, evaluation, index -> {
+        }, cancellation);
+    }
+
+    /**
+     * Evaluates indices {@code [0, count)}, abandoning evaluations that exceed a per-evaluation deadline.
+     *
+     * <p>Executors that enforce deadlines call {@code onTimeout} for an index instead of waiting for
+     * it, and interrupt the abandoned evaluation. The abandoned callback may still finish later,
+     * so callers must let the first recorded outcome per index win.</p>
+     *
+     * @param count number of candidates
+     * @param evaluation per-index evaluation callback; must be safe to call concurrently for distinct indices
+     * @param onTimeout callback for indices abandoned after their deadline
+     * @param cancellation run cancellation signal
+     * @throws EvaluationCancelledException when cancellation is observed before the batch completes
+     */
+    void execute(int count, IntConsumer evaluation, IntConsumer onTimeout, CancellationToken cancellation);
+
+    /**
+     * Returns whether {@code onTimeout} may be called, i.e. whether a per-evaluation deadline is
+     * enforced. Callers that pack several candidates into one index only do so when it is not.
+     *
+     * @return true when evaluations can be abandoned after a deadline
+     */
+    default boolean enforcesDeadlines() {
+        return false;
+    }
+
+    /**
+     * Returns how many evaluations of one run this executor keeps running at once. Callers size
+     * work chunks and in-flight windows by it.
+     *
+     * @return concurrent evaluations, at least 1
+     */
+    default int parallelism() {
+        return 1;
+    }
+
+    /**
+     * Returns executor identifier used in logs.
+     *
+     * @return executor identifier
+     */
+    String name();
+}
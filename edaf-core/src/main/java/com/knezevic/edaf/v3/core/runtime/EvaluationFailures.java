@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+/**
+ * Shared outcome propagation for evaluation executors.
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+final class EvaluationFailures {
+
+    private EvaluationFailures() {
+        // utility class
+    }
+
+    /**
+     * Rethrows the first evaluation failure, or signals cancellation when no failure was recorded.
+     */
+    static void rethrow(Throwable error, boolean cancelled) {
+        if (error instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        if (error != null) {
+            throw new IllegalStateException("Parallel fitness evaluation failed", error);
+        }
+        if (cancelled) {
+            throw new EvaluationCancelledException("Run cancellation requested during fitness evaluation");
+        }
+    }
+}
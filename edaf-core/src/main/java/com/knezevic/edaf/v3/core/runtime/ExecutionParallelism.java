@@ -61,7 +61,9 @@ public final class ExecutionParallelism {
     /**
      * Dynamic worker budget for one run fitness evaluator.
      *
-     * <p>When multiple runs are active, each run gets a proportional share of available CPUs.</p>
+     * <p>When multiple runs are active, each run gets a proportional share of available CPUs.
+     * Evaluators re-read this value while a batch is in flight, so shares follow runs as they
+     * start and finish.</p>
      * @return the computed suggested fitness workers per run
      */
     public static int suggestedFitnessWorkersPerRun() {
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+import com.knezevic.edaf.v3.core.api.Fitness;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Size-bounded fitness memo keyed by 128-bit genotype fingerprints.
+ *
+ * <p>Converged populations re-sample identical genotypes for many generations; the cache lets the
+ * evaluation path skip {@code Problem.evaluate} for them. Entries are evicted by least-recently-used
+ * order or by the CLOCK second-chance approximation, which avoids relinking on every hit. The
+ * cache is owned by one run and accessed only from its iteration thread, so it is not
+ * thread-safe. It must stay disabled for noisy or time-dependent objectives.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class FitnessCache {
+
+    private static final FitnessCache DISABLED = new FitnessCache(null, 0, true);
+
+    private final Store store;
+    private final int capacity;
+    private final boolean countHits;
+    private long hits;
+    private long misses;
+
+    private FitnessCache(Store store, int capacity, boolean countHits) {
+        this.store = store;
+        this.capacity = capacity;
+        this.countHits = countHits;
+    }
+
+    /**
+     * Returns shared cache that never stores anything.
+     *
+     * @return disabled cache
+     */
+    public static FitnessCache disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param policy eviction policy
+     * @param capacity maximum number of entries
+     * @param countHits whether cache hits still count towards the run's evaluation total
+     * @return new cache
+     */
+    public static FitnessCache create(Policy policy, int capacity, boolean countHits) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        Store store = switch (policy) {
+            case LRU -> new LruStore(capacity);
+            case CLOCK -> new ClockStore(capacity);
+        };
+        return new FitnessCache(store, capacity, countHits);
+    }
+
+    /**
+     * Returns whether lookups can ever hit.
+     *
+     * @return true when caching is active
+     */
+    public boolean enabled() {
+        return store != null;
+    }
+
+    /**
+     * Returns whether cache hits count as evaluations in {@code AlgorithmState.evaluations()}.
+     *
+     * @return true when hits are counted
+     */
+    public boolean countsHits() {
+        return countHits;
+    }
+
+    /**
+     * Looks up a fingerprint and records the hit or miss.
+     *
+     * @param key genotype fingerprint
+     * @return cached fitness, or {@code null} on a miss
+     */
+    public Fitness get(Key key) {
+        if (store == null) {
+            return null;
+        }
+        Fitness cached = store.get(key);
+        if (cached != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return cached;
+    }
+
+    /**
+     * Records a hit served outside the store, such as a duplicate within one batch.
+     */
+    public void recordHit() {
+        hits++;
+    }
+
+    /**
+     * Stores an evaluated fitness, evicting one entry when full.
+     *
+     * @param key genotype fingerprint
+     * @param fitness evaluated fitness
+     */
+    public void put(Key key, Fitness fitness) {
+        if (store != null && fitness != null) {
+            store.put(key, fitness);
+        }
+    }
+
+    /**
+     * Returns cumulative hit count.
+     *
+     * @return hits
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * Returns cumulative miss count.
+     *
+     * @return misses
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * Returns cumulative fraction of lookups that hit.
+     *
+     * @return hit rate in [0, 1], or 0 before the first lookup
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0L ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Returns current entry count.
+     *
+     * @return stored entries
+     */
+    public int size() {
+        return store == null ? 0 : store.size();
+    }
+
+    /**
+     * Returns maximum entry count.
+     *
+     * @return capacity, zero when disabled
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Eviction policy.
+     */
+    public enum Policy {
+        LRU,
+        CLOCK;
+
+        /**
+         * Parses a configuration value such as {@code lru} or {@code clock}.
+         *
+         * @param value policy name
+         * @return policy
+         */
+        public static Policy parse(String value) {
+            if (value == null) {
+                return LRU;
+            }
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "lru" -> LRU;
+                case "clock" -> CLOCK;
+                default -> throw new IllegalArgumentException("Unknown fitness cache policy: " + value);
+            };
+        }
+    }
+
+    /**
+     * 128-bit genotype fingerprint produced by {@link GenotypeHasher}.
+     *
+     * @param high upper 64 bits
+     * @param low lower 64 bits
+     */
+    public record Key(long high, long low) {
+
+        @Override
+        public int hashCode() {
+            return (int) (low ^ (low >>> 32));
+        }
+    }
+
+    private interface Store {
+        Fitness get(Key key);
+
+        void put(Key key, Fitness fitness);
+
+        int size();
+    }
+
+    private static final class LruStore implements Store {
+
+        private final LinkedHashMap<Key, Fitness> entries;
+
+        private LruStore(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Fitness> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        @Override
+        public Fitness get(Key key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public void put(Key key, Fitness fitness) {
+            entries.put(key, fitness);
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class ClockStore implements Store {
+
+        private final Map<Key, Integer> slots;
+        private final Key[] keys;
+        private final Fitness[] values;
+        private final boolean[] referenced;
+        private int size;
+        private int hand;
+
+        private ClockStore(int capacity) {
+            this.slots = new HashMap<>();
+            this.keys = new Key[capacity];
+            this.values = new Fitness[capacity];
+            this.referenced = new boolean[capacity];
+        }
+
+        @Override
+        public Fitness get(Key key) {
+            Integer slot = slots.get(key);
+            if (slot == null) {
+                return null;
+            }
+            referenced[slot] = true;
+            return values[slot];
+        }
+
+        @Override
+        public void put(Key key, Fitness fitness) {
+            Integer existing = slots.get(key);
+            if (existing != null) {
+                values[existing] = fitness;
+                referenced[existing] = true;
+                return;
+            }
+            int slot;
+            if (size < keys.length) {
+                slot = size++;
+            } else {
+                // Second chance: clear reference bits until an unreferenced victim comes under the hand.
+                while (referenced[hand]) {
+                    referenced[hand] = false;
+                    hand = (hand + 1) % keys.length;
+                }
+                slot = hand;
+                hand = (hand + 1) % keys.length;
+                slots.remove(keys[slot]);
+            }
+            keys[slot] = key;
+            values[slot] = fitness;
+            referenced[slot] = false;
+            slots.put(key, slot);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+/**
+ * Streaming 128-bit content hash over primitive genotype data.
+ *
+ * <p>The mixing follows the two-lane MurmurHash3 x64/128 round applied per 64-bit word, with the
+ * standard {@code fmix64} finalizer. Two genotypes collide with probability around 2<sup>-128</sup>,
+ * so the fitness cache keys on the hash alone and never keeps genotype references. Instances are
+ * mutable and reused across lookups; they are not thread-safe.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class GenotypeHasher {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1;
+    private long h2;
+    private long words;
+
+    /**
+     * Creates an empty hasher.
+     */
+    public GenotypeHasher() {
+        reset();
+    }
+
+    /**
+     * Clears accumulated state so the hasher can digest the next genotype.
+     *
+     * @return this hasher
+     */
+    public GenotypeHasher reset() {
+        h1 = 0x9e3779b97f4a7c15L;
+        h2 = 0xc2b2ae3d27d4eb4fL;
+        words = 0L;
+        return this;
+    }
+
+    /**
+     * Mixes one 64-bit word.
+     *
+     * @param value word to mix
+     * @return this hasher
+     */
+    public GenotypeHasher putLong(long value) {
+        long k1 = Long.rotateLeft(value * C1, 31) * C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27) + h2;
+        h1 = h1 * 5 + 0x52dce729L;
+
+        long k2 = Long.rotateLeft(value * C2, 33) * C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31) + h1;
+        h2 = h2 * 5 + 0x38495ab5L;
+        words++;
+        return this;
+    }
+
+    /**
+     * Mixes one 32-bit value.
+     *
+     * @param value value to mix
+     * @return this hasher
+     */
+    public GenotypeHasher putInt(int value) {
+        return putLong(value);
+    }
+
+    /**
+     * Mixes one double by its canonical bit pattern.
+     *
+     * @param value value to mix
+     * @return this hasher
+     */
+    public GenotypeHasher putDouble(double value) {
+        return putLong(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Mixes an array length followed by its words.
+     *
+     * @param values words to mix
+     * @return this hasher
+     */
+    public GenotypeHasher putLongs(long[] values) {
+        putLong(values.length);
+        for (long value : values) {
+            putLong(value);
+        }
+        return this;
+    }
+
+    /**
+     * Mixes an array length followed by its values, two values per word.
+     *
+     * @param values values to mix
+     * @return this hasher
+     */
+    public GenotypeHasher putInts(int[] values) {
+        putLong(values.length);
+        int i = 0;
+        for (; i + 1 < values.length; i += 2) {
+            putLong(((long) values[i] << 32) | (values[i + 1] & 0xffffffffL));
+        }
+        if (i < values.length) {
+            putLong(values[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Mixes an array length followed by the canonical bit patterns of its values.
+     *
+     * @param values values to mix
+     * @return this hasher
+     */
+    public GenotypeHasher putDoubles(double[] values) {
+        putLong(values.length);
+        for (double value : values) {
+            putDouble(value);
+        }
+        return this;
+    }
+
+    /**
+     * Mixes an array length followed by its values packed 64 per word.
+     *
+     * @param values values to mix
+     * @return this hasher
+     */
+    public GenotypeHasher putBooleans(boolean[] values) {
+        putLong(values.length);
+        long word = 0L;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i]) {
+                word |= 1L << (i & 63);
+            }
+            if ((i & 63) == 63) {
+                putLong(word);
+                word = 0L;
+            }
+        }
+        if ((values.length & 63) != 0) {
+            putLong(word);
+        }
+        return this;
+    }
+
+    /**
+     * Mixes a string by its UTF-16 code units, or a marker for {@code null}.
+     *
+     * @param value string to mix
+     * @return this hasher
+     */
+    public GenotypeHasher putString(String value) {
+        if (value == null) {
+            return putLong(-1L);
+        }
+        putLong(value.length());
+        int i = 0;
+        for (; i + 3 < value.length(); i += 4) {
+            putLong(((long) value.charAt(i) << 48)
+                    | ((long) value.charAt(i + 1) << 32)
+                    | ((long) value.charAt(i + 2) << 16)
+                    | value.charAt(i + 3));
+        }
+        long tail = 0L;
+        for (; i < value.length(); i++) {
+            tail = (tail << 16) | value.charAt(i);
+        }
+        return putLong(tail);
+    }
+
+    /**
+     * Finalizes the digest without disturbing accumulated state.
+     *
+     * @return 128-bit fingerprint
+     */
+    public FitnessCache.Key digest() {
+        long a = h1 ^ words;
+        long b = h2 ^ words;
+        a += b;
+        b += a;
+        a = fmix64(a);
+        b = fmix64(b);
+        a += b;
+        b += a;
+        return new FitnessCache.Key(a, b);
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Evaluation executor running every candidate on its own virtual thread.
+ *
+ * <p>Intended for problems whose evaluation mostly waits on external processes or sockets, where
+ * a CPU-sized pool would cap throughput at the core count. A semaphore bounds how many evaluations
+ * are running. With a timeout configured, an evaluation that exceeds it is reported through the
+ * {@code onTimeout} callback and its thread is interrupted; blocking socket and process waits on
+ * virtual threads respond to that interrupt. The semaphore belongs to the executor and a permit is
+ * released only when its evaluation actually returns, so an abandoned evaluation that ignores the
+ * interrupt keeps counting against the limit, also in later calls.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class VirtualThreadEvaluationExecutor implements EvaluationExecutor {
+
+    private static final long WAIT_SLICE_MILLIS = 50L;
+    private static final int RUNNING = 0;
+    private static final int FINISHED = 1;
+    private static final int TIMED_OUT = 2;
+
+    private final int maxConcurrency;
+    private final Duration timeout;
+    private final Semaphore permits;
+
+    /**
+     * Creates virtual-thread executor.
+     *
+     * @param maxConcurrency maximum number of evaluations in flight
+     * @param timeout per-evaluation deadline, or {@code null}/zero for none
+     */
+    public VirtualThreadEvaluationExecutor(int maxConcurrency, Duration timeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be >= 1");
+        }
+        if (timeout != null && timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must be >= 0");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.timeout = timeout == null || timeout.isZero() ? null : timeout;
+    }
+
+    @Override
+    public void execute(int count, IntConsumer evaluation, IntConsumer onTimeout, CancellationToken cancellation) {
+        if (count <= 0) {
+            return;
+        }
+        cancellation.throwIfCancelled();
+
+        CountDownLatch completed = new CountDownLatch(count);
+        AtomicIntegerArray states = new AtomicIntegerArray(count);
+        AtomicReferenceArray<Thread> threads = new AtomicReferenceArray<>(count);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("edaf-fitness-vthread-", 0).factory()
+        );
+        boolean cancelled = false;
+        try {
+            for (int i = 0; i < count && !cancelled; i++) {
+                if (!acquire(cancellation, failure)) {
+                    cancelled = failure.get() == null;
+                    break;
+                }
+                final int index = i;
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                try {
+                    executor.execute(() -> {
+                        threads.set(index, Thread.currentThread());
+                        try {
+                            evaluation.accept(index);
+                            future.complete(null);
+                        } catch (Throwable t) {
+                            future.completeExceptionally(t);
+                        } finally {
+                            threads.set(index, null);
+                            permits.release();
+                        }
+                    });
+                } catch (RuntimeException rejected) {
+                    permits.release();
+                    throw rejected;
+                }
+                if (timeout != null) {
+                    future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+                }
+                future.whenComplete((ignored, error) -> {
+                    try {
+                        Throwable cause = error instanceof CompletionException wrapped && wrapped.getCause() != null
+                                ? wrapped.getCause()
+                                : error;
+                        if (cause instanceof TimeoutException) {
+                            if (states.compareAndSet(index, RUNNING, TIMED_OUT)) {
+                                onTimeout.accept(index);
+                                Thread worker = threads.get(index);
+                                if (worker != null) {
+                                    worker.interrupt();
+                                }
+                            }
+                        } else if (states.compareAndSet(index, RUNNING, FINISHED) && cause != null) {
+                            failure.compareAndSet(null, cause);
+                        }
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        completed.countDown();
+                    }
+                });
+            }
+            if (!cancelled && failure.get() == null) {
+                cancelled = !await(completed, cancellation, failure);
+            }
+        } finally {
+            // Abandoned (timed-out, cancelled or failed) evaluations are interrupted rather than awaited.
+            executor.shutdownNow();
+        }
+        EvaluationFailures.rethrow(failure.get(), cancelled);
+    }
+
+    @Override
+    public boolean enforcesDeadlines() {
+        return timeout != null;
+    }
+
+    /**
+     * Returns the configured concurrency limit.
+     *
+     * @return maximum evaluations in flight
+     */
+    @Override
+    public int parallelism() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public String name() {
+        return "virtual-threads";
+    }
+
+    private boolean acquire(CancellationToken cancellation, AtomicReference<Throwable> failure) {
+        try {
+            while (!permits.tryAcquire(WAIT_SLICE_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null || cancellation.isCancelled()) {
+                    return false;
+                }
+            }
+            return failure.get() == null && !cancellation.isCancelled();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EvaluationCancelledException("Interrupted while scheduling fitness evaluation");
+        }
+    }
+
+    private static boolean await(CountDownLatch completed, CancellationToken cancellation, AtomicReference<Throwable> failure) {
+        try {
+            while (!completed.await(WAIT_SLICE_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return true;
+                }
+                if (cancellation.isCancelled()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EvaluationCancelledException("Interrupted while waiting for fitness evaluation");
+        }
+    }
+}
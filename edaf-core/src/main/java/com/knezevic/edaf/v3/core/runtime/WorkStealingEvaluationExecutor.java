@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Default evaluation executor using dynamic chunk claiming on a shared fork-join pool.
+ *
+ * <p>Instead of fixed round-robin lanes, workers repeatedly claim the next chunk of indices from a
+ * shared cursor. Chunk size shrinks with the remaining work ({@code remaining / (4 * budget)}), so
+ * early chunks amortize scheduling while late chunks stay small enough that one slow evaluation
+ * cannot stall a large tail. Idle workers simply claim the next chunk, which gives the same
+ * balancing effect as stealing.</p>
+ *
+ * <p>The calling thread takes part in the batch and counts against the budget. The worker budget is
+ * re-read before every claim: helpers retire when it shrinks because more runs became active, and
+ * the caller forks new helpers when it grows as concurrent runs finish. Cancellation and failures
+ * are observed at chunk boundaries.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class WorkStealingEvaluationExecutor implements EvaluationExecutor {
+
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final WorkStealingEvaluationExecutor SHARED = new WorkStealingEvaluationExecutor(
+            newPool(ExecutionParallelism.availableProcessors()),
+            ExecutionParallelism::suggestedFitnessWorkersPerRun
+    );
+
+    private final ForkJoinPool pool;
+    private final IntSupplier workerBudget;
+
+    /**
+     * Creates executor on a caller-provided pool.
+     *
+     * @param pool pool running helper workers
+     * @param workerBudget live per-run worker budget, including the calling thread
+     */
+    public WorkStealingEvaluationExecutor(ForkJoinPool pool, IntSupplier workerBudget) {
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+        this.workerBudget = Objects.requireNonNull(workerBudget, "workerBudget must not be null");
+    }
+
+    /**
+     * Returns process-wide executor sized to available processors and budgeted by
+     * {@link ExecutionParallelism#suggestedFitnessWorkersPerRun()}.
+     *
+     * @return shared executor
+     */
+    public static WorkStealingEvaluationExecutor shared() {
+        return SHARED;
+    }
+
+    /**
+     * Evaluates the batch; this executor has no per-evaluation deadline, so {@code onTimeout} is never called.
+     */
+    @Override
+    public void execute(int count, IntConsumer evaluation, IntConsumer onTimeout, CancellationToken cancellation) {
+        if (count <= 0) {
+            return;
+        }
+        cancellation.throwIfCancelled();
+        if (count == 1 || budget() <= 1) {
+            for (int i = 0; i < count; i++) {
+                cancellation.throwIfCancelled();
+                evaluation.accept(i);
+            }
+            return;
+        }
+        new Batch(count, evaluation, cancellation).run();
+    }
+
+    /**
+     * Returns the current per-run worker budget, including the calling thread.
+     *
+     * @return worker budget
+     */
+    @Override
+    public int parallelism() {
+        return budget();
+    }
+
+    @Override
+    public String name() {
+        return "work-stealing";
+    }
+
+    private int budget() {
+        return Math.max(1, workerBudget.getAsInt());
+    }
+
+    private static ForkJoinPool newPool(int parallelism) {
+        AtomicInteger counter = new AtomicInteger(1);
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("edaf-fitness-worker-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ForkJoinPool(parallelism, factory, null, true);
+    }
+
+    /**
+     * Shared state of one evaluation batch.
+     */
+    private final class Batch {
+        private final int count;
+        private final IntConsumer evaluation;
+        private final CancellationToken cancellation;
+        private final AtomicInteger cursor = new AtomicInteger(0);
+        private final AtomicInteger liveHelpers = new AtomicInteger(0);
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final List<ForkJoinTask<?>> helpers = new CopyOnWriteArrayList<>();
+        private volatile boolean cancelled;
+
+        private Batch(int count, IntConsumer evaluation, CancellationToken cancellation) {
+            this.count = count;
+            this.evaluation = evaluation;
+            this.cancellation = cancellation;
+        }
+
+        private void run() {
+            try {
+                spawnHelpers();
+                while (proceed()) {
+                    if (!processNextChunk()) {
+                        break;
+                    }
+                    spawnHelpers();
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            }
+            for (ForkJoinTask<?> helper : helpers) {
+                helper.quietlyJoin();
+            }
+            EvaluationFailures.rethrow(failure.get(), cancelled);
+        }
+
+        private void spawnHelpers() {
+            int remaining = count - cursor.get();
+            int target = Math.min(budget() - 1, remaining - 1);
+            while (liveHelpers.get() < target && proceed()) {
+                liveHelpers.incrementAndGet();
+                helpers.add(pool.submit(this::helperLoop));
+            }
+        }
+
+        private void helperLoop() {
+            try {
+                while (proceed()) {
+                    int live = liveHelpers.get();
+                    if (live + 1 > budget() && liveHelpers.compareAndSet(live, live - 1)) {
+                        return;
+                    }
+                    if (!processNextChunk()) {
+                        break;
+                    }
+                }
+                liveHelpers.decrementAndGet();
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+                liveHelpers.decrementAndGet();
+            }
+        }
+
+        private boolean proceed() {
+            if (failure.get() != null || cancelled) {
+                return false;
+            }
+            if (cancellation.isCancelled()) {
+                cancelled = true;
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Claims and evaluates one chunk.
+         *
+         * @return false when no work was left to claim
+         */
+        private boolean processNextChunk() {
+            int start;
+            int end;
+            while (true) {
+                start = cursor.get();
+                if (start >= count) {
+                    return false;
+                }
+                int chunk = Math.max(1, (count - start) / (CHUNKS_PER_WORKER * budget()));
+                end = Math.min(count, start + chunk);
+                if (cursor.compareAndSet(start, end)) {
+                    break;
+                }
+            }
+            for (int index = start; index < end; index++) {
+                evaluation.accept(index);
+            }
+            return true;
+        }
+    }
+}
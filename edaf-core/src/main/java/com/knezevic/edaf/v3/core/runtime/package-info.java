@@ -6,6 +6,6 @@
 /**
  * Runtime coordination utilities for multicore execution.
  *
- * <p>Contains global parallelism budgeting logic that balances run-level and in-run evaluation concurrency to avoid oversubscription.</p>
+ * <p>Contains global parallelism budgeting logic that balances run-level and in-run evaluation concurrency to avoid oversubscription, the pluggable fitness evaluation executors and cooperative run cancellation.</p>
  */
 package com.knezevic.edaf.v3.core.runtime;
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.util;
+
+import com.knezevic.edaf.v3.core.rng.RngStream;
+
+/**
+ * Walker alias table for repeated draws from a fixed categorical distribution.
+ *
+ * <p>Construction uses Vose's stable variant in {@code O(k)}. Each draw costs one uniform
+ * variate and one comparison: {@code x = u * k} selects column {@code floor(x)}, and the
+ * fractional part decides between the column and its alias. Tables are immutable and safe to
+ * share between threads.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Builds a table from non-negative weights.
+     *
+     * @param weights unnormalized weights with a positive finite sum
+     */
+    public AliasTable(double[] weights) {
+        int k = weights.length;
+        double total = 0.0;
+        for (double weight : weights) {
+            if (!(weight >= 0.0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("weights must be finite and >= 0");
+            }
+            total += weight;
+        }
+        if (!(total > 0.0) || Double.isInfinite(total)) {
+            throw new IllegalArgumentException("weights must have a positive finite sum");
+        }
+
+        this.probability = new double[k];
+        this.alias = new int[k];
+        double[] scaled = new double[k];
+        int[] small = new int[k];
+        int[] large = new int[k];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < k; i++) {
+            scaled[i] = weights[i] * k / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // leftovers are 1 up to rounding
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+    }
+
+    /**
+     * Returns category count.
+     *
+     * @return number of categories
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Draws one category in {@code O(1)}.
+     *
+     * @param rng random stream
+     * @return category index
+     */
+    public int sample(RngStream rng) {
+        int k = probability.length;
+        double x = rng.nextDouble() * k;
+        int column = Math.min((int) x, k - 1);
+        return x - column < probability[column] ? column : alias[column];
+    }
+}
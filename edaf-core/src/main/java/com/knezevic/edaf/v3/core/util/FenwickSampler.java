@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.util;
+
+import com.knezevic.edaf.v3.core.rng.RngStream;
+
+/**
+ * Weighted categorical sampler with {@code O(log k)} weight updates.
+ *
+ * <p>Weights live in a Fenwick (binary indexed) tree, so a draw descends the tree in
+ * {@code O(log k)} and {@link #remove} zeroes a category in {@code O(log k)}. Drawing and
+ * removing {@code k} times samples a weighted permutation without replacement in
+ * {@code O(k log k)}. {@link #reset} rebuilds the tree in {@code O(k)}, so one instance can be
+ * reused across samples. Instances are mutable and not thread-safe.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class FenwickSampler {
+
+    private final double[] weights;
+    private final double[] tree;
+    private final int highBit;
+
+    /**
+     * Creates a sampler with all weights zero.
+     *
+     * @param size category count
+     */
+    public FenwickSampler(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be > 0");
+        }
+        this.weights = new double[size];
+        this.tree = new double[size + 1];
+        this.highBit = Integer.highestOneBit(size);
+    }
+
+    /**
+     * Returns category count.
+     *
+     * @return number of categories
+     */
+    public int size() {
+        return weights.length;
+    }
+
+    /**
+     * Replaces all weights in {@code O(k)}.
+     *
+     * @param values non-negative weights, one per category
+     */
+    public void reset(double[] values) {
+        if (values.length != weights.length) {
+            throw new IllegalArgumentException("expected " + weights.length + " weights, got " + values.length);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!(values[i] >= 0.0)) {
+                throw new IllegalArgumentException("weights must be >= 0");
+            }
+        }
+        System.arraycopy(values, 0, weights, 0, values.length);
+        tree[0] = 0.0;
+        System.arraycopy(values, 0, tree, 1, values.length);
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Sets one weight in {@code O(log k)}.
+     *
+     * @param index category index
+     * @param weight new non-negative weight
+     */
+    public void set(int index, double weight) {
+        if (!(weight >= 0.0)) {
+            throw new IllegalArgumentException("weight must be >= 0");
+        }
+        double delta = weight - weights[index];
+        weights[index] = weight;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Excludes a category from later draws.
+     *
+     * @param index category index
+     */
+    public void remove(int index) {
+        set(index, 0.0);
+    }
+
+    /**
+     * Returns the current weight of a category.
+     *
+     * @param index category index
+     * @return weight
+     */
+    public double weight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * Returns the sum of all weights.
+     *
+     * @return total weight
+     */
+    public double total() {
+        double sum = 0.0;
+        for (int i = weights.length; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return Math.max(0.0, sum);
+    }
+
+    /**
+     * Draws a category with probability proportional to its weight.
+     *
+     * @param rng random stream
+     * @return category index
+     */
+    public int sample(RngStream rng) {
+        double total = total();
+        if (!(total > 0.0)) {
+            throw new IllegalStateException("cannot sample when all weights are zero");
+        }
+        double target = rng.nextDouble() * total;
+        int position = 0;
+        for (int step = highBit; step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        if (position < weights.length && weights[position] > 0.0) {
+            return position;
+        }
+        return nearestPositive(position);
+    }
+
+    /**
+     * Resolves a descent that rounding pushed onto a zero weight or past the end.
+     */
+    private int nearestPositive(int position) {
+        for (int i = Math.min(position, weights.length - 1); i >= 0; i--) {
+            if (weights[i] > 0.0) {
+                return i;
+            }
+        }
+        for (int i = position + 1; i < weights.length; i++) {
+            if (weights[i] > 0.0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("cannot sample when all weights are zero");
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Validates how pending batch evaluations are split across executor workers.
+ */
+class BatchChunkSizeTest {
+
+    @Test
+    void chunksShrinkSoEveryWorkerGetsWork() {
+        // 100 pending candidates on 8 workers: 13 per chunk instead of two chunks of 64
+        assertEquals(13, AbstractEdaAlgorithm.chunkSize(64, 100, 8));
+        assertEquals(64, AbstractEdaAlgorithm.chunkSize(64, 10_000, 8));
+        assertEquals(64, AbstractEdaAlgorithm.chunkSize(64, 100, 1));
+        assertEquals(1, AbstractEdaAlgorithm.chunkSize(64, 3, 8));
+        assertEquals(1, AbstractEdaAlgorithm.chunkSize(64, 0, 8));
+        assertEquals(64, AbstractEdaAlgorithm.chunkSize(64, Integer.MAX_VALUE, 0));
+    }
+}
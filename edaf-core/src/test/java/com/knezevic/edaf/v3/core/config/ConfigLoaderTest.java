@@ -291,4 +291,95 @@ class ConfigLoaderTest {
         loader.load(discrete);
         loader.load(continuous);
     }
+
+    @Test
+    void evaluationSectionIsParsedAndValidated() throws Exception {
+        ConfigLoader loader = new ConfigLoader();
+        ExperimentConfig config = loader.load(writeEvaluationConfig("""
+                  evaluation:
+                    mode: virtual-threads
+                    maxConcurrency: 64
+                    timeoutMillis: 250
+                """)).config();
+        ExperimentConfig.EvaluationSection evaluation = config.getRun().getEvaluation();
+        assertEquals("virtual-threads", evaluation.getMode());
+        assertEquals(64, evaluation.getMaxConcurrency());
+        assertEquals(250L, evaluation.getTimeoutMillis());
+
+        Path unknownMode = writeEvaluationConfig("""
+                  evaluation:
+                    mode: gpu
+                """);
+        ConfigValidationException modeError = assertThrows(ConfigValidationException.class,
+                () -> loader.load(unknownMode));
+        assertTrue(modeError.getMessage().contains("run.evaluation.mode"));
+
+        Path stealingTimeout = writeEvaluationConfig("""
+                  evaluation:
+                    mode: work-stealing
+                    timeoutMillis: 100
+                """);
+        ConfigValidationException timeoutError = assertThrows(ConfigValidationException.class,
+                () -> loader.load(stealingTimeout));
+        assertTrue(timeoutError.getMessage().contains("run.evaluation.timeoutMillis"));
+    }
+
+    private static Path writeEvaluationConfig(String evaluationBlock) throws Exception {
+        Path file = Files.createTempFile("evaluation", ".yaml");
+        Files.writeString(file, """
+                schema: "3.0"
+                run:
+                  id: evaluation-mode
+                  masterSeed: 9
+                """ + evaluationBlock + """
+                representation:
+                  type: bitstring
+                  length: 16
+                problem:
+                  type: onemax
+                algorithm:
+                  type: umda
+                  populationSize: 40
+                  selectionRatio: 0.5
+                model:
+                  type: umda-bernoulli
+                selection:
+                  type: truncation
+                replacement:
+                  type: elitist
+                stopping:
+                  type: max-iterations
+                  maxIterations: 10
+                constraints:
+                  type: identity
+                localSearch:
+                  type: none
+                restart:
+                  type: none
+                niching:
+                  type: none
+                observability:
+                  metricsEveryIterations: 1
+                  emitModelDiagnostics: false
+                persistence:
+                  enabled: true
+                  sinks: [console]
+                  outputDirectory: ./results
+                  database:
+                    enabled: false
+                    url: jdbc:sqlite:test.db
+                reporting:
+                  enabled: false
+                  formats: [html]
+                  outputDirectory: ./reports
+                web:
+                  enabled: false
+                  port: 7070
+                  pollSeconds: 3
+                logging:
+                  modes: [console]
+                  verbosity: normal
+                """);
+        return file;
+    }
 }
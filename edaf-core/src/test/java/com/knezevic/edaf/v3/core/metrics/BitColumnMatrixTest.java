@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Validates popcount contingency tables against a scalar reference on small and parallel sizes.
+ */
+class BitColumnMatrixTest {
+
+    @Test
+    void contingencyTablesMatchScalarCountsOnSmallMatrix() {
+        assertMatchesScalarReference(randomRows(37, 70, 11L), 70);
+    }
+
+    @Test
+    void contingencyTablesMatchScalarCountsWhenBlocksRunInParallel() {
+        assertMatchesScalarReference(randomRows(300, 700, 12L), 700);
+    }
+
+    @Test
+    void topNeighborsMatchRankedDenseRows() {
+        List<boolean[]> rows = randomRows(90, 150, 13L);
+        BitColumnMatrix matrix = BitColumnMatrix.fromRows(rows, 150);
+        BitColumnMatrix.PairStatistic agreement = (c00, c01, c10, c11) -> c00 + c11;
+        double[][] dense = matrix.pairMatrix(agreement);
+        BitColumnMatrix.Neighbors neighbors = matrix.topNeighbors(5, agreement);
+
+        assertEquals(5, neighbors.width());
+        for (int i = 0; i < 150; i++) {
+            int column = i;
+            List<Integer> ranked = new ArrayList<>();
+            for (int j = 0; j < 150; j++) {
+                if (j != i) {
+                    ranked.add(j);
+                }
+            }
+            ranked.sort((a, b) -> dense[column][a] != dense[column][b]
+                    ? Double.compare(dense[column][b], dense[column][a])
+                    : Integer.compare(a, b));
+            for (int r = 0; r < 5; r++) {
+                assertEquals((int) ranked.get(r), neighbors.neighbor(i, r));
+                assertEquals(dense[i][ranked.get(r)], neighbors.weight(i, r));
+                assertEquals(dense[i][ranked.get(r)], matrix.pair(i, ranked.get(r), agreement));
+            }
+        }
+    }
+
+    @Test
+    void packedRowWordsScatterIntoColumns() {
+        BitColumnMatrix matrix = new BitColumnMatrix(2, 70);
+        matrix.setRowWord(0, 0, 0b1011L);
+        matrix.setRowWord(1, 1, -1L);
+
+        assertTrue(matrix.get(0, 0));
+        assertFalse(matrix.get(0, 2));
+        assertTrue(matrix.get(0, 3));
+        assertTrue(matrix.get(1, 69));
+        assertEquals(1, matrix.ones(64));
+        assertEquals(6, matrix.ones(64) + matrix.ones(65) + matrix.ones(66) + matrix.ones(67) + matrix.ones(68)
+                + matrix.ones(69));
+    }
+
+    private static void assertMatchesScalarReference(List<boolean[]> rows, int columns) {
+        BitColumnMatrix matrix = BitColumnMatrix.fromRows(rows, columns);
+        double[][] encoded = matrix.pairMatrix((c00, c01, c10, c11) -> c00 * 1.0e9 + c01 * 1.0e6 + c10 * 1.0e3 + c11);
+
+        for (int i = 0; i < columns; i++) {
+            assertEquals(0.0, encoded[i][i]);
+            for (int j = i + 1; j < columns; j++) {
+                int[] cells = new int[4];
+                for (boolean[] row : rows) {
+                    cells[(row[i] ? 2 : 0) + (row[j] ? 1 : 0)]++;
+                }
+                double expected = cells[0] * 1.0e9 + cells[1] * 1.0e6 + cells[2] * 1.0e3 + cells[3];
+                assertEquals(expected, encoded[i][j], "pair " + i + "," + j);
+                assertEquals(expected, encoded[j][i]);
+            }
+        }
+    }
+
+    private static List<boolean[]> randomRows(int count, int columns, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<boolean[]> rows = new ArrayList<>();
+        for (int r = 0; r < count; r++) {
+            boolean[] row = new boolean[columns];
+            for (int c = 0; c < columns; c++) {
+                row[c] = random.nextInt(4) == 0;
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Validates merge-sort Kendall distance against the quadratic pair scan.
+ */
+class PermutationMetricsTest {
+
+    @Test
+    void kendallDistanceMatchesPairScanAcrossRunBoundaries() {
+        SplittableRandom random = new SplittableRandom(21L);
+        for (int n : new int[]{0, 1, 2, 15, 16, 17, 33, 100, 1031}) {
+            int[] a = shuffled(n, random);
+            int[] b = shuffled(n, random);
+            assertEquals(pairScan(a, b), PermutationMetrics.kendallDistance(a, b), "n=" + n);
+            assertEquals(0L, PermutationMetrics.kendallDistance(a, a));
+        }
+    }
+
+    @Test
+    void reversedOrderReachesMaximumDistance() {
+        int n = 5000;
+        int[] identity = new int[n];
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            identity[i] = i;
+            reversed[i] = n - 1 - i;
+        }
+        assertEquals((long) n * (n - 1) / 2, PermutationMetrics.kendallDistance(identity, reversed));
+        assertEquals(1.0, PermutationMetrics.kendallDistanceNormalized(identity, reversed));
+        assertEquals(5L, PermutationMetrics.countInversions(new int[]{3, 1, 2, 0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> PermutationMetrics.kendallDistance(new int[]{0, 1}, new int[]{0}));
+    }
+
+    private static long pairScan(int[] a, int[] b) {
+        int[] position = new int[b.length];
+        for (int i = 0; i < b.length; i++) {
+            position[b[i]] = i;
+        }
+        long distance = 0L;
+        for (int i = 0; i < a.length; i++) {
+            for (int j = i + 1; j < a.length; j++) {
+                if (position[a[i]] > position[a[j]]) {
+                    distance++;
+                }
+            }
+        }
+        return distance;
+    }
+
+    private static int[] shuffled(int n, SplittableRandom random) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+        return values;
+    }
+}
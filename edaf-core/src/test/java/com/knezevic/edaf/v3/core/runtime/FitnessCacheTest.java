@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+import com.knezevic.edaf.v3.core.api.ScalarFitness;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Validates fingerprint hashing, eviction policies and hit accounting of the fitness cache.
+ */
+class FitnessCacheTest {
+
+    @Test
+    void hasherSeparatesContentAndLayout() {
+        GenotypeHasher hasher = new GenotypeHasher();
+        FitnessCache.Key base = hasher.reset().putInts(new int[]{0, 1, 2, 3}).digest();
+
+        assertEquals(base, hasher.reset().putInts(new int[]{0, 1, 2, 3}).digest());
+        assertNotEquals(base, hasher.reset().putInts(new int[]{1, 0, 2, 3}).digest());
+        assertNotEquals(base, hasher.reset().putInts(new int[]{0, 1, 2}).digest());
+        assertNotEquals(
+                hasher.reset().putBooleans(new boolean[]{true, false}).digest(),
+                hasher.reset().putBooleans(new boolean[]{true, false, false}).digest()
+        );
+        assertNotEquals(
+                hasher.reset().putDoubles(new double[]{0.0}).digest(),
+                hasher.reset().putDoubles(new double[]{-0.0}).digest()
+        );
+    }
+
+    @Test
+    void lruEvictsLeastRecentlyUsedEntry() {
+        FitnessCache cache = FitnessCache.create(FitnessCache.Policy.LRU, 2, true);
+        FitnessCache.Key a = key(1);
+        FitnessCache.Key b = key(2);
+        cache.put(a, new ScalarFitness(1.0));
+        cache.put(b, new ScalarFitness(2.0));
+        assertNotNull(cache.get(a));
+
+        cache.put(key(3), new ScalarFitness(3.0));
+
+        assertNull(cache.get(b));
+        assertEquals(1.0, cache.get(a).scalar());
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(2.0 / 3.0, cache.hitRate(), 1.0e-12);
+    }
+
+    @Test
+    void clockGivesReferencedEntriesASecondChance() {
+        FitnessCache cache = FitnessCache.create(FitnessCache.Policy.CLOCK, 3, false);
+        for (int i = 0; i < 3; i++) {
+            cache.put(key(i), new ScalarFitness(i));
+        }
+        cache.get(key(0));
+        cache.get(key(2));
+
+        cache.put(key(3), new ScalarFitness(3.0));
+
+        assertNull(cache.get(key(1)));
+        assertNotNull(cache.get(key(0)));
+        assertNotNull(cache.get(key(2)));
+        assertNotNull(cache.get(key(3)));
+        assertEquals(3, cache.size());
+        assertFalse(cache.countsHits());
+    }
+
+    @Test
+    void disabledCacheNeverStores() {
+        FitnessCache cache = FitnessCache.disabled();
+        cache.put(key(1), new ScalarFitness(1.0));
+
+        assertFalse(cache.enabled());
+        assertNull(cache.get(key(1)));
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> FitnessCache.create(FitnessCache.Policy.LRU, 0, true));
+        assertThrows(IllegalArgumentException.class, () -> FitnessCache.Policy.parse("fifo"));
+    }
+
+    private static FitnessCache.Key key(long value) {
+        return new GenotypeHasher().putLong(value).digest();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Validates bounded virtual-thread evaluation, deadlines and failure propagation.
+ */
+class VirtualThreadEvaluationExecutorTest {
+
+    @Test
+    void latencyBoundEvaluationsOverlapUpToConcurrencyLimit() {
+        VirtualThreadEvaluationExecutor executor = new VirtualThreadEvaluationExecutor(64, null);
+        AtomicIntegerArray hits = new AtomicIntegerArray(512);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        long started = System.nanoTime();
+        executor.execute(hits.length(), index -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20L);
+            running.decrementAndGet();
+            hits.incrementAndGet(index);
+        }, CancellationToken.none());
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+
+        for (int i = 0; i < hits.length(); i++) {
+            assertEquals(1, hits.get(i), "index " + i);
+        }
+        assertTrue(peak.get() <= 64, "peak concurrency " + peak.get());
+        assertTrue(peak.get() > 8, "evaluations should overlap, peak " + peak.get());
+        assertTrue(elapsedMillis < 512L * 20L / 4L, "elapsed " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void slowEvaluationsAreAbandonedAndReportedAsTimeouts() {
+        VirtualThreadEvaluationExecutor executor = new VirtualThreadEvaluationExecutor(16, Duration.ofMillis(100));
+        AtomicIntegerArray timedOut = new AtomicIntegerArray(40);
+        AtomicInteger interrupted = new AtomicInteger();
+
+        long started = System.nanoTime();
+        executor.execute(timedOut.length(), index -> {
+            if (index % 10 == 0) {
+                try {
+                    Thread.sleep(10_000L);
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                }
+            }
+        }, index -> timedOut.incrementAndGet(index), CancellationToken.none());
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+
+        for (int i = 0; i < timedOut.length(); i++) {
+            assertEquals(i % 10 == 0 ? 1 : 0, timedOut.get(i), "index " + i);
+        }
+        assertTrue(elapsedMillis < 5_000L, "elapsed " + elapsedMillis + " ms");
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (interrupted.get() < 4 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(4, interrupted.get());
+    }
+
+    @Test
+    void abandonedEvaluationKeepsItsPermitUntilItReturns() {
+        VirtualThreadEvaluationExecutor executor = new VirtualThreadEvaluationExecutor(2, Duration.ofMillis(50));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger timeouts = new AtomicInteger();
+        IntConsumer evaluation = index -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                // index 0 ignores the timeout interrupt and keeps running
+                long until = System.nanoTime() + (index == 0 ? 300_000_000L : 2_000_000L);
+                while (System.nanoTime() < until) {
+                    try {
+                        Thread.sleep(1L);
+                    } catch (InterruptedException ignored) {
+                        // keep evaluating
+                    }
+                }
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+
+        executor.execute(20, evaluation, index -> timeouts.incrementAndGet(), CancellationToken.none());
+        executor.execute(20, evaluation, index -> timeouts.incrementAndGet(), CancellationToken.none());
+
+        assertEquals(2, timeouts.get());
+        assertTrue(peak.get() <= 2, "peak concurrency " + peak.get());
+    }
+
+    @Test
+    void evaluationFailureIsRethrownToCaller() {
+        VirtualThreadEvaluationExecutor executor = new VirtualThreadEvaluationExecutor(8, Duration.ofSeconds(5));
+        assertThrows(IllegalStateException.class, () -> executor.execute(100, index -> {
+            if (index == 17) {
+                throw new IllegalStateException("simulator crashed");
+            }
+        }, CancellationToken.none()));
+    }
+
+    @Test
+    void cancellationAbortsPendingEvaluations() {
+        VirtualThreadEvaluationExecutor executor = new VirtualThreadEvaluationExecutor(4, null);
+        CancellationToken token = CancellationToken.manual();
+        AtomicInteger started = new AtomicInteger();
+
+        assertThrows(EvaluationCancelledException.class, () -> executor.execute(1_000, index -> {
+            if (started.incrementAndGet() == 8) {
+                token.cancel();
+            }
+            sleep(5L);
+        }, token));
+        assertTrue(started.get() < 1_000);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.runtime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Validates chunked evaluation scheduling, live budgets, cancellation and failure propagation.
+ */
+class WorkStealingEvaluationExecutorTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void evaluatesEveryIndexOnceWithinLiveBudget() {
+        AtomicInteger budget = new AtomicInteger(3);
+        WorkStealingEvaluationExecutor executor = new WorkStealingEvaluationExecutor(pool, budget::get);
+        AtomicIntegerArray hits = new AtomicIntegerArray(257);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        executor.execute(hits.length(), index -> {
+            int now = running.incrementAndGet();
+            peak.accumulateAndGet(now, Math::max);
+            if (index == 40) {
+                budget.set(2);
+            }
+            busyWait(index % 7 == 0 ? 200_000L : 20_000L);
+            hits.incrementAndGet(index);
+            running.decrementAndGet();
+        }, CancellationToken.none());
+
+        for (int i = 0; i < hits.length(); i++) {
+            assertEquals(1, hits.get(i), "index " + i);
+        }
+        assertTrue(peak.get() <= 3, "peak concurrency " + peak.get());
+    }
+
+    @Test
+    void cancellationStopsBatchAtChunkBoundary() {
+        WorkStealingEvaluationExecutor executor = new WorkStealingEvaluationExecutor(pool, () -> 4);
+        CancellationToken token = CancellationToken.manual();
+        AtomicInteger evaluated = new AtomicInteger();
+
+        assertThrows(EvaluationCancelledException.class, () -> executor.execute(10_000, index -> {
+            if (evaluated.incrementAndGet() == 50) {
+                token.cancel();
+            }
+        }, token));
+        assertTrue(evaluated.get() < 10_000);
+        assertThrows(EvaluationCancelledException.class,
+                () -> executor.execute(1, index -> { }, token));
+    }
+
+    @Test
+    void evaluationFailureIsRethrownToCaller() {
+        WorkStealingEvaluationExecutor executor = new WorkStealingEvaluationExecutor(pool, () -> 4);
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> executor.execute(500, index -> {
+            if (index == 123) {
+                throw failure;
+            }
+        }, CancellationToken.none()));
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    void pollingTokenRateLimitsProbe() {
+        AtomicInteger probes = new AtomicInteger();
+        CancellationToken token = CancellationToken.polling(() -> probes.incrementAndGet() >= 3,
+                Duration.ofHours(1));
+        for (int i = 0; i < 100; i++) {
+            token.isCancelled();
+        }
+        assertEquals(1, probes.get());
+    }
+
+    private static void busyWait(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
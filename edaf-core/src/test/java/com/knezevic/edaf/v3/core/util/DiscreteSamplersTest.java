@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.core.util;
+
+import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests alias-table and Fenwick-tree categorical samplers.
+ */
+class DiscreteSamplersTest {
+
+    private static final int DRAWS = 200_000;
+
+    @Test
+    void aliasTableMatchesWeightsAndNeverDrawsZeroWeights() {
+        double[] weights = {0.0, 3.0, 1.0, 0.0, 6.0, 0.5, 0.0};
+        AliasTable table = new AliasTable(weights);
+        RngStream rng = new RngManager(1L).stream("alias");
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[table.sample(rng)]++;
+        }
+        assertFrequencies(weights, counts);
+        assertEquals(0, counts[0] + counts[3] + counts[6]);
+
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{0.0, 0.0}));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[]{1.0, -1.0}));
+    }
+
+    @Test
+    void fenwickSamplerTracksUpdatesAndRemovals() {
+        double[] weights = {2.0, 0.0, 5.0, 1.0, 1.0, 3.0, 0.25};
+        FenwickSampler sampler = new FenwickSampler(weights.length);
+        sampler.reset(weights);
+        assertEquals(12.25, sampler.total(), 1e-12);
+
+        RngStream rng = new RngManager(2L).stream("fenwick");
+        int[] counts = new int[weights.length];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[sampler.sample(rng)]++;
+        }
+        assertFrequencies(weights, counts);
+
+        sampler.remove(2);
+        sampler.set(1, 4.0);
+        weights[2] = 0.0;
+        weights[1] = 4.0;
+        counts = new int[weights.length];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[sampler.sample(rng)]++;
+        }
+        assertFrequencies(weights, counts);
+        assertEquals(0, counts[2]);
+    }
+
+    @Test
+    void fenwickDrawAndRemoveProducesWeightedPermutations() {
+        double[] weights = {8.0, 4.0, 2.0, 1.0, 1.0};
+        FenwickSampler sampler = new FenwickSampler(weights.length);
+        RngStream rng = new RngManager(3L).stream("permutations");
+        int firstIsZero = 0;
+        int trials = 20_000;
+        for (int trial = 0; trial < trials; trial++) {
+            sampler.reset(weights);
+            boolean[] seen = new boolean[weights.length];
+            for (int pos = 0; pos < weights.length; pos++) {
+                int item = sampler.sample(rng);
+                assertTrue(!seen[item]);
+                seen[item] = true;
+                sampler.remove(item);
+                if (pos == 0 && item == 0) {
+                    firstIsZero++;
+                }
+            }
+            assertEquals(0.0, sampler.total(), 1e-12);
+        }
+        assertEquals(8.0 / 16.0, firstIsZero / (double) trials, 0.02);
+        assertThrows(IllegalStateException.class, () -> sampler.sample(rng));
+    }
+
+    private static void assertFrequencies(double[] weights, int[] counts) {
+        double total = 0.0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        int draws = 0;
+        for (int count : counts) {
+            draws += count;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / total, counts[i] / (double) draws, 0.005, "category " + i);
+        }
+    }
+}
@@ -5,6 +5,9 @@
 
 package com.knezevic.edaf.v3.experiments.factory;
 
+import com.knezevic.edaf.v3.algorithms.localsearch.BitFlipLocalSearch;
+import com.knezevic.edaf.v3.algorithms.localsearch.CoordinateLineSearch;
+import com.knezevic.edaf.v3.algorithms.localsearch.TwoOptLocalSearch;
 import com.knezevic.edaf.v3.core.api.ConstraintHandling;
 import com.knezevic.edaf.v3.core.api.LocalSearch;
 import com.knezevic.edaf.v3.core.api.NichingPolicy;
@@ -110,8 +113,24 @@ public final class PolicyFactory {
      * @param config experiment configuration
      * @return instantiated local search strategy
      */
+    @SuppressWarnings("unchecked")
     public static <G> LocalSearch<G> createLocalSearch(ExperimentConfig config) {
-        return new NoOpLocalSearch<>();
+        String type = config.getLocalSearch().getType().toLowerCase(java.util.Locale.ROOT);
+        var params = config.getLocalSearch().getParams();
+        LocalSearch<?> localSearch = switch (type) {
+            case "bit-flip" -> new BitFlipLocalSearch(Params.integer(params, "maxEvaluations", 200));
+            case "two-opt", "2-opt" -> new TwoOptLocalSearch(
+                    Params.integer(params, "maxEvaluations", 20),
+                    Params.bool(params, "orOpt", true)
+            );
+            case "line-search" -> new CoordinateLineSearch(
+                    Params.integer(params, "maxEvaluations", 100),
+                    Params.dbl(params, "initialStep", 0.1),
+                    Params.dbl(params, "minStep", 1e-8)
+            );
+            default -> new NoOpLocalSearch<>();
+        };
+        return (LocalSearch<G>) localSearch;
     }
 
     /**
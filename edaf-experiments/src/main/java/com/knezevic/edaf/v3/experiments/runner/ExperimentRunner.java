@@ -38,16 +38,25 @@ import com.knezevic.edaf.v3.core.plugins.AlgorithmDependencies;
 import com.knezevic.edaf.v3.core.plugins.Plugin;
 import com.knezevic.edaf.v3.core.rng.RngManager;
 import com.knezevic.edaf.v3.core.rng.RngSnapshot;
+import com.knezevic.edaf.v3.core.runtime.CancellationToken;
+import com.knezevic.edaf.v3.core.runtime.EvaluationCancelledException;
+import com.knezevic.edaf.v3.core.runtime.EvaluationExecutor;
 import com.knezevic.edaf.v3.core.runtime.ExecutionParallelism;
+import com.knezevic.edaf.v3.core.runtime.FitnessCache;
+import com.knezevic.edaf.v3.core.runtime.VirtualThreadEvaluationExecutor;
+import com.knezevic.edaf.v3.core.runtime.WorkStealingEvaluationExecutor;
 import com.knezevic.edaf.v3.experiments.factory.ComponentCatalog;
 import com.knezevic.edaf.v3.experiments.factory.PolicyFactory;
 import com.knezevic.edaf.v3.models.continuous.CmaEsStrategyModel;
 import com.knezevic.edaf.v3.models.continuous.DiagonalGaussianModel;
 import com.knezevic.edaf.v3.models.continuous.FullGaussianModel;
+import com.knezevic.edaf.v3.models.continuous.LinearCmaEsStrategyModel;
+import com.knezevic.edaf.v3.models.continuous.LowRankGaussianModel;
 import com.knezevic.edaf.v3.models.continuous.NormalizingFlowModel;
 import com.knezevic.edaf.v3.models.discrete.BernoulliUmdaModel;
 import com.knezevic.edaf.v3.models.discrete.HierarchicalBoaModel;
 import com.knezevic.edaf.v3.models.permutation.EdgeHistogramModel;
+import com.knezevic.edaf.v3.models.permutation.SparseEdgeHistogramModel;
 import com.knezevic.edaf.v3.persistence.checkpoint.CheckpointStore;
 import com.knezevic.edaf.v3.persistence.jdbc.DataSourceFactory;
 import com.knezevic.edaf.v3.persistence.jdbc.ExperimentIdentity;
@@ -95,6 +104,11 @@ import javax.sql.DataSource;
  */
 public final class ExperimentRunner {
 
+    /**
+     * Minimum interval between stop-request lookups made from inside fitness batches.
+     */
+    private static final Duration STOP_POLL_INTERVAL = Duration.ofSeconds(1);
+
     private final ComponentCatalog catalog;
     private final CheckpointStore checkpointStore;
     private final ObjectMapper mapper;
@@ -164,7 +178,7 @@ public final class ExperimentRunner {
             AlgorithmContext<Object> context = null;
             Path lastCheckpoint = null;
             try {
-                RuntimeBundle bundle = createBundle(config, eventBus, rng);
+                RuntimeBundle bundle = createBundle(config, eventBus, rng, stopControl);
                 algorithm = bundle.algorithm();
                 context = bundle.context();
 
@@ -200,6 +214,7 @@ public final class ExperimentRunner {
                 publishRunFailed(eventBus, config, null, e);
                 throw e;
             } finally {
+                closeAlgorithm(algorithm, runFailure);
                 closeEventBus(eventBus, runFailure);
             }
         }
@@ -233,7 +248,7 @@ public final class ExperimentRunner {
             RuntimeBundle bundle = null;
             Path lastCheckpoint = null;
             try {
-                bundle = createBundle(config, eventBus, rng);
+                bundle = createBundle(config, eventBus, rng, stopControl);
                 restoreModelState(bundle.model(), payload.path("modelState"));
                 restoreRng(rng, payload.path("rng"));
 
@@ -312,13 +327,17 @@ public final class ExperimentRunner {
                 publishRunFailed(eventBus, config, checkpointPath.toString(), e);
                 throw e;
             } finally {
+                closeAlgorithm(bundle == null ? null : bundle.algorithm(), runFailure);
                 closeEventBus(eventBus, runFailure);
             }
         }
     }
 
     @SuppressWarnings("unchecked")
-    private RuntimeBundle createBundle(ExperimentConfig config, EventBus eventBus, RngManager rng) {
+    private RuntimeBundle createBundle(ExperimentConfig config,
+                                       EventBus eventBus,
+                                       RngManager rng,
+                                       StopControl stopControl) {
         Representation<Object> representation = (Representation<Object>) catalog.createRepresentation(config);
         Problem<Object> problem = (Problem<Object>) catalog.createProblem(config);
         Model<Object> model = (Model<Object>) catalog.createModel(config);
@@ -364,6 +383,10 @@ public final class ExperimentRunner {
                 .populationSize(populationSize)
                 .elitism(elitism)
                 .parameters(config.getAlgorithm().getParams())
+                .cancellation(createCancellation(stopControl, config.getRun().getId()))
+                .evaluationExecutor(createEvaluationExecutor(config.getRun().getEvaluation()))
+                .evaluationTimeoutPenalty(timeoutPenalty(config.getRun().getEvaluation()))
+                .fitnessCache(createFitnessCache(config.getRun().getEvaluation()))
                 .build();
 
         return new RuntimeBundle(representation, problem, model, algorithm, context);
@@ -383,7 +406,12 @@ public final class ExperimentRunner {
             if (shouldStopRequested(stopControl, config.getRun().getId())) {
                 throw new RunStopRequestedException("Stop requested from dashboard controls");
             }
-            algorithm.iterate(context);
+            try {
+                algorithm.iterate(context);
+            } catch (EvaluationCancelledException cancelled) {
+                // The interrupted iteration is discarded; state still holds the last completed one.
+                throw new RunStopRequestedException("Stop requested from dashboard controls");
+            }
             if (checkpointEvery > 0 && algorithm.state().iteration() > 0
                     && algorithm.state().iteration() % checkpointEvery == 0) {
                 lastCheckpoint = checkpointPath(config, algorithm.state());
@@ -509,6 +537,21 @@ public final class ExperimentRunner {
         }
     }
 
+    private static void closeAlgorithm(Algorithm<Object> algorithm, RuntimeException runFailure) {
+        if (algorithm == null) {
+            return;
+        }
+        try {
+            algorithm.close();
+        } catch (RuntimeException closeFailure) {
+            if (runFailure != null) {
+                runFailure.addSuppressed(closeFailure);
+            } else {
+                throw closeFailure;
+            }
+        }
+    }
+
     private static void closeEventBus(EventBus eventBus, RuntimeException runFailure) {
         try {
             eventBus.close();
@@ -636,6 +679,18 @@ public final class ExperimentRunner {
             state.put("restartCount", cma.restartCount());
             state.put("stagnationIterations", cma.stagnationIterations());
             state.put("bestFitnessSeen", cma.bestFitnessSeen());
+        } else if (model instanceof LinearCmaEsStrategyModel cma) {
+            state.put("type", "cma-es-" + cma.variant().id());
+            state.set("mean", mapper.valueToTree(cma.mean()));
+            state.put("sigma", cma.sigma());
+            state.set("diagonal", mapper.valueToTree(cma.diagonal()));
+            state.set("direction", mapper.valueToTree(cma.direction()));
+            state.set("pathSigma", mapper.valueToTree(cma.pathSigma()));
+            state.set("pathCovariance", mapper.valueToTree(cma.pathCovariance()));
+            state.put("generation", cma.generation());
+            state.put("restartCount", cma.restartCount());
+            state.put("stagnationIterations", cma.stagnationIterations());
+            state.put("bestFitnessSeen", cma.bestFitnessSeen());
         } else if (model instanceof DiagonalGaussianModel gaussian) {
             state.put("type", "gaussian-diag");
             state.set("mean", mapper.valueToTree(gaussian.mean()));
@@ -644,6 +699,11 @@ public final class ExperimentRunner {
             state.put("type", "gaussian-full");
             state.set("mean", mapper.valueToTree(gaussian.mean()));
             state.set("covariance", mapper.valueToTree(gaussian.covariance()));
+        } else if (model instanceof LowRankGaussianModel gaussian) {
+            state.put("type", "gaussian-lowrank");
+            state.set("mean", mapper.valueToTree(gaussian.mean()));
+            state.set("factors", mapper.valueToTree(gaussian.factors()));
+            state.set("diagonal", mapper.valueToTree(gaussian.diagonal()));
         } else if (model instanceof NormalizingFlowModel flow) {
             state.put("type", "normalizing-flow");
             state.set("mean", mapper.valueToTree(flow.mean()));
@@ -658,6 +718,11 @@ public final class ExperimentRunner {
         } else if (model instanceof EdgeHistogramModel ehm) {
             state.put("type", "ehm");
             state.set("transitions", mapper.valueToTree(ehm.transitions()));
+        } else if (model instanceof SparseEdgeHistogramModel ehm) {
+            state.put("type", "ehm-sparse");
+            state.set("eliteOffsets", mapper.valueToTree(ehm.eliteOffsets()));
+            state.set("eliteTargets", mapper.valueToTree(ehm.eliteTargets()));
+            state.set("eliteCounts", mapper.valueToTree(ehm.eliteCounts()));
         } else {
             state.put("type", model.name());
         }
@@ -680,6 +745,19 @@ public final class ExperimentRunner {
                     state.path("stagnationIterations").asInt(0),
                     state.path("bestFitnessSeen").asDouble(Double.POSITIVE_INFINITY)
             );
+        } else if (model instanceof LinearCmaEsStrategyModel cma && ("cma-es-" + cma.variant().id()).equals(type)) {
+            cma.restore(
+                    mapper.convertValue(state.path("mean"), double[].class),
+                    state.path("sigma").asDouble(1.0),
+                    mapper.convertValue(state.path("diagonal"), double[].class),
+                    mapper.convertValue(state.path("direction"), double[].class),
+                    mapper.convertValue(state.path("pathSigma"), double[].class),
+                    mapper.convertValue(state.path("pathCovariance"), double[].class),
+                    state.path("generation").asInt(0),
+                    state.path("restartCount").asInt(0),
+                    state.path("stagnationIterations").asInt(0),
+                    state.path("bestFitnessSeen").asDouble(Double.POSITIVE_INFINITY)
+            );
         } else if (model instanceof DiagonalGaussianModel gaussian && "gaussian-diag".equals(type)) {
             gaussian.restore(
                     mapper.convertValue(state.path("mean"), double[].class),
@@ -690,6 +768,12 @@ public final class ExperimentRunner {
                     mapper.convertValue(state.path("mean"), double[].class),
                     mapper.convertValue(state.path("covariance"), double[][].class)
             );
+        } else if (model instanceof LowRankGaussianModel gaussian && "gaussian-lowrank".equals(type)) {
+            gaussian.restore(
+                    mapper.convertValue(state.path("mean"), double[].class),
+                    mapper.convertValue(state.path("factors"), double[][].class),
+                    mapper.convertValue(state.path("diagonal"), double[].class)
+            );
         } else if (model instanceof NormalizingFlowModel flow && "normalizing-flow".equals(type)) {
             flow.restore(
                     mapper.convertValue(state.path("mean"), double[].class),
@@ -705,6 +789,13 @@ public final class ExperimentRunner {
             );
         } else if (model instanceof EdgeHistogramModel ehm && "ehm".equals(type)) {
             ehm.restore(mapper.convertValue(state.path("transitions"), double[][].class));
+        } else if (model instanceof SparseEdgeHistogramModel ehm && "ehm-sparse".equals(type)
+                && state.path("eliteOffsets").size() > 0) {
+            ehm.restore(
+                    mapper.convertValue(state.path("eliteOffsets"), int[].class),
+                    mapper.convertValue(state.path("eliteTargets"), int[].class),
+                    mapper.convertValue(state.path("eliteCounts"), double[].class)
+            );
         }
     }
 
@@ -722,6 +813,43 @@ public final class ExperimentRunner {
         return new StopControl(new StopRequestStore(databaseDataSource), experimentId);
     }
 
+    private static EvaluationExecutor createEvaluationExecutor(ExperimentConfig.EvaluationSection evaluation) {
+        if (evaluation == null || evaluation.getMode() == null
+                || !"virtual-threads".equalsIgnoreCase(evaluation.getMode().trim())) {
+            return WorkStealingEvaluationExecutor.shared();
+        }
+        return new VirtualThreadEvaluationExecutor(
+                evaluation.getMaxConcurrency(),
+                Duration.ofMillis(evaluation.getTimeoutMillis())
+        );
+    }
+
+    private static double timeoutPenalty(ExperimentConfig.EvaluationSection evaluation) {
+        if (evaluation == null || evaluation.getTimeoutPenalty() == null) {
+            return Double.NaN;
+        }
+        return evaluation.getTimeoutPenalty();
+    }
+
+    private static FitnessCache createFitnessCache(ExperimentConfig.EvaluationSection evaluation) {
+        if (evaluation == null || evaluation.getCache() == null || !evaluation.getCache().isEnabled()) {
+            return FitnessCache.disabled();
+        }
+        ExperimentConfig.FitnessCacheSection cache = evaluation.getCache();
+        return FitnessCache.create(
+                FitnessCache.Policy.parse(cache.getPolicy()),
+                cache.getCapacity(),
+                cache.isCountHits()
+        );
+    }
+
+    private static CancellationToken createCancellation(StopControl stopControl, String runId) {
+        if (stopControl == null || stopControl.store() == null) {
+            return CancellationToken.none();
+        }
+        return CancellationToken.polling(() -> shouldStopRequested(stopControl, runId), STOP_POLL_INTERVAL);
+    }
+
     private static boolean shouldStopRequested(StopControl stopControl, String runId) {
         if (stopControl == null || stopControl.store() == null) {
             return false;
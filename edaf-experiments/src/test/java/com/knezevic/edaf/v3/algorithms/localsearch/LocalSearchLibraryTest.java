@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.algorithms.localsearch;
+
+import com.knezevic.edaf.v3.core.api.EvaluationBudget;
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.LocalSearch;
+import com.knezevic.edaf.v3.core.api.ObjectiveSense;
+import com.knezevic.edaf.v3.core.api.Problem;
+import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.problems.SphereProblem;
+import com.knezevic.edaf.v3.problems.discrete.MaxSatProblem;
+import com.knezevic.edaf.v3.problems.discrete.maxsat.DimacsCnf;
+import com.knezevic.edaf.v3.problems.permutation.TsplibTspProblem;
+import com.knezevic.edaf.v3.problems.permutation.tsplib.TsplibInstance;
+import com.knezevic.edaf.v3.problems.util.ProblemResourceLoader;
+import com.knezevic.edaf.v3.repr.impl.BitStringRepresentation;
+import com.knezevic.edaf.v3.repr.impl.PermutationVectorRepresentation;
+import com.knezevic.edaf.v3.repr.impl.RealVectorRepresentation;
+import com.knezevic.edaf.v3.repr.types.BitString;
+import com.knezevic.edaf.v3.repr.types.PermutationVector;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the bit-flip, tour and coordinate local searches.
+ */
+class LocalSearchLibraryTest {
+
+    @Test
+    void bitFlipDeltaAndFullEvaluationFollowTheSameClimb() {
+        DimacsCnf cnf = DimacsCnf.parse(ProblemResourceLoader.readText("classpath:maxsat/uf20-01.cnf"));
+        MaxSatProblem incremental = new MaxSatProblem(cnf.variableCount(), cnf.clauses());
+        Problem<BitString> full = new Problem<>() {
+            @Override
+            public String name() {
+                return "maxsat-full";
+            }
+
+            @Override
+            public ObjectiveSense objectiveSense() {
+                return incremental.objectiveSense();
+            }
+
+            @Override
+            public Fitness evaluate(BitString genotype) {
+                return incremental.evaluate(genotype);
+            }
+        };
+        BitStringRepresentation representation = new BitStringRepresentation(cnf.variableCount());
+        BitString start = representation.random(new RngManager(5L).stream("init"));
+        Individual<BitString> individual = new Individual<>(start, incremental.evaluate(start));
+        BitFlipLocalSearch search = new BitFlipLocalSearch(10_000);
+
+        LocalSearch.Outcome<BitString> delta = search.search(individual, incremental, representation,
+                new RngManager(6L).stream("ls"));
+        LocalSearch.Outcome<BitString> plain = search.search(individual, full, representation,
+                new RngManager(6L).stream("ls"));
+
+        assertEquals(plain.individual().genotype(), delta.individual().genotype());
+        // one evaluation builds the state, then every genotype-length delta moves cost one more
+        int length = cnf.variableCount();
+        assertEquals(1 + (plain.evaluations() + length - 1) / length, delta.evaluations());
+        BitString optimum = delta.individual().genotype();
+        double best = incremental.evaluate(optimum).scalar();
+        assertEquals(best, delta.individual().fitness().scalar(), 1e-9);
+        for (int i = 0; i < optimum.length(); i++) {
+            boolean[] genes = optimum.genes();
+            genes[i] = !genes[i];
+            assertTrue(incremental.evaluate(new BitString(genes)).scalar() <= best);
+        }
+
+        LocalSearch.Outcome<BitString> capped = new BitFlipLocalSearch(7).search(individual, full,
+                representation, new RngManager(6L).stream("ls"));
+        assertEquals(7L, capped.evaluations());
+
+        // the first sweep of a random start improves, so a second block of deltas is always needed
+        EvaluationBudget budget = new EvaluationBudget(2L);
+        LocalSearch.Outcome<BitString> first = search.search(individual, incremental, representation,
+                new RngManager(6L).stream("ls"), budget);
+        LocalSearch.Outcome<BitString> second = search.search(individual, full, representation,
+                new RngManager(6L).stream("ls"), budget);
+        assertEquals(2L, first.evaluations());
+        assertEquals(0L, second.evaluations());
+        assertEquals(second.individual(), individual);
+        assertEquals(2L, budget.spent());
+    }
+
+    @Test
+    void twoOptWithOrOptShortensTourAndKeepsPermutation() {
+        TsplibInstance berlin = TsplibInstance.parse(ProblemResourceLoader.readText("classpath:tsplib/berlin52.tsp"));
+        TsplibTspProblem problem = new TsplibTspProblem(berlin, 1000, 10);
+        PermutationVectorRepresentation representation = new PermutationVectorRepresentation(52);
+        RngStream rng = new RngManager(52L).stream("tours");
+
+        for (boolean orOpt : new boolean[]{false, true}) {
+            PermutationVector start = representation.random(rng);
+            Individual<PermutationVector> individual = new Individual<>(start, problem.evaluate(start));
+            LocalSearch.Outcome<PermutationVector> outcome = new TwoOptLocalSearch(1_000, orOpt)
+                    .search(individual, problem, representation, new RngManager(7L).stream("ls"));
+
+            int[] order = outcome.individual().genotype().order();
+            assertArrayEquals(IntStream.range(0, 52).toArray(), Arrays.stream(order).sorted().toArray());
+            assertEquals(problem.evaluate(outcome.individual().genotype()).scalar(),
+                    outcome.individual().fitness().scalar());
+            // berlin52 is optimal at 7542; random tours are around 30000
+            assertTrue(outcome.individual().fitness().scalar() < 8600.0);
+            assertTrue(outcome.evaluations() >= 2 && outcome.evaluations() <= 1_000);
+        }
+
+        PermutationVector start = representation.random(rng);
+        Individual<PermutationVector> individual = new Individual<>(start, problem.evaluate(start));
+        LocalSearch.Outcome<PermutationVector> capped = new TwoOptLocalSearch(3, true)
+                .search(individual, problem, representation, new RngManager(7L).stream("ls"));
+        // two blocks of 52 delta-scored moves plus the final tour evaluation
+        assertEquals(3L, capped.evaluations());
+        assertTrue(capped.individual().fitness().scalar() < individual.fitness().scalar());
+
+        EvaluationBudget budget = new EvaluationBudget(2L);
+        LocalSearch.Outcome<PermutationVector> limited = new TwoOptLocalSearch(1_000, true)
+                .search(individual, problem, representation, new RngManager(7L).stream("ls"), budget);
+        assertEquals(budget.spent(), limited.evaluations());
+        assertTrue(limited.evaluations() <= 2);
+    }
+
+    @Test
+    void lineSearchConvergesOnSphereWithinBoundsAndBudget() {
+        SphereProblem problem = new SphereProblem();
+        RealVectorRepresentation representation = new RealVectorRepresentation(5, -1.0, 1.0);
+        RealVector start = new RealVector(new double[]{0.9, -0.7, 0.5, 1.0, -1.0});
+        Individual<RealVector> individual = new Individual<>(start, problem.evaluate(start));
+
+        LocalSearch.Outcome<RealVector> outcome = new CoordinateLineSearch(2_000, 0.5, 1e-10)
+                .search(individual, problem, representation, new RngManager(3L).stream("ls"));
+        assertTrue(outcome.individual().fitness().scalar() < 1e-12);
+        assertTrue(outcome.evaluations() <= 2_000);
+        for (double value : outcome.individual().genotype().values()) {
+            assertTrue(value >= -1.0 && value <= 1.0);
+        }
+
+        LocalSearch.Outcome<RealVector> capped = new CoordinateLineSearch(10, 0.5, 1e-10)
+                .search(individual, problem, representation, new RngManager(3L).stream("ls"));
+        assertEquals(10L, capped.evaluations());
+    }
+}
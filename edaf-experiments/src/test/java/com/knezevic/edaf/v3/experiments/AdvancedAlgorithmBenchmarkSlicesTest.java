@@ -6,12 +6,18 @@
 package com.knezevic.edaf.v3.experiments;
 
 import com.knezevic.edaf.v3.core.config.ExperimentConfig;
+import com.knezevic.edaf.v3.core.events.EventSink;
+import com.knezevic.edaf.v3.core.events.IterationCompletedEvent;
 import com.knezevic.edaf.v3.experiments.runner.ExperimentRunner;
 import org.junit.jupiter.api.Test;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -65,6 +71,31 @@ class AdvancedAlgorithmBenchmarkSlicesTest {
         assertTrue(result.result().best().fitness().scalar() < 15.0);
     }
 
+    @Test
+    void lowRankCovarianceEdaOnHighDimensionalSphereImproves() throws Exception {
+        Path outDir = Files.createTempDirectory("edaf-v3-lowrank");
+        ExperimentRunner runner = new ExperimentRunner();
+
+        ExperimentConfig config = TestConfigFactory.baseConfig("bench-lowrank", outDir);
+        config.getRepresentation().setType("real-vector");
+        config.getRepresentation().getParams().put("length", 400);
+        config.getRepresentation().getParams().put("lower", -5.0);
+        config.getRepresentation().getParams().put("upper", 5.0);
+        config.getProblem().setType("sphere");
+        config.getAlgorithm().setType("lowrank-covariance-eda");
+        config.getAlgorithm().getParams().put("populationSize", 80);
+        config.getAlgorithm().getParams().put("selectionRatio", 0.4);
+        config.getModel().setType("gaussian-lowrank");
+        config.getModel().getParams().put("rank", 6);
+        config.getModel().getParams().put("learningRate", 0.8);
+        config.getModel().getParams().put("jitter", 1e-8);
+        config.getStopping().setMaxIterations(40);
+
+        var result = runner.run(config, java.util.List.of());
+        // Uniform initialization on [-5, 5]^400 has expected sphere value ~3333.
+        assertTrue(result.result().best().fitness().scalar() < 2500.0);
+    }
+
     @Test
     void flowEdaOnSphereConvergesWithFiniteDiagnostics() throws Exception {
         Path outDir = Files.createTempDirectory("edaf-v3-flow");
@@ -110,6 +141,116 @@ class AdvancedAlgorithmBenchmarkSlicesTest {
         assertTrue(Double.isFinite(result.result().best().fitness().scalar()));
     }
 
+    @Test
+    void sparseEhmOnSmallTspUsesCoordinateCandidates() throws Exception {
+        Path outDir = Files.createTempDirectory("edaf-v3-ehm-sparse");
+        ExperimentRunner runner = new ExperimentRunner();
+
+        ExperimentConfig config = TestConfigFactory.baseConfig("bench-ehm-sparse", outDir);
+        config.getRepresentation().setType("permutation-vector");
+        config.getRepresentation().getParams().put("size", 8);
+        config.getProblem().setType("small-tsp");
+        config.getAlgorithm().setType("ehm-eda");
+        config.getAlgorithm().getParams().put("populationSize", 80);
+        config.getAlgorithm().getParams().put("selectionRatio", 0.3);
+        config.getModel().setType("ehm-sparse");
+        config.getModel().getParams().put("neighbors", 3);
+        config.getModel().getParams().put("candidatePrior", 0.2);
+        config.getStopping().setMaxIterations(40);
+
+        var result = runner.run(config, java.util.List.of());
+        assertTrue(result.result().best().fitness().scalar() > 0.0);
+        assertTrue(Double.isFinite(result.result().best().fitness().scalar()));
+    }
+
+    @Test
+    void memeticUmdaChargesBitFlipEvaluationsToBudget() throws Exception {
+        Path outDir = Files.createTempDirectory("edaf-v3-memetic");
+        ExperimentRunner runner = new ExperimentRunner();
+
+        ExperimentConfig config = TestConfigFactory.baseConfig("bench-memetic", outDir);
+        config.getRepresentation().getParams().put("length", 60);
+        config.getAlgorithm().getParams().put("populationSize", 20);
+        config.getLocalSearch().setType("bit-flip");
+        config.getLocalSearch().getParams().put("maxEvaluations", 30);
+        config.getStopping().setMaxIterations(6);
+
+        var result = runner.run(config, java.util.List.of());
+        long sampled = 20L + 6L * 20L;
+        assertTrue(result.result().evaluations() > sampled + 6L * 20L);
+        assertTrue(result.result().evaluations() <= sampled + 6L * 20L * 30L);
+        assertEquals(60.0, result.result().best().fitness().scalar());
+    }
+
+    @Test
+    void localSearchStopsAtRunEvaluationBudget() throws Exception {
+        for (String algorithm : new String[]{"umda", "random-immigrants-eda"}) {
+            Path outDir = Files.createTempDirectory("edaf-v3-memetic-budget");
+            ExperimentConfig config = TestConfigFactory.baseConfig("bench-memetic-budget", outDir);
+            config.getRepresentation().getParams().put("length", 60);
+            config.getAlgorithm().setType(algorithm);
+            config.getAlgorithm().getParams().put("populationSize", 20);
+            config.getLocalSearch().setType("bit-flip");
+            config.getLocalSearch().getParams().put("maxEvaluations", 200);
+            config.getStopping().setType("budget-or-target");
+            config.getStopping().setMaxIterations(50);
+            config.getStopping().setMaxEvaluations(700L);
+
+            var result = new ExperimentRunner().run(config, java.util.List.of());
+            // The last iteration may still evaluate its 20 sampled offspring, but searches never overshoot.
+            assertTrue(result.result().evaluations() >= 700L, algorithm);
+            assertTrue(result.result().evaluations() <= 720L, algorithm);
+        }
+    }
+
+    @Test
+    void budgetLimitedParallelRefinementIsReproducible() throws Exception {
+        double[] best = new double[2];
+        long[] evaluations = new long[2];
+        for (int run = 0; run < 2; run++) {
+            Path outDir = Files.createTempDirectory("edaf-v3-memetic-repro");
+            ExperimentConfig config = TestConfigFactory.baseConfig("bench-memetic-repro", outDir);
+            config.getRepresentation().getParams().put("length", 60);
+            config.getAlgorithm().getParams().put("populationSize", 20);
+            config.getLocalSearch().setType("bit-flip");
+            config.getLocalSearch().getParams().put("maxEvaluations", 200);
+            config.getStopping().setType("budget-or-target");
+            config.getStopping().setMaxIterations(50);
+            config.getStopping().setMaxEvaluations(700L);
+            ExperimentConfig.EvaluationSection evaluation = new ExperimentConfig.EvaluationSection();
+            evaluation.setMode("virtual-threads");
+            evaluation.setMaxConcurrency(8);
+            config.getRun().setEvaluation(evaluation);
+
+            var result = new ExperimentRunner().run(config, java.util.List.of());
+            best[run] = result.result().best().fitness().scalar();
+            evaluations[run] = result.result().evaluations();
+        }
+        // Quotas are fixed per index, so scheduling cannot move evaluations between searches.
+        assertEquals(best[0], best[1]);
+        assertEquals(evaluations[0], evaluations[1]);
+    }
+
+    @Test
+    void twoOptRefinesSmallTspOffspring() throws Exception {
+        Path outDir = Files.createTempDirectory("edaf-v3-two-opt");
+        ExperimentRunner runner = new ExperimentRunner();
+
+        ExperimentConfig config = TestConfigFactory.baseConfig("bench-two-opt", outDir);
+        config.getRepresentation().setType("permutation-vector");
+        config.getRepresentation().getParams().put("size", 8);
+        config.getProblem().setType("small-tsp");
+        config.getAlgorithm().setType("ehm-eda");
+        config.getAlgorithm().getParams().put("populationSize", 20);
+        config.getModel().setType("ehm");
+        config.getLocalSearch().setType("two-opt");
+        config.getStopping().setMaxIterations(5);
+
+        var result = runner.run(config, java.util.List.of());
+        assertTrue(result.result().evaluations() > 20L + 5L * 20L);
+        assertTrue(Double.isFinite(result.result().best().fitness().scalar()));
+    }
+
     @Test
     void slidingWindowEdaOnOnemaxMaintainsHighFitness() throws Exception {
         Path outDir = Files.createTempDirectory("edaf-v3-sliding");
@@ -155,4 +296,108 @@ class AdvancedAlgorithmBenchmarkSlicesTest {
         assertTrue(Double.isFinite(result.result().best().fitness().scalar()));
         assertTrue(result.result().best().fitness().scalar() < 30.0);
     }
+
+    @Test
+    void steadyStateEdaOnOnemaxFoldsAsynchronousResults() throws Exception {
+        Path outDir = Files.createTempDirectory("edaf-v3-steady");
+        ExperimentRunner runner = new ExperimentRunner();
+
+        ExperimentConfig config = TestConfigFactory.baseConfig("bench-steady", outDir);
+        config.getRepresentation().setType("bitstring");
+        config.getRepresentation().getParams().put("length", 40);
+        config.getProblem().setType("onemax");
+        config.getAlgorithm().setType("steady-state-eda");
+        config.getAlgorithm().getParams().put("populationSize", 60);
+        config.getAlgorithm().getParams().put("selectionRatio", 0.3);
+        config.getAlgorithm().getParams().put("learningRate", 0.05);
+        config.getAlgorithm().getParams().put("inFlight", 4);
+        config.getModel().setType("pbil-frequency");
+        config.getStopping().setMaxIterations(40);
+
+        var result = runner.run(config, java.util.List.of());
+        assertTrue(result.result().best().fitness().scalar() >= 32.0);
+        assertEquals(60L + 40L * 60L, result.result().evaluations());
+    }
+
+    @Test
+    void steadyStateEdaWithOneEvaluationInFlightIsReproducible() throws Exception {
+        double[] best = new double[2];
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Path outDir = Files.createTempDirectory("edaf-v3-steady-repro");
+            ExperimentConfig config = TestConfigFactory.baseConfig("bench-steady-repro", outDir);
+            config.getRepresentation().setType("real-vector");
+            config.getRepresentation().getParams().put("length", 4);
+            config.getRepresentation().getParams().put("lower", -5.0);
+            config.getRepresentation().getParams().put("upper", 5.0);
+            config.getProblem().setType("sphere");
+            config.getAlgorithm().setType("steady-state-eda");
+            config.getAlgorithm().getParams().put("populationSize", 40);
+            config.getAlgorithm().getParams().put("learningRate", 0.1);
+            config.getAlgorithm().getParams().put("inFlight", 1);
+            config.getModel().setType("gaussian-diag");
+            config.getStopping().setMaxIterations(30);
+
+            best[attempt] = new ExperimentRunner().run(config, java.util.List.of()).result().best().fitness().scalar();
+        }
+        assertEquals(best[0], best[1]);
+        assertTrue(best[0] < 1.0);
+    }
+
+    @Test
+    void failedSteadyStateRunReleasesWorkerThreads() throws Exception {
+        Path outDir = Files.createTempDirectory("edaf-v3-steady-failed");
+        ExperimentConfig config = TestConfigFactory.baseConfig("bench-steady-failed", outDir);
+        config.getRepresentation().setType("bitstring");
+        config.getRepresentation().getParams().put("length", 40);
+        config.getProblem().setType("onemax");
+        config.getAlgorithm().setType("steady-state-eda");
+        config.getAlgorithm().getParams().put("populationSize", 60);
+        config.getAlgorithm().getParams().put("inFlight", 4);
+        config.getModel().setType("pbil-frequency");
+        config.getStopping().setMaxIterations(40);
+        EventSink failing = event -> {
+            if (event instanceof IterationCompletedEvent iteration && iteration.iteration() == 3) {
+                throw new IllegalStateException("sink failure");
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> new ExperimentRunner().run(config, java.util.List.of(failing)));
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (steadyStateWorkersAlive() && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertTrue(!steadyStateWorkersAlive());
+    }
+
+    @Test
+    void steadyStateEdaAbandonsHungEvaluationsAtTheDeadline() throws Exception {
+        Path outDir = Files.createTempDirectory("edaf-v3-steady-timeout");
+        ExperimentConfig config = TestConfigFactory.baseConfig("bench-steady-timeout", outDir);
+        config.getRepresentation().setType("bitstring");
+        config.getRepresentation().getParams().put("length", 20);
+        config.getProblem().setType("test-hanging-onemax");
+        config.getAlgorithm().setType("steady-state-eda");
+        config.getAlgorithm().getParams().put("populationSize", 20);
+        config.getAlgorithm().getParams().put("inFlight", 8);
+        config.getModel().setType("pbil-frequency");
+        config.getStopping().setMaxIterations(4);
+        ExperimentConfig.EvaluationSection evaluation = new ExperimentConfig.EvaluationSection();
+        evaluation.setMode("virtual-threads");
+        evaluation.setMaxConcurrency(3);
+        evaluation.setTimeoutMillis(50L);
+        evaluation.setTimeoutPenalty(-1.0);
+        config.getRun().setEvaluation(evaluation);
+        HangingProblemPlugin.PEAK.set(0);
+
+        var result = assertTimeoutPreemptively(Duration.ofSeconds(60),
+                () -> new ExperimentRunner().run(config, java.util.List.of()));
+        assertEquals(20L + 4L * 20L, result.result().evaluations());
+        assertTrue(result.result().best().fitness().scalar() >= 0.0);
+        assertTrue(HangingProblemPlugin.PEAK.get() <= 3, "peak " + HangingProblemPlugin.PEAK.get());
+    }
+
+    private static boolean steadyStateWorkersAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.isAlive() && thread.getName().startsWith("edaf-steady-state-"));
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.experiments;
+
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.ObjectiveSense;
+import com.knezevic.edaf.v3.core.api.Problem;
+import com.knezevic.edaf.v3.core.api.ScalarFitness;
+import com.knezevic.edaf.v3.core.plugins.ProblemPlugin;
+import com.knezevic.edaf.v3.repr.types.BitString;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test-only OneMax variant whose evaluation hangs until interrupted when the first two bits are set.
+ */
+public final class HangingProblemPlugin implements ProblemPlugin<BitString> {
+
+    static final AtomicInteger RUNNING = new AtomicInteger();
+    static final AtomicInteger PEAK = new AtomicInteger();
+
+    @Override
+    public String type() {
+        return "test-hanging-onemax";
+    }
+
+    @Override
+    public String description() {
+        return "OneMax that hangs on candidates starting with 11 (tests only)";
+    }
+
+    @Override
+    public Problem<BitString> create(Map<String, Object> params) {
+        return new Problem<>() {
+            @Override
+            public String name() {
+                return "test-hanging-onemax";
+            }
+
+            @Override
+            public ObjectiveSense objectiveSense() {
+                return ObjectiveSense.MAXIMIZE;
+            }
+
+            @Override
+            public Fitness evaluate(BitString genotype) {
+                PEAK.accumulateAndGet(RUNNING.incrementAndGet(), Math::max);
+                try {
+                    if (genotype.get(0) && genotype.get(1)) {
+                        Thread.sleep(Long.MAX_VALUE);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    RUNNING.decrementAndGet();
+                }
+                return new ScalarFitness(genotype.ones());
+            }
+        };
+    }
+}
@@ -5,6 +5,7 @@
 
 package com.knezevic.edaf.v3.experiments;
 
+import com.knezevic.edaf.v3.core.api.RunResult;
 import com.knezevic.edaf.v3.core.config.ExperimentConfig;
 import com.knezevic.edaf.v3.core.runtime.ExecutionParallelism;
 import com.knezevic.edaf.v3.experiments.runner.ExperimentRunner;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Verifies deterministic behavior when dynamic worker budgets change due to concurrent run pressure.
@@ -49,6 +51,98 @@ class ParallelFitnessDeterminismTest {
         }
     }
 
+    @Test
+    void virtualThreadEvaluationModeMatchesDefaultExecutor() throws Exception {
+        ExperimentRunner runner = new ExperimentRunner();
+        ExperimentConfig baselineConfig = deterministicUmdaConfig(
+                "evaluation-default", Files.createTempDirectory("edaf-v3-eval-default"));
+        double baselineBest = runner.run(baselineConfig, List.of()).result().best().fitness().scalar();
+
+        ExperimentConfig virtualConfig = deterministicUmdaConfig(
+                "evaluation-virtual", Files.createTempDirectory("edaf-v3-eval-virtual"));
+        ExperimentConfig.EvaluationSection evaluation = new ExperimentConfig.EvaluationSection();
+        evaluation.setMode("virtual-threads");
+        evaluation.setMaxConcurrency(32);
+        evaluation.setTimeoutMillis(60_000L);
+        virtualConfig.getRun().setEvaluation(evaluation);
+        double virtualBest = runner.run(virtualConfig, List.of()).result().best().fitness().scalar();
+
+        assertEquals(baselineBest, virtualBest, 1.0e-9);
+    }
+
+    @Test
+    void fitnessCacheKeepsTrajectoryAndOptionallySkipsHitsInEvaluationCount() throws Exception {
+        ExperimentRunner runner = new ExperimentRunner();
+        RunResult<?> baseline = runner.run(deterministicUmdaConfig(
+                "cache-off", Files.createTempDirectory("edaf-v3-cache-off")), List.of()).result();
+
+        ExperimentConfig countedConfig = deterministicUmdaConfig(
+                "cache-counted", Files.createTempDirectory("edaf-v3-cache-counted"));
+        countedConfig.getRun().setEvaluation(cachedEvaluation("lru", true));
+        RunResult<?> counted = runner.run(countedConfig, List.of()).result();
+        assertEquals(baseline.best().fitness().scalar(), counted.best().fitness().scalar(), 1.0e-9);
+        assertEquals(baseline.evaluations(), counted.evaluations());
+
+        ExperimentConfig skippedConfig = deterministicUmdaConfig(
+                "cache-skipped", Files.createTempDirectory("edaf-v3-cache-skipped"));
+        skippedConfig.getRun().setEvaluation(cachedEvaluation("clock", false));
+        RunResult<?> skipped = runner.run(skippedConfig, List.of()).result();
+        assertEquals(baseline.best().fitness().scalar(), skipped.best().fitness().scalar(), 1.0e-9);
+        assertTrue(skipped.evaluations() < baseline.evaluations(),
+                "Converged UMDA re-samples genotypes, so uncounted hits must lower the evaluation total");
+    }
+
+    @Test
+    void batchEvaluationFollowsPerGenotypeTrajectory() throws Exception {
+        // The default executor hands cec2014 chunks to evaluateBatch; a deadline-enforcing
+        // executor keeps one genotype per task, so both paths must reach the same state.
+        ExperimentRunner runner = new ExperimentRunner();
+        RunResult<?> batched = runner.run(cecConfig(
+                "cec-batched", Files.createTempDirectory("edaf-v3-cec-batched")), List.of()).result();
+
+        ExperimentConfig singleConfig = cecConfig("cec-single", Files.createTempDirectory("edaf-v3-cec-single"));
+        ExperimentConfig.EvaluationSection evaluation = new ExperimentConfig.EvaluationSection();
+        evaluation.setMode("virtual-threads");
+        evaluation.setMaxConcurrency(8);
+        evaluation.setTimeoutMillis(60_000L);
+        singleConfig.getRun().setEvaluation(evaluation);
+        RunResult<?> single = runner.run(singleConfig, List.of()).result();
+
+        assertEquals(single.best().fitness().scalar(), batched.best().fitness().scalar(), 0.0);
+        assertEquals(single.evaluations(), batched.evaluations());
+    }
+
+    private static ExperimentConfig cecConfig(String runId, Path outDir) {
+        ExperimentConfig config = TestConfigFactory.baseConfig(runId, outDir);
+        config.getRun().setMasterSeed(24L);
+        config.getRun().setDeterministicStreams(true);
+        config.getRepresentation().setType("real-vector");
+        config.getRepresentation().getParams().put("length", 10);
+        config.getRepresentation().getParams().put("lower", -100.0);
+        config.getRepresentation().getParams().put("upper", 100.0);
+        config.getProblem().setType("cec2014");
+        config.getProblem().getParams().put("functionId", 17);
+        config.getProblem().getParams().put("dimension", 10);
+        config.getAlgorithm().setType("full-covariance-eda");
+        config.getAlgorithm().getParams().put("populationSize", 150);
+        config.getAlgorithm().getParams().put("selectionRatio", 0.4);
+        config.getModel().setType("gaussian-full");
+        config.getStopping().setType("max-iterations");
+        config.getStopping().setMaxIterations(20);
+        return config;
+    }
+
+    private static ExperimentConfig.EvaluationSection cachedEvaluation(String policy, boolean countHits) {
+        ExperimentConfig.FitnessCacheSection cache = new ExperimentConfig.FitnessCacheSection();
+        cache.setEnabled(true);
+        cache.setCapacity(4_096);
+        cache.setPolicy(policy);
+        cache.setCountHits(countHits);
+        ExperimentConfig.EvaluationSection evaluation = new ExperimentConfig.EvaluationSection();
+        evaluation.setCache(cache);
+        return evaluation;
+    }
+
     private static ExperimentConfig deterministicUmdaConfig(String runId, Path outDir) {
         ExperimentConfig config = TestConfigFactory.baseConfig(runId, outDir);
         config.getRun().setMasterSeed(98127345L);
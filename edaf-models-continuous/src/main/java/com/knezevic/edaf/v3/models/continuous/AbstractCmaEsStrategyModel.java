@@ -0,0 +1,581 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.models.continuous;
+
+import com.knezevic.edaf.v3.core.api.ConstraintHandling;
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.Model;
+import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
+import com.knezevic.edaf.v3.core.api.Problem;
+import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.batch.RealVectorBatch;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared CMA-ES machinery: weighted mean update, evolution paths, cumulative step-size adaptation,
+ * stagnation tracking and IPOP-style restarts.
+ *
+ * <p>Subclasses only decide how the normalized covariance {@code C} is represented. They supply
+ * its initial estimate, the covariance learning rates, the {@code C^{-1/2}} whitening used by CSA,
+ * the projection of the rank-1/rank-{@code μ} update onto their representation, and sampling of
+ * one row {@code m + σ C^{1/2} z}.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+abstract class AbstractCmaEsStrategyModel implements Model<RealVector> {
+
+    final double minSigma;
+    final double maxSigma;
+    final double jitter;
+    private final double initialSigma;
+
+    private final boolean restartEnabled;
+    private final int restartPatience;
+    private final double restartSigmaMultiplier;
+    private final double restartConditionThreshold;
+    private final double restartImprovementEpsilon;
+
+    double[] mean;
+    double sigma;
+    double[] pathSigma;
+    double[] pathCovariance;
+    int generation;
+    double conditionNumber;
+    private double muEff;
+
+    private int restartCount;
+    private int stagnationIterations;
+    private double bestFitnessSeen;
+
+    AbstractCmaEsStrategyModel(double minSigma,
+                               double maxSigma,
+                               double jitter,
+                               double initialSigma,
+                               boolean restartEnabled,
+                               int restartPatience,
+                               double restartSigmaMultiplier,
+                               double restartConditionThreshold,
+                               double restartImprovementEpsilon) {
+        this.minSigma = Math.max(1.0e-14, minSigma);
+        this.maxSigma = Math.max(this.minSigma, maxSigma);
+        this.jitter = Math.max(1.0e-14, jitter);
+        this.initialSigma = initialSigma;
+        this.restartEnabled = restartEnabled;
+        this.restartPatience = Math.max(1, restartPatience);
+        this.restartSigmaMultiplier = Math.max(1.01, restartSigmaMultiplier);
+        this.restartConditionThreshold = Math.max(10.0, restartConditionThreshold);
+        this.restartImprovementEpsilon = Math.max(0.0, restartImprovementEpsilon);
+        this.bestFitnessSeen = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Covariance learning rates of one generation.
+     *
+     * @param c1 rank-one learning rate
+     * @param cMu rank-{@code μ} learning rate
+     */
+    record LearningRates(double c1, double cMu) {
+    }
+
+    /**
+     * Returns whether the covariance representation and its sampling factors are initialized.
+     */
+    abstract boolean shapeFitted();
+
+    /**
+     * Estimates the initial covariance from the weighted elites around {@link #mean}. Implementations
+     * call {@link #startSigma} with the total weighted variance, normalize by the returned
+     * {@code σ²} and refresh their sampling factors.
+     */
+    abstract void initializeShape(List<Individual<RealVector>> selected, double[] weights);
+
+    /**
+     * Resets the covariance to the identity after a restart and refreshes the sampling factors.
+     */
+    abstract void resetShape(int dim);
+
+    /**
+     * Returns {@code c_1} and {@code c_μ} for dimension {@code n}.
+     */
+    abstract LearningRates learningRates(double n, double muEff);
+
+    /**
+     * Returns {@code C^{-1/2} y} under the current factorization.
+     */
+    abstract double[] whiten(double[] y);
+
+    /**
+     * Applies {@code C <- α C + c_1 p_c p_cᵀ + c_μ Σ_k w_k y_k y_kᵀ}, projected onto the
+     * representation. {@link #pathCovariance} already holds the updated path.
+     */
+    abstract void adaptShape(double alpha, LearningRates rates, double[] weights, double[][] steps);
+
+    /**
+     * Refreshes the sampling factors after {@link #adaptShape}, once {@link #generation} advanced.
+     */
+    abstract void refreshAfterUpdate(LearningRates rates);
+
+    /**
+     * Writes {@code m + σ C^{1/2} z} for a fresh standard normal {@code z} into the target row.
+     */
+    abstract void sampleRow(double[] z, double[] target, int offset, RngStream rng);
+
+    /**
+     * Returns {@code trace(C)}.
+     */
+    abstract double covarianceTrace();
+
+    /**
+     * Adds representation-specific diagnostics.
+     */
+    abstract void putShapeDiagnostics(Map<String, Double> values);
+
+    /**
+     * Returns how many of the selected individuals enter recombination.
+     */
+    int recombinationSize(int selected, int dim) {
+        return selected;
+    }
+
+    /**
+     * Returns component name identifier.
+     *
+     * @return component name
+     */
+    @Override
+    public String name() {
+        return "cma-es";
+    }
+
+    /**
+     * Fits the probabilistic model parameters from selected elite individuals.
+     *
+     * @param selected selected individual list
+     * @param representation genotype representation
+     * @param rng random stream
+     */
+    @Override
+    public void fit(List<Individual<RealVector>> selected, Representation<RealVector> representation, RngStream rng) {
+        if (selected == null || selected.isEmpty()) {
+            return;
+        }
+
+        double currentBest = selected.stream().mapToDouble(i -> i.fitness().scalar()).min().orElse(Double.POSITIVE_INFINITY);
+
+        if (mean == null || !shapeFitted()) {
+            initializeState(selected, currentBest);
+            return;
+        }
+
+        updateStagnation(currentBest);
+        if (shouldRestart()) {
+            restartState(selected, currentBest);
+            return;
+        }
+
+        updateState(selected);
+    }
+
+    @Override
+    public List<RealVector> sample(int count,
+                                   Representation<RealVector> representation,
+                                   Problem<RealVector> problem,
+                                   ConstraintHandling<RealVector> constraintHandling,
+                                   RngStream rng) {
+        requireFitted();
+        int dim = mean.length;
+        ArrayList<RealVector> samples = new ArrayList<>(count);
+        double[] z = new double[dim];
+        for (int n = 0; n < count; n++) {
+            double[] x = new double[dim];
+            sampleRow(z, x, 0, rng);
+            samples.add(constraintHandling.enforce(new RealVector(x), representation, problem, rng));
+        }
+        return samples;
+    }
+
+    /**
+     * Requests the representation's flat row-major batch, which {@link #sampleInto} writes directly.
+     *
+     * @param representation genotype representation
+     * @param capacity initial number of samples
+     * @return empty sample batch
+     */
+    @Override
+    public SampleBatch<RealVector> newSampleBatch(Representation<RealVector> representation, int capacity) {
+        return representation.newSampleBatch(capacity);
+    }
+
+    /**
+     * Samples the whole population into a flat real-vector batch and repairs it in one pass.
+     *
+     * @param batch destination batch
+     * @param count number of samples
+     * @param representation genotype representation
+     * @param problem optimization problem
+     * @param constraintHandling constraint strategy
+     * @param rng random stream
+     */
+    @Override
+    public void sampleInto(SampleBatch<RealVector> batch,
+                           int count,
+                           Representation<RealVector> representation,
+                           Problem<RealVector> problem,
+                           ConstraintHandling<RealVector> constraintHandling,
+                           RngStream rng) {
+        requireFitted();
+        if (!(batch instanceof RealVectorBatch flat) || flat.dimension() != mean.length) {
+            Model.super.sampleInto(batch, count, representation, problem, constraintHandling, rng);
+            return;
+        }
+        int dim = mean.length;
+        flat.reset(count);
+        double[] buffer = flat.values();
+        double[] z = new double[dim];
+        for (int n = 0; n < count; n++) {
+            sampleRow(z, buffer, n * dim, rng);
+        }
+        constraintHandling.enforceBatch(flat, representation, problem, rng);
+    }
+
+    /**
+     * Returns model diagnostics snapshot.
+     *
+     * @return diagnostics snapshot
+     */
+    @Override
+    public ModelDiagnostics diagnostics() {
+        if (mean == null || !shapeFitted()) {
+            return ModelDiagnostics.empty();
+        }
+
+        Map<String, Double> values = new LinkedHashMap<>();
+        values.put("gaussian_dim", (double) mean.length);
+        values.put("cma_generation", (double) generation);
+        values.put("cma_sigma", sigma);
+        values.put("cma_step_size", sigma);
+        values.put("cma_mu_eff", muEff);
+        values.put("cov_condition_number", conditionNumber);
+        values.put("cma_cov_trace", covarianceTrace());
+        values.put("cma_path_sigma_norm", norm(pathSigma));
+        values.put("cma_path_cov_norm", norm(pathCovariance));
+        putShapeDiagnostics(values);
+        values.put("cma_restart_count", (double) restartCount);
+        values.put("cma_stagnation_iters", (double) stagnationIterations);
+        values.put("cma_best_fitness_seen", bestFitnessSeen);
+        return new ModelDiagnostics(values);
+    }
+
+    /**
+     * Returns copy of current mean vector for checkpoint persistence.
+     *
+     * @return current CMA mean vector
+     */
+    public double[] mean() {
+        return mean == null ? new double[0] : Arrays.copyOf(mean, mean.length);
+    }
+
+    /**
+     * Returns current global step size.
+     *
+     * @return current global step size
+     */
+    public double sigma() {
+        return sigma;
+    }
+
+    /**
+     * Returns copy of sigma-path vector for checkpoint persistence.
+     *
+     * @return evolution path used by CSA
+     */
+    public double[] pathSigma() {
+        return pathSigma == null ? new double[0] : Arrays.copyOf(pathSigma, pathSigma.length);
+    }
+
+    /**
+     * Returns copy of covariance-path vector for checkpoint persistence.
+     *
+     * @return evolution path used by covariance update
+     */
+    public double[] pathCovariance() {
+        return pathCovariance == null ? new double[0] : Arrays.copyOf(pathCovariance, pathCovariance.length);
+    }
+
+    /**
+     * Returns current generation counter for checkpoint persistence.
+     *
+     * @return current generation counter
+     */
+    public int generation() {
+        return generation;
+    }
+
+    /**
+     * Returns number of internal CMA restarts.
+     *
+     * @return number of performed internal restarts
+     */
+    public int restartCount() {
+        return restartCount;
+    }
+
+    /**
+     * Returns current stagnation counter.
+     *
+     * @return number of consecutive stagnation iterations
+     */
+    public int stagnationIterations() {
+        return stagnationIterations;
+    }
+
+    /**
+     * Returns best observed fitness tracked by model-level restart logic.
+     *
+     * @return best fitness observed by restart logic
+     */
+    public double bestFitnessSeen() {
+        return bestFitnessSeen;
+    }
+
+    /**
+     * Restores the representation-independent state; callers validate and restore the covariance.
+     */
+    final void restoreStrategy(double[] mean,
+                               double sigma,
+                               double[] pathSigma,
+                               double[] pathCovariance,
+                               int generation,
+                               int restartCount,
+                               int stagnationIterations,
+                               double bestFitnessSeen) {
+        int dim = mean.length;
+        this.mean = Arrays.copyOf(mean, dim);
+        this.sigma = clamp(sigma, minSigma, maxSigma);
+        this.pathSigma = pathSigma == null || pathSigma.length != dim ? new double[dim] : Arrays.copyOf(pathSigma, dim);
+        this.pathCovariance = pathCovariance == null || pathCovariance.length != dim
+                ? new double[dim]
+                : Arrays.copyOf(pathCovariance, dim);
+        this.generation = Math.max(0, generation);
+        this.restartCount = Math.max(0, restartCount);
+        this.stagnationIterations = Math.max(0, stagnationIterations);
+        this.bestFitnessSeen = Double.isFinite(bestFitnessSeen) ? bestFitnessSeen : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Sets the initial step size from the total weighted elite variance, unless one was configured.
+     *
+     * @return {@code σ²}, floored at {@code minSigma²}, to normalize the empirical covariance by
+     */
+    final double startSigma(double trace) {
+        int dim = mean.length;
+        double sigmaEstimate = initialSigma > 0.0
+                ? initialSigma
+                : Math.sqrt(Math.max(jitter, trace / Math.max(1, dim)));
+        this.sigma = clamp(sigmaEstimate, minSigma, maxSigma);
+        return Math.max(minSigma * minSigma, sigma * sigma);
+    }
+
+    private void requireFitted() {
+        if (mean == null || !shapeFitted() || sigma <= 0.0) {
+            throw new IllegalStateException("Model must be fitted before sampling");
+        }
+    }
+
+    private void initializeState(List<Individual<RealVector>> selected, double currentBest) {
+        int dim = selected.get(0).genotype().length();
+        double[] weights = recombinationWeights(selected.size());
+        this.muEff = effectiveMass(weights);
+        this.mean = weightedMean(selected, weights, dim);
+        this.pathSigma = new double[dim];
+        this.pathCovariance = new double[dim];
+        this.generation = 0;
+        this.stagnationIterations = 0;
+        this.bestFitnessSeen = currentBest;
+        initializeShape(selected, weights);
+    }
+
+    private void updateState(List<Individual<RealVector>> selected) {
+        int dim = mean.length;
+        int mu = recombinationSize(selected.size(), dim);
+        double[] weights = recombinationWeights(mu);
+        this.muEff = effectiveMass(weights);
+
+        double previousSigma = Math.max(minSigma, sigma);
+        double[] updatedMean = weightedMean(selected, weights, dim);
+        double[] yW = new double[dim];
+        for (int i = 0; i < dim; i++) {
+            yW[i] = (updatedMean[i] - mean[i]) / previousSigma;
+        }
+
+        double n = dim;
+        double cSigma = (muEff + 2.0) / (n + muEff + 5.0);
+        double dSigma = 1.0 + 2.0 * Math.max(0.0, Math.sqrt((muEff - 1.0) / (n + 1.0)) - 1.0) + cSigma;
+        double cC = (4.0 + muEff / n) / (n + 4.0 + 2.0 * muEff / n);
+        LearningRates rates = learningRates(n, muEff);
+
+        double[] whitened = whiten(yW);
+        double psFactor = Math.sqrt(cSigma * (2.0 - cSigma) * muEff);
+        for (int i = 0; i < dim; i++) {
+            pathSigma[i] = (1.0 - cSigma) * pathSigma[i] + psFactor * whitened[i];
+        }
+
+        double normPs = norm(pathSigma);
+        double chiN = expectedNorm(dim);
+        double decay = Math.pow(1.0 - cSigma, 2.0 * (generation + 1.0));
+        double hsigThreshold = (1.4 + 2.0 / (n + 1.0)) * chiN * Math.sqrt(Math.max(1e-16, 1.0 - decay));
+        boolean hsig = normPs < hsigThreshold;
+
+        double pcFactor = hsig ? Math.sqrt(cC * (2.0 - cC) * muEff) : 0.0;
+        for (int i = 0; i < dim; i++) {
+            pathCovariance[i] = (1.0 - cC) * pathCovariance[i] + pcFactor * yW[i];
+        }
+
+        double[][] steps = new double[mu][dim];
+        for (int k = 0; k < mu; k++) {
+            double[] x = selected.get(k).genotype().values();
+            for (int i = 0; i < dim; i++) {
+                steps[k][i] = (x[i] - mean[i]) / previousSigma;
+            }
+        }
+
+        double alpha = 1.0 - rates.c1() - rates.cMu();
+        if (!hsig) {
+            alpha += rates.c1() * cC * (2.0 - cC);
+        }
+        alpha = Math.max(1.0e-16, alpha);
+        adaptShape(alpha, rates, weights, steps);
+
+        double sigmaFactor = Math.exp((cSigma / dSigma) * (normPs / chiN - 1.0));
+        this.sigma = clamp(previousSigma * sigmaFactor, minSigma, maxSigma);
+        this.mean = updatedMean;
+        this.generation += 1;
+        refreshAfterUpdate(rates);
+    }
+
+    private void updateStagnation(double currentBest) {
+        if (currentBest + restartImprovementEpsilon < bestFitnessSeen) {
+            bestFitnessSeen = currentBest;
+            stagnationIterations = 0;
+        } else {
+            stagnationIterations += 1;
+        }
+    }
+
+    private boolean shouldRestart() {
+        if (!restartEnabled || mean == null) {
+            return false;
+        }
+        boolean stalled = stagnationIterations >= restartPatience;
+        boolean degenerateSigma = sigma <= minSigma * 1.05;
+        boolean degenerateCondition = !Double.isFinite(conditionNumber) || conditionNumber > restartConditionThreshold;
+        return stalled || degenerateSigma || degenerateCondition;
+    }
+
+    private void restartState(List<Individual<RealVector>> selected, double currentBest) {
+        int dim = selected.get(0).genotype().length();
+        this.mean = Arrays.copyOf(selected.get(0).genotype().values(), dim);
+
+        double seedSigma = initialSigma > 0.0 ? initialSigma : Math.max(sigma, estimateSigmaFromSelected(selected));
+        this.sigma = clamp(seedSigma * Math.pow(restartSigmaMultiplier, restartCount + 1.0), minSigma, maxSigma);
+
+        this.pathSigma = new double[dim];
+        this.pathCovariance = new double[dim];
+        this.generation = 0;
+        this.stagnationIterations = 0;
+        this.restartCount += 1;
+        this.bestFitnessSeen = Math.min(bestFitnessSeen, currentBest);
+        this.muEff = effectiveMass(recombinationWeights(Math.max(1, selected.size())));
+        resetShape(dim);
+    }
+
+    private double estimateSigmaFromSelected(List<Individual<RealVector>> selected) {
+        int dim = selected.get(0).genotype().length();
+        double[] weights = recombinationWeights(selected.size());
+        double[] center = weightedMean(selected, weights, dim);
+        double trace = 0.0;
+        for (double variance : weightedVariances(selected, center, weights)) {
+            trace += variance;
+        }
+        return Math.sqrt(Math.max(jitter, trace / Math.max(1, dim)));
+    }
+
+    /**
+     * Returns {@code Σ_k w_k (x_k,i - center_i)²} per coordinate.
+     */
+    static double[] weightedVariances(List<Individual<RealVector>> selected, double[] center, double[] weights) {
+        int dim = center.length;
+        double[] variances = new double[dim];
+        for (int k = 0; k < weights.length; k++) {
+            double[] x = selected.get(k).genotype().values();
+            for (int i = 0; i < dim; i++) {
+                double diff = x[i] - center[i];
+                variances[i] += weights[k] * diff * diff;
+            }
+        }
+        return variances;
+    }
+
+    static double[] recombinationWeights(int mu) {
+        double[] weights = new double[mu];
+        double sum = 0.0;
+        for (int i = 0; i < mu; i++) {
+            weights[i] = Math.log(mu + 0.5) - Math.log(i + 1.0);
+            sum += weights[i];
+        }
+        for (int i = 0; i < mu; i++) {
+            weights[i] /= Math.max(1e-16, sum);
+        }
+        return weights;
+    }
+
+    private static double effectiveMass(double[] weights) {
+        double sumSquares = 0.0;
+        for (double weight : weights) {
+            sumSquares += weight * weight;
+        }
+        return 1.0 / Math.max(1e-16, sumSquares);
+    }
+
+    private static double[] weightedMean(List<Individual<RealVector>> selected, double[] weights, int dim) {
+        double[] value = new double[dim];
+        for (int i = 0; i < weights.length; i++) {
+            double[] x = selected.get(i).genotype().values();
+            for (int d = 0; d < dim; d++) {
+                value[d] += weights[i] * x[d];
+            }
+        }
+        return value;
+    }
+
+    static double norm(double[] vector) {
+        if (vector == null) {
+            return 0.0;
+        }
+        double sum = 0.0;
+        for (double value : vector) {
+            sum += value * value;
+        }
+        return Math.sqrt(sum);
+    }
+
+    private static double expectedNorm(int dim) {
+        double n = dim;
+        return Math.sqrt(n) * (1.0 - 1.0 / (4.0 * n) + 1.0 / (21.0 * n * n));
+    }
+
+    static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -17,11 +17,18 @@ import java.util.List;
  * empirical estimation, exponential blending, shrinkage, symmetric regularization,
  * and robust Cholesky factorization with deterministic fallback. Centralizing
  * this logic ensures all continuous models use consistent matrix semantics.</p>
+ *
+ * <p>Symmetric eigendecomposition is provided by Householder tridiagonalization followed by
+ * implicit QL iterations ({@code O(n^3)} with a small constant), with the classical cyclic-scan
+ * Jacobi solver kept as a reference implementation.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
 final class ContinuousModelMath {
 
+    private static final double JACOBI_EPSILON = 1e-12;
+    private static final int QL_MAX_ITERATIONS = 64;
+
     private ContinuousModelMath() {
         // utility class
     }
@@ -177,6 +184,330 @@ final class ContinuousModelMath {
         return copy;
     }
 
+    /**
+     * Symmetric eigendecomposition via Householder reduction to tridiagonal form and implicit QL.
+     *
+     * <p>Eigenvalues are floored at {@code floor} and returned in descending order; column
+     * {@code k} of the eigenvector matrix belongs to eigenvalue {@code k}. If an eigenvalue does
+     * not converge within the QL iteration limit the matrix is decomposed again with
+     * {@link #jacobiEigen} instead of returning a partially reduced result.</p>
+     */
+    static SymmetricEigen symmetricEigen(double[][] matrix, double floor) {
+        return symmetricEigen(matrix, floor, QL_MAX_ITERATIONS);
+    }
+
+    /**
+     * {@link #symmetricEigen(double[][], double)} with an explicit QL iteration limit per eigenvalue.
+     */
+    static SymmetricEigen symmetricEigen(double[][] matrix, double floor, int maxQlIterations) {
+        int n = matrix.length;
+        double[][] v = deepCopy(matrix);
+        double[] d = new double[n];
+        double[] e = new double[n];
+        tridiagonalize(v, d, e);
+        if (!implicitQl(v, d, e, maxQlIterations)) {
+            return jacobiEigen(matrix, floor);
+        }
+        return sortedDescending(d, v, floor);
+    }
+
+    /**
+     * Symmetric eigendecomposition via classical Jacobi rotations.
+     *
+     * <p>Each rotation scans the full off-diagonal for its pivot, so the solver costs up to
+     * {@code O(n^4)}. Kept for reproducing results recorded before the QL solver existed.</p>
+     */
+    static SymmetricEigen jacobiEigen(double[][] matrix, double floor) {
+        int n = matrix.length;
+        double[][] a = deepCopy(matrix);
+        double[][] v = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            v[i][i] = 1.0;
+        }
+
+        int maxIterations = Math.max(16, 12 * n * n);
+        for (int iter = 0; iter < maxIterations && n > 1; iter++) {
+            int p = 0;
+            int q = 1;
+            double max = Math.abs(a[p][q]);
+
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    double candidate = Math.abs(a[i][j]);
+                    if (candidate > max) {
+                        max = candidate;
+                        p = i;
+                        q = j;
+                    }
+                }
+            }
+
+            if (max < JACOBI_EPSILON) {
+                break;
+            }
+
+            double app = a[p][p];
+            double aqq = a[q][q];
+            double apq = a[p][q];
+
+            double phi = 0.5 * Math.atan2(2.0 * apq, aqq - app);
+            double c = Math.cos(phi);
+            double s = Math.sin(phi);
+
+            for (int i = 0; i < n; i++) {
+                if (i == p || i == q) {
+                    continue;
+                }
+                double aip = a[i][p];
+                double aiq = a[i][q];
+                double newAip = c * aip - s * aiq;
+                double newAiq = s * aip + c * aiq;
+                a[i][p] = newAip;
+                a[p][i] = newAip;
+                a[i][q] = newAiq;
+                a[q][i] = newAiq;
+            }
+
+            a[p][p] = c * c * app - 2.0 * s * c * apq + s * s * aqq;
+            a[q][q] = s * s * app + 2.0 * s * c * apq + c * c * aqq;
+            a[p][q] = 0.0;
+            a[q][p] = 0.0;
+
+            for (int i = 0; i < n; i++) {
+                double vip = v[i][p];
+                double viq = v[i][q];
+                v[i][p] = c * vip - s * viq;
+                v[i][q] = s * vip + c * viq;
+            }
+        }
+
+        double[] diagonal = new double[n];
+        for (int i = 0; i < n; i++) {
+            diagonal[i] = a[i][i];
+        }
+        return sortedDescending(diagonal, v, floor);
+    }
+
+    /**
+     * Householder reduction of a symmetric matrix to tridiagonal form (EISPACK {@code tred2}).
+     * On return {@code v} holds the accumulated orthogonal transform, {@code d} the diagonal and
+     * {@code e[1..n-1]} the sub-diagonal.
+     */
+    private static void tridiagonalize(double[][] v, double[] d, double[] e) {
+        int n = d.length;
+        if (n == 0) {
+            return;
+        }
+        for (int j = 0; j < n; j++) {
+            d[j] = v[n - 1][j];
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            double scale = 0.0;
+            double h = 0.0;
+            for (int k = 0; k < i; k++) {
+                scale += Math.abs(d[k]);
+            }
+            if (scale == 0.0) {
+                e[i] = d[i - 1];
+                for (int j = 0; j < i; j++) {
+                    d[j] = v[i - 1][j];
+                    v[i][j] = 0.0;
+                    v[j][i] = 0.0;
+                }
+            } else {
+                for (int k = 0; k < i; k++) {
+                    d[k] /= scale;
+                    h += d[k] * d[k];
+                }
+                double f = d[i - 1];
+                double g = Math.sqrt(h);
+                if (f > 0) {
+                    g = -g;
+                }
+                e[i] = scale * g;
+                h -= f * g;
+                d[i - 1] = f - g;
+                for (int j = 0; j < i; j++) {
+                    e[j] = 0.0;
+                }
+
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    v[j][i] = f;
+                    g = e[j] + v[j][j] * f;
+                    for (int k = j + 1; k <= i - 1; k++) {
+                        g += v[k][j] * d[k];
+                        e[k] += v[k][j] * f;
+                    }
+                    e[j] = g;
+                }
+                f = 0.0;
+                for (int j = 0; j < i; j++) {
+                    e[j] /= h;
+                    f += e[j] * d[j];
+                }
+                double hh = f / (h + h);
+                for (int j = 0; j < i; j++) {
+                    e[j] -= hh * d[j];
+                }
+                for (int j = 0; j < i; j++) {
+                    f = d[j];
+                    g = e[j];
+                    for (int k = j; k <= i - 1; k++) {
+                        v[k][j] -= (f * e[k] + g * d[k]);
+                    }
+                    d[j] = v[i - 1][j];
+                    v[i][j] = 0.0;
+                }
+            }
+            d[i] = h;
+        }
+
+        for (int i = 0; i < n - 1; i++) {
+            v[n - 1][i] = v[i][i];
+            v[i][i] = 1.0;
+            double h = d[i + 1];
+            if (h != 0.0) {
+                for (int k = 0; k <= i; k++) {
+                    d[k] = v[k][i + 1] / h;
+                }
+                for (int j = 0; j <= i; j++) {
+                    double g = 0.0;
+                    for (int k = 0; k <= i; k++) {
+                        g += v[k][i + 1] * v[k][j];
+                    }
+                    for (int k = 0; k <= i; k++) {
+                        v[k][j] -= g * d[k];
+                    }
+                }
+            }
+            for (int k = 0; k <= i; k++) {
+                v[k][i + 1] = 0.0;
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            d[j] = v[n - 1][j];
+            v[n - 1][j] = 0.0;
+        }
+        v[n - 1][n - 1] = 1.0;
+        e[0] = 0.0;
+    }
+
+    /**
+     * Implicit QL iterations on a symmetric tridiagonal matrix (EISPACK {@code tql2}),
+     * accumulating rotations into {@code v}.
+     *
+     * @return false when some eigenvalue was still unconverged after {@code maxIterations}
+     */
+    private static boolean implicitQl(double[][] v, double[] d, double[] e, int maxIterations) {
+        int n = d.length;
+        if (n == 0) {
+            return true;
+        }
+        for (int i = 1; i < n; i++) {
+            e[i - 1] = e[i];
+        }
+        e[n - 1] = 0.0;
+
+        double f = 0.0;
+        double tst1 = 0.0;
+        double eps = Math.ulp(1.0);
+        for (int l = 0; l < n; l++) {
+            tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+            int m = l;
+            while (m < n) {
+                if (Math.abs(e[m]) <= eps * tst1) {
+                    break;
+                }
+                m++;
+            }
+            if (m == n) {
+                m = n - 1;
+            }
+
+            if (m > l) {
+                int iterations = 0;
+                do {
+                    iterations++;
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2.0 * e[l]);
+                    double r = Math.hypot(p, 1.0);
+                    if (p < 0) {
+                        r = -r;
+                    }
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+                    for (int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    p = d[m];
+                    double c = 1.0;
+                    double c2 = c;
+                    double c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0.0;
+                    double s2 = 0.0;
+                    for (int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = Math.hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+
+                        for (int k = 0; k < n; k++) {
+                            double[] row = v[k];
+                            h = row[i + 1];
+                            row[i + 1] = s * row[i] + c * h;
+                            row[i] = c * row[i] - s * h;
+                        }
+                    }
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                    if (Math.abs(e[l]) > eps * tst1 && iterations >= maxIterations) {
+                        return false;
+                    }
+                } while (Math.abs(e[l]) > eps * tst1);
+            }
+            d[l] += f;
+            e[l] = 0.0;
+        }
+        return true;
+    }
+
+    private static SymmetricEigen sortedDescending(double[] diagonal, double[][] vectors, double floor) {
+        int n = diagonal.length;
+        double[] values = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = Math.max(floor, diagonal[i]);
+            order[i] = i;
+        }
+        java.util.Arrays.sort(order, (a, b) -> Double.compare(values[b], values[a]));
+
+        double[] sortedValues = new double[n];
+        double[][] sortedVectors = new double[n][n];
+        for (int col = 0; col < n; col++) {
+            int source = order[col];
+            sortedValues[col] = values[source];
+            for (int row = 0; row < n; row++) {
+                sortedVectors[row][col] = vectors[row][source];
+            }
+        }
+        return new SymmetricEigen(sortedValues, sortedVectors);
+    }
+
     private static double[][] cholesky(double[][] matrix) {
         int n = matrix.length;
         double[][] lower = new double[n][n];
@@ -206,4 +537,10 @@ final class ContinuousModelMath {
     private static double clamp(double value, double min, double max) {
         return Math.max(min, Math.min(max, value));
     }
+
+    /**
+     * Eigenvalues in descending order with matching eigenvector columns.
+     */
+    record SymmetricEigen(double[] eigenvalues, double[][] eigenvectors) {
+    }
 }
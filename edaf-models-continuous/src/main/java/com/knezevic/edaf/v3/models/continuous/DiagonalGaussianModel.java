@@ -11,7 +11,9 @@ import com.knezevic.edaf.v3.core.api.Model;
 import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.batch.RealVectorBatch;
 import com.knezevic.edaf.v3.repr.types.RealVector;
 
 import java.util.LinkedHashMap;
@@ -106,6 +108,38 @@ public final class DiagonalGaussianModel implements Model<RealVector> {
         }
     }
 
+    /**
+     * Folds one evaluated individual into the mean and per-dimension variance.
+     *
+     * <p>Uses the exponentially weighted update
+     * <pre>
+     *   δ = x - μ,  μ <- μ + η δ,  σ² <- (1 - η)(σ² + η δ²)
+     * </pre>
+     * with {@code σ} floored at {@code minSigma}.</p>
+     *
+     * @param individual individual folded into the model
+     * @param learningRate update step {@code η} in {@code (0, 1]}
+     * @param representation genotype representation
+     * @param rng random stream
+     */
+    @Override
+    public void update(Individual<RealVector> individual,
+                       double learningRate,
+                       Representation<RealVector> representation,
+                       RngStream rng) {
+        if (mean == null || sigma == null) {
+            throw new IllegalStateException("Model must be fitted before incremental updates");
+        }
+        double eta = Math.max(0.0, Math.min(1.0, learningRate));
+        double[] x = individual.genotype().values();
+        for (int d = 0; d < mean.length; d++) {
+            double delta = x[d] - mean[d];
+            mean[d] += eta * delta;
+            double variance = (1.0 - eta) * (sigma[d] * sigma[d] + eta * delta * delta);
+            sigma[d] = Math.max(minSigma, Math.sqrt(variance));
+        }
+    }
+
     @Override
     public List<RealVector> sample(int count,
                                    Representation<RealVector> representation,
@@ -118,15 +152,63 @@ public final class DiagonalGaussianModel implements Model<RealVector> {
         java.util.ArrayList<RealVector> result = new java.util.ArrayList<>(count);
         for (int n = 0; n < count; n++) {
             double[] values = new double[mean.length];
-            for (int d = 0; d < mean.length; d++) {
-                values[d] = mean[d] + sigma[d] * rng.nextGaussian();
-            }
+            sampleRow(values, 0, rng);
             RealVector candidate = new RealVector(values);
             result.add(constraintHandling.enforce(candidate, representation, problem, rng));
         }
         return result;
     }
 
+    /**
+     * Requests the representation's flat row-major batch, which {@link #sampleInto} writes directly.
+     *
+     * @param representation genotype representation
+     * @param capacity initial number of samples
+     * @return empty sample batch
+     */
+    @Override
+    public SampleBatch<RealVector> newSampleBatch(Representation<RealVector> representation, int capacity) {
+        return representation.newSampleBatch(capacity);
+    }
+
+    /**
+     * Samples the whole population into a flat real-vector batch and repairs it in one pass.
+     *
+     * @param batch destination batch
+     * @param count number of samples
+     * @param representation genotype representation
+     * @param problem optimization problem
+     * @param constraintHandling constraint strategy
+     * @param rng random stream
+     */
+    @Override
+    public void sampleInto(SampleBatch<RealVector> batch,
+                           int count,
+                           Representation<RealVector> representation,
+                           Problem<RealVector> problem,
+                           ConstraintHandling<RealVector> constraintHandling,
+                           RngStream rng) {
+        if (mean == null || sigma == null) {
+            throw new IllegalStateException("Model must be fitted before sampling");
+        }
+        if (!(batch instanceof RealVectorBatch flat) || flat.dimension() != mean.length) {
+            Model.super.sampleInto(batch, count, representation, problem, constraintHandling, rng);
+            return;
+        }
+        flat.reset(count);
+        double[] buffer = flat.values();
+        for (int n = 0; n < count; n++) {
+            sampleRow(buffer, n * mean.length, rng);
+        }
+        constraintHandling.enforceBatch(flat, representation, problem, rng);
+    }
+
+    private void sampleRow(double[] target, int offset, RngStream rng) {
+        for (int d = 0; d < mean.length; d++) {
+            target[offset + d] = mean[d] + sigma[d] * rng.nextGaussian();
+        }
+    }
+
     /**
      * Returns model diagnostics snapshot.
      *
@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.models.continuous;
+
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Linear-time CMA-ES variants with {@code O(n)} state and {@code O(n)} sampling per candidate.
+ *
+ * <p>The covariance is restricted to {@code C = D (I + v vᵀ) D} with diagonal {@code D}:
+ * <ul>
+ *   <li>{@link Variant#SEP} (sep-CMA-ES) keeps {@code v = 0}, so {@code C = D²} and the
+ *   rank-1/rank-{@code μ} update acts on the diagonal only, with learning rates scaled by
+ *   {@code (n + 2) / 3}.</li>
+ *   <li>{@link Variant#VD} (VD-CMA) additionally keeps one principal direction {@code v}.
+ *   After each generation the regular CMA covariance update is projected back onto the
+ *   {@code D (I + v vᵀ) D} family: {@code v} follows the leading eigenvector of the update
+ *   whitened by the current {@code D}, found by warm-started power iteration over the
+ *   {@code μ + 1} update vectors without forming {@code C}, and the diagonal is matched
+ *   exactly.</li>
+ * </ul>
+ * Sampling uses {@code y = D (z + (sqrt(1 + |v|²) - 1)(v̂ᵀz) v̂)}, and CSA whitening applies the
+ * matching closed-form inverse. Mean update, cumulative step-size adaptation and restart
+ * handling are shared with {@link CmaEsStrategyModel} through {@code AbstractCmaEsStrategyModel}.
+ *
+ * <p>References:
+ * <ol>
+ *   <li>R. Ros and N. Hansen, "A simple modification in CMA-ES achieving linear time and
+ *   space complexity," PPSN, 2008.</li>
+ *   <li>Y. Akimoto, A. Auger and N. Hansen, "Comparison-based natural gradient optimization
+ *   in high dimension," GECCO, 2014.</li>
+ * </ol>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class LinearCmaEsStrategyModel extends AbstractCmaEsStrategyModel {
+
+    private static final int DIRECTION_POWER_ITERATIONS = 4;
+
+    /**
+     * Restricted covariance structure.
+     */
+    public enum Variant {
+        /**
+         * Diagonal covariance (sep-CMA-ES).
+         */
+        SEP,
+        /**
+         * Diagonal plus one principal direction (VD-CMA).
+         */
+        VD;
+
+        /**
+         * Parses a variant identifier ({@code sep} or {@code vd}).
+         *
+         * @param value variant identifier
+         * @return parsed variant
+         */
+        public static Variant parse(String value) {
+            String normalized = value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+            return switch (normalized) {
+                case "sep", "separable", "diagonal" -> SEP;
+                case "vd", "vd-cma" -> VD;
+                default -> throw new IllegalArgumentException("Unsupported linear CMA-ES variant '" + value
+                        + "', expected 'sep' or 'vd'");
+            };
+        }
+
+        /**
+         * Returns the configuration identifier.
+         *
+         * @return lower-case identifier
+         */
+        public String id() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final Variant variant;
+
+    private double[] diagonal;
+    private double[] scale;
+    private double[] direction;
+    private double directionNorm;
+
+    /**
+     * Creates a linear-time CMA-ES model with default bounds and restart policy.
+     *
+     * @param variant covariance structure
+     */
+    public LinearCmaEsStrategyModel(Variant variant) {
+        this(variant, 1.0e-12, 5.0, 1.0e-12, -1.0,
+                true, 30, 2.0, 1.0e12, 1.0e-12);
+    }
+
+    /**
+     * Creates a fully configurable linear-time CMA-ES model.
+     *
+     * @param variant covariance structure
+     * @param minSigma lower bound for global step size {@code σ}
+     * @param maxSigma upper bound for global step size {@code σ}
+     * @param jitter lower bound for diagonal variances
+     * @param initialSigma initial step size ({@code <=0} means auto-estimate from elites)
+     * @param restartEnabled whether internal restart logic is enabled
+     * @param restartPatience stagnation patience measured in iterations
+     * @param restartSigmaMultiplier factor used to increase {@code σ} after restart
+     * @param restartConditionThreshold condition-number threshold that triggers restart
+     * @param restartImprovementEpsilon minimum improvement considered meaningful
+     */
+    public LinearCmaEsStrategyModel(Variant variant,
+                                    double minSigma,
+                                    double maxSigma,
+                                    double jitter,
+                                    double initialSigma,
+                                    boolean restartEnabled,
+                                    int restartPatience,
+                                    double restartSigmaMultiplier,
+                                    double restartConditionThreshold,
+                                    double restartImprovementEpsilon) {
+        super(minSigma, maxSigma, jitter, initialSigma,
+                restartEnabled, restartPatience, restartSigmaMultiplier, restartConditionThreshold,
+                restartImprovementEpsilon);
+        if (variant == null) {
+            throw new IllegalArgumentException("variant must not be null");
+        }
+        this.variant = variant;
+    }
+
+    /**
+     * Returns configured covariance structure.
+     *
+     * @return variant
+     */
+    public Variant variant() {
+        return variant;
+    }
+
+    /**
+     * Returns copy of diagonal variances {@code D²} for checkpoint persistence.
+     *
+     * @return diagonal variances
+     */
+    public double[] diagonal() {
+        return diagonal == null ? new double[0] : Arrays.copyOf(diagonal, diagonal.length);
+    }
+
+    /**
+     * Returns copy of principal direction {@code v} (all zeros for {@link Variant#SEP}).
+     *
+     * @return principal direction
+     */
+    public double[] direction() {
+        return direction == null ? new double[0] : Arrays.copyOf(direction, direction.length);
+    }
+
+    /**
+     * Restores full model state from checkpoint payload.
+     *
+     * @param mean CMA mean vector
+     * @param sigma global step size
+     * @param diagonal diagonal variances {@code D²}
+     * @param direction principal direction {@code v} (ignored for {@link Variant#SEP})
+     * @param pathSigma CSA evolution path
+     * @param pathCovariance covariance evolution path
+     * @param generation generation counter
+     * @param restartCount number of completed restarts
+     * @param stagnationIterations consecutive stagnation iterations
+     * @param bestFitnessSeen best observed fitness used by restart logic
+     */
+    public void restore(double[] mean,
+                        double sigma,
+                        double[] diagonal,
+                        double[] direction,
+                        double[] pathSigma,
+                        double[] pathCovariance,
+                        int generation,
+                        int restartCount,
+                        int stagnationIterations,
+                        double bestFitnessSeen) {
+        if (mean == null || mean.length == 0) {
+            throw new IllegalArgumentException("mean must not be empty");
+        }
+        if (diagonal == null || diagonal.length != mean.length) {
+            throw new IllegalArgumentException("diagonal dimension must match mean length");
+        }
+        int dim = mean.length;
+        restoreStrategy(mean, sigma, pathSigma, pathCovariance, generation,
+                restartCount, stagnationIterations, bestFitnessSeen);
+        this.diagonal = Arrays.copyOf(diagonal, dim);
+        this.direction = variant == Variant.VD && direction != null && direction.length == dim
+                ? Arrays.copyOf(direction, dim)
+                : new double[dim];
+        refreshFactors();
+    }
+
+    @Override
+    boolean shapeFitted() {
+        return diagonal != null;
+    }
+
+    @Override
+    void initializeShape(List<Individual<RealVector>> selected, double[] weights) {
+        int dim = mean.length;
+        double[] variances = weightedVariances(selected, mean, weights);
+        double trace = 0.0;
+        for (double variance : variances) {
+            trace += variance;
+        }
+        double sigmaSq = startSigma(trace);
+
+        this.diagonal = new double[dim];
+        for (int i = 0; i < dim; i++) {
+            diagonal[i] = variances[i] / sigmaSq + jitter;
+        }
+        this.direction = new double[dim];
+        refreshFactors();
+    }
+
+    @Override
+    void resetShape(int dim) {
+        this.diagonal = new double[dim];
+        Arrays.fill(diagonal, 1.0 + jitter);
+        this.direction = new double[dim];
+        refreshFactors();
+    }
+
+    /**
+     * Scales the full-covariance rates by {@code (n + 2) / 3} for sep-CMA-ES and by
+     * {@code max(0.5, (n - 5) / 6)} for VD-CMA, since fewer parameters are learned per generation.
+     */
+    @Override
+    LearningRates learningRates(double n, double muEff) {
+        double learningRateFactor = variant == Variant.SEP ? (n + 2.0) / 3.0 : Math.max(0.5, (n - 5.0) / 6.0);
+        double c1 = Math.min(1.0, learningRateFactor * 2.0 / (Math.pow(n + 1.3, 2.0) + muEff));
+        double cMu = Math.min(1.0 - c1, learningRateFactor
+                * 2.0 * (muEff - 2.0 + 1.0 / muEff) / (Math.pow(n + 2.0, 2.0) + muEff));
+        return new LearningRates(c1, Math.max(0.0, cMu));
+    }
+
+    @Override
+    void adaptShape(double alpha, LearningRates rates, double[] weights, double[][] steps) {
+        CovarianceUpdate update = new CovarianceUpdate(alpha, rates.c1(), rates.cMu(), weights, steps);
+        double[] targetDiagonal = update.diagonal();
+        if (variant == Variant.VD) {
+            projectDirection(update, targetDiagonal);
+        } else {
+            for (int i = 0; i < targetDiagonal.length; i++) {
+                diagonal[i] = sanitizeVariance(targetDiagonal[i]);
+            }
+        }
+    }
+
+    @Override
+    void refreshAfterUpdate(LearningRates rates) {
+        refreshFactors();
+    }
+
+    @Override
+    double covarianceTrace() {
+        double trace = 0.0;
+        for (int i = 0; i < diagonal.length; i++) {
+            trace += diagonal[i] * (1.0 + direction[i] * direction[i]);
+        }
+        return trace;
+    }
+
+    @Override
+    void putShapeDiagnostics(Map<String, Double> values) {
+        values.put("cma_direction_norm", directionNorm);
+    }
+
+    /**
+     * Writes {@code m + sigma * D * (I + v v^T)^{1/2} * z} for a fresh standard normal {@code z}.
+     */
+    @Override
+    void sampleRow(double[] z, double[] target, int offset, RngStream rng) {
+        int dim = z.length;
+        double stretch = Math.sqrt(1.0 + directionNorm * directionNorm) - 1.0;
+        double projection = 0.0;
+        for (int i = 0; i < dim; i++) {
+            z[i] = rng.nextGaussian();
+            if (directionNorm > 0.0) {
+                projection += direction[i] * z[i];
+            }
+        }
+        double coefficient = directionNorm > 0.0 ? stretch * projection / (directionNorm * directionNorm) : 0.0;
+        for (int i = 0; i < dim; i++) {
+            double y = z[i] + (coefficient == 0.0 ? 0.0 : coefficient * direction[i]);
+            target[offset + i] = mean[i] + sigma * scale[i] * y;
+        }
+    }
+
+    /**
+     * Projects {@code C' = α C + c_1 p_c p_cᵀ + c_μ Σ w_k y_k y_kᵀ} onto {@code D (I + v vᵀ) D}.
+     * The leading eigenpair {@code (λ, u)} of {@code D⁻¹ C' D⁻¹} (current {@code D}) gives
+     * {@code v = sqrt(λ - 1) u}, and the new {@code D} matches {@code diag(C')} exactly. When
+     * {@code C' = C} the projection returns the current {@code (D, v)} unchanged.
+     */
+    private void projectDirection(CovarianceUpdate update, double[] targetDiagonal) {
+        int dim = targetDiagonal.length;
+        double[] u = Arrays.copyOf(direction, dim);
+        if (norm(u) == 0.0) {
+            for (int i = 0; i < dim; i++) {
+                u[i] = pathCovariance[i] / scale[i];
+            }
+        }
+        if (!normalize(u)) {
+            Arrays.fill(u, 1.0 / Math.sqrt(dim));
+        }
+
+        double[] image = new double[dim];
+        double[] buffer = new double[dim];
+        double eigenvalue = 1.0;
+        for (int iteration = 0; iteration < DIRECTION_POWER_ITERATIONS; iteration++) {
+            for (int i = 0; i < dim; i++) {
+                buffer[i] = u[i] / scale[i];
+            }
+            update.apply(buffer, image);
+            for (int i = 0; i < dim; i++) {
+                image[i] /= scale[i];
+            }
+            eigenvalue = dot(u, image);
+            System.arraycopy(image, 0, u, 0, dim);
+            if (!normalize(u)) {
+                eigenvalue = 1.0;
+                break;
+            }
+        }
+
+        double strength = Math.sqrt(Math.max(0.0, eigenvalue - 1.0));
+        for (int i = 0; i < dim; i++) {
+            double v = Double.isFinite(strength * u[i]) ? strength * u[i] : 0.0;
+            direction[i] = v;
+            diagonal[i] = sanitizeVariance(targetDiagonal[i] / (1.0 + v * v));
+        }
+    }
+
+    @Override
+    double[] whiten(double[] y) {
+        int dim = y.length;
+        double[] out = new double[dim];
+        for (int i = 0; i < dim; i++) {
+            out[i] = y[i] / scale[i];
+        }
+        if (directionNorm > 0.0) {
+            double squared = directionNorm * directionNorm;
+            double shrink = 1.0 / Math.sqrt(1.0 + squared) - 1.0;
+            double projection = dot(direction, out);
+            double coefficient = shrink * projection / squared;
+            for (int i = 0; i < dim; i++) {
+                out[i] += coefficient * direction[i];
+            }
+        }
+        return out;
+    }
+
+    private void refreshFactors() {
+        int dim = diagonal.length;
+        this.scale = new double[dim];
+        double minVariance = Double.POSITIVE_INFINITY;
+        double maxVariance = 0.0;
+        for (int i = 0; i < dim; i++) {
+            diagonal[i] = sanitizeVariance(diagonal[i]);
+            scale[i] = Math.sqrt(diagonal[i]);
+            minVariance = Math.min(minVariance, diagonal[i]);
+            maxVariance = Math.max(maxVariance, diagonal[i]);
+        }
+        this.directionNorm = norm(direction);
+        this.conditionNumber = maxVariance * (1.0 + directionNorm * directionNorm) / Math.max(jitter, minVariance);
+    }
+
+    private double sanitizeVariance(double value) {
+        return Double.isFinite(value) ? Math.max(jitter, value) : 1.0;
+    }
+
+    private static boolean normalize(double[] vector) {
+        double length = norm(vector);
+        if (!(length > 0.0) || !Double.isFinite(length)) {
+            return false;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] /= length;
+        }
+        return true;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Implicit {@code α D (I + v vᵀ) D + c_1 p_c p_cᵀ + c_μ Σ w_k y_k y_kᵀ} evaluated in {@code O(μ n)}.
+     */
+    private final class CovarianceUpdate {
+        private final double alpha;
+        private final double c1;
+        private final double cMu;
+        private final double[] weights;
+        private final double[][] steps;
+
+        private CovarianceUpdate(double alpha, double c1, double cMu, double[] weights, double[][] steps) {
+            this.alpha = alpha;
+            this.c1 = c1;
+            this.cMu = cMu;
+            this.weights = weights;
+            this.steps = steps;
+        }
+
+        double[] diagonal() {
+            int dim = mean.length;
+            double[] out = new double[dim];
+            for (int i = 0; i < dim; i++) {
+                out[i] = alpha * diagonal[i] * (1.0 + direction[i] * direction[i])
+                        + c1 * pathCovariance[i] * pathCovariance[i];
+            }
+            for (int k = 0; k < steps.length; k++) {
+                double weight = cMu * weights[k];
+                double[] y = steps[k];
+                for (int i = 0; i < dim; i++) {
+                    out[i] += weight * y[i] * y[i];
+                }
+            }
+            return out;
+        }
+
+        void apply(double[] q, double[] out) {
+            int dim = q.length;
+            double directionProjection = 0.0;
+            for (int i = 0; i < dim; i++) {
+                directionProjection += direction[i] * scale[i] * q[i];
+            }
+            double pathProjection = c1 * dot(pathCovariance, q);
+            for (int i = 0; i < dim; i++) {
+                out[i] = alpha * scale[i] * (scale[i] * q[i] + direction[i] * directionProjection)
+                        + pathProjection * pathCovariance[i];
+            }
+            for (int k = 0; k < steps.length; k++) {
+                double[] y = steps[k];
+                double projection = cMu * weights[k] * dot(y, q);
+                for (int i = 0; i < dim; i++) {
+                    out[i] += projection * y[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.models.continuous;
+
+import com.knezevic.edaf.v3.core.api.ConstraintHandling;
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.Model;
+import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
+import com.knezevic.edaf.v3.core.api.Problem;
+import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Low-rank plus diagonal Gaussian model ({@code N(μ, U Uᵀ + diag(v))}) for high-dimensional
+ * continuous search.
+ *
+ * <p>The covariance is never materialized. Each fit blends the previous model with the elite
+ * scatter matrix {@code S}:
+ * <pre>
+ *   μ <- (1-α) μ + α μ_hat
+ *   Σ <- (1-α) (U Uᵀ + diag(v)) + α S
+ * </pre>
+ * and re-extracts the leading {@code r} directions of {@code Σ} by warm-started block power
+ * iteration followed by a Rayleigh-Ritz step. Matrix-vector products with {@code S} go through
+ * the centered elites, so one fit costs {@code O(m d r)} time and the model keeps
+ * {@code O(d r)} memory. The diagonal {@code v} absorbs the per-dimension variance that the
+ * rank-{@code r} part does not explain, so {@code diag(Σ)} is preserved exactly.
+ *
+ * <p>Sampling draws {@code z_r ~ N(0, I_r)} and {@code z_d ~ N(0, I_d)} and computes
+ * {@code x = μ + U z_r + sqrt(v) ∘ z_d} in {@code O(d r)}.
+ *
+ * <p>References:
+ * <ol>
+ *   <li>M. E. Tipping and C. M. Bishop, "Probabilistic principal component analysis,"
+ *   Journal of the Royal Statistical Society B, 1999.</li>
+ *   <li>I. Loshchilov, "A computationally efficient limited memory CMA-ES for large scale
+ *   optimization," GECCO, 2014.</li>
+ * </ol>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class LowRankGaussianModel implements Model<RealVector> {
+
+    private static final double ORTHOGONALITY_EPSILON = 1e-12;
+
+    private final int rank;
+    private final double jitter;
+    private final double learningRate;
+    private final int powerIterations;
+
+    private double[] mean;
+    private double[][] factors;
+    private double[] diagonal;
+    private double[] sqrtDiagonal;
+
+    /**
+     * Creates a new LowRankGaussianModel instance.
+     *
+     * @param rank number of retained covariance directions {@code r}
+     * @param jitter lower bound for residual per-dimension variance
+     * @param learningRate blend factor used for temporal smoothing of mean/covariance
+     * @param powerIterations block power iterations per fit (warm-started from the previous basis)
+     */
+    public LowRankGaussianModel(int rank, double jitter, double learningRate, int powerIterations) {
+        if (rank < 1) {
+            throw new IllegalArgumentException("rank must be >= 1");
+        }
+        this.rank = rank;
+        this.jitter = Math.max(1e-12, jitter);
+        this.learningRate = Math.max(0.0, Math.min(1.0, learningRate));
+        this.powerIterations = Math.max(1, powerIterations);
+    }
+
+    /**
+     * Returns component name identifier.
+     *
+     * @return component name
+     */
+    @Override
+    public String name() {
+        return "gaussian-lowrank";
+    }
+
+    /**
+     * Fits the probabilistic model parameters from selected elite individuals.
+     *
+     * @param selected selected individual list
+     * @param representation genotype representation
+     * @param rng random stream
+     */
+    @Override
+    public void fit(List<Individual<RealVector>> selected, Representation<RealVector> representation, RngStream rng) {
+        if (selected.isEmpty()) {
+            return;
+        }
+
+        double[] estimatedMean = ContinuousModelMath.empiricalMean(selected);
+        int dim = estimatedMean.length;
+        int r = Math.min(rank, dim);
+        boolean warm = mean != null && mean.length == dim && factors != null && factors.length == r;
+
+        double[][] centered = new double[selected.size()][];
+        for (int s = 0; s < centered.length; s++) {
+            double[] x = selected.get(s).genotype().values();
+            double[] row = new double[dim];
+            for (int i = 0; i < dim; i++) {
+                row[i] = x[i] - estimatedMean[i];
+            }
+            centered[s] = row;
+        }
+        double alpha = warm ? learningRate : 1.0;
+        double scatterScale = alpha / Math.max(1.0, centered.length - 1.0);
+        CovarianceOperator operator = new CovarianceOperator(
+                centered, scatterScale, warm ? factors : null, warm ? diagonal : null, 1.0 - alpha);
+
+        double[][] basis = initialBasis(centered, warm ? factors : null, r, dim);
+        orthonormalize(basis);
+        for (int iteration = 0; iteration < powerIterations; iteration++) {
+            double[][] next = new double[r][];
+            for (int k = 0; k < r; k++) {
+                next[k] = operator.apply(basis[k]);
+            }
+            basis = next;
+            orthonormalize(basis);
+        }
+
+        double[][] images = new double[r][];
+        for (int k = 0; k < r; k++) {
+            images[k] = operator.apply(basis[k]);
+        }
+        double[][] projected = new double[r][r];
+        for (int a = 0; a < r; a++) {
+            for (int b = a; b < r; b++) {
+                double value = 0.5 * (dot(basis[a], images[b]) + dot(basis[b], images[a]));
+                projected[a][b] = value;
+                projected[b][a] = value;
+            }
+        }
+        ContinuousModelMath.SymmetricEigen ritz = ContinuousModelMath.symmetricEigen(projected, 0.0);
+
+        double[] targetDiagonal = operator.diagonal();
+        double[][] updatedFactors = new double[r][dim];
+        for (int k = 0; k < r; k++) {
+            double scale = Math.sqrt(Math.max(0.0, ritz.eigenvalues()[k]));
+            double[] factor = updatedFactors[k];
+            for (int j = 0; j < r; j++) {
+                double weight = ritz.eigenvectors()[j][k] * scale;
+                if (weight == 0.0) {
+                    continue;
+                }
+                double[] q = basis[j];
+                for (int i = 0; i < dim; i++) {
+                    factor[i] += weight * q[i];
+                }
+            }
+        }
+
+        double[] updatedDiagonal = new double[dim];
+        for (int i = 0; i < dim; i++) {
+            double explained = 0.0;
+            for (int k = 0; k < r; k++) {
+                explained += updatedFactors[k][i] * updatedFactors[k][i];
+            }
+            double residual = targetDiagonal[i] - explained;
+            updatedDiagonal[i] = Double.isFinite(residual) ? Math.max(jitter, residual) : jitter;
+        }
+
+        if (warm) {
+            ContinuousModelMath.blendInPlace(mean, estimatedMean, learningRate);
+        } else {
+            mean = estimatedMean;
+        }
+        factors = updatedFactors;
+        diagonal = updatedDiagonal;
+        sqrtDiagonal = sqrt(diagonal);
+    }
+
+    @Override
+    public List<RealVector> sample(int count,
+                                   Representation<RealVector> representation,
+                                   Problem<RealVector> problem,
+                                   ConstraintHandling<RealVector> constraintHandling,
+                                   RngStream rng) {
+        if (mean == null || factors == null || sqrtDiagonal == null) {
+            throw new IllegalStateException("Model must be fitted before sampling");
+        }
+        int dim = mean.length;
+        int r = factors.length;
+        double[] latent = new double[r];
+        ArrayList<RealVector> samples = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            for (int k = 0; k < r; k++) {
+                latent[k] = rng.nextGaussian();
+            }
+            double[] x = Arrays.copyOf(mean, dim);
+            for (int k = 0; k < r; k++) {
+                double zk = latent[k];
+                double[] factor = factors[k];
+                for (int i = 0; i < dim; i++) {
+                    x[i] += factor[i] * zk;
+                }
+            }
+            for (int i = 0; i < dim; i++) {
+                x[i] += sqrtDiagonal[i] * rng.nextGaussian();
+            }
+            samples.add(constraintHandling.enforce(new RealVector(x), representation, problem, rng));
+        }
+        return samples;
+    }
+
+    /**
+     * Returns model diagnostics snapshot.
+     *
+     * @return diagnostics snapshot
+     */
+    @Override
+    public ModelDiagnostics diagnostics() {
+        if (mean == null || factors == null) {
+            return ModelDiagnostics.empty();
+        }
+
+        double lowRankTrace = 0.0;
+        double leading = 0.0;
+        for (double[] factor : factors) {
+            double squaredNorm = dot(factor, factor);
+            lowRankTrace += squaredNorm;
+            leading = Math.max(leading, squaredNorm);
+        }
+        double residualTrace = 0.0;
+        double minResidual = Double.POSITIVE_INFINITY;
+        double maxResidual = 0.0;
+        for (double value : diagonal) {
+            residualTrace += value;
+            minResidual = Math.min(minResidual, value);
+            maxResidual = Math.max(maxResidual, value);
+        }
+
+        Map<String, Double> values = new LinkedHashMap<>();
+        values.put("gaussian_dim", (double) mean.length);
+        values.put("lowrank_rank", (double) factors.length);
+        values.put("lowrank_explained_variance_ratio", lowRankTrace / Math.max(jitter, lowRankTrace + residualTrace));
+        values.put("lowrank_min_residual_variance", minResidual);
+        values.put("cov_condition_number", (leading + maxResidual) / Math.max(jitter, minResidual));
+        values.put("gaussian_learning_rate", learningRate);
+        return new ModelDiagnostics(values);
+    }
+
+    /**
+     * Returns a defensive copy of the current mean vector.
+     *
+     * @return mean vector {@code μ}
+     */
+    public double[] mean() {
+        return mean == null ? new double[0] : Arrays.copyOf(mean, mean.length);
+    }
+
+    /**
+     * Returns a defensive copy of the low-rank factor; row {@code k} is column {@code k} of {@code U}.
+     *
+     * @return factor rows, {@code r x d}
+     */
+    public double[][] factors() {
+        return factors == null ? new double[0][0] : ContinuousModelMath.deepCopy(factors);
+    }
+
+    /**
+     * Returns a defensive copy of the residual diagonal variance.
+     *
+     * @return diagonal {@code v}
+     */
+    public double[] diagonal() {
+        return diagonal == null ? new double[0] : Arrays.copyOf(diagonal, diagonal.length);
+    }
+
+    /**
+     * Restores low-rank Gaussian state from checkpoint payload.
+     *
+     * @param mean mean vector {@code μ}
+     * @param factors factor rows ({@code r x d})
+     * @param diagonal residual diagonal variance {@code v}
+     */
+    public void restore(double[] mean, double[][] factors, double[] diagonal) {
+        if (mean == null || factors == null || diagonal == null || diagonal.length != mean.length) {
+            throw new IllegalArgumentException("LowRankGaussianModel restore requires compatible mean/diagonal dimensions");
+        }
+        for (double[] factor : factors) {
+            if (factor == null || factor.length != mean.length) {
+                throw new IllegalArgumentException("LowRankGaussianModel restore requires factor rows of length " + mean.length);
+            }
+        }
+        this.mean = Arrays.copyOf(mean, mean.length);
+        this.factors = ContinuousModelMath.deepCopy(factors);
+        this.diagonal = new double[diagonal.length];
+        for (int i = 0; i < diagonal.length; i++) {
+            this.diagonal[i] = Double.isFinite(diagonal[i]) ? Math.max(jitter, diagonal[i]) : jitter;
+        }
+        this.sqrtDiagonal = sqrt(this.diagonal);
+    }
+
+    private static double[][] initialBasis(double[][] centered, double[][] previous, int r, int dim) {
+        double[][] basis = new double[r][];
+        for (int k = 0; k < r; k++) {
+            if (previous != null) {
+                basis[k] = Arrays.copyOf(previous[k], dim);
+            } else if (k < centered.length) {
+                basis[k] = Arrays.copyOf(centered[k], dim);
+            } else {
+                basis[k] = new double[dim];
+            }
+        }
+        return basis;
+    }
+
+    /**
+     * Modified Gram-Schmidt; degenerate columns are replaced by the next unused coordinate axis.
+     */
+    private static void orthonormalize(double[][] basis) {
+        int dim = basis[0].length;
+        int nextAxis = 0;
+        for (int k = 0; k < basis.length; k++) {
+            double[] q = basis[k];
+            double norm = projectOut(basis, k, q);
+            while (norm <= ORTHOGONALITY_EPSILON && nextAxis < dim) {
+                Arrays.fill(q, 0.0);
+                q[nextAxis++] = 1.0;
+                norm = projectOut(basis, k, q);
+            }
+            double inverse = 1.0 / Math.max(ORTHOGONALITY_EPSILON, norm);
+            for (int i = 0; i < dim; i++) {
+                q[i] *= inverse;
+            }
+        }
+    }
+
+    private static double projectOut(double[][] basis, int count, double[] q) {
+        for (int j = 0; j < count; j++) {
+            double[] previous = basis[j];
+            double projection = dot(previous, q);
+            for (int i = 0; i < q.length; i++) {
+                q[i] -= projection * previous[i];
+            }
+        }
+        double norm = Math.sqrt(dot(q, q));
+        return Double.isFinite(norm) ? norm : 0.0;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static double[] sqrt(double[] values) {
+        double[] out = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            out[i] = Math.sqrt(values[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Implicit {@code (1-α)(U Uᵀ + diag(v)) + α S} with {@code S} given by centered elite rows.
+     */
+    private record CovarianceOperator(double[][] centered,
+                                      double scatterScale,
+                                      double[][] previousFactors,
+                                      double[] previousDiagonal,
+                                      double previousWeight) {
+
+        double[] apply(double[] q) {
+            int dim = q.length;
+            double[] out = new double[dim];
+            for (double[] row : centered) {
+                double projection = dot(row, q) * scatterScale;
+                if (projection == 0.0) {
+                    continue;
+                }
+                for (int i = 0; i < dim; i++) {
+                    out[i] += projection * row[i];
+                }
+            }
+            if (previousFactors != null) {
+                for (double[] factor : previousFactors) {
+                    double projection = dot(factor, q) * previousWeight;
+                    for (int i = 0; i < dim; i++) {
+                        out[i] += projection * factor[i];
+                    }
+                }
+                for (int i = 0; i < dim; i++) {
+                    out[i] += previousWeight * previousDiagonal[i] * q[i];
+                }
+            }
+            return out;
+        }
+
+        double[] diagonal() {
+            int dim = centered[0].length;
+            double[] out = new double[dim];
+            for (double[] row : centered) {
+                for (int i = 0; i < dim; i++) {
+                    out[i] += scatterScale * row[i] * row[i];
+                }
+            }
+            if (previousFactors != null) {
+                for (double[] factor : previousFactors) {
+                    for (int i = 0; i < dim; i++) {
+                        out[i] += previousWeight * factor[i] * factor[i];
+                    }
+                }
+                for (int i = 0; i < dim; i++) {
+                    out[i] += previousWeight * previousDiagonal[i];
+                }
+            }
+            return out;
+        }
+    }
+}
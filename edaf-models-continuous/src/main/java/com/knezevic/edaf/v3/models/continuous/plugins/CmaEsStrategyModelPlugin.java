@@ -5,15 +5,21 @@
 
 package com.knezevic.edaf.v3.models.continuous.plugins;
 
+import com.knezevic.edaf.v3.core.api.Model;
 import com.knezevic.edaf.v3.core.util.Params;
 import com.knezevic.edaf.v3.core.plugins.ModelPlugin;
 import com.knezevic.edaf.v3.models.continuous.CmaEsStrategyModel;
+import com.knezevic.edaf.v3.models.continuous.LinearCmaEsStrategyModel;
 import com.knezevic.edaf.v3.repr.types.RealVector;
 
 import java.util.Map;
 
 /**
  * Plugin factory for CMA-ES strategy model.
+ *
+ * <p>{@code covarianceMode} selects the covariance structure: {@code full} (default) creates
+ * {@link CmaEsStrategyModel}; {@code sep} and {@code vd} create the linear-time
+ * {@link LinearCmaEsStrategyModel} variants.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
@@ -46,7 +52,7 @@ public final class CmaEsStrategyModelPlugin implements ModelPlugin<RealVector> {
      * @return created component
      */
     @Override
-    public CmaEsStrategyModel create(Map<String, Object> params) {
+    public Model<RealVector> create(Map<String, Object> params) {
         double minSigma = Params.dbl(params, "minSigma", 1.0e-12);
         double maxSigma = Params.dbl(params, "maxSigma", 5.0);
         double jitter = Params.dbl(params, "jitter", 1.0e-12);
@@ -56,6 +62,23 @@ public final class CmaEsStrategyModelPlugin implements ModelPlugin<RealVector> {
         double restartSigmaMultiplier = Params.dbl(params, "restartSigmaMultiplier", 2.0);
         double restartConditionThreshold = Params.dbl(params, "restartConditionThreshold", 1.0e12);
         double restartImprovementEpsilon = Params.dbl(params, "restartImprovementEpsilon", 1.0e-12);
+        String covarianceMode = Params.str(params, "covarianceMode", "full");
+        if (!"full".equalsIgnoreCase(covarianceMode.trim())) {
+            return new LinearCmaEsStrategyModel(
+                    LinearCmaEsStrategyModel.Variant.parse(covarianceMode),
+                    minSigma,
+                    maxSigma,
+                    jitter,
+                    initialSigma,
+                    restartEnabled,
+                    restartPatience,
+                    restartSigmaMultiplier,
+                    restartConditionThreshold,
+                    restartImprovementEpsilon
+            );
+        }
+        String eigenSolver = Params.str(params, "eigenSolver", CmaEsStrategyModel.EIGEN_SOLVER_QL);
+        boolean lazyDecomposition = Params.bool(params, "lazyDecomposition", true);
 
         return new CmaEsStrategyModel(
                 minSigma,
@@ -66,7 +89,9 @@ public final class CmaEsStrategyModelPlugin implements ModelPlugin<RealVector> {
                 restartPatience,
                 restartSigmaMultiplier,
                 restartConditionThreshold,
-                restartImprovementEpsilon
+                restartImprovementEpsilon,
+                eigenSolver,
+                lazyDecomposition
         );
     }
 }
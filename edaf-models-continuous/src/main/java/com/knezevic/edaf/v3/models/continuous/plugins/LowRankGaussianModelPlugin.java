@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.models.continuous.plugins;
+
+import com.knezevic.edaf.v3.core.plugins.ModelPlugin;
+import com.knezevic.edaf.v3.core.util.Params;
+import com.knezevic.edaf.v3.models.continuous.LowRankGaussianModel;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+
+import java.util.Map;
+
+/**
+ * Plugin factory for low-rank plus diagonal Gaussian model.
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class LowRankGaussianModelPlugin implements ModelPlugin<RealVector> {
+
+    /**
+     * Returns component type identifier.
+     *
+     * @return component type
+     */
+    @Override
+    public String type() {
+        return "gaussian-lowrank";
+    }
+
+    /**
+     * Returns a short human-readable component description.
+     *
+     * @return human-readable model description
+     */
+    @Override
+    public String description() {
+        return "Low-rank plus diagonal Gaussian density estimator";
+    }
+
+    /**
+     * Creates plugin component instance.
+     *
+     * @param params model parameter map from YAML configuration
+     * @return created component
+     */
+    @Override
+    public LowRankGaussianModel create(Map<String, Object> params) {
+        return new LowRankGaussianModel(
+                Params.integer(params, "rank", 8),
+                Params.dbl(params, "jitter", 1e-9),
+                Params.dbl(params, "learningRate", 1.0),
+                Params.integer(params, "powerIterations", 2)
+        );
+    }
+}
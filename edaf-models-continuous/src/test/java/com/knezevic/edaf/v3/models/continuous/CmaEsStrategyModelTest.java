@@ -16,8 +16,11 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -157,6 +160,88 @@ class CmaEsStrategyModelTest {
         assertTrue(model.sigma() >= sigmaBefore);
     }
 
+    @Test
+    void qlEigensolverMatchesJacobiAndReconstructsMatrix() {
+        int n = 24;
+        SplittableRandom random = new SplittableRandom(5L);
+        double[][] factor = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                factor[i][j] = random.nextDouble(-1.0, 1.0);
+            }
+        }
+        double[][] matrix = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = i == j ? 0.1 : 0.0;
+                for (int k = 0; k < n; k++) {
+                    sum += factor[i][k] * factor[j][k];
+                }
+                matrix[i][j] = sum;
+            }
+        }
+
+        ContinuousModelMath.SymmetricEigen ql = ContinuousModelMath.symmetricEigen(matrix, 1e-12);
+        ContinuousModelMath.SymmetricEigen jacobi = ContinuousModelMath.jacobiEigen(matrix, 1e-12);
+        assertArrayEquals(jacobi.eigenvalues(), ql.eigenvalues(), 1e-8);
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double reconstructed = 0.0;
+                double orthogonality = 0.0;
+                for (int k = 0; k < n; k++) {
+                    reconstructed += ql.eigenvectors()[i][k] * ql.eigenvalues()[k] * ql.eigenvectors()[j][k];
+                    orthogonality += ql.eigenvectors()[k][i] * ql.eigenvectors()[k][j];
+                }
+                assertEquals(matrix[i][j], reconstructed, 1e-9);
+                assertEquals(i == j ? 1.0 : 0.0, orthogonality, 1e-10);
+            }
+        }
+
+        // one QL sweep per eigenvalue cannot converge here, so the result must come from Jacobi
+        ContinuousModelMath.SymmetricEigen capped = ContinuousModelMath.symmetricEigen(matrix, 1e-12, 1);
+        assertArrayEquals(jacobi.eigenvalues(), capped.eigenvalues(), 0.0);
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(jacobi.eigenvectors()[i], capped.eigenvectors()[i], 0.0);
+        }
+    }
+
+    @Test
+    void lazyDecompositionSkipsEigenUpdatesInHigherDimensions() {
+        int dim = 120;
+        RealVectorRepresentation representation = new RealVectorRepresentation(dim, -5.0, 5.0);
+        IdentityConstraintHandling<RealVector> constraint = new IdentityConstraintHandling<>();
+        CmaEsStrategyModel eager = new CmaEsStrategyModel(1e-12, 5.0, 1e-12, 1.0,
+                false, 30, 2.0, 1.0e12, 1.0e-12, CmaEsStrategyModel.EIGEN_SOLVER_QL, false);
+        CmaEsStrategyModel lazy = new CmaEsStrategyModel(1e-12, 5.0, 1e-12, 1.0,
+                false, 30, 2.0, 1.0e12, 1.0e-12, CmaEsStrategyModel.EIGEN_SOLVER_QL, true);
+
+        for (CmaEsStrategyModel model : List.of(eager, lazy)) {
+            RngManager rng = new RngManager(21L);
+            List<Individual<RealVector>> population = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                population.add(individual(representation.random(rng.stream("init")).values()));
+            }
+            for (int iteration = 0; iteration < 20; iteration++) {
+                population.sort(Comparator.comparingDouble(i -> i.fitness().scalar()));
+                model.fit(new ArrayList<>(population.subList(0, 8)), representation, rng.stream("fit"));
+                population = new ArrayList<>(model.sample(16, representation, null, constraint, rng.stream("sample"))
+                        .stream().map(v -> individual(v.values())).toList());
+            }
+        }
+
+        double eagerCount = eager.diagnostics().numeric().get("cma_eigen_decompositions");
+        double lazyCount = lazy.diagnostics().numeric().get("cma_eigen_decompositions");
+        assertEquals(20.0, eagerCount);
+        assertTrue(lazyCount < eagerCount);
+    }
+
+    @Test
+    void unknownEigenSolverIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CmaEsStrategyModel(1e-12, 5.0, 1e-12, 1.0,
+                true, 30, 2.0, 1.0e12, 1.0e-12, "lapack", true));
+    }
+
     private static double bestFitness(List<Individual<RealVector>> population) {
         return population.stream().mapToDouble(i -> i.fitness().scalar()).min().orElse(Double.POSITIVE_INFINITY);
     }
@@ -6,6 +6,7 @@
 package com.knezevic.edaf.v3.models.continuous;
 
 import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.core.api.defaults.IdentityConstraintHandling;
 import com.knezevic.edaf.v3.core.rng.RngManager;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -44,4 +47,41 @@ class DiagonalGaussianModelTest {
             }
         }
     }
+
+    @Test
+    void batchSamplingMatchesListSamplingAndClampsInPlace() {
+        DiagonalGaussianModel model = new DiagonalGaussianModel(1e-6);
+        RealVectorRepresentation representation = new RealVectorRepresentation(3, -0.5, 0.5);
+        List<Individual<RealVector>> selected = List.of(
+                new Individual<>(new RealVector(new double[]{0.0, 1.0, -1.0}), new ScalarFitness(1.0)),
+                new Individual<>(new RealVector(new double[]{1.0, 2.0, -2.0}), new ScalarFitness(2.0)),
+                new Individual<>(new RealVector(new double[]{-1.0, 0.5, -0.5}), new ScalarFitness(0.5))
+        );
+        model.fit(selected, representation, new RngManager(5L).stream("fit"));
+
+        List<RealVector> expected = model.sample(64, representation, null,
+                new IdentityConstraintHandling<>(), new RngManager(7L).stream("sample"));
+        SampleBatch<RealVector> batch = representation.newSampleBatch(16);
+        model.sampleInto(batch, 64, representation, null,
+                new IdentityConstraintHandling<>(), new RngManager(7L).stream("sample"));
+
+        assertEquals(expected.size(), batch.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i).values(), batch.get(i).values());
+            assertTrue(representation.isValid(batch.get(i)));
+        }
+    }
+
+    @Test
+    void incrementalUpdateTracksExponentiallyWeightedMoments() {
+        DiagonalGaussianModel model = new DiagonalGaussianModel(1e-6);
+        RealVectorRepresentation representation = new RealVectorRepresentation(1, -10.0, 10.0);
+        model.restore(new double[]{0.0}, new double[]{1.0});
+
+        model.update(new Individual<>(new RealVector(new double[]{2.0}), new ScalarFitness(0.0)),
+                0.5, representation, new RngManager(1L).stream("update"));
+
+        assertEquals(1.0, model.mean()[0], 1.0e-12);
+        assertEquals(Math.sqrt(0.5 * (1.0 + 0.5 * 4.0)), model.sigma()[0], 1.0e-12);
+    }
 }
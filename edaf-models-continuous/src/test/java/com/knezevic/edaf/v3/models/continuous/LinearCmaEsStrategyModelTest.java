@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.models.continuous;
+
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.Model;
+import com.knezevic.edaf.v3.core.api.ScalarFitness;
+import com.knezevic.edaf.v3.core.api.defaults.IdentityConstraintHandling;
+import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.models.continuous.plugins.CmaEsStrategyModelPlugin;
+import com.knezevic.edaf.v3.repr.impl.RealVectorRepresentation;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Convergence and persistence checks for sep-CMA-ES and VD-CMA variants.
+ */
+class LinearCmaEsStrategyModelTest {
+
+    @Test
+    void bothVariantsSolveSphere() {
+        for (LinearCmaEsStrategyModel.Variant variant : LinearCmaEsStrategyModel.Variant.values()) {
+            LinearCmaEsStrategyModel model = new LinearCmaEsStrategyModel(variant, 1e-12, 5.0, 1e-12, 1.5,
+                    false, 30, 2.0, 1.0e12, 1.0e-12);
+            double best = optimize(model, 20, 20, 160, LinearCmaEsStrategyModelTest::sphere);
+            assertTrue(best < 1e-3, variant + " reached " + best);
+        }
+    }
+
+    @Test
+    void vdVariantAlignsDirectionWithDominantRidge() {
+        int dim = 30;
+        double[] ridge = new double[dim];
+        for (int i = 0; i < dim; i++) {
+            ridge[i] = 1.0 / Math.sqrt(dim);
+        }
+        // Ill-conditioned along every direction except the all-ones ridge.
+        ToDoubleFunction<double[]> cigarComplement = x -> {
+            double along = 0.0;
+            for (int i = 0; i < dim; i++) {
+                along += x[i] * ridge[i];
+            }
+            double orthogonal = sphere(x) - along * along;
+            return along * along + 1.0e4 * orthogonal;
+        };
+
+        LinearCmaEsStrategyModel model = new LinearCmaEsStrategyModel(LinearCmaEsStrategyModel.Variant.VD,
+                1e-12, 5.0, 1e-12, 1.0, false, 30, 2.0, 1.0e12, 1.0e-12);
+        double best = optimize(model, dim, 24, 600, cigarComplement);
+        assertTrue(best < 1e-8);
+
+        double[] direction = model.direction();
+        double norm = Math.sqrt(sphere(direction));
+        double cosine = 0.0;
+        for (int i = 0; i < dim; i++) {
+            cosine += direction[i] * ridge[i];
+        }
+        assertTrue(norm > 10.0);
+        assertTrue(Math.abs(cosine) / norm > 0.9);
+    }
+
+    @Test
+    void restoreReproducesSamplingWithSameRng() {
+        LinearCmaEsStrategyModel original = new LinearCmaEsStrategyModel(LinearCmaEsStrategyModel.Variant.VD);
+        optimize(original, 8, 12, 5, LinearCmaEsStrategyModelTest::sphere);
+
+        LinearCmaEsStrategyModel restored = new LinearCmaEsStrategyModel(LinearCmaEsStrategyModel.Variant.VD);
+        restored.restore(original.mean(), original.sigma(), original.diagonal(), original.direction(),
+                original.pathSigma(), original.pathCovariance(), original.generation(),
+                original.restartCount(), original.stagnationIterations(), original.bestFitnessSeen());
+
+        RealVectorRepresentation representation = new RealVectorRepresentation(8, -5.0, 5.0);
+        List<RealVector> a = original.sample(30, representation, null, new IdentityConstraintHandling<>(),
+                new RngManager(3L).stream("sample"));
+        List<RealVector> b = restored.sample(30, representation, null, new IdentityConstraintHandling<>(),
+                new RngManager(3L).stream("sample"));
+        for (int i = 0; i < a.size(); i++) {
+            assertArrayEquals(a.get(i).values(), b.get(i).values(), 0.0);
+        }
+    }
+
+    @Test
+    void pluginSelectsVariantFromCovarianceMode() {
+        CmaEsStrategyModelPlugin plugin = new CmaEsStrategyModelPlugin();
+        assertInstanceOf(CmaEsStrategyModel.class, plugin.create(Map.of()));
+        Model<RealVector> sep = plugin.create(Map.of("covarianceMode", "sep"));
+        assertInstanceOf(LinearCmaEsStrategyModel.class, sep);
+        assertTrue(((LinearCmaEsStrategyModel) sep).variant() == LinearCmaEsStrategyModel.Variant.SEP);
+        Model<RealVector> vd = plugin.create(Map.of("covarianceMode", "vd"));
+        assertTrue(((LinearCmaEsStrategyModel) vd).variant() == LinearCmaEsStrategyModel.Variant.VD);
+    }
+
+    private static double optimize(LinearCmaEsStrategyModel model,
+                                   int dim,
+                                   int lambda,
+                                   int iterations,
+                                   ToDoubleFunction<double[]> objective) {
+        RealVectorRepresentation representation = new RealVectorRepresentation(dim, -5.0, 5.0);
+        IdentityConstraintHandling<RealVector> constraint = new IdentityConstraintHandling<>();
+        RngManager rng = new RngManager(77L);
+        List<Individual<RealVector>> population = new ArrayList<>();
+        for (int i = 0; i < lambda; i++) {
+            double[] x = representation.random(rng.stream("init")).values();
+            population.add(new Individual<>(new RealVector(x), new ScalarFitness(objective.applyAsDouble(x))));
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            population.sort(Comparator.comparingDouble(i -> i.fitness().scalar()));
+            best = Math.min(best, population.get(0).fitness().scalar());
+            model.fit(new ArrayList<>(population.subList(0, lambda / 2)), representation, rng.stream("fit"));
+            population = new ArrayList<>();
+            for (RealVector sample : model.sample(lambda, representation, null, constraint, rng.stream("sample"))) {
+                population.add(new Individual<>(sample, new ScalarFitness(objective.applyAsDouble(sample.values()))));
+            }
+        }
+        return best;
+    }
+
+    private static double sphere(double[] values) {
+        double sum = 0.0;
+        for (double value : values) {
+            sum += value * value;
+        }
+        return sum;
+    }
+}
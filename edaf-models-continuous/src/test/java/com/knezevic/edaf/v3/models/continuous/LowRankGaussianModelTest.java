@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.models.continuous;
+
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.ScalarFitness;
+import com.knezevic.edaf.v3.core.api.defaults.IdentityConstraintHandling;
+import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.repr.impl.RealVectorRepresentation;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests low-rank plus diagonal Gaussian model behavior.
+ */
+class LowRankGaussianModelTest {
+
+    @Test
+    void recoversDominantDirectionAndKeepsDiagonalVariance() {
+        int dim = 300;
+        SplittableRandom random = new SplittableRandom(3L);
+        double[] direction = new double[dim];
+        for (int i = 0; i < dim; i++) {
+            direction[i] = 1.0 / Math.sqrt(dim);
+        }
+        List<Individual<RealVector>> selected = new ArrayList<>();
+        for (int s = 0; s < 60; s++) {
+            double latent = 4.0 * random.nextGaussian();
+            double[] x = new double[dim];
+            for (int i = 0; i < dim; i++) {
+                x[i] = latent * direction[i] + 0.1 * random.nextGaussian();
+            }
+            selected.add(new Individual<>(new RealVector(x), new ScalarFitness(s)));
+        }
+
+        LowRankGaussianModel model = new LowRankGaussianModel(2, 1e-9, 1.0, 3);
+        model.fit(selected, new RealVectorRepresentation(dim, -50.0, 50.0), new RngManager(1L).stream("fit"));
+
+        double[] leading = model.factors()[0];
+        double norm = Math.sqrt(dot(leading, leading));
+        assertTrue(Math.abs(dot(leading, direction)) / norm > 0.99);
+
+        double[] mean = ContinuousModelMath.empiricalMean(selected);
+        double[][] factors = model.factors();
+        double[] diagonal = model.diagonal();
+        for (int i = 0; i < dim; i += 37) {
+            double empirical = 0.0;
+            for (Individual<RealVector> individual : selected) {
+                double diff = individual.genotype().values()[i] - mean[i];
+                empirical += diff * diff;
+            }
+            empirical /= selected.size() - 1.0;
+            double modelled = diagonal[i] + factors[0][i] * factors[0][i] + factors[1][i] * factors[1][i];
+            assertEquals(empirical, modelled, 1e-9);
+        }
+        assertTrue(model.diagnostics().numeric().get("lowrank_explained_variance_ratio") > 0.5);
+    }
+
+    @Test
+    void restoreReproducesSamplingWithSameRng() {
+        RealVectorRepresentation representation = new RealVectorRepresentation(5, -8.0, 8.0);
+        List<Individual<RealVector>> selected = List.of(
+                individual(new double[]{-2.0, -1.0, 0.5, 1.0, 0.0}),
+                individual(new double[]{-1.5, -0.5, 1.0, 1.5, 0.2}),
+                individual(new double[]{1.0, 0.8, -0.3, -0.7, 0.1}),
+                individual(new double[]{2.3, 1.7, -0.8, -1.2, -0.4}),
+                individual(new double[]{0.4, 0.2, 0.1, -0.1, 0.3})
+        );
+
+        LowRankGaussianModel original = new LowRankGaussianModel(2, 1e-9, 0.7, 2);
+        RngManager fitRng = new RngManager(5L);
+        original.fit(selected, representation, fitRng.stream("fit"));
+        original.fit(selected.subList(0, 4), representation, fitRng.stream("fit"));
+
+        LowRankGaussianModel restored = new LowRankGaussianModel(2, 1e-9, 0.7, 2);
+        restored.restore(original.mean(), original.factors(), original.diagonal());
+
+        List<RealVector> a = original.sample(40, representation, null, new IdentityConstraintHandling<>(),
+                new RngManager(9L).stream("sample"));
+        List<RealVector> b = restored.sample(40, representation, null, new IdentityConstraintHandling<>(),
+                new RngManager(9L).stream("sample"));
+        for (int i = 0; i < a.size(); i++) {
+            assertArrayEquals(a.get(i).values(), b.get(i).values(), 0.0);
+            for (double value : a.get(i).values()) {
+                assertTrue(Double.isFinite(value));
+            }
+        }
+    }
+
+    private static Individual<RealVector> individual(double[] values) {
+        return new Individual<>(new RealVector(values), new ScalarFitness(0.0));
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -11,6 +11,7 @@ import com.knezevic.edaf.v3.core.api.Model;
 import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
 import com.knezevic.edaf.v3.core.rng.RngStream;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
@@ -79,21 +80,43 @@ public final class BernoulliUmdaModel implements Model<BitString> {
             return;
         }
         int length = selected.get(0).genotype().length();
+        int[] ones = BinaryModelMath.countOnes(selected, length);
         probabilities = new double[length];
 
-        for (Individual<BitString> individual : selected) {
-            boolean[] genes = individual.genotype().genes();
-            for (int i = 0; i < length; i++) {
-                probabilities[i] += genes[i] ? 1.0 : 0.0;
-            }
-        }
-
         for (int i = 0; i < length; i++) {
-            double mean = probabilities[i] / selected.size();
+            double mean = (double) ones[i] / selected.size();
             probabilities[i] = smoothing + (1.0 - 2 * smoothing) * mean;
         }
     }
 
+    /**
+     * Blends one evaluated individual into the marginals.
+     *
+     * <p>Applies {@code p_i <- (1 - η) p_i + η (s + (1 - 2s) x_i)}, so the probability floor
+     * {@code s} of {@link #fit} is preserved.</p>
+     *
+     * @param individual individual folded into the model
+     * @param learningRate update step {@code η} in {@code (0, 1]}
+     * @param representation genotype representation
+     * @param rng random stream
+     */
+    @Override
+    public void update(Individual<BitString> individual,
+                       double learningRate,
+                       Representation<BitString> representation,
+                       RngStream rng) {
+        BitString genes = individual.genotype();
+        if (probabilities == null) {
+            probabilities = new double[genes.length()];
+            java.util.Arrays.fill(probabilities, 0.5);
+        }
+        double eta = Math.max(0.0, Math.min(1.0, learningRate));
+        for (int i = 0; i < probabilities.length; i++) {
+            double target = smoothing + (1.0 - 2 * smoothing) * (genes.get(i) ? 1.0 : 0.0);
+            probabilities[i] = (1.0 - eta) * probabilities[i] + eta * target;
+        }
+    }
+
     @Override
     public List<BitString> sample(int count,
                                   Representation<BitString> representation,
@@ -106,16 +129,51 @@ public final class BernoulliUmdaModel implements Model<BitString> {
 
         java.util.ArrayList<BitString> samples = new java.util.ArrayList<>(count);
         for (int n = 0; n < count; n++) {
-            boolean[] genes = new boolean[probabilities.length];
-            for (int i = 0; i < probabilities.length; i++) {
-                genes[i] = rng.nextDouble() < probabilities[i];
-            }
-            BitString sampled = new BitString(genes);
+            BitString sampled = BinaryModelMath.sampleIndependent(probabilities, rng);
             samples.add(constraintHandling.enforce(sampled, representation, problem, rng));
         }
         return samples;
     }
 
+    /**
+     * Requests the representation's packed-word batch, which {@link #sampleInto} writes directly.
+     *
+     * @param representation genotype representation
+     * @param capacity initial number of samples
+     * @return empty sample batch
+     */
+    @Override
+    public SampleBatch<BitString> newSampleBatch(Representation<BitString> representation, int capacity) {
+        return representation.newSampleBatch(capacity);
+    }
+
+    /**
+     * Samples the whole population into packed words and enforces constraints in one batch pass.
+     *
+     * @param batch destination batch
+     * @param count number of samples
+     * @param representation genotype representation
+     * @param problem optimization problem
+     * @param constraintHandling constraint strategy
+     * @param rng random stream
+     */
+    @Override
+    public void sampleInto(SampleBatch<BitString> batch,
+                           int count,
+                           Representation<BitString> representation,
+                           Problem<BitString> problem,
+                           ConstraintHandling<BitString> constraintHandling,
+                           RngStream rng) {
+        if (probabilities == null) {
+            throw new IllegalStateException("Model must be fitted before sampling");
+        }
+        if (BinaryModelMath.sampleIndependentInto(batch, count, probabilities, rng)) {
+            constraintHandling.enforceBatch(batch, representation, problem, rng);
+        } else {
+            Model.super.sampleInto(batch, count, representation, problem, constraintHandling, rng);
+        }
+    }
+
     /**
      * Returns model diagnostics snapshot.
      *
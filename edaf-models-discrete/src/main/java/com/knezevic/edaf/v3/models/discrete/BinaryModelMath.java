@@ -6,7 +6,10 @@
 package com.knezevic.edaf.v3.models.discrete;
 
 import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
+import com.knezevic.edaf.v3.core.metrics.BitColumnMatrix;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.batch.BitStringBatch;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
 import java.util.ArrayDeque;
@@ -23,7 +26,7 @@ import java.util.List;
  * PBIL, BMDA, BOA-like and Chow-Liu-style models:
  * <ul>
  *     <li>Laplace-smoothed marginals</li>
- *     <li>pairwise mutual information matrix</li>
+ *     <li>pairwise mutual information matrix over bit-transposed columns</li>
  *     <li>maximum spanning tree extraction</li>
  *     <li>tree-topology traversal and conditional sampling</li>
  *     <li>entropy/probability clamping primitives</li>
@@ -42,64 +45,138 @@ final class BinaryModelMath {
 
     static double[] marginalOne(List<Individual<BitString>> selected, double smoothing) {
         int length = selected.getFirst().genotype().length();
+        int[] ones = countOnes(selected, length);
         double[] marginal = new double[length];
-        for (Individual<BitString> individual : selected) {
-            boolean[] genes = individual.genotype().genes();
-            for (int i = 0; i < length; i++) {
-                marginal[i] += genes[i] ? 1.0 : 0.0;
-            }
-        }
         double denom = selected.size() + 2.0 * smoothing;
         for (int i = 0; i < length; i++) {
-            marginal[i] = (marginal[i] + smoothing) / denom;
+            marginal[i] = (ones[i] + smoothing) / denom;
             marginal[i] = clampProbability(marginal[i]);
         }
         return marginal;
     }
 
+    /**
+     * Counts ones per locus by walking set bits of each packed word.
+     */
+    static int[] countOnes(List<Individual<BitString>> selected, int length) {
+        int[] ones = new int[length];
+        for (Individual<BitString> individual : selected) {
+            BitString genotype = individual.genotype();
+            int words = genotype.wordCount();
+            for (int w = 0; w < words; w++) {
+                long word = genotype.word(w);
+                int base = w << 6;
+                while (word != 0L) {
+                    ones[base + Long.numberOfTrailingZeros(word)]++;
+                    word &= word - 1;
+                }
+            }
+        }
+        return ones;
+    }
+
+    /**
+     * Samples independent Bernoulli loci directly into packed words.
+     *
+     * <p>One uniform draw is consumed per locus in index order, so the sampled
+     * sequence is identical to a per-bit {@code boolean[]} loop.</p>
+     */
+    static BitString sampleIndependent(double[] probabilities, RngStream rng) {
+        long[] words = new long[BitString.wordCount(probabilities.length)];
+        sampleIndependentWords(probabilities, words, 0, rng);
+        return BitString.builder(probabilities.length).setWords(words, 0).build();
+    }
+
+    /**
+     * Samples a whole population of independent Bernoulli loci into a packed batch.
+     *
+     * <p>Draw order matches repeated {@link #sampleIndependent} calls.</p>
+     *
+     * @return false when the batch has no packed layout of matching length
+     */
+    static boolean sampleIndependentInto(SampleBatch<BitString> batch,
+                                         int count,
+                                         double[] probabilities,
+                                         RngStream rng) {
+        if (!(batch instanceof BitStringBatch packed) || packed.length() != probabilities.length) {
+            return false;
+        }
+        packed.reset(count);
+        long[] words = packed.words();
+        int stride = packed.wordsPerRow();
+        for (int n = 0; n < count; n++) {
+            sampleIndependentWords(probabilities, words, n * stride, rng);
+        }
+        return true;
+    }
+
+    private static void sampleIndependentWords(double[] probabilities, long[] target, int offset, RngStream rng) {
+        int length = probabilities.length;
+        int words = BitString.wordCount(length);
+        for (int w = 0; w < words; w++) {
+            int base = w << 6;
+            int limit = Math.min(64, length - base);
+            long word = 0L;
+            for (int b = 0; b < limit; b++) {
+                if (rng.nextDouble() < probabilities[base + b]) {
+                    word |= 1L << b;
+                }
+            }
+            target[offset + w] = word;
+        }
+    }
+
     static double[][] mutualInformation(List<Individual<BitString>> selected, double smoothing) {
         int length = selected.getFirst().genotype().length();
-        double[][] matrix = new double[length][length];
         if (selected.size() <= 1) {
-            return matrix;
+            return new double[length][length];
         }
+        return columns(selected, length).pairMatrix(mutualInformationStatistic(selected.size(), smoothing));
+    }
 
-        for (int i = 0; i < length; i++) {
-            for (int j = i + 1; j < length; j++) {
-                double[][] joint = new double[2][2];
-                for (Individual<BitString> individual : selected) {
-                    boolean[] genes = individual.genotype().genes();
-                    int xi = genes[i] ? 1 : 0;
-                    int xj = genes[j] ? 1 : 0;
-                    joint[xi][xj] += 1.0;
-                }
+    static BitColumnMatrix.PairStatistic mutualInformationStatistic(int n, double smoothing) {
+        return (c00, c01, c10, c11) -> pairMutualInformation(c00, c01, c10, c11, n, smoothing);
+    }
 
-                double total = selected.size() + 4.0 * smoothing;
-                double[] pi = new double[2];
-                double[] pj = new double[2];
-                for (int xi = 0; xi < 2; xi++) {
-                    for (int xj = 0; xj < 2; xj++) {
-                        joint[xi][xj] = (joint[xi][xj] + smoothing) / total;
-                        pi[xi] += joint[xi][xj];
-                        pj[xj] += joint[xi][xj];
-                    }
-                }
+    /**
+     * Transposes selected genotypes into per-locus bit columns for popcount pair statistics.
+     */
+    static BitColumnMatrix columns(List<Individual<BitString>> selected, int length) {
+        BitColumnMatrix matrix = new BitColumnMatrix(selected.size(), length);
+        for (int row = 0; row < selected.size(); row++) {
+            BitString genotype = selected.get(row).genotype();
+            int words = genotype.wordCount();
+            for (int w = 0; w < words; w++) {
+                matrix.setRowWord(row, w, genotype.word(w));
+            }
+        }
+        return matrix;
+    }
+
+    static double pairMutualInformation(int c00, int c01, int c10, int c11, int n, double smoothing) {
+        double[][] joint = {{c00, c01}, {c10, c11}};
+        double total = n + 4.0 * smoothing;
+        double[] pi = new double[2];
+        double[] pj = new double[2];
+        for (int xi = 0; xi < 2; xi++) {
+            for (int xj = 0; xj < 2; xj++) {
+                joint[xi][xj] = (joint[xi][xj] + smoothing) / total;
+                pi[xi] += joint[xi][xj];
+                pj[xj] += joint[xi][xj];
+            }
+        }
 
-                double mi = 0.0;
-                for (int xi = 0; xi < 2; xi++) {
-                    for (int xj = 0; xj < 2; xj++) {
-                        double pxy = joint[xi][xj];
-                        double denom = pi[xi] * pj[xj];
-                        if (pxy > 0.0 && denom > 0.0) {
-                            mi += pxy * Math.log(pxy / denom);
-                        }
-                    }
+        double mi = 0.0;
+        for (int xi = 0; xi < 2; xi++) {
+            for (int xj = 0; xj < 2; xj++) {
+                double pxy = joint[xi][xj];
+                double denom = pi[xi] * pj[xj];
+                if (pxy > 0.0 && denom > 0.0) {
+                    mi += pxy * Math.log(pxy / denom);
                 }
-                matrix[i][j] = mi;
-                matrix[j][i] = mi;
             }
         }
-        return matrix;
+        return mi;
     }
 
     static int maxEntropyIndex(double[] marginalOne) {
@@ -128,41 +205,152 @@ final class BinaryModelMath {
         return best;
     }
 
+    /**
+     * Prim's algorithm with per-vertex key arrays, {@code O(n^2)} over a dense weight matrix.
+     *
+     * <p>Ties resolve to the lowest attached vertex and then the lowest new vertex, matching
+     * an exhaustive scan of all (visited, unvisited) pairs in index order.</p>
+     */
     static int[] maximumSpanningTree(double[][] weights, int root) {
         int n = weights.length;
         int[] parent = new int[n];
         Arrays.fill(parent, -1);
         boolean[] visited = new boolean[n];
-        visited[root] = true;
+        double[] key = new double[n];
+        int[] from = new int[n];
+        Arrays.fill(key, Double.NEGATIVE_INFINITY);
+        Arrays.fill(from, -1);
 
+        int added = root;
+        visited[root] = true;
         for (int edge = 0; edge < n - 1; edge++) {
-            double bestWeight = Double.NEGATIVE_INFINITY;
-            int from = -1;
+            double[] row = weights[added];
+            for (int j = 0; j < n; j++) {
+                if (visited[j]) {
+                    continue;
+                }
+                double w = row[j];
+                if (w > key[j] || (w == key[j] && from[j] >= 0 && added < from[j])) {
+                    key[j] = w;
+                    from[j] = added;
+                }
+            }
+
             int to = -1;
-            for (int i = 0; i < n; i++) {
-                if (!visited[i]) {
+            for (int j = 0; j < n; j++) {
+                if (visited[j] || from[j] < 0) {
                     continue;
                 }
-                for (int j = 0; j < n; j++) {
-                    if (visited[j]) {
-                        continue;
-                    }
-                    if (weights[i][j] > bestWeight) {
-                        bestWeight = weights[i][j];
-                        from = i;
-                        to = j;
-                    }
+                if (to < 0 || key[j] > key[to] || (key[j] == key[to] && from[j] < from[to])) {
+                    to = j;
                 }
             }
             if (to < 0) {
                 break;
             }
             visited[to] = true;
-            parent[to] = from;
+            parent[to] = from[to];
+            added = to;
+        }
+        return parent;
+    }
+
+    /**
+     * Maximum spanning tree over a pruned candidate graph of each locus' top partners.
+     *
+     * <p>Kruskal's algorithm runs on the union of the {@code neighbors} best partners per locus,
+     * so the dense weight matrix is never materialized. Components left disconnected by the
+     * pruning are attached to the root through their best-scoring member.</p>
+     */
+    static int[] sparseMaximumSpanningTree(BitColumnMatrix columns,
+                                           BitColumnMatrix.PairStatistic weight,
+                                           int neighbors,
+                                           int root) {
+        int n = columns.columns();
+        BitColumnMatrix.Neighbors candidates = columns.topNeighbors(neighbors, weight);
+        int k = candidates.width();
+        List<int[]> edges = new ArrayList<>(n * k);
+        double[] edgeWeights = new double[n * k];
+        for (int i = 0; i < n; i++) {
+            for (int r = 0; r < k; r++) {
+                int j = candidates.neighbor(i, r);
+                edgeWeights[edges.size()] = candidates.weight(i, r);
+                edges.add(new int[]{Math.min(i, j), Math.max(i, j), edges.size()});
+            }
+        }
+        edges.sort(Comparator.<int[]>comparingDouble(e -> -edgeWeights[e[2]])
+                .thenComparingInt(e -> e[0])
+                .thenComparingInt(e -> e[1]));
+
+        int[] component = new int[n];
+        for (int i = 0; i < n; i++) {
+            component[i] = i;
+        }
+        List<List<Integer>> adjacency = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            adjacency.add(new ArrayList<>());
+        }
+        for (int[] edge : edges) {
+            int a = edge[0];
+            int b = edge[1];
+            int ra = find(component, a);
+            int rb = find(component, b);
+            if (ra != rb) {
+                component[ra] = rb;
+                adjacency.get(a).add(b);
+                adjacency.get(b).add(a);
+            }
+        }
+
+        int rootComponent = find(component, root);
+        int[] bestMember = new int[n];
+        double[] bestWeight = new double[n];
+        Arrays.fill(bestMember, -1);
+        for (int v = 0; v < n; v++) {
+            int c = find(component, v);
+            if (c == rootComponent) {
+                continue;
+            }
+            double w = columns.pair(root, v, weight);
+            if (bestMember[c] < 0 || w > bestWeight[c]) {
+                bestMember[c] = v;
+                bestWeight[c] = w;
+            }
+        }
+        for (int c = 0; c < n; c++) {
+            if (bestMember[c] >= 0) {
+                adjacency.get(root).add(bestMember[c]);
+                adjacency.get(bestMember[c]).add(root);
+            }
+        }
+
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        boolean[] seen = new boolean[n];
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(root);
+        seen[root] = true;
+        while (!queue.isEmpty()) {
+            int node = queue.removeFirst();
+            for (int next : adjacency.get(node)) {
+                if (!seen[next]) {
+                    seen[next] = true;
+                    parent[next] = node;
+                    queue.addLast(next);
+                }
+            }
         }
         return parent;
     }
 
+    private static int find(int[] component, int node) {
+        while (component[node] != node) {
+            component[node] = component[component[node]];
+            node = component[node];
+        }
+        return node;
+    }
+
     static int[] topologicalOrderFromTree(int[] parent, int root) {
         int n = parent.length;
         List<List<Integer>> children = new ArrayList<>(n);
@@ -195,35 +383,24 @@ final class BinaryModelMath {
     }
 
     static double[][] conditionalOneForTree(List<Individual<BitString>> selected, int[] parent, double smoothing) {
+        return conditionalOneForTree(columns(selected, parent.length), parent, smoothing);
+    }
+
+    static double[][] conditionalOneForTree(BitColumnMatrix columns, int[] parent, double smoothing) {
         int n = parent.length;
         double[][] conditional = new double[n][2];
-        double[] parentZero = new double[n];
-        double[] parentOne = new double[n];
-        double[] childOneGivenParentZero = new double[n];
-        double[] childOneGivenParentOne = new double[n];
-
         for (int i = 0; i < n; i++) {
-            if (parent[i] < 0) {
+            int p = parent[i];
+            if (p < 0) {
                 continue;
             }
-            for (Individual<BitString> individual : selected) {
-                boolean[] genes = individual.genotype().genes();
-                int parentBit = genes[parent[i]] ? 1 : 0;
-                if (parentBit == 0) {
-                    parentZero[i] += 1.0;
-                    if (genes[i]) {
-                        childOneGivenParentZero[i] += 1.0;
-                    }
-                } else {
-                    parentOne[i] += 1.0;
-                    if (genes[i]) {
-                        childOneGivenParentOne[i] += 1.0;
-                    }
-                }
-            }
+            int parentOne = columns.ones(p);
+            int parentZero = columns.rows() - parentOne;
+            int childOneGivenParentOne = columns.both(i, p);
+            int childOneGivenParentZero = columns.ones(i) - childOneGivenParentOne;
 
-            conditional[i][0] = (childOneGivenParentZero[i] + smoothing) / (parentZero[i] + 2.0 * smoothing);
-            conditional[i][1] = (childOneGivenParentOne[i] + smoothing) / (parentOne[i] + 2.0 * smoothing);
+            conditional[i][0] = (childOneGivenParentZero + smoothing) / (parentZero + 2.0 * smoothing);
+            conditional[i][1] = (childOneGivenParentOne + smoothing) / (parentOne + 2.0 * smoothing);
             conditional[i][0] = clampProbability(conditional[i][0]);
             conditional[i][1] = clampProbability(conditional[i][1]);
         }
@@ -246,23 +423,6 @@ final class BinaryModelMath {
         return new BitString(genes);
     }
 
-    static int[] orderByEntropy(double[] marginalOne, boolean descending) {
-        Integer[] indices = new Integer[marginalOne.length];
-        for (int i = 0; i < indices.length; i++) {
-            indices[i] = i;
-        }
-        Comparator<Integer> comparator = Comparator.comparingDouble(i -> entropy(marginalOne[i]));
-        if (descending) {
-            comparator = comparator.reversed();
-        }
-        Arrays.sort(indices, comparator);
-        int[] order = new int[indices.length];
-        for (int i = 0; i < indices.length; i++) {
-            order[i] = indices[i];
-        }
-        return order;
-    }
-
     static double entropy(double pOne) {
         double p = clampProbability(pOne);
         double q = 1.0 - p;
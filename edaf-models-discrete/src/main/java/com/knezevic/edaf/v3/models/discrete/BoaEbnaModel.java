@@ -11,6 +11,7 @@ import com.knezevic.edaf.v3.core.api.Model;
 import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.metrics.BitColumnMatrix;
 import com.knezevic.edaf.v3.core.rng.RngStream;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
@@ -23,9 +24,9 @@ import java.util.Map;
 /**
  * Sparse Bayesian-network model used by BOA/EBNA-style discrete EDAs.
  *
- * <p>Variables are ordered by entropy and each node chooses up to
- * {@code maxParents} predecessors with highest mutual information. The resulting
- * directed acyclic graph defines:
+ * <p>The structure is learned by greedy edge addition under a decomposable BIC or
+ * BDeu score with at most {@code maxParents} parents per node (see
+ * {@link GreedyNetworkLearner}). The resulting directed acyclic graph defines:
  * <pre>
  *   p(x) = Π_i p(x_i | Pa(x_i))
  * </pre>
@@ -48,12 +49,16 @@ public final class BoaEbnaModel implements Model<BitString> {
 
     private final int maxParents;
     private final double smoothing;
+    private final GreedyNetworkLearner learner;
 
     private int[] order;
     private int[][] parents;
     private double[] marginalOne;
     private double[][] conditionalProbabilities;
     private int totalEdgeCount;
+    private double networkScore;
+    private long evaluatedCandidates;
+    private double learningMillis;
 
     /**
      * Creates a new BoaEbnaModel instance.
@@ -62,8 +67,25 @@ public final class BoaEbnaModel implements Model<BitString> {
      * @param smoothing Laplace smoothing for CPT estimation
       */
     public BoaEbnaModel(int maxParents, double smoothing) {
+        this(maxParents, smoothing, "bic", 1.0);
+    }
+
+    /**
+     * Creates a new BoaEbnaModel instance with an explicit network score.
+     *
+     * @param maxParents upper bound on parent count per node
+     * @param smoothing Laplace smoothing for CPT estimation
+     * @param score structure score, {@code bic} or {@code bdeu}
+     * @param equivalentSampleSize BDeu equivalent sample size
+     */
+    public BoaEbnaModel(int maxParents, double smoothing, String score, double equivalentSampleSize) {
         this.maxParents = Math.max(0, Math.min(8, maxParents));
         this.smoothing = Math.max(1.0e-9, smoothing);
+        this.learner = new GreedyNetworkLearner(
+                this.maxParents,
+                GreedyNetworkLearner.Score.parse(score),
+                equivalentSampleSize
+        );
     }
 
     /**
@@ -89,20 +111,22 @@ public final class BoaEbnaModel implements Model<BitString> {
             return;
         }
 
+        long started = System.nanoTime();
         this.marginalOne = BinaryModelMath.marginalOne(selected, smoothing);
-        double[][] mutualInformation = BinaryModelMath.mutualInformation(selected, smoothing);
-        this.order = BinaryModelMath.orderByEntropy(marginalOne, true);
-        this.parents = new int[marginalOne.length][];
+        BitColumnMatrix columns = BinaryModelMath.columns(selected, marginalOne.length);
+        GreedyNetworkLearner.Network network = learner.learn(columns);
+        this.order = network.order();
+        this.parents = network.parents();
+        this.networkScore = network.score();
+        this.evaluatedCandidates = network.evaluatedCandidates();
         this.conditionalProbabilities = new double[marginalOne.length][];
 
         totalEdgeCount = 0;
-        int[] position = inversePermutation(order);
         for (int node = 0; node < marginalOne.length; node++) {
-            int[] parentList = selectParents(node, mutualInformation, position);
-            parents[node] = parentList;
-            totalEdgeCount += parentList.length;
-            conditionalProbabilities[node] = estimateConditionalTable(selected, node, parentList, smoothing);
+            totalEdgeCount += parents[node].length;
+            conditionalProbabilities[node] = estimateConditionalTable(columns, node, parents[node], smoothing);
         }
+        this.learningMillis = (System.nanoTime() - started) / 1.0e6;
     }
 
     @Override
@@ -151,27 +175,13 @@ public final class BoaEbnaModel implements Model<BitString> {
         metrics.put("boa_mean_parent_count", totalEdgeCount / (double) parents.length);
         metrics.put("boa_max_parent_count", (double) Arrays.stream(parents).mapToInt(p -> p.length).max().orElse(0));
         metrics.put("boa_order_entropy_head", BinaryModelMath.entropy(marginalOne[order[0]]));
+        metrics.put("boa_network_score", networkScore);
+        metrics.put("boa_candidate_evaluations", (double) evaluatedCandidates);
+        metrics.put("boa_learning_millis", learningMillis);
         return new ModelDiagnostics(metrics);
     }
 
-    private int[] selectParents(int node, double[][] mutualInformation, int[] position) {
-        List<Integer> candidates = new ArrayList<>();
-        int nodePosition = position[node];
-        for (int i = 0; i < position.length; i++) {
-            if (position[i] < nodePosition) {
-                candidates.add(i);
-            }
-        }
-        candidates.sort((a, b) -> Double.compare(mutualInformation[node][b], mutualInformation[node][a]));
-        int size = Math.min(maxParents, candidates.size());
-        int[] selected = new int[size];
-        for (int i = 0; i < size; i++) {
-            selected[i] = candidates.get(i);
-        }
-        return selected;
-    }
-
-    private static double[] estimateConditionalTable(List<Individual<BitString>> selected,
+    private static double[] estimateConditionalTable(BitColumnMatrix columns,
                                                      int node,
                                                      int[] parents,
                                                      double smoothing) {
@@ -179,16 +189,9 @@ public final class BoaEbnaModel implements Model<BitString> {
             return new double[]{0.5};
         }
         int states = 1 << parents.length;
-        double[] totals = new double[states];
-        double[] ones = new double[states];
-        for (Individual<BitString> individual : selected) {
-            boolean[] genes = individual.genotype().genes();
-            int state = encodeParentState(genes, parents);
-            totals[state] += 1.0;
-            if (genes[node]) {
-                ones[state] += 1.0;
-            }
-        }
+        int[] totals = new int[states];
+        int[] ones = new int[states];
+        columns.familyCounts(node, parents, totals, ones);
 
         double[] probabilities = new double[states];
         for (int state = 0; state < states; state++) {
@@ -207,12 +210,4 @@ public final class BoaEbnaModel implements Model<BitString> {
         }
         return state;
     }
-
-    private static int[] inversePermutation(int[] permutation) {
-        int[] inverse = new int[permutation.length];
-        for (int i = 0; i < permutation.length; i++) {
-            inverse[permutation[i]] = i;
-        }
-        return inverse;
-    }
 }
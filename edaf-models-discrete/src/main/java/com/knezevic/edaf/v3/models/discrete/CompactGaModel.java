@@ -11,6 +11,7 @@ import com.knezevic.edaf.v3.core.api.Model;
 import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
 import com.knezevic.edaf.v3.core.rng.RngStream;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
@@ -84,21 +85,45 @@ public final class CompactGaModel implements Model<BitString> {
             java.util.Arrays.fill(probabilities, 0.5);
         }
 
+        int[] ones = BinaryModelMath.countOnes(selected, length);
         double[] empirical = new double[length];
-        for (Individual<BitString> individual : selected) {
-            boolean[] genes = individual.genotype().genes();
-            for (int i = 0; i < length; i++) {
-                empirical[i] += genes[i] ? 1.0 : 0.0;
-            }
-        }
         for (int i = 0; i < length; i++) {
-            empirical[i] /= selected.size();
+            empirical[i] = (double) ones[i] / selected.size();
             double direction = empirical[i] > probabilities[i] ? 1.0 : -1.0;
             probabilities[i] = probabilities[i] + direction * step;
             probabilities[i] = Math.max(1e-6, Math.min(1.0 - 1e-6, probabilities[i]));
         }
     }
 
+    /**
+     * Moves the probability vector one scaled cGA step towards one evaluated individual.
+     *
+     * <p>Treats the individual as the tournament winner against the model itself:
+     * {@code p_i <- p_i ± η · step}, moving towards {@code x_i}. With {@code η = 1} this is the
+     * classic {@code 1/K} cGA move.</p>
+     *
+     * @param individual individual folded into the model
+     * @param learningRate multiplier {@code η} applied to the configured step
+     * @param representation genotype representation
+     * @param rng random stream
+     */
+    @Override
+    public void update(Individual<BitString> individual,
+                       double learningRate,
+                       Representation<BitString> representation,
+                       RngStream rng) {
+        BitString genes = individual.genotype();
+        if (probabilities == null) {
+            probabilities = new double[genes.length()];
+            java.util.Arrays.fill(probabilities, 0.5);
+        }
+        double move = step * Math.max(0.0, learningRate);
+        for (int i = 0; i < probabilities.length; i++) {
+            probabilities[i] += genes.get(i) ? move : -move;
+            probabilities[i] = Math.max(1e-6, Math.min(1.0 - 1e-6, probabilities[i]));
+        }
+    }
+
     @Override
     public List<BitString> sample(int count,
                                   Representation<BitString> representation,
@@ -110,15 +135,51 @@ public final class CompactGaModel implements Model<BitString> {
         }
         java.util.ArrayList<BitString> result = new java.util.ArrayList<>(count);
         for (int n = 0; n < count; n++) {
-            boolean[] genes = new boolean[probabilities.length];
-            for (int i = 0; i < genes.length; i++) {
-                genes[i] = rng.nextDouble() < probabilities[i];
-            }
-            result.add(constraintHandling.enforce(new BitString(genes), representation, problem, rng));
+            BitString candidate = BinaryModelMath.sampleIndependent(probabilities, rng);
+            result.add(constraintHandling.enforce(candidate, representation, problem, rng));
         }
         return result;
     }
 
+    /**
+     * Requests the representation's packed-word batch, which {@link #sampleInto} writes directly.
+     *
+     * @param representation genotype representation
+     * @param capacity initial number of samples
+     * @return empty sample batch
+     */
+    @Override
+    public SampleBatch<BitString> newSampleBatch(Representation<BitString> representation, int capacity) {
+        return representation.newSampleBatch(capacity);
+    }
+
+    /**
+     * Samples the whole population into packed words and enforces constraints in one batch pass.
+     *
+     * @param batch destination batch
+     * @param count number of samples
+     * @param representation genotype representation
+     * @param problem optimization problem
+     * @param constraintHandling constraint strategy
+     * @param rng random stream
+     */
+    @Override
+    public void sampleInto(SampleBatch<BitString> batch,
+                           int count,
+                           Representation<BitString> representation,
+                           Problem<BitString> problem,
+                           ConstraintHandling<BitString> constraintHandling,
+                           RngStream rng) {
+        if (probabilities == null) {
+            throw new IllegalStateException("Model must be fitted before sampling");
+        }
+        if (BinaryModelMath.sampleIndependentInto(batch, count, probabilities, rng)) {
+            constraintHandling.enforceBatch(batch, representation, problem, rng);
+        } else {
+            Model.super.sampleInto(batch, count, representation, problem, constraintHandling, rng);
+        }
+    }
+
     /**
      * Returns model diagnostics snapshot.
      *
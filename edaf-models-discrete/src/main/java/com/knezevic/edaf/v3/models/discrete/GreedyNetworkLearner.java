@@ -0,0 +1,389 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.models.discrete;
+
+import com.knezevic.edaf.v3.core.metrics.BitColumnMatrix;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Greedy edge-addition structure learner for binary Bayesian networks.
+ *
+ * <p>The network score decomposes over families, so adding edge {@code i -> j} changes only the
+ * score of node {@code j}. The learner caches only the improving candidate gains of each child,
+ * so the cache holds {@code O(n · k)} entries for {@code k} improving parents per child instead of a
+ * dense {@code n × n} table. It keeps the best candidate of each child in a priority queue and,
+ * after accepting an edge into {@code j}, rescores only the candidates of {@code j}. Edges that would close a cycle stay invalid
+ * once detected because the graph only grows. Family sufficient statistics come from bit-sliced
+ * popcounts over a shared {@link BitColumnMatrix}, and candidate gains of one child are evaluated
+ * in parallel across candidate parents.</p>
+ *
+ * <p>Supported scores:
+ * <pre>
+ *   BIC:  Σ_j Σ_s Σ_x N_jsx log(N_jsx / N_js) - (log N / 2) · 2^|Pa(j)|
+ *   BDeu: Σ_j Σ_s [lnΓ(α_s) - lnΓ(α_s + N_js) + Σ_x lnΓ(α_s/2 + N_jsx) - lnΓ(α_s/2)],  α_s = ess / 2^|Pa(j)|
+ * </pre></p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+final class GreedyNetworkLearner {
+
+    private static final int PARALLEL_CANDIDATE_THRESHOLD = 64;
+
+    private final int maxParents;
+    private final Score score;
+    private final double equivalentSampleSize;
+
+    /**
+     * Creates a learner.
+     *
+     * @param maxParents upper bound on parent count per node
+     * @param score family score
+     * @param equivalentSampleSize BDeu equivalent sample size, ignored by BIC
+     */
+    GreedyNetworkLearner(int maxParents, Score score, double equivalentSampleSize) {
+        if (maxParents < 0 || maxParents > 30) {
+            throw new IllegalArgumentException("maxParents must be in [0, 30]");
+        }
+        if (!(equivalentSampleSize > 0.0)) {
+            throw new IllegalArgumentException("equivalentSampleSize must be > 0");
+        }
+        this.maxParents = maxParents;
+        this.score = score;
+        this.equivalentSampleSize = equivalentSampleSize;
+    }
+
+    /**
+     * Learns a network from column-packed samples.
+     *
+     * @param columns sample matrix, one column per variable
+     * @return learned network
+     */
+    Network learn(BitColumnMatrix columns) {
+        int n = columns.columns();
+        int[][] parents = new int[n][0];
+        double[] familyScore = new double[n];
+        for (int node = 0; node < n; node++) {
+            familyScore[node] = familyScore(columns, node, parents[node]);
+        }
+        if (maxParents == 0 || n < 2 || columns.rows() == 0) {
+            return new Network(parents, topologicalOrder(parents, n), sum(familyScore), 0L);
+        }
+
+        Gains[] gains = new Gains[n];
+        int[][] blocked = new int[n][0];
+        int[] best = new int[n];
+        int[] version = new int[n];
+        int[][] children = new int[n][0];
+        long evaluated = 0L;
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+
+        IntStream.range(0, n).parallel().forEach(child -> {
+            int[] pending = pendingParents(n, child, parents[child], blocked[child]);
+            gains[child] = scoreCandidates(columns, child, parents[child], familyScore[child], pending, false);
+        });
+        for (int child = 0; child < n; child++) {
+            evaluated += n - 1;
+            offerBest(queue, gains[child], child, version[child], best);
+        }
+
+        while (!queue.isEmpty()) {
+            Candidate candidate = queue.poll();
+            int child = candidate.child();
+            if (candidate.version() != version[child]) {
+                continue;
+            }
+            int parent = best[child];
+            if (reaches(children, child, parent)) {
+                gains[child] = gains[child].without(parent);
+                blocked[child] = append(blocked[child], parent);
+                version[child]++;
+                offerBest(queue, gains[child], child, version[child], best);
+                continue;
+            }
+
+            parents[child] = append(parents[child], parent);
+            children[parent] = append(children[parent], child);
+            familyScore[child] += candidate.gain();
+            version[child]++;
+            if (parents[child].length >= maxParents) {
+                gains[child] = null;
+                continue;
+            }
+
+            int[] pending = pendingParents(n, child, parents[child], blocked[child]);
+            gains[child] = scoreCandidates(columns, child, parents[child], familyScore[child], pending,
+                    pending.length >= PARALLEL_CANDIDATE_THRESHOLD);
+            evaluated += pending.length;
+            offerBest(queue, gains[child], child, version[child], best);
+        }
+        return new Network(parents, topologicalOrder(parents, n), sum(familyScore), evaluated);
+    }
+
+    /**
+     * Computes one family's score contribution.
+     *
+     * @param columns sample matrix
+     * @param node child node
+     * @param parents parent nodes
+     * @return family score
+     */
+    double familyScore(BitColumnMatrix columns, int node, int[] parents) {
+        int states = 1 << parents.length;
+        int[] totals = new int[states];
+        int[] ones = new int[states];
+        columns.familyCounts(node, parents, totals, ones);
+        double value = 0.0;
+        if (score == Score.BIC) {
+            for (int s = 0; s < states; s++) {
+                value += xLogRatio(ones[s], totals[s]) + xLogRatio(totals[s] - ones[s], totals[s]);
+            }
+            return value - 0.5 * Math.log(Math.max(1, columns.rows())) * states;
+        }
+        double alpha = equivalentSampleSize / states;
+        double half = 0.5 * alpha;
+        double halfLogGamma = logGamma(half);
+        for (int s = 0; s < states; s++) {
+            if (totals[s] == 0) {
+                continue;
+            }
+            value += logGamma(alpha) - logGamma(alpha + totals[s])
+                    + logGamma(half + ones[s]) - halfLogGamma
+                    + logGamma(half + totals[s] - ones[s]) - halfLogGamma;
+        }
+        return value;
+    }
+
+    /**
+     * Scores adding each pending parent to the child's current family and keeps the improving ones.
+     */
+    private Gains scoreCandidates(BitColumnMatrix columns,
+                                  int child,
+                                  int[] current,
+                                  double base,
+                                  int[] pending,
+                                  boolean parallel) {
+        double[] values = new double[pending.length];
+        IntStream positions = IntStream.range(0, pending.length);
+        if (parallel) {
+            positions = positions.parallel();
+        }
+        positions.forEach(k -> values[k] = familyScore(columns, child, append(current, pending[k])) - base);
+        return Gains.improving(pending, values);
+    }
+
+    /**
+     * Returns every node except the child itself, its parents and parents known to close a cycle.
+     */
+    private static int[] pendingParents(int n, int child, int[] current, int[] blocked) {
+        boolean[] excluded = new boolean[n];
+        excluded[child] = true;
+        for (int parent : current) {
+            excluded[parent] = true;
+        }
+        for (int parent : blocked) {
+            excluded[parent] = true;
+        }
+        return IntStream.range(0, n).filter(i -> !excluded[i]).toArray();
+    }
+
+    private static void offerBest(PriorityQueue<Candidate> queue, Gains gains, int child, int version, int[] best) {
+        int bestIndex = -1;
+        for (int k = 0; k < gains.parents().length; k++) {
+            if (bestIndex < 0 || gains.values()[k] > gains.values()[bestIndex]) {
+                bestIndex = k;
+            }
+        }
+        if (bestIndex >= 0) {
+            best[child] = gains.parents()[bestIndex];
+            queue.add(new Candidate(gains.values()[bestIndex], child, version));
+        }
+    }
+
+    /**
+     * Returns whether {@code target} is reachable from {@code source} along child edges.
+     */
+    private static boolean reaches(int[][] children, int source, int target) {
+        boolean[] visited = new boolean[children.length];
+        ArrayDeque<Integer> stack = new ArrayDeque<>();
+        stack.push(source);
+        visited[source] = true;
+        while (!stack.isEmpty()) {
+            int node = stack.pop();
+            if (node == target) {
+                return true;
+            }
+            for (int next : children[node]) {
+                if (!visited[next]) {
+                    visited[next] = true;
+                    stack.push(next);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int[] topologicalOrder(int[][] parents, int n) {
+        int[] pending = new int[n];
+        int[][] children = new int[n][0];
+        for (int node = 0; node < n; node++) {
+            pending[node] = parents[node].length;
+            for (int parent : parents[node]) {
+                children[parent] = append(children[parent], node);
+            }
+        }
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int node = 0; node < n; node++) {
+            if (pending[node] == 0) {
+                ready.add(node);
+            }
+        }
+        int[] order = new int[n];
+        int size = 0;
+        while (!ready.isEmpty()) {
+            int node = ready.poll();
+            order[size++] = node;
+            for (int child : children[node]) {
+                if (--pending[child] == 0) {
+                    ready.add(child);
+                }
+            }
+        }
+        if (size != n) {
+            throw new IllegalStateException("Learned network contains a cycle");
+        }
+        return order;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] copy = Arrays.copyOf(values, values.length + 1);
+        copy[values.length] = value;
+        return copy;
+    }
+
+    private static double sum(double[] values) {
+        double total = 0.0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static double xLogRatio(int count, int total) {
+        return count == 0 ? 0.0 : count * Math.log((double) count / total);
+    }
+
+    /**
+     * Lanczos approximation of {@code ln Γ(x)} for {@code x > 0}.
+     */
+    static double logGamma(double x) {
+        if (x < 0.5) {
+            return Math.log(Math.PI / Math.sin(Math.PI * x)) - logGamma(1.0 - x);
+        }
+        double[] coefficients = {
+                676.5203681218851, -1259.1392167224028, 771.32342877765313,
+                -176.61502916214059, 12.507343278686905, -0.13857109526572012,
+                9.9843695780195716e-6, 1.5056327351493116e-7
+        };
+        double z = x - 1.0;
+        double a = 0.99999999999980993;
+        double t = z + 7.5;
+        for (int i = 0; i < coefficients.length; i++) {
+            a += coefficients[i] / (z + i + 1.0);
+        }
+        return 0.5 * Math.log(2.0 * Math.PI) + (z + 0.5) * Math.log(t) - t + Math.log(a);
+    }
+
+    /**
+     * Decomposable network score.
+     */
+    enum Score {
+        BIC,
+        BDEU;
+
+        /**
+         * Parses a configuration value such as {@code bic} or {@code bdeu}.
+         *
+         * @param value score name
+         * @return score
+         */
+        static Score parse(String value) {
+            if (value == null) {
+                return BIC;
+            }
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "bic" -> BIC;
+                case "bdeu", "bde" -> BDEU;
+                default -> throw new IllegalArgumentException("Unknown network score: " + value);
+            };
+        }
+    }
+
+    /**
+     * Learned directed acyclic graph.
+     *
+     * @param parents parent list per node, in acceptance order
+     * @param order topological order with lowest index first among ready nodes
+     * @param score total network score
+     * @param evaluatedCandidates number of candidate family scores computed
+     */
+    record Network(int[][] parents, int[] order, double score, long evaluatedCandidates) {
+    }
+
+    /**
+     * Positive candidate gains of one child, ordered by parent index. Candidates that do not improve
+     * the score are dropped: they can never be accepted before the child's family changes, and every
+     * change rescores all pending parents anyway.
+     */
+    private record Gains(int[] parents, double[] values) {
+
+        static Gains improving(int[] candidates, double[] gains) {
+            int size = 0;
+            for (double gain : gains) {
+                if (gain > 0.0) {
+                    size++;
+                }
+            }
+            int[] parents = new int[size];
+            double[] values = new double[size];
+            int next = 0;
+            for (int k = 0; k < candidates.length; k++) {
+                if (gains[k] > 0.0) {
+                    parents[next] = candidates[k];
+                    values[next++] = gains[k];
+                }
+            }
+            return new Gains(parents, values);
+        }
+
+        Gains without(int parent) {
+            int index = Arrays.binarySearch(parents, parent);
+            if (index < 0) {
+                return this;
+            }
+            int[] keptParents = new int[parents.length - 1];
+            double[] keptValues = new double[values.length - 1];
+            System.arraycopy(parents, 0, keptParents, 0, index);
+            System.arraycopy(values, 0, keptValues, 0, index);
+            System.arraycopy(parents, index + 1, keptParents, index, parents.length - index - 1);
+            System.arraycopy(values, index + 1, keptValues, index, values.length - index - 1);
+            return new Gains(keptParents, keptValues);
+        }
+    }
+
+    private record Candidate(double gain, int child, int version) implements Comparable<Candidate> {
+
+        @Override
+        public int compareTo(Candidate other) {
+            int byGain = Double.compare(other.gain, gain);
+            return byGain != 0 ? byGain : Integer.compare(child, other.child);
+        }
+    }
+}
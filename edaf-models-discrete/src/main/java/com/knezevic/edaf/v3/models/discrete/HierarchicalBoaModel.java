@@ -11,6 +11,7 @@ import com.knezevic.edaf.v3.core.api.Model;
 import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.metrics.BitColumnMatrix;
 import com.knezevic.edaf.v3.core.rng.RngStream;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
@@ -95,10 +96,10 @@ public final class HierarchicalBoaModel implements Model<BitString> {
         }
 
         int dim = selected.getFirst().genotype().length();
-        boolean[][] data = toMatrix(selected, dim);
+        BitColumnMatrix data = BinaryModelMath.columns(selected, dim);
 
         double[] estimatedMarginal = estimateMarginals(data, dim);
-        double[][] mutualInformation = estimateMutualInformation(data, dim);
+        double[][] mutualInformation = estimateMutualInformation(data);
         int[] estimatedOrder = entropyOrder(estimatedMarginal);
         Structure structure = estimateStructure(estimatedOrder, mutualInformation);
         double[][] estimatedConditional = estimateConditionals(data, dim, structure.parent());
@@ -242,72 +243,34 @@ public final class HierarchicalBoaModel implements Model<BitString> {
         return entropy;
     }
 
-    private boolean[][] toMatrix(List<Individual<BitString>> selected, int dim) {
-        boolean[][] data = new boolean[selected.size()][dim];
-        for (int r = 0; r < selected.size(); r++) {
-            boolean[] genes = selected.get(r).genotype().genes();
-            System.arraycopy(genes, 0, data[r], 0, dim);
-        }
-        return data;
-    }
-
-    private double[] estimateMarginals(boolean[][] data, int dim) {
+    private double[] estimateMarginals(BitColumnMatrix data, int dim) {
         double[] marginals = new double[dim];
         for (int i = 0; i < dim; i++) {
-            int ones = 0;
-            for (boolean[] row : data) {
-                if (row[i]) {
-                    ones++;
-                }
-            }
-            marginals[i] = clamp((ones + smoothing) / (data.length + 2.0 * smoothing), 1e-9, 1.0 - 1e-9);
+            marginals[i] = clamp((data.ones(i) + smoothing) / (data.rows() + 2.0 * smoothing), 1e-9, 1.0 - 1e-9);
         }
         return marginals;
     }
 
-    private double[][] estimateMutualInformation(boolean[][] data, int dim) {
-        double[][] matrix = new double[dim][dim];
-        for (int i = 0; i < dim; i++) {
-            for (int j = i + 1; j < dim; j++) {
-                int c00 = 0;
-                int c01 = 0;
-                int c10 = 0;
-                int c11 = 0;
-                for (boolean[] row : data) {
-                    boolean xi = row[i];
-                    boolean xj = row[j];
-                    if (!xi && !xj) {
-                        c00++;
-                    } else if (!xi) {
-                        c01++;
-                    } else if (!xj) {
-                        c10++;
-                    } else {
-                        c11++;
-                    }
-                }
-                double total = data.length + 4.0 * smoothing;
-                double p00 = (c00 + smoothing) / total;
-                double p01 = (c01 + smoothing) / total;
-                double p10 = (c10 + smoothing) / total;
-                double p11 = (c11 + smoothing) / total;
-
-                double px0 = p00 + p01;
-                double px1 = p10 + p11;
-                double py0 = p00 + p10;
-                double py1 = p01 + p11;
-
-                double mi = 0.0;
-                mi += p00 * log2Safe(p00 / (px0 * py0));
-                mi += p01 * log2Safe(p01 / (px0 * py1));
-                mi += p10 * log2Safe(p10 / (px1 * py0));
-                mi += p11 * log2Safe(p11 / (px1 * py1));
-
-                matrix[i][j] = Math.max(0.0, mi);
-                matrix[j][i] = matrix[i][j];
-            }
-        }
-        return matrix;
+    private double[][] estimateMutualInformation(BitColumnMatrix data) {
+        double total = data.rows() + 4.0 * smoothing;
+        return data.pairMatrix((c00, c01, c10, c11) -> {
+            double p00 = (c00 + smoothing) / total;
+            double p01 = (c01 + smoothing) / total;
+            double p10 = (c10 + smoothing) / total;
+            double p11 = (c11 + smoothing) / total;
+
+            double px0 = p00 + p01;
+            double px1 = p10 + p11;
+            double py0 = p00 + p10;
+            double py1 = p01 + p11;
+
+            double mi = 0.0;
+            mi += p00 * log2Safe(p00 / (px0 * py0));
+            mi += p01 * log2Safe(p01 / (px0 * py1));
+            mi += p10 * log2Safe(p10 / (px1 * py0));
+            mi += p11 * log2Safe(p11 / (px1 * py1));
+            return Math.max(0.0, mi);
+        });
     }
 
     private int[] entropyOrder(double[] marginals) {
@@ -350,7 +313,7 @@ public final class HierarchicalBoaModel implements Model<BitString> {
         return new Structure(parent, edges, edges == 0 ? 0.0 : totalMi / edges);
     }
 
-    private double[][] estimateConditionals(boolean[][] data, int dim, int[] parent) {
+    private double[][] estimateConditionals(BitColumnMatrix data, int dim, int[] parent) {
         double[][] conditional = new double[dim][2];
         for (int i = 0; i < dim; i++) {
             int p = parent[i];
@@ -360,23 +323,10 @@ public final class HierarchicalBoaModel implements Model<BitString> {
                 continue;
             }
 
-            int parent0 = 0;
-            int parent1 = 0;
-            int oneGivenParent0 = 0;
-            int oneGivenParent1 = 0;
-            for (boolean[] row : data) {
-                if (row[p]) {
-                    parent1++;
-                    if (row[i]) {
-                        oneGivenParent1++;
-                    }
-                } else {
-                    parent0++;
-                    if (row[i]) {
-                        oneGivenParent0++;
-                    }
-                }
-            }
+            int parent1 = data.ones(p);
+            int parent0 = data.rows() - parent1;
+            int oneGivenParent1 = data.both(i, p);
+            int oneGivenParent0 = data.ones(i) - oneGivenParent1;
 
             conditional[i][0] = clamp((oneGivenParent0 + smoothing) / (parent0 + 2.0 * smoothing), 1e-9, 1.0 - 1e-9);
             conditional[i][1] = clamp((oneGivenParent1 + smoothing) / (parent1 + 2.0 * smoothing), 1e-9, 1.0 - 1e-9);
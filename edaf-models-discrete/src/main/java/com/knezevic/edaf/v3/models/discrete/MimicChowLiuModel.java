@@ -11,6 +11,7 @@ import com.knezevic.edaf.v3.core.api.Model;
 import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.metrics.BitColumnMatrix;
 import com.knezevic.edaf.v3.core.rng.RngStream;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
@@ -27,6 +28,10 @@ import java.util.Map;
  * the root is chosen as the minimum-entropy variable to stabilize chain/tree
  * sampling on highly decisive loci.
  *
+ * <p>With {@code neighbors > 0} the tree is learned over each locus' top partners only,
+ * which keeps memory linear in the number of loci for 10k+ variable instances; the default
+ * learns the exact tree from the dense mutual-information matrix.
+ *
  * <p>References:
  * <ol>
  *   <li>P. A. Bosman and D. Thierens, "MIMIC from a Bayesian perspective,"
@@ -40,6 +45,7 @@ import java.util.Map;
 public final class MimicChowLiuModel implements Model<BitString> {
 
     private final double smoothing;
+    private final int neighbors;
 
     private int root;
     private int[] parent;
@@ -54,7 +60,18 @@ public final class MimicChowLiuModel implements Model<BitString> {
      * @param smoothing Laplace smoothing for marginal and conditional estimates
      */
     public MimicChowLiuModel(double smoothing) {
+        this(smoothing, 0);
+    }
+
+    /**
+     * Creates a new MimicChowLiuModel instance with optional candidate-edge pruning.
+     *
+     * @param smoothing Laplace smoothing for marginal and conditional estimates
+     * @param neighbors partners kept per locus for sparse tree learning; 0 learns the exact dense tree
+     */
+    public MimicChowLiuModel(double smoothing, int neighbors) {
         this.smoothing = Math.max(1.0e-9, smoothing);
+        this.neighbors = Math.max(0, neighbors);
     }
 
     /**
@@ -80,13 +97,24 @@ public final class MimicChowLiuModel implements Model<BitString> {
             return;
         }
 
+        int length = selected.getFirst().genotype().length();
+        BitColumnMatrix columns = BinaryModelMath.columns(selected, length);
+        BitColumnMatrix.PairStatistic mutualInformation =
+                BinaryModelMath.mutualInformationStatistic(selected.size(), smoothing);
         this.marginalOne = BinaryModelMath.marginalOne(selected, smoothing);
-        double[][] mutualInformation = BinaryModelMath.mutualInformation(selected, smoothing);
         this.root = BinaryModelMath.minEntropyIndex(marginalOne);
-        this.parent = BinaryModelMath.maximumSpanningTree(mutualInformation, root);
+        if (neighbors > 0 && neighbors < length - 1 && selected.size() > 1) {
+            this.parent = BinaryModelMath.sparseMaximumSpanningTree(columns, mutualInformation, neighbors, root);
+            this.averageMutualInformation = averageEdgeMutualInformation(columns, mutualInformation, parent);
+        } else {
+            double[][] matrix = selected.size() > 1
+                    ? columns.pairMatrix(mutualInformation)
+                    : new double[length][length];
+            this.parent = BinaryModelMath.maximumSpanningTree(matrix, root);
+            this.averageMutualInformation = averageEdgeMutualInformation(matrix, parent);
+        }
         this.order = BinaryModelMath.topologicalOrderFromTree(parent, root);
-        this.conditionalOne = BinaryModelMath.conditionalOneForTree(selected, parent, smoothing);
-        this.averageMutualInformation = averageEdgeMutualInformation(mutualInformation, parent);
+        this.conditionalOne = BinaryModelMath.conditionalOneForTree(columns, parent, smoothing);
     }
 
     @Override
@@ -139,6 +167,21 @@ public final class MimicChowLiuModel implements Model<BitString> {
         return maxDepth;
     }
 
+    private static double averageEdgeMutualInformation(BitColumnMatrix columns,
+                                                       BitColumnMatrix.PairStatistic mutualInformation,
+                                                       int[] parent) {
+        double sum = 0.0;
+        int edges = 0;
+        for (int node = 0; node < parent.length; node++) {
+            int p = parent[node];
+            if (p >= 0) {
+                sum += columns.pair(node, p, mutualInformation);
+                edges++;
+            }
+        }
+        return edges == 0 ? 0.0 : sum / edges;
+    }
+
     private static double averageEdgeMutualInformation(double[][] mutualInformation, int[] parent) {
         double sum = 0.0;
         int edges = 0;
@@ -49,7 +49,9 @@ public final class BoaEbnaModelPlugin implements ModelPlugin<BitString> {
     public BoaEbnaModel create(Map<String, Object> params) {
         return new BoaEbnaModel(
                 Params.integer(params, "maxParents", 3),
-                Params.dbl(params, "smoothing", 0.5)
+                Params.dbl(params, "smoothing", 0.5),
+                Params.str(params, "score", "bic"),
+                Params.dbl(params, "equivalentSampleSize", 1.0)
         );
     }
 }
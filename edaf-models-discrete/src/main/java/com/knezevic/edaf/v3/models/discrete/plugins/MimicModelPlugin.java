@@ -47,6 +47,9 @@ public final class MimicModelPlugin implements ModelPlugin<BitString> {
      */
     @Override
     public MimicChowLiuModel create(Map<String, Object> params) {
-        return new MimicChowLiuModel(Params.dbl(params, "smoothing", 0.5));
+        return new MimicChowLiuModel(
+                Params.dbl(params, "smoothing", 0.5),
+                Params.integer(params, "neighbors", 0)
+        );
     }
 }
@@ -12,6 +12,7 @@ import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.Representation;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.util.AliasTable;
 import com.knezevic.edaf.v3.repr.types.VariableLengthVector;
 
 import java.util.LinkedHashMap;
@@ -25,7 +26,9 @@ import java.util.Map;
  * <pre>
  *   p(length = l) * Π_{i=0}^{l-1} p(token_i = v)
  * </pre>
- * with Laplace smoothing for both length and token-position marginals.
+ * with Laplace smoothing for both length and token-position marginals. Sampling draws from
+ * alias tables built lazily per distribution, so each token costs {@code O(1)} instead of a
+ * scan over {@code maxToken} values; fits and updates invalidate only the tables they touch.
  *
  * <p>References:
  * <ol>
@@ -44,6 +47,8 @@ public final class TokenCategoricalModel implements Model<VariableLengthVector<I
     private int maxLength;
     private double[] lengthProbabilities;
     private double[][] tokenProbabilities;
+    private AliasTable lengthTable;
+    private AliasTable[] tokenTables;
 
     /**
      * Creates a new TokenCategoricalModel instance.
@@ -101,6 +106,70 @@ public final class TokenCategoricalModel implements Model<VariableLengthVector<I
         for (int i = 0; i < tokenProbabilities.length; i++) {
             normalize(tokenProbabilities[i], smoothing);
         }
+        lengthTable = null;
+        tokenTables = new AliasTable[tokenProbabilities.length];
+    }
+
+    /**
+     * Blends one evaluated individual into the length and per-position token distributions.
+     *
+     * <p>Each distribution moves towards the observed one-hot outcome with
+     * {@code q <- (1 - η) q + η e}. Lengths or positions outside the fitted range extend the
+     * tables: new lengths start at probability zero and new positions start uniform.</p>
+     *
+     * @param individual individual folded into the model
+     * @param learningRate update step {@code η} in {@code (0, 1]}
+     * @param representation genotype representation
+     * @param rng random stream
+     */
+    @Override
+    public void update(Individual<VariableLengthVector<Integer>> individual,
+                       double learningRate,
+                       Representation<VariableLengthVector<Integer>> representation,
+                       RngStream rng) {
+        if (lengthProbabilities == null || tokenProbabilities == null) {
+            throw new IllegalStateException("Model must be fitted before incremental updates");
+        }
+        double eta = Math.max(0.0, Math.min(1.0, learningRate));
+        List<Integer> values = individual.genotype().values();
+        int length = values.size();
+        if (length > 0) {
+            extendLengthRange(length);
+            while (tokenProbabilities.length < length) {
+                double[][] grown = java.util.Arrays.copyOf(tokenProbabilities, tokenProbabilities.length + 1);
+                grown[tokenProbabilities.length] = new double[maxToken];
+                java.util.Arrays.fill(grown[tokenProbabilities.length], 1.0 / maxToken);
+                tokenProbabilities = grown;
+            }
+            blend(lengthProbabilities, length - minLength, eta);
+        }
+        for (int i = 0; i < length; i++) {
+            blend(tokenProbabilities[i], Math.floorMod(values.get(i), maxToken), eta);
+        }
+        lengthTable = null;
+        if (tokenTables.length < tokenProbabilities.length) {
+            tokenTables = java.util.Arrays.copyOf(tokenTables, tokenProbabilities.length);
+        }
+        java.util.Arrays.fill(tokenTables, 0, length, null);
+    }
+
+    private void extendLengthRange(int length) {
+        int newMin = Math.min(minLength, length);
+        int newMax = Math.max(maxLength, length);
+        if (newMin == minLength && newMax == maxLength) {
+            return;
+        }
+        double[] extended = new double[newMax - newMin + 1];
+        System.arraycopy(lengthProbabilities, 0, extended, minLength - newMin, lengthProbabilities.length);
+        lengthProbabilities = extended;
+        minLength = newMin;
+        maxLength = newMax;
+    }
+
+    private static void blend(double[] probabilities, int observed, double eta) {
+        for (int i = 0; i < probabilities.length; i++) {
+            probabilities[i] = (1.0 - eta) * probabilities[i] + (i == observed ? eta : 0.0);
+        }
     }
 
     @Override
@@ -115,12 +184,12 @@ public final class TokenCategoricalModel implements Model<VariableLengthVector<I
 
         java.util.ArrayList<VariableLengthVector<Integer>> samples = new java.util.ArrayList<>(count);
         for (int n = 0; n < count; n++) {
-            int lengthOffset = sampleIndex(lengthProbabilities, rng);
+            int lengthOffset = lengthTable().sample(rng);
             int length = minLength + lengthOffset;
 
             java.util.ArrayList<Integer> tokens = new java.util.ArrayList<>(length);
             for (int i = 0; i < length; i++) {
-                int token = sampleIndex(tokenProbabilities[Math.min(i, tokenProbabilities.length - 1)], rng);
+                int token = tokenTable(Math.min(i, tokenProbabilities.length - 1)).sample(rng);
                 tokens.add(token);
             }
 
@@ -157,16 +226,37 @@ public final class TokenCategoricalModel implements Model<VariableLengthVector<I
         return mean;
     }
 
-    private static int sampleIndex(double[] probabilities, RngStream rng) {
-        double threshold = rng.nextDouble();
-        double cumulative = 0.0;
-        for (int i = 0; i < probabilities.length; i++) {
-            cumulative += probabilities[i];
-            if (threshold <= cumulative) {
-                return i;
-            }
+    private AliasTable lengthTable() {
+        if (lengthTable == null) {
+            lengthTable = aliasTable(lengthProbabilities);
+        }
+        return lengthTable;
+    }
+
+    private AliasTable tokenTable(int position) {
+        AliasTable table = tokenTables[position];
+        if (table == null) {
+            table = aliasTable(tokenProbabilities[position]);
+            tokenTables[position] = table;
+        }
+        return table;
+    }
+
+    private static AliasTable aliasTable(double[] probabilities) {
+        double total = 0.0;
+        for (double p : probabilities) {
+            total += Math.max(0.0, p);
+        }
+        if (!(total > 0.0)) {
+            double[] uniform = new double[probabilities.length];
+            java.util.Arrays.fill(uniform, 1.0);
+            return new AliasTable(uniform);
+        }
+        double[] weights = new double[probabilities.length];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Math.max(0.0, probabilities[i]);
         }
-        return probabilities.length - 1;
+        return new AliasTable(weights);
     }
 
     private static void normalize(double[] values, double smoothing) {
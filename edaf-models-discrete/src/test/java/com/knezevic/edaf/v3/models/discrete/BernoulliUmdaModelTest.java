@@ -6,9 +6,11 @@
 package com.knezevic.edaf.v3.models.discrete;
 
 import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.core.api.defaults.IdentityConstraintHandling;
 import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.repr.batch.BitStringBatch;
 import com.knezevic.edaf.v3.repr.impl.BitStringRepresentation;
 import com.knezevic.edaf.v3.repr.types.BitString;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -51,4 +54,48 @@ class BernoulliUmdaModelTest {
                 samplesB.stream().map(BitString::toString).toList()
         );
     }
+
+    @Test
+    void batchSamplingMatchesListSampling() {
+        BernoulliUmdaModel model = new BernoulliUmdaModel(0.01);
+        BitStringRepresentation representation = new BitStringRepresentation(70);
+        BitString.Builder first = BitString.builder(70);
+        BitString.Builder second = BitString.builder(70);
+        for (int i = 0; i < 70; i++) {
+            first.set(i, i % 3 == 0);
+            second.set(i, i % 5 != 0);
+        }
+        List<Individual<BitString>> selected = List.of(
+                new Individual<>(first.build(), new ScalarFitness(1.0)),
+                new Individual<>(second.build(), new ScalarFitness(2.0))
+        );
+        model.fit(selected, representation, new RngManager(3L).stream("fit"));
+
+        List<BitString> expected = model.sample(40, representation, null,
+                new IdentityConstraintHandling<>(), new RngManager(17L).stream("sample"));
+        SampleBatch<BitString> batch = model.newSampleBatch(representation, 8);
+        assertInstanceOf(BitStringBatch.class, batch);
+        model.sampleInto(batch, 40, representation, null,
+                new IdentityConstraintHandling<>(), new RngManager(17L).stream("sample"));
+
+        assertEquals(expected, batch.toList());
+    }
+
+    @Test
+    void incrementalUpdateBlendsTowardsIndividualAndKeepsFloor() {
+        BernoulliUmdaModel model = new BernoulliUmdaModel(0.05);
+        BitStringRepresentation representation = new BitStringRepresentation(2);
+        model.restore(new double[]{0.5, 0.5});
+        Individual<BitString> individual = new Individual<>(new BitString(new boolean[]{true, false}), new ScalarFitness(1.0));
+
+        model.update(individual, 0.25, representation, new RngManager(1L).stream("update"));
+        assertEquals(0.75 * 0.5 + 0.25 * 0.95, model.probabilities()[0], 1.0e-12);
+        assertEquals(0.75 * 0.5 + 0.25 * 0.05, model.probabilities()[1], 1.0e-12);
+
+        for (int i = 0; i < 500; i++) {
+            model.update(individual, 1.0, representation, new RngManager(1L).stream("update"));
+        }
+        assertEquals(0.95, model.probabilities()[0], 1.0e-12);
+        assertEquals(0.05, model.probabilities()[1], 1.0e-12);
+    }
 }
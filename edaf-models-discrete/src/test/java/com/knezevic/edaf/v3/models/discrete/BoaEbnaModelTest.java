@@ -8,14 +8,18 @@ package com.knezevic.edaf.v3.models.discrete;
 import com.knezevic.edaf.v3.core.api.Individual;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.core.api.defaults.IdentityConstraintHandling;
+import com.knezevic.edaf.v3.core.metrics.BitColumnMatrix;
 import com.knezevic.edaf.v3.core.rng.RngManager;
 import com.knezevic.edaf.v3.repr.impl.BitStringRepresentation;
 import com.knezevic.edaf.v3.repr.types.BitString;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -53,4 +57,127 @@ class BoaEbnaModelTest {
         assertEquals(sampleA.stream().map(BitString::toString).toList(), sampleB.stream().map(BitString::toString).toList());
         assertTrue(model.diagnostics().numeric().getOrDefault("boa_network_edges", 0.0) > 0.0);
     }
+
+    @Test
+    void cachedGreedyLearnerMatchesFullRescanAndRecoversPlantedFamilies() {
+        SplittableRandom random = new SplittableRandom(5L);
+        List<boolean[]> rows = new ArrayList<>();
+        for (int r = 0; r < 400; r++) {
+            boolean[] row = new boolean[10];
+            for (int c = 0; c < row.length; c++) {
+                row[c] = random.nextBoolean();
+            }
+            row[1] = row[0] ^ (random.nextInt(10) == 0);
+            row[4] = (row[2] || row[3]) ^ (random.nextInt(20) == 0);
+            row[7] = (row[5] && row[6]) ^ (random.nextInt(20) == 0);
+            rows.add(row);
+        }
+        BitColumnMatrix columns = BitColumnMatrix.fromRows(rows, 10);
+
+        for (GreedyNetworkLearner.Score score : GreedyNetworkLearner.Score.values()) {
+            GreedyNetworkLearner learner = new GreedyNetworkLearner(3, score, 1.0);
+            GreedyNetworkLearner.Network network = learner.learn(columns);
+
+            int[][] expected = fullRescanGreedy(learner, columns, 3);
+            for (int node = 0; node < 10; node++) {
+                assertArrayEquals(expected[node], network.parents()[node], score + " node " + node);
+            }
+            assertTrue(connected(network.parents(), 0, 1));
+            assertTrue(connected(network.parents(), 2, 4) && connected(network.parents(), 3, 4));
+            assertTrue(connected(network.parents(), 5, 7) && connected(network.parents(), 6, 7));
+
+            int[] position = new int[10];
+            for (int i = 0; i < 10; i++) {
+                position[network.order()[i]] = i;
+            }
+            for (int node = 0; node < 10; node++) {
+                for (int parent : network.parents()[node]) {
+                    assertTrue(position[parent] < position[node]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void bitSlicedFamilyCountsMatchScalarScan() {
+        SplittableRandom random = new SplittableRandom(9L);
+        List<boolean[]> rows = new ArrayList<>();
+        for (int r = 0; r < 131; r++) {
+            boolean[] row = new boolean[6];
+            for (int c = 0; c < row.length; c++) {
+                row[c] = random.nextInt(3) == 0;
+            }
+            rows.add(row);
+        }
+        int[] parents = {4, 0, 2};
+        int[] totals = new int[8];
+        int[] ones = new int[8];
+        BitColumnMatrix.fromRows(rows, 6).familyCounts(5, parents, totals, ones);
+
+        int[] expectedTotals = new int[8];
+        int[] expectedOnes = new int[8];
+        for (boolean[] row : rows) {
+            int state = (row[4] ? 1 : 0) | (row[0] ? 2 : 0) | (row[2] ? 4 : 0);
+            expectedTotals[state]++;
+            if (row[5]) {
+                expectedOnes[state]++;
+            }
+        }
+        assertArrayEquals(expectedTotals, totals);
+        assertArrayEquals(expectedOnes, ones);
+    }
+
+    private static int[][] fullRescanGreedy(GreedyNetworkLearner learner, BitColumnMatrix columns, int maxParents) {
+        int n = columns.columns();
+        int[][] parents = new int[n][0];
+        boolean[][] reach = new boolean[n][n];
+        for (int i = 0; i < n; i++) {
+            reach[i][i] = true;
+        }
+        while (true) {
+            double bestGain = 0.0;
+            int bestChild = -1;
+            int bestParent = -1;
+            for (int child = 0; child < n; child++) {
+                if (parents[child].length >= maxParents) {
+                    continue;
+                }
+                double base = learner.familyScore(columns, child, parents[child]);
+                for (int parent = 0; parent < n; parent++) {
+                    if (reach[child][parent] || contains(parents[child], parent)) {
+                        continue;
+                    }
+                    int[] extended = Arrays.copyOf(parents[child], parents[child].length + 1);
+                    extended[parents[child].length] = parent;
+                    double gain = learner.familyScore(columns, child, extended) - base;
+                    if (gain > bestGain) {
+                        bestGain = gain;
+                        bestChild = child;
+                        bestParent = parent;
+                    }
+                }
+            }
+            if (bestChild < 0) {
+                return parents;
+            }
+            int[] extended = Arrays.copyOf(parents[bestChild], parents[bestChild].length + 1);
+            extended[parents[bestChild].length] = bestParent;
+            parents[bestChild] = extended;
+            for (int a = 0; a < n; a++) {
+                if (reach[a][bestParent]) {
+                    for (int b = 0; b < n; b++) {
+                        reach[a][b] |= reach[bestChild][b];
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean contains(int[] values, int value) {
+        return Arrays.stream(values).anyMatch(v -> v == value);
+    }
+
+    private static boolean connected(int[][] parents, int a, int b) {
+        return contains(parents[a], b) || contains(parents[b], a);
+    }
 }
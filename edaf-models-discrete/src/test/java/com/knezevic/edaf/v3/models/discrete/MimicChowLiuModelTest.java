@@ -8,14 +8,18 @@ package com.knezevic.edaf.v3.models.discrete;
 import com.knezevic.edaf.v3.core.api.Individual;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.core.api.defaults.IdentityConstraintHandling;
+import com.knezevic.edaf.v3.core.metrics.BitColumnMatrix;
 import com.knezevic.edaf.v3.core.rng.RngManager;
 import com.knezevic.edaf.v3.repr.impl.BitStringRepresentation;
 import com.knezevic.edaf.v3.repr.types.BitString;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -51,4 +55,82 @@ class MimicChowLiuModelTest {
         assertEquals(sampleA.stream().map(BitString::toString).toList(), sampleB.stream().map(BitString::toString).toList());
         assertTrue(model.diagnostics().numeric().getOrDefault("mimic_tree_depth", 0.0) >= 1.0);
     }
+
+    @Test
+    void primTreeMatchesExhaustivePairScan() {
+        SplittableRandom random = new SplittableRandom(17L);
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 2 + random.nextInt(30);
+            double[][] weights = new double[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    // Coarse weights force many ties, which exercises tie-breaking.
+                    weights[i][j] = random.nextInt(4);
+                    weights[j][i] = weights[i][j];
+                }
+            }
+            int root = random.nextInt(n);
+            assertArrayEquals(exhaustiveSpanningTree(weights, root), BinaryModelMath.maximumSpanningTree(weights, root));
+        }
+    }
+
+    @Test
+    void sparseTreeKeepsPlantedDependenciesWithoutDenseMatrix() {
+        int loci = 80;
+        SplittableRandom random = new SplittableRandom(23L);
+        List<Individual<BitString>> selected = new ArrayList<>();
+        for (int r = 0; r < 200; r++) {
+            boolean[] genes = new boolean[loci];
+            for (int i = 0; i < loci; i += 2) {
+                genes[i] = random.nextBoolean();
+                genes[i + 1] = random.nextInt(20) == 0 ? !genes[i] : genes[i];
+            }
+            selected.add(new Individual<>(new BitString(genes), new ScalarFitness(r)));
+        }
+
+        BitColumnMatrix columns = BinaryModelMath.columns(selected, loci);
+        int[] parent = BinaryModelMath.sparseMaximumSpanningTree(
+                columns, BinaryModelMath.mutualInformationStatistic(selected.size(), 0.4), 3, 0);
+
+        int edges = 0;
+        for (int node = 0; node < loci; node++) {
+            if (parent[node] >= 0) {
+                edges++;
+            }
+        }
+        assertEquals(loci - 1, edges);
+        assertEquals(loci, BinaryModelMath.topologicalOrderFromTree(parent, 0).length);
+        for (int i = 0; i < loci; i += 2) {
+            assertTrue(parent[i + 1] == i || parent[i] == i + 1, "planted pair " + i + " must be a tree edge");
+        }
+
+        MimicChowLiuModel model = new MimicChowLiuModel(0.4, 3);
+        model.fit(selected, new BitStringRepresentation(loci), new RngManager(5L).stream("fit"));
+        assertTrue(model.diagnostics().numeric().getOrDefault("mimic_avg_mutual_information", 0.0) > 0.0);
+    }
+
+    private static int[] exhaustiveSpanningTree(double[][] weights, int root) {
+        int n = weights.length;
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        boolean[] visited = new boolean[n];
+        visited[root] = true;
+        for (int edge = 0; edge < n - 1; edge++) {
+            double bestWeight = Double.NEGATIVE_INFINITY;
+            int from = -1;
+            int to = -1;
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; visited[i] && j < n; j++) {
+                    if (!visited[j] && weights[i][j] > bestWeight) {
+                        bestWeight = weights[i][j];
+                        from = i;
+                        to = j;
+                    }
+                }
+            }
+            visited[to] = true;
+            parent[to] = from;
+        }
+        return parent;
+    }
 }
@@ -28,6 +28,12 @@ import java.util.Map;
  * estimated from elite edge frequencies with additive {@code epsilon}
  * smoothing. Sampling builds a Hamiltonian path greedily by repeatedly
  * drawing the next unused item from the transition row of the current item.
+ * For sampling, each row is split into its smallest off-diagonal value, which every item shares,
+ * and a sparse residual holding the entries above it; after fitting, the residual holds only the
+ * successors seen in the elite set. A step scans the residual of the current row and draws the
+ * shared part uniformly from an indexed list of unused items, so it costs {@code O(m)} for
+ * {@code m} elites instead of {@code O(n)}, and draws exactly from the conditional distribution
+ * over unused items.
  *
  * <p>References:
  * <ol>
@@ -43,6 +49,10 @@ public final class EdgeHistogramModel implements Model<PermutationVector> {
 
     private final double epsilon;
     private double[][] transitions;
+    private double[] rowBase;
+    private int[] residualOffsets;
+    private int[] residualTargets;
+    private double[] residualWeights;
 
     /**
      * Creates a new EdgeHistogramModel instance.
@@ -89,6 +99,7 @@ public final class EdgeHistogramModel implements Model<PermutationVector> {
         }
 
         normalizeRows();
+        residualOffsets = null;
     }
 
     @Override
@@ -102,18 +113,26 @@ public final class EdgeHistogramModel implements Model<PermutationVector> {
         }
         java.util.ArrayList<PermutationVector> samples = new java.util.ArrayList<>(count);
         int n = transitions.length;
+        if (residualOffsets == null) {
+            buildResiduals();
+        }
+        int[] free = new int[n];
+        int[] slot = new int[n];
 
         for (int sampleIndex = 0; sampleIndex < count; sampleIndex++) {
+            for (int i = 0; i < n; i++) {
+                free[i] = i;
+                slot[i] = i;
+            }
             int[] permutation = new int[n];
-            boolean[] used = new boolean[n];
             int current = rng.nextInt(n);
+            int remaining = take(free, slot, n, current);
             permutation[0] = current;
-            used[current] = true;
 
             for (int pos = 1; pos < n; pos++) {
-                int next = sampleNext(current, used, rng);
+                int next = sampleNext(current, free, slot, remaining, rng);
+                remaining = take(free, slot, remaining, next);
                 permutation[pos] = next;
-                used[next] = true;
                 current = next;
             }
 
@@ -148,41 +167,95 @@ public final class EdgeHistogramModel implements Model<PermutationVector> {
         return new ModelDiagnostics(metrics);
     }
 
-    private int sampleNext(int current, boolean[] used, RngStream rng) {
-        double total = 0.0;
-        for (int city = 0; city < transitions[current].length; city++) {
-            if (!used[city]) {
-                total += transitions[current][city];
+    /**
+     * Splits every row into a shared base value and the sparse entries above it.
+     */
+    private void buildResiduals() {
+        int n = transitions.length;
+        double[] base = new double[n];
+        int[] offsets = new int[n + 1];
+        int entries = 0;
+        for (int i = 0; i < n; i++) {
+            double[] row = transitions[i];
+            double min = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < n; j++) {
+                if (j != i) {
+                    min = Math.min(min, row[j]);
+                }
+            }
+            base[i] = n > 1 ? Math.max(0.0, min) : 0.0;
+            for (int j = 0; j < n; j++) {
+                if (j != i && row[j] > base[i]) {
+                    entries++;
+                }
             }
+            offsets[i + 1] = entries;
         }
-
-        if (total <= 0.0) {
-            for (int city = 0; city < used.length; city++) {
-                if (!used[city]) {
-                    return city;
+        int[] targets = new int[entries];
+        double[] weights = new double[entries];
+        int written = 0;
+        for (int i = 0; i < n; i++) {
+            double[] row = transitions[i];
+            for (int j = 0; j < n; j++) {
+                if (j != i && row[j] > base[i]) {
+                    targets[written] = j;
+                    weights[written] = row[j] - base[i];
+                    written++;
                 }
             }
-            return 0;
         }
+        rowBase = base;
+        residualOffsets = offsets;
+        residualTargets = targets;
+        residualWeights = weights;
+    }
 
-        double r = rng.nextDouble() * total;
-        double cumulative = 0.0;
-        for (int city = 0; city < transitions[current].length; city++) {
-            if (used[city]) {
-                continue;
-            }
-            cumulative += transitions[current][city];
-            if (cumulative >= r) {
-                return city;
+    /**
+     * Draws the next item among the first {@code remaining} entries of {@code free}, the unused
+     * items, with probability proportional to {@code transitions[current][item]}.
+     */
+    private int sampleNext(int current, int[] free, int[] slot, int remaining, RngStream rng) {
+        double residualMass = 0.0;
+        for (int r = residualOffsets[current]; r < residualOffsets[current + 1]; r++) {
+            if (slot[residualTargets[r]] < remaining) {
+                residualMass += residualWeights[r];
             }
         }
-
-        for (int city = transitions[current].length - 1; city >= 0; city--) {
-            if (!used[city]) {
-                return city;
+        double total = residualMass + rowBase[current] * remaining;
+        if (total <= 0.0) {
+            return free[rng.nextInt(remaining)];
+        }
+        double draw = rng.nextDouble() * total;
+        if (draw >= residualMass) {
+            return free[rng.nextInt(remaining)];
+        }
+        int next = -1;
+        double cumulative = 0.0;
+        for (int r = residualOffsets[current]; r < residualOffsets[current + 1]; r++) {
+            int target = residualTargets[r];
+            if (slot[target] < remaining) {
+                next = target;
+                cumulative += residualWeights[r];
+                if (cumulative > draw) {
+                    break;
+                }
             }
         }
-        return 0;
+        return next;
+    }
+
+    /**
+     * Removes an item from the free list by swapping it with the last unused entry.
+     */
+    private static int take(int[] free, int[] slot, int remaining, int item) {
+        int last = remaining - 1;
+        int position = slot[item];
+        int moved = free[last];
+        free[position] = moved;
+        slot[moved] = position;
+        free[last] = item;
+        slot[item] = last;
+        return last;
     }
 
     private void normalizeRows() {
@@ -226,5 +299,6 @@ public final class EdgeHistogramModel implements Model<PermutationVector> {
         for (int i = 0; i < transitions.length; i++) {
             this.transitions[i] = java.util.Arrays.copyOf(transitions[i], transitions[i].length);
         }
+        this.residualOffsets = null;
     }
 }
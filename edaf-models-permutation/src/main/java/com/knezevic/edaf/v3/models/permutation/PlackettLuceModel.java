@@ -12,6 +12,7 @@ import com.knezevic.edaf.v3.core.api.ModelDiagnostics;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.Representation;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.util.FenwickSampler;
 import com.knezevic.edaf.v3.repr.types.PermutationVector;
 
 import java.util.LinkedHashMap;
@@ -26,7 +27,9 @@ import java.util.Map;
  * <pre>
  *   P(i chosen at step k) = w_i / Σ_{j in remaining} w_j
  * </pre>
- * Weights are estimated from elite position scores, then normalized.
+ * Weights are estimated from elite position scores, then normalized. Remaining weights are
+ * kept in a Fenwick tree, so each draw and removal costs {@code O(log n)} and a permutation
+ * costs {@code O(n log n)}.
  *
  * <p>References:
  * <ol>
@@ -91,12 +94,14 @@ public final class PlackettLuceModel implements Model<PermutationVector> {
 
         java.util.ArrayList<PermutationVector> samples = new java.util.ArrayList<>(count);
         int n = weights.length;
+        FenwickSampler remaining = new FenwickSampler(n);
         for (int sampleIndex = 0; sampleIndex < count; sampleIndex++) {
+            remaining.reset(weights);
             int[] permutation = new int[n];
-            boolean[] used = new boolean[n];
             for (int pos = 0; pos < n; pos++) {
-                permutation[pos] = sampleOne(used, rng);
-                used[permutation[pos]] = true;
+                int item = remaining.sample(rng);
+                permutation[pos] = item;
+                remaining.remove(item);
             }
             samples.add(constraintHandling.enforce(new PermutationVector(permutation), representation, problem, rng));
         }
@@ -118,32 +123,4 @@ public final class PlackettLuceModel implements Model<PermutationVector> {
         values.put("pl_max_weight", java.util.Arrays.stream(weights).max().orElse(0.0));
         return new ModelDiagnostics(values);
     }
-
-    private int sampleOne(boolean[] used, RngStream rng) {
-        double total = 0.0;
-        for (int i = 0; i < weights.length; i++) {
-            if (!used[i]) {
-                total += weights[i];
-            }
-        }
-
-        double r = rng.nextDouble() * total;
-        double cumulative = 0.0;
-        for (int i = 0; i < weights.length; i++) {
-            if (used[i]) {
-                continue;
-            }
-            cumulative += weights[i];
-            if (cumulative >= r) {
-                return i;
-            }
-        }
-
-        for (int i = weights.length - 1; i >= 0; i--) {
-            if (!used[i]) {
-                return i;
-            }
-        }
-        return 0;
-    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.models.permutation.plugins;
+
+import com.knezevic.edaf.v3.core.plugins.ModelPlugin;
+import com.knezevic.edaf.v3.core.util.Params;
+import com.knezevic.edaf.v3.models.permutation.SparseEdgeHistogramModel;
+import com.knezevic.edaf.v3.repr.types.PermutationVector;
+
+import java.util.Map;
+
+/**
+ * Plugin factory for sparse candidate-list edge histogram model.
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class SparseEdgeHistogramModelPlugin implements ModelPlugin<PermutationVector> {
+
+    /**
+     * Returns component type identifier.
+     *
+     * @return component type
+     */
+    @Override
+    public String type() {
+        return "ehm-sparse";
+    }
+
+    /**
+     * Returns a short human-readable component description.
+     *
+     * @return human-readable model description
+     */
+    @Override
+    public String description() {
+        return "Sparse candidate-list Edge Histogram Model for large permutation instances";
+    }
+
+    /**
+     * Creates plugin component instance.
+     *
+     * @param params model parameter map from YAML configuration
+     * @return created component
+     */
+    @Override
+    public SparseEdgeHistogramModel create(Map<String, Object> params) {
+        return new SparseEdgeHistogramModel(
+                Params.dbl(params, "epsilon", 1e-6),
+                Params.dbl(params, "candidatePrior", 0.1),
+                Params.integer(params, "neighbors", 10)
+        );
+    }
+}
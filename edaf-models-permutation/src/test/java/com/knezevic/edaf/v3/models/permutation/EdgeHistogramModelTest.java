@@ -13,12 +13,16 @@ import com.knezevic.edaf.v3.repr.impl.PermutationVectorRepresentation;
 import com.knezevic.edaf.v3.repr.types.PermutationVector;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Tests EHM sampling validity.
+ * Tests EHM sampling validity and its conditional distribution.
  */
 class EdgeHistogramModelTest {
 
@@ -41,4 +45,34 @@ class EdgeHistogramModelTest {
             assertTrue(representation.isValid(sample));
         }
     }
+
+    @Test
+    void samplingFollowsTransitionRowsOverUnusedItems() {
+        EdgeHistogramModel model = new EdgeHistogramModel(1e-6);
+        PermutationVectorRepresentation representation = new PermutationVectorRepresentation(3);
+        double[][] transitions = {
+                {0.0, 0.7, 0.3},
+                {0.2, 0.0, 0.8},
+                {0.5, 0.5, 0.0}
+        };
+        model.restore(transitions);
+
+        int draws = 30_000;
+        Map<String, Integer> counts = new HashMap<>();
+        for (PermutationVector sample : model.sample(draws, representation, null,
+                new IdentityConstraintHandling<>(), new RngManager(20L).stream("sample"))) {
+            counts.merge(Arrays.toString(sample.order()), 1, Integer::sum);
+        }
+        for (int first = 0; first < 3; first++) {
+            for (int second = 0; second < 3; second++) {
+                if (second == first) {
+                    continue;
+                }
+                int third = 3 - first - second;
+                double expected = transitions[first][second] / (transitions[first][second] + transitions[first][third]) / 3.0;
+                double observed = counts.getOrDefault(Arrays.toString(new int[]{first, second, third}), 0) / (double) draws;
+                assertEquals(expected, observed, 0.015);
+            }
+        }
+    }
 }
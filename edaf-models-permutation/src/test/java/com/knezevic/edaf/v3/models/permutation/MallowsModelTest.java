@@ -8,6 +8,7 @@ package com.knezevic.edaf.v3.models.permutation;
 import com.knezevic.edaf.v3.core.api.Individual;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.core.api.defaults.IdentityConstraintHandling;
+import com.knezevic.edaf.v3.core.metrics.PermutationMetrics;
 import com.knezevic.edaf.v3.core.rng.RngManager;
 import com.knezevic.edaf.v3.repr.impl.PermutationVectorRepresentation;
 import com.knezevic.edaf.v3.repr.types.PermutationVector;
@@ -50,4 +51,39 @@ class MallowsModelTest {
         }
         assertTrue(model.diagnostics().numeric().getOrDefault("mallows_theta", 0.0) >= 0.0);
     }
+
+    @Test
+    void fenwickRimMatchesExpectedKendallDistanceToConsensus() {
+        MallowsModel model = new MallowsModel(0.3, 0.3);
+        int n = 200;
+        PermutationVectorRepresentation representation = new PermutationVectorRepresentation(n);
+        int[] identity = new int[n];
+        for (int i = 0; i < n; i++) {
+            identity[i] = i;
+        }
+        model.fit(List.of(new Individual<>(new PermutationVector(identity), new ScalarFitness(0.0))),
+                representation, new RngManager(1L).stream("fit"));
+        double phi = model.diagnostics().numeric().get("mallows_phi");
+
+        double expected = 0.0;
+        for (int i = 0; i < n; i++) {
+            double weight = 0.0;
+            double weighted = 0.0;
+            for (int v = 0; v <= i; v++) {
+                weight += Math.pow(phi, v);
+                weighted += v * Math.pow(phi, v);
+            }
+            expected += weighted / weight;
+        }
+
+        List<PermutationVector> samples = model.sample(400, representation, null,
+                new IdentityConstraintHandling<>(), new RngManager(2L).stream("sample"));
+        double mean = 0.0;
+        for (PermutationVector sample : samples) {
+            assertTrue(representation.isValid(sample));
+            mean += PermutationMetrics.kendallDistance(identity, sample.order());
+        }
+        mean /= samples.size();
+        assertEquals(expected, mean, 0.05 * expected);
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.models.permutation;
+
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.Individual;
+import com.knezevic.edaf.v3.core.api.ObjectiveSense;
+import com.knezevic.edaf.v3.core.api.Problem;
+import com.knezevic.edaf.v3.core.api.ScalarFitness;
+import com.knezevic.edaf.v3.core.api.defaults.IdentityConstraintHandling;
+import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.distance.CoordinateEmbedding;
+import com.knezevic.edaf.v3.repr.impl.PermutationVectorRepresentation;
+import com.knezevic.edaf.v3.repr.types.PermutationVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests sparse EHM sampling and candidate-list construction.
+ */
+class SparseEdgeHistogramModelTest {
+
+    @Test
+    void sampledLargeToursRemainValidAndFollowEliteEdges() {
+        int n = 3000;
+        RngManager rng = new RngManager(2026L);
+        RngStream coordinateRng = rng.stream("coords");
+        double[][] coordinates = new double[n][];
+        for (int i = 0; i < n; i++) {
+            coordinates[i] = new double[]{coordinateRng.nextDouble() * 1000.0, coordinateRng.nextDouble() * 1000.0};
+        }
+        PermutationVectorRepresentation representation = new PermutationVectorRepresentation(n);
+        int[] elite = IntStream.range(0, n).toArray();
+        List<Individual<PermutationVector>> selected = new ArrayList<>();
+        for (int copy = 0; copy < 5; copy++) {
+            selected.add(new Individual<>(new PermutationVector(elite.clone()), new ScalarFitness(copy)));
+        }
+
+        SparseEdgeHistogramModel model = new SparseEdgeHistogramModel(1e-9, 1e-3, 10);
+        model.fit(selected, representation, rng.stream("fit"));
+        List<PermutationVector> samples = model.sample(
+                20, representation, new PlanarProblem(coordinates), new IdentityConstraintHandling<>(), rng.stream("sample"));
+
+        long followed = 0L;
+        for (PermutationVector sample : samples) {
+            assertTrue(representation.isValid(sample));
+            int[] order = sample.order();
+            for (int i = 0; i + 1 < n; i++) {
+                if (order[i + 1] == (order[i] + 1) % n) {
+                    followed++;
+                }
+            }
+        }
+        // Elite successors carry weight 5 against 10 neighbour priors of 1e-3.
+        assertTrue(followed > 0.95 * samples.size() * (n - 1), "followed elite edges: " + followed);
+        assertTrue(model.diagnostics().numeric().get("ehm_mean_candidates") >= 10.0);
+        assertEquals((double) n, model.diagnostics().numeric().get("ehm_elite_edges"));
+    }
+
+    @Test
+    void restoredStateReproducesSamples() {
+        PermutationVectorRepresentation representation = new PermutationVectorRepresentation(6);
+        List<Individual<PermutationVector>> selected = List.of(
+                new Individual<>(new PermutationVector(new int[]{0, 1, 2, 3, 4, 5}), new ScalarFitness(1.0)),
+                new Individual<>(new PermutationVector(new int[]{5, 3, 1, 0, 2, 4}), new ScalarFitness(2.0))
+        );
+        SparseEdgeHistogramModel model = new SparseEdgeHistogramModel(1e-3, 0.5, 0);
+        model.fit(selected, representation, new RngManager(1L).stream("fit"));
+
+        SparseEdgeHistogramModel restored = new SparseEdgeHistogramModel(1e-3, 0.5, 0);
+        restored.restore(model.eliteOffsets(), model.eliteTargets(), model.eliteCounts());
+
+        List<PermutationVector> expected = model.sample(
+                50, representation, null, new IdentityConstraintHandling<>(), new RngManager(9L).stream("sample"));
+        List<PermutationVector> actual = restored.sample(
+                50, representation, null, new IdentityConstraintHandling<>(), new RngManager(9L).stream("sample"));
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i).order(), actual.get(i).order());
+        }
+    }
+
+    private record PlanarProblem(double[][] coordinates) implements Problem<PermutationVector>, CoordinateEmbedding {
+
+        @Override
+        public String name() {
+            return "planar";
+        }
+
+        @Override
+        public ObjectiveSense objectiveSense() {
+            return ObjectiveSense.MINIMIZE;
+        }
+
+        @Override
+        public Fitness evaluate(PermutationVector genotype) {
+            return new ScalarFitness(0.0);
+        }
+    }
+}
@@ -5,13 +5,15 @@
 
 package com.knezevic.edaf.v3.problems;
 
+import com.knezevic.edaf.v3.core.api.BatchProblem;
 import com.knezevic.edaf.v3.core.api.Fitness;
 import com.knezevic.edaf.v3.core.api.ObjectiveSense;
-import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.problems.coco.BbobFunctions;
 import com.knezevic.edaf.v3.repr.types.RealVector;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -19,7 +21,7 @@ import java.util.List;
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public final class CocoBbobProblem implements Problem<RealVector> {
+public final class CocoBbobProblem implements BatchProblem<RealVector> {
 
     private final String suite;
     private final int functionId;
@@ -77,6 +79,39 @@ public final class CocoBbobProblem implements Problem<RealVector> {
         return new ScalarFitness(result);
     }
 
+    /**
+     * Evaluates candidate solutions through the blocked {@link BbobFunctions#evaluateBatch} path.
+     *
+     * <p>Genotypes shorter than the configured dimension cannot share one rotation, so a batch
+     * containing any of them is evaluated one genotype at a time.</p>
+     *
+     * @param genotypes candidate genotypes
+     * @return fitness values in input order
+     */
+    @Override
+    public List<Fitness> evaluateBatch(List<RealVector> genotypes) {
+        int size = genotypes.size();
+        double[][] points = new double[size][];
+        for (int i = 0; i < size; i++) {
+            RealVector genotype = genotypes.get(i);
+            if (genotype.length() < dimension) {
+                List<Fitness> fitness = new ArrayList<>(size);
+                for (RealVector each : genotypes) {
+                    fitness.add(evaluate(each));
+                }
+                return fitness;
+            }
+            points[i] = genotype.length() == dimension ? genotype.values() : Arrays.copyOf(genotype.values(), dimension);
+        }
+        double[] values = new double[size];
+        BbobFunctions.evaluateBatch(functionId, points, instanceId, values);
+        List<Fitness> fitness = new ArrayList<>(size);
+        for (double value : values) {
+            fitness.add(new ScalarFitness(value));
+        }
+        return fitness;
+    }
+
     /**
      * Returns feasibility violations.
      *
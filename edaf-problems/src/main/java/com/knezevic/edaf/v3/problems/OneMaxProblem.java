@@ -6,17 +6,19 @@
 package com.knezevic.edaf.v3.problems;
 
 import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.IncrementalProblem;
 import com.knezevic.edaf.v3.core.api.ObjectiveSense;
-import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
 /**
  * OneMax benchmark: maximize number of ones in bitstring.
+ *
+ * <p>Delta evaluation adjusts the running popcount by {@code +1/-1} per changed bit.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public final class OneMaxProblem implements Problem<BitString> {
+public final class OneMaxProblem implements IncrementalProblem<BitString, OneMaxProblem.State> {
 
     /**
      * Returns problem identifier.
@@ -48,4 +50,68 @@ public final class OneMaxProblem implements Problem<BitString> {
     public Fitness evaluate(BitString genotype) {
         return new ScalarFitness(genotype.ones());
     }
+
+    /**
+     * Counts ones once and returns the running-count state.
+     *
+     * @param genotype genotype to evaluate
+     * @return evaluation state
+     */
+    @Override
+    public State evaluationState(BitString genotype) {
+        State state = new State();
+        state.ones = genotype.ones();
+        return state;
+    }
+
+    /**
+     * Returns the fitness described by a state.
+     *
+     * @param state evaluation state
+     * @return number of ones
+     */
+    @Override
+    public Fitness fitness(State state) {
+        return new ScalarFitness(state.ones);
+    }
+
+    /**
+     * Applies popcount deltas for changed bits.
+     *
+     * @param base genotype described by state
+     * @param state evaluation state updated in place
+     * @param candidate changed genotype
+     * @param changedPositions positions that may differ
+     * @return candidate fitness
+     */
+    @Override
+    public Fitness evaluateDelta(BitString base, State state, BitString candidate, int[] changedPositions) {
+        for (int index : changedPositions) {
+            boolean before = base.get(index);
+            if (before != candidate.get(index)) {
+                state.ones += before ? -1 : 1;
+            }
+        }
+        return fitness(state);
+    }
+
+    /**
+     * Copies a state.
+     *
+     * @param state evaluation state
+     * @return independent copy
+     */
+    @Override
+    public State copyState(State state) {
+        State copy = new State();
+        copy.ones = state.ones;
+        return copy;
+    }
+
+    /**
+     * Running popcount of one genotype.
+     */
+    public static final class State {
+        private int ones;
+    }
 }
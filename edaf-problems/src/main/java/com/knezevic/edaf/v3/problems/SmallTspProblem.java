@@ -9,6 +9,9 @@ import com.knezevic.edaf.v3.core.api.Fitness;
 import com.knezevic.edaf.v3.core.api.ObjectiveSense;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
+import com.knezevic.edaf.v3.repr.distance.CoordinateEmbedding;
+import com.knezevic.edaf.v3.repr.distance.DistanceProvider;
+import com.knezevic.edaf.v3.repr.distance.TourDistances;
 import com.knezevic.edaf.v3.repr.types.PermutationVector;
 
 /**
@@ -16,9 +19,10 @@ import com.knezevic.edaf.v3.repr.types.PermutationVector;
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public final class SmallTspProblem implements Problem<PermutationVector> {
+public final class SmallTspProblem implements Problem<PermutationVector>, CoordinateEmbedding, TourDistances {
 
     private final double[][] coordinates;
+    private final DistanceMatrix distances;
 
     /**
      * Creates a new SmallTspProblem instance.
@@ -29,6 +33,7 @@ public final class SmallTspProblem implements Problem<PermutationVector> {
         this.coordinates = coordinates == null || coordinates.length == 0
                 ? defaultCoordinates()
                 : coordinates;
+        this.distances = new DistanceMatrix(this.coordinates);
     }
 
     /**
@@ -83,6 +88,26 @@ public final class SmallTspProblem implements Problem<PermutationVector> {
         return java.util.List.of();
     }
 
+    /**
+     * Returns city coordinates.
+     *
+     * @return shared coordinate rows
+     */
+    @Override
+    public double[][] coordinates() {
+        return coordinates;
+    }
+
+    /**
+     * Returns Euclidean distances with full neighbour lists.
+     *
+     * @return precomputed distance matrix
+     */
+    @Override
+    public DistanceProvider distances() {
+        return distances;
+    }
+
     private static double distance(double[] a, double[] b) {
         double dx = a[0] - b[0];
         double dy = a[1] - b[1];
@@ -101,4 +126,50 @@ public final class SmallTspProblem implements Problem<PermutationVector> {
                 {4.0, 7.0}
         };
     }
+
+    /**
+     * Precomputed Euclidean matrix; every other city is a neighbour, nearest first.
+     */
+    private static final class DistanceMatrix implements DistanceProvider {
+
+        private final int size;
+        private final double[] matrix;
+        private final int[][] neighbors;
+
+        private DistanceMatrix(double[][] coordinates) {
+            this.size = coordinates.length;
+            this.matrix = new double[size * size];
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    matrix[i * size + j] = SmallTspProblem.distance(coordinates[i], coordinates[j]);
+                }
+            }
+            this.neighbors = new int[size][];
+            for (int i = 0; i < size; i++) {
+                int from = i;
+                neighbors[i] = java.util.stream.IntStream.range(0, size)
+                        .filter(j -> j != from)
+                        .boxed()
+                        .sorted(java.util.Comparator.comparingDouble((Integer j) -> matrix[from * size + j])
+                                .thenComparingInt(j -> j))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public double distance(int from, int to) {
+            return matrix[from * size + to];
+        }
+
+        @Override
+        public int[] neighbors(int item) {
+            return neighbors[item];
+        }
+    }
 }
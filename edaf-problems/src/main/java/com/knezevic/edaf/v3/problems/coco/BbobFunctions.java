@@ -5,10 +5,15 @@
 
 package com.knezevic.edaf.v3.problems.coco;
 
+import com.knezevic.edaf.v3.problems.continuous.TransformKernels;
+import com.knezevic.edaf.v3.problems.continuous.TransformKernels.ScratchBuffers;
+
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Queue;
 import java.util.SplittableRandom;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Deterministic COCO/BBOB-style objective functions with instance-dependent transforms.
@@ -16,12 +21,40 @@ import java.util.concurrent.ConcurrentHashMap;
  * <p>This implementation focuses on reproducible benchmarking flows inside EDAF.
  * Formulas follow the standard BBOB family structure (shifted/rotated variants,
  * conditioning, and multimodality), while keeping implementation compact.</p>
+ *
+ * <p>Each (function, instance, dimension) caches its transform: shift, row-major rotation,
+ * conditioning factors and Gallagher peaks. Evaluation shifts and rotates into scratch vectors
+ * through {@link TransformKernels}. Each call borrows a set of scratch vectors from a pool and
+ * returns it when done, so the pool holds one set per concurrent evaluation rather than one per
+ * thread that ever evaluated, and virtual-thread executors do not leave a copy behind per
+ * task.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
 public final class BbobFunctions {
 
     private static final Map<Key, Transform> CACHE = new ConcurrentHashMap<>();
+    private static final Queue<ScratchBuffers> SCRATCH = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Points shifted and rotated together by {@link #evaluateBatch}.
+     */
+    public static final int BATCH_BLOCK = 16;
+
+    private static final int WEIERSTRASS_K_MAX = 12;
+    private static final double[] WEIERSTRASS_AMPLITUDES = new double[WEIERSTRASS_K_MAX + 1];
+    private static final double[] WEIERSTRASS_FREQUENCIES = new double[WEIERSTRASS_K_MAX + 1];
+    private static final double WEIERSTRASS_OFFSET;
+
+    static {
+        double c = 0.0;
+        for (int k = 0; k <= WEIERSTRASS_K_MAX; k++) {
+            WEIERSTRASS_AMPLITUDES[k] = Math.pow(0.5, k);
+            WEIERSTRASS_FREQUENCIES[k] = 2 * Math.PI * Math.pow(3.0, k);
+            c += WEIERSTRASS_AMPLITUDES[k] * Math.cos(WEIERSTRASS_FREQUENCIES[k] * 0.5);
+        }
+        WEIERSTRASS_OFFSET = c;
+    }
 
     private BbobFunctions() {
         // utility class
@@ -37,32 +70,119 @@ public final class BbobFunctions {
     public static double evaluate(int functionId, double[] x, int instanceId) {
         int n = x.length;
         Transform t = CACHE.computeIfAbsent(new Key(functionId, instanceId, n), BbobFunctions::buildTransform);
+        ScratchBuffers scratch = borrowScratch();
+        try {
+            double[] z = scratch.get(0, n);
+            TransformKernels.subtract(x, t.shift, z);
+            double[] r = z;
+            if (rotated(functionId)) {
+                r = scratch.get(1, n);
+                TransformKernels.rotate(t.rotation, z, r);
+            }
+            return evaluateTransformed(functionId, t, x, z, r);
+        } finally {
+            SCRATCH.offer(scratch);
+        }
+    }
+
+    /**
+     * Evaluates one BBOB function id for a population of equal-length vectors.
+     *
+     * <p>Rotated functions shift and rotate {@link #BATCH_BLOCK} points at a time through
+     * {@link TransformKernels#rotateBatch}, so the rotation matrix is streamed once per block
+     * instead of once per point. {@code out[i]} is bit-identical to
+     * {@code evaluate(functionId, xs[i], instanceId)}.</p>
+     * @param functionId benchmark function identifier
+     * @param xs input vectors, all of the same length
+     * @param instanceId benchmark instance identifier
+     * @param out destination with at least {@code xs.length} entries
+     */
+    public static void evaluateBatch(int functionId, double[][] xs, int instanceId, double[] out) {
+        if (xs.length == 0) {
+            return;
+        }
+        int n = xs[0].length;
+        for (double[] x : xs) {
+            if (x.length != n) {
+                throw new IllegalArgumentException("Batch vectors must share one dimension, got " + n + " and " + x.length);
+            }
+        }
+        if (!rotated(functionId)) {
+            for (int i = 0; i < xs.length; i++) {
+                out[i] = evaluate(functionId, xs[i], instanceId);
+            }
+            return;
+        }
+
+        Transform t = CACHE.computeIfAbsent(new Key(functionId, instanceId, n), BbobFunctions::buildTransform);
+        ScratchBuffers scratch = borrowScratch();
+        try {
+            double[] z = scratch.get(0, n);
+            double[] r = scratch.get(1, n);
+            double[] zBlock = scratch.get(2, BATCH_BLOCK * n);
+            double[] rBlock = scratch.get(3, BATCH_BLOCK * n);
+            for (int start = 0; start < xs.length; start += BATCH_BLOCK) {
+                int count = Math.min(BATCH_BLOCK, xs.length - start);
+                for (int p = 0; p < count; p++) {
+                    TransformKernels.subtract(xs[start + p], t.shift, zBlock, p * n);
+                }
+                TransformKernels.rotateBatch(t.rotation, n, zBlock, count, rBlock);
+                for (int p = 0; p < count; p++) {
+                    System.arraycopy(zBlock, p * n, z, 0, n);
+                    System.arraycopy(rBlock, p * n, r, 0, n);
+                    out[start + p] = evaluateTransformed(functionId, t, xs[start + p], z, r);
+                }
+            }
+        } finally {
+            SCRATCH.offer(scratch);
+        }
+    }
 
+    /**
+     * Takes an idle set of scratch vectors from the pool, or creates one when all are in use.
+     * Callers hand it back with {@code SCRATCH.offer} once the evaluation finishes.
+     */
+    private static ScratchBuffers borrowScratch() {
+        ScratchBuffers scratch = SCRATCH.poll();
+        return scratch != null ? scratch : new ScratchBuffers(4);
+    }
+
+    private static boolean rotated(int functionId) {
+        return switch (functionId) {
+            case 1, 2, 3, 4, 5, 8, 20 -> false;
+            default -> true;
+        };
+    }
+
+    /**
+     * Evaluates a function from its shifted point {@code z} and rotated point {@code r}; both
+     * are scratch vectors that some functions transform in place.
+     */
+    private static double evaluateTransformed(int functionId, Transform t, double[] x, double[] z, double[] r) {
         return switch (functionId) {
-            case 1 -> sphere(shift(x, t.shift));
-            case 2 -> ellipsoid(shift(x, t.shift), 1.0e6);
-            case 3 -> rastrigin(shift(x, t.shift));
-            case 4 -> bucheRastrigin(shift(x, t.shift));
-            case 5 -> linearSlope(x, t.shift);
-            case 6 -> attractiveSector(rotate(shift(x, t.shift), t.rotation), t.shift);
-            case 7 -> stepEllipsoid(rotate(shift(x, t.shift), t.rotation));
-            case 8 -> rosenbrock(addScalar(shift(x, t.shift), 1.0));
-            case 9 -> rosenbrock(addScalar(rotate(shift(x, t.shift), t.rotation), 1.0));
-            case 10 -> ellipsoid(rotate(shift(x, t.shift), t.rotation), 1.0e6);
-            case 11 -> discus(rotate(shift(x, t.shift), t.rotation));
-            case 12 -> bentCigar(rotate(shift(x, t.shift), t.rotation));
-            case 13 -> sharpRidge(rotate(shift(x, t.shift), t.rotation));
-            case 14 -> differentPowers(rotate(shift(x, t.shift), t.rotation));
-            case 15 -> rastrigin(rotate(shift(x, t.shift), t.rotation));
-            case 16 -> weierstrass(rotate(shift(x, t.shift), t.rotation));
-            case 17 -> schaffersF7(rotate(shift(x, t.shift), t.rotation), false);
-            case 18 -> schaffersF7(rotate(shift(x, t.shift), t.rotation), true);
-            case 19 -> griewankRosenbrock(rotate(shift(x, t.shift), t.rotation));
-            case 20 -> schwefel(shift(x, t.shift));
-            case 21 -> gallagher(rotate(shift(x, t.shift), t.rotation), t, 101);
-            case 22 -> gallagher(rotate(shift(x, t.shift), t.rotation), t, 21);
-            case 23 -> katsuura(rotate(shift(x, t.shift), t.rotation));
-            case 24 -> lunacekBiRastrigin(rotate(shift(x, t.shift), t.rotation), t.shift);
+            case 1 -> sphere(z);
+            case 2 -> ellipsoid(z, t.conditioning);
+            case 3 -> rastrigin(z);
+            case 4 -> bucheRastrigin(z);
+            case 5 -> linearSlope(x, t.shift, t.tenScale);
+            case 6 -> attractiveSector(r, t.shift);
+            case 7 -> stepEllipsoid(r, t.conditioning);
+            case 8 -> rosenbrock(plusOne(z));
+            case 9 -> rosenbrock(plusOne(r));
+            case 10 -> ellipsoid(r, t.conditioning);
+            case 11 -> discus(r);
+            case 12 -> bentCigar(r);
+            case 13 -> sharpRidge(r);
+            case 14 -> differentPowers(r);
+            case 15 -> rastrigin(r);
+            case 16 -> weierstrass(r);
+            case 17 -> schaffersF7(r, false, t.tenScale);
+            case 18 -> schaffersF7(r, true, t.tenScale);
+            case 19 -> griewankRosenbrock(r);
+            case 20 -> schwefel(z);
+            case 21, 22 -> gallagher(r, t);
+            case 23 -> katsuura(r);
+            case 24 -> lunacekBiRastrigin(r, t.shift);
             default -> throw new IllegalArgumentException("Unsupported BBOB function id: " + functionId);
         };
     }
@@ -78,7 +198,15 @@ public final class BbobFunctions {
         }
 
         double[][] rotation = orthogonal(random, n);
-        return new Transform(shift, rotation, seed);
+        int peaks = key.functionId() == 21 ? 101 : key.functionId() == 22 ? 21 : 0;
+        return new Transform(
+                shift,
+                TransformKernels.flatten(rotation),
+                seed,
+                TransformKernels.powerScale(1.0e6, n),
+                TransformKernels.powerScale(10.0, n),
+                GallagherPeaks.generate(seed, n, peaks)
+        );
     }
 
     private static long seedFor(Key key) {
@@ -95,33 +223,9 @@ public final class BbobFunctions {
         return z ^ (z >>> 33);
     }
 
-    private static double[] shift(double[] x, double[] shift) {
-        double[] y = Arrays.copyOf(x, x.length);
-        for (int i = 0; i < y.length; i++) {
-            y[i] -= shift[i];
-        }
-        return y;
-    }
-
-    private static double[] addScalar(double[] x, double scalar) {
-        double[] y = Arrays.copyOf(x, x.length);
-        for (int i = 0; i < y.length; i++) {
-            y[i] += scalar;
-        }
-        return y;
-    }
-
-    private static double[] rotate(double[] x, double[][] rotation) {
-        int n = x.length;
-        double[] y = new double[n];
-        for (int i = 0; i < n; i++) {
-            double sum = 0.0;
-            for (int j = 0; j < n; j++) {
-                sum += rotation[i][j] * x[j];
-            }
-            y[i] = sum;
-        }
-        return y;
+    private static double[] plusOne(double[] x) {
+        TransformKernels.addScalar(x, 1.0);
+        return x;
     }
 
     private static double sphere(double[] x) {
@@ -132,16 +236,10 @@ public final class BbobFunctions {
         return sum;
     }
 
-    private static double ellipsoid(double[] x, double condition) {
-        if (x.length == 1) {
-            return x[0] * x[0];
-        }
+    private static double ellipsoid(double[] x, double[] conditioning) {
         double sum = 0.0;
-        int n = x.length;
-        for (int i = 0; i < n; i++) {
-            double exponent = i / (double) (n - 1);
-            double factor = Math.pow(condition, exponent);
-            sum += factor * x[i] * x[i];
+        for (int i = 0; i < x.length; i++) {
+            sum += conditioning[i] * x[i] * x[i];
         }
         return sum;
     }
@@ -154,8 +252,7 @@ public final class BbobFunctions {
         return sum;
     }
 
-    private static double bucheRastrigin(double[] x) {
-        double[] y = Arrays.copyOf(x, x.length);
+    private static double bucheRastrigin(double[] y) {
         for (int i = 0; i < y.length; i++) {
             if (y[i] > 0) {
                 y[i] *= 10.0;
@@ -164,11 +261,11 @@ public final class BbobFunctions {
         return rastrigin(y) + boundaryPenalty(y, 5.0);
     }
 
-    private static double linearSlope(double[] x, double[] shift) {
+    private static double linearSlope(double[] x, double[] shift, double[] slopes) {
         int n = x.length;
         double sum = 0.0;
         for (int i = 0; i < n; i++) {
-            double slope = Math.pow(10.0, i / (double) Math.max(1, n - 1));
+            double slope = slopes[i];
             sum += slope * (5.0 * Math.signum(shift[i]) - x[i]);
         }
         return sum + boundaryPenalty(x, 5.0);
@@ -186,14 +283,13 @@ public final class BbobFunctions {
         return Math.pow(sum, 0.9);
     }
 
-    private static double stepEllipsoid(double[] y) {
-        double[] z = Arrays.copyOf(y, y.length);
+    private static double stepEllipsoid(double[] z, double[] conditioning) {
         for (int i = 0; i < z.length; i++) {
             double value = z[i];
             double transformed = Math.floor(value + 0.5);
             z[i] = Math.abs(value) > 0.5 ? transformed : transformed / 10.0;
         }
-        return ellipsoid(z, 1.0e6);
+        return ellipsoid(z, conditioning);
     }
 
     private static double rosenbrock(double[] x) {
@@ -253,34 +349,24 @@ public final class BbobFunctions {
     }
 
     private static double weierstrass(double[] x) {
-        final double a = 0.5;
-        final double b = 3.0;
-        final int kMax = 12;
-
-        double c = 0.0;
-        for (int k = 0; k <= kMax; k++) {
-            c += Math.pow(a, k) * Math.cos(2 * Math.PI * Math.pow(b, k) * 0.5);
-        }
-
         double sum = 0.0;
         for (double xi : x) {
-            for (int k = 0; k <= kMax; k++) {
-                sum += Math.pow(a, k) * Math.cos(2 * Math.PI * Math.pow(b, k) * (xi + 0.5));
+            for (int k = 0; k <= WEIERSTRASS_K_MAX; k++) {
+                sum += WEIERSTRASS_AMPLITUDES[k] * Math.cos(WEIERSTRASS_FREQUENCIES[k] * (xi + 0.5));
             }
         }
-        return sum - x.length * c;
+        return sum - x.length * WEIERSTRASS_OFFSET;
     }
 
-    private static double schaffersF7(double[] x, boolean illConditioned) {
-        int n = x.length;
+    private static double schaffersF7(double[] y, boolean illConditioned, double[] tenScale) {
+        int n = y.length;
         if (n <= 1) {
-            return Math.sqrt(Math.abs(x[0])) + x[0] * x[0];
+            return Math.sqrt(Math.abs(y[0])) + y[0] * y[0];
         }
 
-        double[] y = Arrays.copyOf(x, x.length);
-        if (illConditioned && n > 1) {
+        if (illConditioned) {
             for (int i = 0; i < n; i++) {
-                y[i] *= Math.pow(10.0, i / (double) (n - 1));
+                y[i] *= tenScale[i];
             }
         }
 
@@ -318,25 +404,18 @@ public final class BbobFunctions {
         return 418.9829 * n - sum;
     }
 
-    private static double gallagher(double[] x, Transform transform, int peaks) {
+    private static double gallagher(double[] x, Transform transform) {
+        GallagherPeaks peaks = transform.peaks;
         int n = x.length;
-        long seed = mix64(transform.seed() ^ 0xA55A5AA5L ^ (peaks * 31L) ^ (n * 7L));
-        SplittableRandom random = new SplittableRandom(seed);
-
         double best = Double.NEGATIVE_INFINITY;
-        for (int p = 0; p < peaks; p++) {
-            double[] center = new double[n];
-            for (int i = 0; i < n; i++) {
-                center[i] = -4.0 + 8.0 * random.nextDouble();
-            }
-            double width = 0.05 + 2.95 * random.nextDouble();
-            double height = 10.0 + 90.0 * random.nextDouble();
+        for (int p = 0; p < peaks.count(); p++) {
+            int offset = p * n;
             double distance2 = 0.0;
             for (int i = 0; i < n; i++) {
-                double diff = x[i] - center[i];
+                double diff = x[i] - peaks.centers[offset + i];
                 distance2 += diff * diff;
             }
-            double value = height * Math.exp(-0.5 * width * distance2);
+            double value = peaks.heights[p] * Math.exp(-0.5 * peaks.widths[p] * distance2);
             if (value > best) {
                 best = value;
             }
@@ -429,7 +508,44 @@ public final class BbobFunctions {
     private record Key(int functionId, int instanceId, int dimension) {
     }
 
-    private record Transform(double[] shift, double[][] rotation, long seed) {
+    /**
+     * Cached instance transform; {@code rotation} is row-major.
+     */
+    private record Transform(double[] shift,
+                             double[] rotation,
+                             long seed,
+                             double[] conditioning,
+                             double[] tenScale,
+                             GallagherPeaks peaks) {
+    }
+
+    /**
+     * Gallagher peak centres (row-major, one row per peak), widths and heights, drawn once per
+     * instance in the same order as the original per-call generation.
+     */
+    private record GallagherPeaks(double[] centers, double[] widths, double[] heights) {
+
+        private static GallagherPeaks generate(long transformSeed, int n, int peaks) {
+            double[] centers = new double[peaks * n];
+            double[] widths = new double[peaks];
+            double[] heights = new double[peaks];
+            if (peaks > 0) {
+                long seed = mix64(transformSeed ^ 0xA55A5AA5L ^ (peaks * 31L) ^ (n * 7L));
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int p = 0; p < peaks; p++) {
+                    for (int i = 0; i < n; i++) {
+                        centers[p * n + i] = -4.0 + 8.0 * random.nextDouble();
+                    }
+                    widths[p] = 0.05 + 2.95 * random.nextDouble();
+                    heights[p] = 10.0 + 90.0 * random.nextDouble();
+                }
+            }
+            return new GallagherPeaks(centers, widths, heights);
+        }
+
+        private int count() {
+            return widths.length;
+        }
     }
 
     private static final class GaussianSource {
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.continuous;
+
+/**
+ * Allocation-free shift/rotation kernels shared by the BBOB and CEC benchmark families.
+ *
+ * <p>Kernels write into caller-provided buffers, typically a thread's {@link ScratchBuffers}.
+ * Every kernel keeps the summation order of the straightforward scalar loop, so results are
+ * bit-identical to it. {@link #rotate} gets its speed from a flat row-major matrix and from
+ * computing four rows per pass: each {@code x[j]} is loaded once for four independent
+ * accumulators, which keeps the floating-point pipeline busy without reordering any
+ * sum.</p>
+ *
+ * <p>{@link #rotateBatch} applies one rotation to a block of points, i.e. the matrix product
+ * {@code points x R^T}. It computes a 4-row by 2-point register tile per pass, so every matrix
+ * element loaded is used for two points and the matrix is streamed once per point pair instead
+ * of once per point. Each output is still a sequential sum over {@code j}, so a point rotated
+ * in a batch is bit-identical to the same point rotated alone.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class TransformKernels {
+
+    private TransformKernels() {
+        // utility class
+    }
+
+    /**
+     * Flattens a square matrix into row-major order.
+     * @param matrix square matrix
+     * @return row-major copy
+     */
+    public static double[] flatten(double[][] matrix) {
+        int n = matrix.length;
+        double[] flat = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(matrix[i], 0, flat, i * n, n);
+        }
+        return flat;
+    }
+
+    /**
+     * Writes {@code out[i] = x[i] - y[i]} for {@code i < out.length}.
+     * @param x minuend
+     * @param y subtrahend
+     * @param out destination, may alias {@code x}
+     */
+    public static void subtract(double[] x, double[] y, double[] out) {
+        for (int i = 0; i < out.length; i++) {
+            out[i] = x[i] - y[i];
+        }
+    }
+
+    /**
+     * Writes {@code out[offset + i] = x[i] - y[i]} for {@code i < x.length}.
+     * @param x minuend
+     * @param y subtrahend
+     * @param out destination block
+     * @param offset first destination index
+     */
+    public static void subtract(double[] x, double[] y, double[] out, int offset) {
+        for (int i = 0; i < x.length; i++) {
+            out[offset + i] = x[i] - y[i];
+        }
+    }
+
+    /**
+     * Adds a scalar to every element in place.
+     * @param values values to update
+     * @param scalar added constant
+     */
+    public static void addScalar(double[] values, double scalar) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] += scalar;
+        }
+    }
+
+    /**
+     * Writes {@code out = R x} for a row-major {@code n x n} matrix {@code R}, with
+     * {@code n = x.length}.
+     * @param rotation row-major matrix
+     * @param x input vector
+     * @param out destination; must not alias {@code x}
+     */
+    public static void rotate(double[] rotation, double[] x, double[] out) {
+        int n = x.length;
+        int i = 0;
+        for (; i + 3 < n; i += 4) {
+            int row0 = i * n;
+            int row1 = row0 + n;
+            int row2 = row1 + n;
+            int row3 = row2 + n;
+            double sum0 = 0.0;
+            double sum1 = 0.0;
+            double sum2 = 0.0;
+            double sum3 = 0.0;
+            for (int j = 0; j < n; j++) {
+                double xj = x[j];
+                sum0 += rotation[row0 + j] * xj;
+                sum1 += rotation[row1 + j] * xj;
+                sum2 += rotation[row2 + j] * xj;
+                sum3 += rotation[row3 + j] * xj;
+            }
+            out[i] = sum0;
+            out[i + 1] = sum1;
+            out[i + 2] = sum2;
+            out[i + 3] = sum3;
+        }
+        for (; i < n; i++) {
+            int row = i * n;
+            double sum = 0.0;
+            for (int j = 0; j < n; j++) {
+                sum += rotation[row + j] * x[j];
+            }
+            out[i] = sum;
+        }
+    }
+
+    /**
+     * Rotates {@code count} points stored back to back in {@code points}: point {@code p}
+     * occupies {@code points[p*n .. p*n+n)} and its image is written to the same range of
+     * {@code out}.
+     * @param rotation row-major {@code n x n} matrix
+     * @param n dimension
+     * @param points row-major point block
+     * @param count number of points
+     * @param out destination block; must not alias {@code points}
+     */
+    public static void rotateBatch(double[] rotation, int n, double[] points, int count, double[] out) {
+        int p = 0;
+        for (; p + 1 < count; p += 2) {
+            int x0 = p * n;
+            int x1 = x0 + n;
+            int i = 0;
+            for (; i + 3 < n; i += 4) {
+                int row0 = i * n;
+                int row1 = row0 + n;
+                int row2 = row1 + n;
+                int row3 = row2 + n;
+                double a0 = 0.0;
+                double a1 = 0.0;
+                double a2 = 0.0;
+                double a3 = 0.0;
+                double b0 = 0.0;
+                double b1 = 0.0;
+                double b2 = 0.0;
+                double b3 = 0.0;
+                for (int j = 0; j < n; j++) {
+                    double xa = points[x0 + j];
+                    double xb = points[x1 + j];
+                    double r0 = rotation[row0 + j];
+                    double r1 = rotation[row1 + j];
+                    double r2 = rotation[row2 + j];
+                    double r3 = rotation[row3 + j];
+                    a0 += r0 * xa;
+                    a1 += r1 * xa;
+                    a2 += r2 * xa;
+                    a3 += r3 * xa;
+                    b0 += r0 * xb;
+                    b1 += r1 * xb;
+                    b2 += r2 * xb;
+                    b3 += r3 * xb;
+                }
+                out[x0 + i] = a0;
+                out[x0 + i + 1] = a1;
+                out[x0 + i + 2] = a2;
+                out[x0 + i + 3] = a3;
+                out[x1 + i] = b0;
+                out[x1 + i + 1] = b1;
+                out[x1 + i + 2] = b2;
+                out[x1 + i + 3] = b3;
+            }
+            for (; i < n; i++) {
+                int row = i * n;
+                double a = 0.0;
+                double b = 0.0;
+                for (int j = 0; j < n; j++) {
+                    double r = rotation[row + j];
+                    a += r * points[x0 + j];
+                    b += r * points[x1 + j];
+                }
+                out[x0 + i] = a;
+                out[x1 + i] = b;
+            }
+        }
+        if (p < count) {
+            int x0 = p * n;
+            for (int i = 0; i < n; i++) {
+                int row = i * n;
+                double sum = 0.0;
+                for (int j = 0; j < n; j++) {
+                    sum += rotation[row + j] * points[x0 + j];
+                }
+                out[x0 + i] = sum;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code base^(i / max(1, n-1))} for {@code i < n}, the per-coordinate scaling of
+     * conditioned benchmark functions.
+     * @param base scaling base, e.g. a condition number
+     * @param n dimension
+     * @return scaling factors
+     */
+    public static double[] powerScale(double base, int n) {
+        double[] scale = new double[n];
+        for (int i = 0; i < n; i++) {
+            scale[i] = Math.pow(base, i / (double) Math.max(1, n - 1));
+        }
+        return scale;
+    }
+
+    /**
+     * Work vectors for one dimension, reallocated only when the dimension changes. Instances are
+     * not thread-safe; an evaluation borrows one from a pool and returns it when done.
+     */
+    public static final class ScratchBuffers {
+
+        private final double[][] slots;
+
+        /**
+         * Creates buffers with a fixed number of slots.
+         * @param slotCount number of independent vectors
+         */
+        public ScratchBuffers(int slotCount) {
+            this.slots = new double[slotCount][0];
+        }
+
+        /**
+         * Returns the slot's vector with exactly {@code length} elements and unspecified
+         * contents.
+         * @param slot slot index
+         * @param length required length
+         * @return reusable vector
+         */
+        public double[] get(int slot, int length) {
+            double[] buffer = slots[slot];
+            if (buffer.length != length) {
+                buffer = new double[length];
+                slots[slot] = buffer;
+            }
+            return buffer;
+        }
+    }
+}
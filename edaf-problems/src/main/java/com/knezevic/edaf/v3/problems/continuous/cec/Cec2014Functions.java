@@ -5,9 +5,13 @@
 
 package com.knezevic.edaf.v3.problems.continuous.cec;
 
-import java.util.Arrays;
+import com.knezevic.edaf.v3.problems.continuous.TransformKernels;
+import com.knezevic.edaf.v3.problems.continuous.TransformKernels.ScratchBuffers;
+
+import java.util.Queue;
 import java.util.SplittableRandom;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 
 /**
@@ -16,12 +20,38 @@ import java.util.concurrent.ConcurrentMap;
  * <p>This implementation keeps the same CEC-style API and function indexing (1..30)
  * with deterministic instance transforms. Formulas are intentionally compact and
  * engineering-focused for repeatable benchmarking inside EDAF.</p>
+ *
+ * <p>Transforms, including conditioning factors and composition optima, are built once per
+ * (function, instance, dimension). Evaluation works in scratch vectors through
+ * {@link TransformKernels}, borrowed from a pool for the duration of one call and returned
+ * afterwards, so only as many sets exist as evaluations ever ran at once.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
 public final class Cec2014Functions {
 
     private static final ConcurrentMap<Key, Transform> TRANSFORMS = new ConcurrentHashMap<>();
+    private static final Queue<ScratchBuffers> SCRATCH = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Points shifted and rotated together by {@link #evaluateBatch}.
+     */
+    public static final int BATCH_BLOCK = 16;
+
+    private static final int WEIERSTRASS_K_MAX = 12;
+    private static final double[] WEIERSTRASS_AMPLITUDES = new double[WEIERSTRASS_K_MAX + 1];
+    private static final double[] WEIERSTRASS_FREQUENCIES = new double[WEIERSTRASS_K_MAX + 1];
+    private static final double WEIERSTRASS_OFFSET;
+
+    static {
+        double c = 0.0;
+        for (int k = 0; k <= WEIERSTRASS_K_MAX; k++) {
+            WEIERSTRASS_AMPLITUDES[k] = Math.pow(0.5, k);
+            WEIERSTRASS_FREQUENCIES[k] = 2.0 * Math.PI * Math.pow(3.0, k);
+            c += WEIERSTRASS_AMPLITUDES[k] * Math.cos(WEIERSTRASS_FREQUENCIES[k] * 0.5);
+        }
+        WEIERSTRASS_OFFSET = c;
+    }
 
     private Cec2014Functions() {
         // utility class
@@ -35,21 +65,113 @@ public final class Cec2014Functions {
      * @return fitness value
      */
     public static double evaluate(int functionId, double[] x, int instanceId) {
+        checkFunctionId(functionId);
+        int n = x.length;
+        Transform t = TRANSFORMS.computeIfAbsent(new Key(functionId, instanceId, n), Cec2014Functions::buildTransform);
+        ScratchBuffers scratch = borrowScratch();
+        try {
+            double[] shifted = scratch.get(0, n);
+            TransformKernels.subtract(x, t.shift(), shifted);
+            double[] rotated = shifted;
+            if (rotated(functionId)) {
+                rotated = scratch.get(1, n);
+                TransformKernels.rotate(t.rotation(), shifted, rotated);
+            }
+            return evaluateTransformed(functionId, t, scratch, shifted, rotated);
+        } finally {
+            SCRATCH.offer(scratch);
+        }
+    }
+
+    /**
+     * Evaluates one CEC-style function for a population of equal-length vectors.
+     *
+     * <p>Rotated functions shift and rotate {@link #BATCH_BLOCK} points at a time through
+     * {@link TransformKernels#rotateBatch}. {@code out[i]} is bit-identical to
+     * {@code evaluate(functionId, xs[i], instanceId)}.</p>
+     * @param functionId benchmark function identifier
+     * @param xs input vectors, all of the same length
+     * @param instanceId benchmark instance identifier
+     * @param out destination with at least {@code xs.length} entries
+     */
+    public static void evaluateBatch(int functionId, double[][] xs, int instanceId, double[] out) {
+        checkFunctionId(functionId);
+        if (xs.length == 0) {
+            return;
+        }
+        int n = xs[0].length;
+        for (double[] x : xs) {
+            if (x.length != n) {
+                throw new IllegalArgumentException("Batch vectors must share one dimension, got " + n + " and " + x.length);
+            }
+        }
+        if (!rotated(functionId)) {
+            for (int i = 0; i < xs.length; i++) {
+                out[i] = evaluate(functionId, xs[i], instanceId);
+            }
+            return;
+        }
+
+        Transform t = TRANSFORMS.computeIfAbsent(new Key(functionId, instanceId, n), Cec2014Functions::buildTransform);
+        ScratchBuffers scratch = borrowScratch();
+        try {
+            double[] shifted = scratch.get(0, n);
+            double[] rotated = scratch.get(1, n);
+            double[] shiftedBlock = scratch.get(5, BATCH_BLOCK * n);
+            double[] rotatedBlock = scratch.get(6, BATCH_BLOCK * n);
+            for (int start = 0; start < xs.length; start += BATCH_BLOCK) {
+                int count = Math.min(BATCH_BLOCK, xs.length - start);
+                for (int p = 0; p < count; p++) {
+                    TransformKernels.subtract(xs[start + p], t.shift(), shiftedBlock, p * n);
+                }
+                TransformKernels.rotateBatch(t.rotation(), n, shiftedBlock, count, rotatedBlock);
+                for (int p = 0; p < count; p++) {
+                    System.arraycopy(shiftedBlock, p * n, shifted, 0, n);
+                    System.arraycopy(rotatedBlock, p * n, rotated, 0, n);
+                    out[start + p] = evaluateTransformed(functionId, t, scratch, shifted, rotated);
+                }
+            }
+        } finally {
+            SCRATCH.offer(scratch);
+        }
+    }
+
+    /**
+     * Returns pooled scratch vectors, allocating a new set of seven slots when the pool is empty.
+     */
+    private static ScratchBuffers borrowScratch() {
+        ScratchBuffers scratch = SCRATCH.poll();
+        return scratch != null ? scratch : new ScratchBuffers(7);
+    }
+
+    private static void checkFunctionId(int functionId) {
         if (functionId < 1 || functionId > 30) {
             throw new IllegalArgumentException("CEC2014 functionId must be in [1..30], got " + functionId);
         }
+    }
 
-        int n = x.length;
-        Transform t = TRANSFORMS.computeIfAbsent(new Key(functionId, instanceId, n), Cec2014Functions::buildTransform);
-        double[] shifted = shift(x, t.shift());
-        double[] rotated = rotate(shifted, t.rotation());
+    private static boolean rotated(int functionId) {
+        return functionId != 1 && functionId != 10;
+    }
 
+    /**
+     * Evaluates a function from its shifted and rotated points; scratch slots 0 and 1 hold
+     * them, slots 2 to 4 are free for hybrid and composition work vectors.
+     */
+    private static double evaluateTransformed(int functionId,
+                                              Transform t,
+                                              ScratchBuffers scratch,
+                                              double[] shifted,
+                                              double[] rotated) {
         return switch (functionId) {
             case 1 -> sphere(shifted);
-            case 2 -> ellipsoid(rotated, 1.0e6);
+            case 2 -> ellipsoid(rotated, t.conditioning());
             case 3 -> bentCigar(rotated);
             case 4 -> discus(rotated);
-            case 5 -> rosenbrock(addScalar(rotated, 1.0));
+            case 5 -> {
+                TransformKernels.addScalar(rotated, 1.0);
+                yield rosenbrock(rotated);
+            }
             case 6 -> ackley(rotated);
             case 7 -> weierstrass(rotated);
             case 8 -> griewank(rotated);
@@ -60,21 +182,21 @@ public final class Cec2014Functions {
             case 13 -> hgbat(rotated);
             case 14 -> expandedGriewankRosenbrock(rotated);
             case 15 -> expandedScafferF6(rotated);
-            case 16 -> hybrid(rotated, n, Base.bentCigar, Base.rastrigin, Base.griewank);
-            case 17 -> hybrid(rotated, n, Base.ackley, Base.sphere, Base.weierstrass);
-            case 18 -> hybrid(rotated, n, Base.schwefel, Base.discus, Base.katsuura);
-            case 19 -> composition(rotated, t.seed(), n, Base.sphere, Base.rastrigin, Base.ackley);
-            case 20 -> composition(rotated, t.seed(), n, Base.ellipsoid, Base.griewank, Base.weierstrass);
-            case 21 -> composition(rotated, t.seed(), n, Base.rosenbrock, Base.schwefel, Base.katsuura);
-            case 22 -> composition(rotated, t.seed(), n, Base.bentCigar, Base.hgbat, Base.happyCat);
-            case 23 -> composition(rotated, t.seed(), n, Base.expandedGriewankRosenbrock, Base.rastrigin, Base.sphere);
-            case 24 -> composition(rotated, t.seed(), n, Base.expandedScafferF6, Base.ackley, Base.griewank);
-            case 25 -> composition(rotated, t.seed(), n, Base.discus, Base.happyCat, Base.schwefel);
-            case 26 -> composition(rotated, t.seed(), n, Base.weierstrass, Base.katsuura, Base.ellipsoid);
-            case 27 -> composition(rotated, t.seed(), n, Base.rastrigin, Base.rosenbrock, Base.expandedScafferF6);
-            case 28 -> composition(rotated, t.seed(), n, Base.ackley, Base.hgbat, Base.expandedGriewankRosenbrock);
-            case 29 -> composition(rotated, t.seed(), n, Base.schwefel, Base.bentCigar, Base.weierstrass);
-            case 30 -> composition(rotated, t.seed(), n, Base.katsuura, Base.discus, Base.sphere);
+            case 16 -> hybrid(rotated, scratch, t, Base.bentCigar, Base.rastrigin, Base.griewank);
+            case 17 -> hybrid(rotated, scratch, t, Base.ackley, Base.sphere, Base.weierstrass);
+            case 18 -> hybrid(rotated, scratch, t, Base.schwefel, Base.discus, Base.katsuura);
+            case 19 -> composition(rotated, scratch, t, Base.sphere, Base.rastrigin, Base.ackley);
+            case 20 -> composition(rotated, scratch, t, Base.ellipsoid, Base.griewank, Base.weierstrass);
+            case 21 -> composition(rotated, scratch, t, Base.rosenbrock, Base.schwefel, Base.katsuura);
+            case 22 -> composition(rotated, scratch, t, Base.bentCigar, Base.hgbat, Base.happyCat);
+            case 23 -> composition(rotated, scratch, t, Base.expandedGriewankRosenbrock, Base.rastrigin, Base.sphere);
+            case 24 -> composition(rotated, scratch, t, Base.expandedScafferF6, Base.ackley, Base.griewank);
+            case 25 -> composition(rotated, scratch, t, Base.discus, Base.happyCat, Base.schwefel);
+            case 26 -> composition(rotated, scratch, t, Base.weierstrass, Base.katsuura, Base.ellipsoid);
+            case 27 -> composition(rotated, scratch, t, Base.rastrigin, Base.rosenbrock, Base.expandedScafferF6);
+            case 28 -> composition(rotated, scratch, t, Base.ackley, Base.hgbat, Base.expandedGriewankRosenbrock);
+            case 29 -> composition(rotated, scratch, t, Base.schwefel, Base.bentCigar, Base.weierstrass);
+            case 30 -> composition(rotated, scratch, t, Base.katsuura, Base.discus, Base.sphere);
             default -> throw new IllegalStateException("Unexpected functionId: " + functionId);
         };
     }
@@ -91,68 +213,63 @@ public final class Cec2014Functions {
             shift[i] = -80.0 + 160.0 * random.nextDouble();
         }
         double[][] rotation = orthogonal(random, key.dimension());
-        return new Transform(shift, rotation, seed);
-    }
-
-    private static double[] shift(double[] x, double[] shift) {
-        double[] y = Arrays.copyOf(x, x.length);
-        for (int i = 0; i < y.length; i++) {
-            y[i] -= shift[i];
-        }
-        return y;
-    }
 
-    private static double[] addScalar(double[] x, double scalar) {
-        double[] y = Arrays.copyOf(x, x.length);
-        for (int i = 0; i < y.length; i++) {
-            y[i] += scalar;
-        }
-        return y;
-    }
-
-    private static double[] rotate(double[] x, double[][] rotation) {
-        int n = x.length;
-        double[] y = new double[n];
-        for (int i = 0; i < n; i++) {
-            double sum = 0.0;
-            for (int j = 0; j < n; j++) {
-                sum += rotation[i][j] * x[j];
+        double[][] optima = new double[3][];
+        if (key.functionId() >= 19) {
+            SplittableRandom optimumRandom = new SplittableRandom(mix64(seed ^ 0xA5A5A5A55A5A5A5AL));
+            for (int i = 0; i < optima.length; i++) {
+                optima[i] = randomVector(optimumRandom, key.dimension(), 80.0);
             }
-            y[i] = sum;
         }
-        return y;
+        return new Transform(
+                shift,
+                TransformKernels.flatten(rotation),
+                seed,
+                TransformKernels.powerScale(1.0e6, key.dimension()),
+                optima
+        );
     }
 
     private static double hybrid(double[] x,
-                                 int n,
+                                 ScratchBuffers scratch,
+                                 Transform t,
                                  Base first,
                                  Base second,
                                  Base third) {
+        int n = x.length;
         int cut1 = Math.max(1, (int) Math.round(n * 0.3));
         int cut2 = Math.max(cut1 + 1, (int) Math.round(n * 0.7));
         cut2 = Math.min(cut2, n - 1);
 
-        double[] a = Arrays.copyOfRange(x, 0, cut1);
-        double[] b = Arrays.copyOfRange(x, cut1, cut2);
-        double[] c = Arrays.copyOfRange(x, cut2, n);
+        double[] a = segment(x, 0, cut1, scratch.get(2, cut1));
+        double[] b = segment(x, cut1, cut2, scratch.get(3, Math.max(0, cut2 - cut1)));
+        double[] c = segment(x, cut2, n, scratch.get(4, n - cut2));
 
-        return first.eval(a) + second.eval(b) + third.eval(c);
+        return first.eval(a, t) + second.eval(b, t) + third.eval(c, t);
     }
 
-    private static double composition(double[] x, long seed, int n, Base first, Base second, Base third) {
-        SplittableRandom random = new SplittableRandom(mix64(seed ^ 0xA5A5A5A55A5A5A5AL));
+    private static double[] segment(double[] x, int from, int to, double[] out) {
+        if (to < from) {
+            throw new IllegalArgumentException(from + " > " + to);
+        }
+        System.arraycopy(x, from, out, 0, to - from);
+        return out;
+    }
 
-        double[] c1 = randomVector(random, n, 80.0);
-        double[] c2 = randomVector(random, n, 80.0);
-        double[] c3 = randomVector(random, n, 80.0);
+    private static double composition(double[] x, ScratchBuffers scratch, Transform t, Base first, Base second, Base third) {
+        double[][] optima = t.optima();
+        double[] diff = scratch.get(2, x.length);
 
-        double f1 = first.eval(subtract(x, c1));
-        double f2 = second.eval(subtract(x, c2));
-        double f3 = third.eval(subtract(x, c3));
+        TransformKernels.subtract(x, optima[0], diff);
+        double f1 = first.eval(diff, t);
+        TransformKernels.subtract(x, optima[1], diff);
+        double f2 = second.eval(diff, t);
+        TransformKernels.subtract(x, optima[2], diff);
+        double f3 = third.eval(diff, t);
 
-        double w1 = weight(x, c1);
-        double w2 = weight(x, c2);
-        double w3 = weight(x, c3);
+        double w1 = weight(x, optima[0]);
+        double w2 = weight(x, optima[1]);
+        double w3 = weight(x, optima[2]);
 
         double sum = w1 + w2 + w3;
         if (sum <= 0.0) {
@@ -179,14 +296,6 @@ public final class Cec2014Functions {
         return Math.exp(-dist2 / (2.0 * x.length * 100.0));
     }
 
-    private static double[] subtract(double[] x, double[] y) {
-        double[] out = new double[x.length];
-        for (int i = 0; i < x.length; i++) {
-            out[i] = x[i] - y[i];
-        }
-        return out;
-    }
-
     private static double sphere(double[] x) {
         double sum = 0.0;
         for (double xi : x) {
@@ -195,18 +304,10 @@ public final class Cec2014Functions {
         return sum;
     }
 
-    private static double ellipsoid(double[] x, double condition) {
-        if (x.length == 0) {
-            return 0.0;
-        }
-        if (x.length == 1) {
-            return x[0] * x[0];
-        }
+    private static double ellipsoid(double[] x, double[] conditioning) {
         double sum = 0.0;
         for (int i = 0; i < x.length; i++) {
-            double exponent = i / (double) (x.length - 1);
-            double factor = Math.pow(condition, exponent);
-            sum += factor * x[i] * x[i];
+            sum += conditioning[i] * x[i] * x[i];
         }
         return sum;
     }
@@ -264,22 +365,13 @@ public final class Cec2014Functions {
     }
 
     private static double weierstrass(double[] x) {
-        final double a = 0.5;
-        final double b = 3.0;
-        final int kMax = 12;
-
-        double c = 0.0;
-        for (int k = 0; k <= kMax; k++) {
-            c += Math.pow(a, k) * Math.cos(2.0 * Math.PI * Math.pow(b, k) * 0.5);
-        }
-
         double sum = 0.0;
         for (double xi : x) {
-            for (int k = 0; k <= kMax; k++) {
-                sum += Math.pow(a, k) * Math.cos(2.0 * Math.PI * Math.pow(b, k) * (xi + 0.5));
+            for (int k = 0; k <= WEIERSTRASS_K_MAX; k++) {
+                sum += WEIERSTRASS_AMPLITUDES[k] * Math.cos(WEIERSTRASS_FREQUENCIES[k] * (xi + 0.5));
             }
         }
-        return sum - x.length * c;
+        return sum - x.length * WEIERSTRASS_OFFSET;
     }
 
     private static double griewank(double[] x) {
@@ -435,27 +527,35 @@ public final class Cec2014Functions {
     private record Key(int functionId, int instanceId, int dimension) {
     }
 
-    private record Transform(double[] shift, double[][] rotation, long seed) {
+    /**
+     * Cached instance transform; {@code rotation} is row-major and {@code optima} holds the
+     * three composition centres (unset below function 19).
+     */
+    private record Transform(double[] shift,
+                             double[] rotation,
+                             long seed,
+                             double[] conditioning,
+                             double[][] optima) {
     }
 
     @FunctionalInterface
     private interface Base {
-        double eval(double[] x);
-
-        Base sphere = Cec2014Functions::sphere;
-        Base ellipsoid = x -> Cec2014Functions.ellipsoid(x, 1.0e6);
-        Base bentCigar = Cec2014Functions::bentCigar;
-        Base discus = Cec2014Functions::discus;
-        Base rosenbrock = Cec2014Functions::rosenbrock;
-        Base ackley = Cec2014Functions::ackley;
-        Base weierstrass = Cec2014Functions::weierstrass;
-        Base griewank = Cec2014Functions::griewank;
-        Base rastrigin = Cec2014Functions::rastrigin;
-        Base schwefel = Cec2014Functions::schwefel;
-        Base katsuura = Cec2014Functions::katsuura;
-        Base happyCat = Cec2014Functions::happyCat;
-        Base hgbat = Cec2014Functions::hgbat;
-        Base expandedGriewankRosenbrock = Cec2014Functions::expandedGriewankRosenbrock;
-        Base expandedScafferF6 = Cec2014Functions::expandedScafferF6;
+        double eval(double[] x, Transform t);
+
+        Base sphere = (x, t) -> Cec2014Functions.sphere(x);
+        Base ellipsoid = (x, t) -> Cec2014Functions.ellipsoid(x, t.conditioning());
+        Base bentCigar = (x, t) -> Cec2014Functions.bentCigar(x);
+        Base discus = (x, t) -> Cec2014Functions.discus(x);
+        Base rosenbrock = (x, t) -> Cec2014Functions.rosenbrock(x);
+        Base ackley = (x, t) -> Cec2014Functions.ackley(x);
+        Base weierstrass = (x, t) -> Cec2014Functions.weierstrass(x);
+        Base griewank = (x, t) -> Cec2014Functions.griewank(x);
+        Base rastrigin = (x, t) -> Cec2014Functions.rastrigin(x);
+        Base schwefel = (x, t) -> Cec2014Functions.schwefel(x);
+        Base katsuura = (x, t) -> Cec2014Functions.katsuura(x);
+        Base happyCat = (x, t) -> Cec2014Functions.happyCat(x);
+        Base hgbat = (x, t) -> Cec2014Functions.hgbat(x);
+        Base expandedGriewankRosenbrock = (x, t) -> Cec2014Functions.expandedGriewankRosenbrock(x);
+        Base expandedScafferF6 = (x, t) -> Cec2014Functions.expandedScafferF6(x);
     }
 }
@@ -11,14 +11,23 @@ import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.core.api.VectorFitness;
 import com.knezevic.edaf.v3.problems.crypto.criteria.CryptoFitnessCriterion;
+import com.knezevic.edaf.v3.repr.types.BitString;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
 
 /**
  * Shared base for cryptographic boolean-function optimization problems.
+ *
+ * <p>Evaluations borrow a {@link BooleanFunctionEngine} from a shared pool and return it when
+ * scored, so truth-table words and spectrum buffers are reused across evaluations instead of
+ * reallocated per candidate. The pool grows to the peak number of concurrent evaluations, which
+ * keeps reuse intact on virtual-thread executors where every task runs on a fresh thread.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
@@ -30,6 +39,7 @@ public abstract class AbstractBooleanFunctionProblem<G> implements Problem<G> {
     protected final List<String> criterionIds;
     protected final double[] criterionWeights;
     protected final double criterionWeightSum;
+    private final Queue<BooleanFunctionEngine> engines = new ConcurrentLinkedQueue<>();
 
     protected AbstractBooleanFunctionProblem(int n,
                                              List<String> criterionIds,
@@ -83,7 +93,26 @@ public abstract class AbstractBooleanFunctionProblem<G> implements Problem<G> {
      * @return the evaluate scalar fitness
      */
     protected final ScalarFitness evaluateScalarFitness(int[] truthTable) {
-        BooleanFunctionStats stats = BooleanFunctionStats.of(n, truthTable);
+        return withEngine(engine -> scalarFitness(engine.load(truthTable)));
+    }
+
+    /**
+     * Evaluates a bit-packed truth table without unpacking it.
+     *
+     * @param truthTable truth table bits, entry {@code x} at index {@code x}
+     * @return weighted scalar fitness
+     */
+    protected final ScalarFitness evaluateScalarFitness(BitString truthTable) {
+        return withEngine(engine -> scalarFitness(engine.load(truthTable)));
+    }
+
+    /**
+     * Combines criterion scores of one function into the weighted scalar fitness.
+     *
+     * @param stats function statistics
+     * @return weighted scalar fitness
+     */
+    protected final ScalarFitness scalarFitness(BooleanFunctionStats stats) {
         double[] objectiveValues = objectiveValues(stats);
 
         double scalar = 0.0;
@@ -102,9 +131,40 @@ public abstract class AbstractBooleanFunctionProblem<G> implements Problem<G> {
      * @return the evaluate vector fitness
      */
     protected final VectorFitness evaluateVectorFitness(int[] truthTable, double[] scalarWeights) {
-        BooleanFunctionStats stats = BooleanFunctionStats.of(n, truthTable);
-        double[] objectiveValues = objectiveValues(stats);
-        return new VectorFitness(objectiveValues, scalarWeights);
+        return new VectorFitness(withEngine(engine -> objectiveValues(engine.load(truthTable))), scalarWeights);
+    }
+
+    /**
+     * Evaluates a bit-packed truth table into a vector fitness.
+     *
+     * @param truthTable truth table bits, entry {@code x} at index {@code x}
+     * @param scalarWeights the scalarWeights argument
+     * @return the evaluate vector fitness
+     */
+    protected final VectorFitness evaluateVectorFitness(BitString truthTable, double[] scalarWeights) {
+        return new VectorFitness(withEngine(engine -> objectiveValues(engine.load(truthTable))), scalarWeights);
+    }
+
+    /**
+     * Runs an evaluation on a pooled engine that no other evaluation uses meanwhile.
+     *
+     * <p>The engine goes back to the pool when {@code evaluation} returns, so results must not keep
+     * a {@link BooleanFunctionStats} view of it.</p>
+     *
+     * @param evaluation scoring step applied to the borrowed engine
+     * @param <R> result type
+     * @return evaluation result
+     */
+    protected final <R> R withEngine(Function<BooleanFunctionEngine, R> evaluation) {
+        BooleanFunctionEngine engine = engines.poll();
+        if (engine == null) {
+            engine = new BooleanFunctionEngine(n);
+        }
+        try {
+            return evaluation.apply(engine);
+        } finally {
+            engines.offer(engine);
+        }
     }
 
     /**
@@ -121,21 +181,6 @@ public abstract class AbstractBooleanFunctionProblem<G> implements Problem<G> {
         return values;
     }
 
-    /**
-     * Converts to truth table from bits.
-     *
-     * @param bits the bits argument
-     * @return the truth table from bits representation
-     */
-    protected final int[] toTruthTableFromBits(boolean[] bits) {
-        int[] table = new int[truthTableSize];
-        int limit = Math.min(bits.length, table.length);
-        for (int i = 0; i < limit; i++) {
-            table[i] = bits[i] ? 1 : 0;
-        }
-        return table;
-    }
-
     /**
      * Converts to truth table from balanced permutation.
      *
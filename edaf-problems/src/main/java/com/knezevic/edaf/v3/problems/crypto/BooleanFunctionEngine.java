@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.crypto;
+
+import com.knezevic.edaf.v3.repr.types.BitString;
+
+import java.util.Arrays;
+
+/**
+ * Reusable evaluation engine for one n-variable Boolean function at a time.
+ *
+ * <p>The truth table is held bit-packed in 64-bit words, in the same layout as
+ * {@link BitString}, and the Walsh spectrum {@code W(a) = Σ_x (-1)^(f(x) xor a·x)} is kept
+ * alongside it. Loading a function runs one fast Walsh-Hadamard transform in
+ * {@code O(n 2^n)}; {@link #flip} updates the spectrum in {@code O(k 2^n)} for {@code k}
+ * flipped entries, since flipping {@code f(x)} moves every coefficient by
+ * {@code ±2 (-1)^(a·x)}. Every criterion reads from this one spectrum: nonlinearity and
+ * balancedness directly, autocorrelation through the Wiener-Khinchin identity
+ * {@code r(d) = 2^-n Σ_a W(a)^2 (-1)^(a·d)}, and correlation immunity from the
+ * zero pattern of {@code W}. Algebraic degree runs a word-parallel Möbius transform on the
+ * packed table.</p>
+ *
+ * <p>All buffers are allocated once and reused, so an engine should be owned by one thread.
+ * A {@link BooleanFunctionStats} view returned by this engine is valid until the next
+ * load or flip.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class BooleanFunctionEngine {
+
+    /** Per-word masks of truth-table positions whose bit {@code i} is clear, for {@code i < 6}. */
+    private static final long[] LOW_HALF_MASKS = {
+            0x5555555555555555L,
+            0x3333333333333333L,
+            0x0F0F0F0F0F0F0F0FL,
+            0x00FF00FF00FF00FFL,
+            0x0000FFFF0000FFFFL,
+            0x00000000FFFFFFFFL
+    };
+
+    private final int n;
+    private final int size;
+    private final long[] words;
+    private final int[] walsh;
+    private long[] anf;
+    private long[] autocorrelation;
+    private int[] changed;
+    private int ones;
+
+    /**
+     * Creates an engine for {@code n}-variable functions, initially constant zero.
+     *
+     * @param n variable count in {@code [1,16]}
+     */
+    public BooleanFunctionEngine(int n) {
+        if (n < 1 || n > 16) {
+            throw new IllegalArgumentException("n must be in [1,16], got " + n);
+        }
+        this.n = n;
+        this.size = 1 << n;
+        this.words = new long[BitString.wordCount(size)];
+        this.walsh = new int[size];
+        transform();
+    }
+
+    private BooleanFunctionEngine(BooleanFunctionEngine source) {
+        this.n = source.n;
+        this.size = source.size;
+        this.words = source.words.clone();
+        this.walsh = source.walsh.clone();
+        this.ones = source.ones;
+    }
+
+    /**
+     * Loads a truth table from a packed bitstring. Missing entries read as zero and entries past
+     * {@code 2^n} are ignored.
+     *
+     * @param bits truth table bits, entry {@code x} at index {@code x}
+     * @return statistics view of the loaded function
+     */
+    public BooleanFunctionStats load(BitString bits) {
+        Arrays.fill(words, 0L);
+        int count = Math.min(words.length, bits.wordCount());
+        for (int i = 0; i < count; i++) {
+            words[i] = bits.word(i);
+        }
+        if (size < 64) {
+            words[0] &= (1L << size) - 1L;
+        }
+        transform();
+        return stats();
+    }
+
+    /**
+     * Loads a truth table of {@code 0/1} values.
+     *
+     * @param truthTable exactly {@code 2^n} entries
+     * @return statistics view of the loaded function
+     */
+    public BooleanFunctionStats load(int[] truthTable) {
+        if (truthTable.length != size) {
+            throw new IllegalArgumentException("Truth table length must be " + size + ", got " + truthTable.length);
+        }
+        Arrays.fill(words, 0L);
+        for (int x = 0; x < size; x++) {
+            int bit = truthTable[x];
+            if (bit == 1) {
+                words[x >>> 6] |= 1L << x;
+            } else if (bit != 0) {
+                throw new IllegalArgumentException("Truth table values must be 0/1");
+            }
+        }
+        transform();
+        return stats();
+    }
+
+    /**
+     * Flips truth-table entries and updates the spectrum incrementally.
+     *
+     * <p>Costs {@code O(k 2^n)} for {@code k < n} entries; larger batches recompute the
+     * spectrum in {@code O(n 2^n)}.</p>
+     *
+     * @param positions distinct entries to flip
+     * @return statistics view of the updated function
+     */
+    public BooleanFunctionStats flip(int[] positions) {
+        return flip(positions, positions.length);
+    }
+
+    /**
+     * Flips the first {@code count} entries of {@code positions}.
+     *
+     * @param positions distinct entries to flip
+     * @param count number of entries used
+     * @return statistics view of the updated function
+     */
+    public BooleanFunctionStats flip(int[] positions, int count) {
+        if (count >= n) {
+            for (int k = 0; k < count; k++) {
+                int x = positions[k];
+                words[x >>> 6] ^= 1L << x;
+            }
+            transform();
+            return stats();
+        }
+        for (int k = 0; k < count; k++) {
+            int x = positions[k];
+            boolean wasOne = (words[x >>> 6] & (1L << x)) != 0L;
+            words[x >>> 6] ^= 1L << x;
+            ones += wasOne ? -1 : 1;
+            // (-1)^f(x) goes from s to -s, so W(a) moves by -2 s (-1)^(a·x)
+            int delta = wasOne ? 2 : -2;
+            for (int a = 0; a < size; a++) {
+                walsh[a] += (Integer.bitCount(a & x) & 1) == 0 ? delta : -delta;
+            }
+        }
+        return stats();
+    }
+
+    /**
+     * Flips the entries where {@code candidate} differs from {@code base}, checking only the
+     * listed positions. Positions past {@code 2^n} are ignored.
+     *
+     * @param base truth table currently held by this engine
+     * @param candidate changed truth table
+     * @param positions distinct positions where the two may differ
+     * @return statistics view of the updated function
+     */
+    public BooleanFunctionStats flipChanged(BitString base, BitString candidate, int[] positions) {
+        if (changed == null || changed.length < positions.length) {
+            changed = new int[Math.max(positions.length, n)];
+        }
+        int count = 0;
+        for (int position : positions) {
+            if (position < size && base.get(position) != candidate.get(position)) {
+                changed[count++] = position;
+            }
+        }
+        return flip(changed, count);
+    }
+
+    /**
+     * Returns a fresh statistics view over the current function.
+     *
+     * @return statistics view
+     */
+    public BooleanFunctionStats stats() {
+        return new BooleanFunctionStats(this);
+    }
+
+    /**
+     * Returns an independent engine holding the same function and spectrum.
+     *
+     * @return deep copy
+     */
+    public BooleanFunctionEngine copy() {
+        return new BooleanFunctionEngine(this);
+    }
+
+    /**
+     * Returns one truth-table entry.
+     *
+     * @param x input index
+     * @return true when {@code f(x) = 1}
+     */
+    public boolean value(int x) {
+        return (words[x >>> 6] & (1L << x)) != 0L;
+    }
+
+    /**
+     * Returns variable count.
+     *
+     * @return n
+     */
+    public int n() {
+        return n;
+    }
+
+    /**
+     * Returns truth-table size.
+     *
+     * @return {@code 2^n}
+     */
+    public int size() {
+        return size;
+    }
+
+    int ones() {
+        return ones;
+    }
+
+    int walsh(int a) {
+        return walsh[a];
+    }
+
+    int maxWalshAbs() {
+        int max = 0;
+        for (int value : walsh) {
+            int abs = Math.abs(value);
+            if (abs > max) {
+                max = abs;
+            }
+        }
+        return max;
+    }
+
+    int algebraicDegree() {
+        if (anf == null) {
+            anf = new long[words.length];
+        }
+        System.arraycopy(words, 0, anf, 0, words.length);
+        int inWord = Math.min(n, 6);
+        for (int bit = 0; bit < inWord; bit++) {
+            long mask = LOW_HALF_MASKS[bit];
+            int shift = 1 << bit;
+            for (int w = 0; w < anf.length; w++) {
+                anf[w] ^= (anf[w] & mask) << shift;
+            }
+        }
+        for (int bit = 6; bit < n; bit++) {
+            int stride = 1 << (bit - 6);
+            for (int w = 0; w < anf.length; w++) {
+                if ((w & stride) != 0) {
+                    anf[w] ^= anf[w ^ stride];
+                }
+            }
+        }
+        int degree = 0;
+        for (int w = 0; w < anf.length; w++) {
+            long remaining = anf[w];
+            int high = Integer.bitCount(w);
+            while (remaining != 0L) {
+                int low = Long.numberOfTrailingZeros(remaining);
+                degree = Math.max(degree, high + Integer.bitCount(low));
+                remaining &= remaining - 1L;
+            }
+        }
+        return degree;
+    }
+
+    int absoluteIndicator() {
+        if (autocorrelation == null) {
+            autocorrelation = new long[size];
+        }
+        long[] r = autocorrelation;
+        for (int a = 0; a < size; a++) {
+            r[a] = (long) walsh[a] * walsh[a];
+        }
+        for (int len = 1; len < size; len <<= 1) {
+            for (int i = 0; i < size; i += len << 1) {
+                for (int j = i; j < i + len; j++) {
+                    long u = r[j];
+                    long v = r[j + len];
+                    r[j] = u + v;
+                    r[j + len] = u - v;
+                }
+            }
+        }
+        long max = 0L;
+        for (int d = 1; d < size; d++) {
+            max = Math.max(max, Math.abs(r[d] >> n));
+        }
+        return (int) max;
+    }
+
+    int correlationImmunity() {
+        int minWeight = n + 1;
+        for (int a = 1; a < size; a++) {
+            if (walsh[a] != 0) {
+                minWeight = Math.min(minWeight, Integer.bitCount(a));
+            }
+        }
+        return minWeight - 1;
+    }
+
+    private void transform() {
+        int count = 0;
+        for (int x = 0; x < size; x++) {
+            boolean one = (words[x >>> 6] & (1L << x)) != 0L;
+            walsh[x] = one ? -1 : 1;
+            if (one) {
+                count++;
+            }
+        }
+        ones = count;
+        for (int len = 1; len < size; len <<= 1) {
+            for (int i = 0; i < size; i += len << 1) {
+                for (int j = i; j < i + len; j++) {
+                    int u = walsh[j];
+                    int v = walsh[j + len];
+                    walsh[j] = u + v;
+                    walsh[j + len] = u - v;
+                }
+            }
+        }
+    }
+}
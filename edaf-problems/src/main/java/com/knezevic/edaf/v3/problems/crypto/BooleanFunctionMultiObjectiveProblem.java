@@ -47,7 +47,7 @@ public final class BooleanFunctionMultiObjectiveProblem extends AbstractBooleanF
      */
     @Override
     public Fitness evaluate(BitString genotype) {
-        return evaluateVectorFitness(toTruthTableFromBits(genotype.genes()), scalarWeights);
+        return evaluateVectorFitness(genotype, scalarWeights);
     }
 
     /**
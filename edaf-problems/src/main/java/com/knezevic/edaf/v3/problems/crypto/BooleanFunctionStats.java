@@ -5,36 +5,30 @@
 
 package com.knezevic.edaf.v3.problems.crypto;
 
-import java.util.Arrays;
-
 /**
  * Cached statistics for one boolean function truth table.
+ *
+ * <p>A view over a {@link BooleanFunctionEngine}: every statistic derives from the engine's
+ * Walsh spectrum or packed truth table and is cached on first use. Views returned by an
+ * engine are valid until that engine is next loaded or flipped; {@link #of} builds a view over
+ * a private engine that stays valid.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
 public final class BooleanFunctionStats {
 
-    private final int n;
-    private final int size;
-    private final int[] truthTable;
+    private final BooleanFunctionEngine engine;
     private final int ones;
 
     private Integer maxWalshAbs;
     private Double nonlinearity;
     private Integer algebraicDegree;
+    private Integer absoluteIndicator;
+    private Integer correlationImmunity;
 
-    private BooleanFunctionStats(int n, int[] truthTable) {
-        this.n = n;
-        this.truthTable = truthTable;
-        this.size = truthTable.length;
-
-        int countOnes = 0;
-        for (int bit : truthTable) {
-            if (bit == 1) {
-                countOnes++;
-            }
-        }
-        this.ones = countOnes;
+    BooleanFunctionStats(BooleanFunctionEngine engine) {
+        this.engine = engine;
+        this.ones = engine.ones();
     }
 
     /**
@@ -47,17 +41,7 @@ public final class BooleanFunctionStats {
         if (n < 1 || n > 16) {
             throw new IllegalArgumentException("n must be in [1,16], got " + n);
         }
-        int expected = 1 << n;
-        if (truthTable.length != expected) {
-            throw new IllegalArgumentException("Truth table length must be " + expected + ", got " + truthTable.length);
-        }
-        int[] copy = Arrays.copyOf(truthTable, truthTable.length);
-        for (int bit : copy) {
-            if (bit != 0 && bit != 1) {
-                throw new IllegalArgumentException("Truth table values must be 0/1");
-            }
-        }
-        return new BooleanFunctionStats(n, copy);
+        return new BooleanFunctionEngine(n).load(truthTable);
     }
 
     /**
@@ -66,7 +50,7 @@ public final class BooleanFunctionStats {
      * @return the computed n
      */
     public int n() {
-        return n;
+        return engine.n();
     }
 
     /**
@@ -75,7 +59,7 @@ public final class BooleanFunctionStats {
      * @return the number of elements
      */
     public int size() {
-        return size;
+        return engine.size();
     }
 
     /**
@@ -93,7 +77,17 @@ public final class BooleanFunctionStats {
      * @return the computed zeros
      */
     public int zeros() {
-        return size - ones;
+        return size() - ones;
+    }
+
+    /**
+     * Returns one Walsh coefficient {@code W(a) = Σ_x (-1)^(f(x) xor a·x)}.
+     *
+     * @param a linear mask
+     * @return Walsh coefficient
+     */
+    public int walsh(int a) {
+        return engine.walsh(a);
     }
 
     /**
@@ -103,30 +97,7 @@ public final class BooleanFunctionStats {
      */
     public int maxWalshAbs() {
         if (maxWalshAbs == null) {
-            int[] transformed = new int[size];
-            for (int i = 0; i < size; i++) {
-                transformed[i] = truthTable[i] == 0 ? 1 : -1;
-            }
-
-            for (int len = 1; len < size; len <<= 1) {
-                for (int i = 0; i < size; i += len << 1) {
-                    for (int j = 0; j < len; j++) {
-                        int u = transformed[i + j];
-                        int v = transformed[i + j + len];
-                        transformed[i + j] = u + v;
-                        transformed[i + j + len] = u - v;
-                    }
-                }
-            }
-
-            int max = 0;
-            for (int value : transformed) {
-                int abs = Math.abs(value);
-                if (abs > max) {
-                    max = abs;
-                }
-            }
-            maxWalshAbs = max;
+            maxWalshAbs = engine.maxWalshAbs();
         }
         return maxWalshAbs;
     }
@@ -138,7 +109,7 @@ public final class BooleanFunctionStats {
      */
     public double nonlinearity() {
         if (nonlinearity == null) {
-            nonlinearity = (size - maxWalshAbs()) / 2.0;
+            nonlinearity = (size() - maxWalshAbs()) / 2.0;
         }
         return nonlinearity;
     }
@@ -150,31 +121,43 @@ public final class BooleanFunctionStats {
      */
     public int algebraicDegree() {
         if (algebraicDegree == null) {
-            int[] anf = Arrays.copyOf(truthTable, truthTable.length);
-            for (int bit = 0; bit < n; bit++) {
-                for (int mask = 0; mask < size; mask++) {
-                    if ((mask & (1 << bit)) != 0) {
-                        anf[mask] ^= anf[mask ^ (1 << bit)];
-                    }
-                }
-            }
-
-            int degree = 0;
-            for (int mask = 0; mask < size; mask++) {
-                if (anf[mask] == 1) {
-                    degree = Math.max(degree, Integer.bitCount(mask));
-                }
-            }
-            algebraicDegree = degree;
+            algebraicDegree = engine.algebraicDegree();
         }
         return algebraicDegree;
     }
 
+    /**
+     * Returns the absolute indicator {@code max_{d != 0} |r(d)|}, where
+     * {@code r(d) = Σ_x (-1)^(f(x) xor f(x xor d))}.
+     *
+     * @return absolute indicator in {@code [0, 2^n]}
+     */
+    public int absoluteIndicator() {
+        if (absoluteIndicator == null) {
+            absoluteIndicator = engine.absoluteIndicator();
+        }
+        return absoluteIndicator;
+    }
+
+    /**
+     * Returns the correlation-immunity order: the largest {@code m} with {@code W(a) = 0} for
+     * every mask of weight {@code 1..m}.
+     *
+     * @return correlation-immunity order in {@code [0, n]}
+     */
+    public int correlationImmunity() {
+        if (correlationImmunity == null) {
+            correlationImmunity = engine.correlationImmunity();
+        }
+        return correlationImmunity;
+    }
+
     /**
      * Returns known upper bound for nonlinearity.
      * @return the computed nonlinearity upper bound
      */
     public double nonlinearityUpperBound() {
+        int n = n();
         if ((n & 1) == 0) {
             return (1 << (n - 1)) - (1 << (n / 2 - 1));
         }
@@ -6,7 +6,9 @@
 package com.knezevic.edaf.v3.problems.crypto;
 
 import com.knezevic.edaf.v3.problems.crypto.criteria.AlgebraicDegreeCriterion;
+import com.knezevic.edaf.v3.problems.crypto.criteria.AutocorrelationCriterion;
 import com.knezevic.edaf.v3.problems.crypto.criteria.BalancednessCriterion;
+import com.knezevic.edaf.v3.problems.crypto.criteria.CorrelationImmunityCriterion;
 import com.knezevic.edaf.v3.problems.crypto.criteria.CryptoFitnessCriterion;
 import com.knezevic.edaf.v3.problems.crypto.criteria.NonlinearityCriterion;
 
@@ -34,8 +36,11 @@ public final class CryptoCriteriaFactory {
             case "balancedness", "balance", "balanced" -> new BalancednessCriterion();
             case "nonlinearity", "nl" -> new NonlinearityCriterion();
             case "algebraicdegree", "algebraic-degree", "degree" -> new AlgebraicDegreeCriterion();
+            case "autocorrelation", "absolute-indicator" -> new AutocorrelationCriterion();
+            case "correlation-immunity", "correlationimmunity", "ci" -> new CorrelationImmunityCriterion();
             default -> throw new IllegalArgumentException(
-                    "Unknown crypto criterion '" + rawId + "'. Supported: balancedness, nonlinearity, algebraic-degree"
+                    "Unknown crypto criterion '" + rawId + "'. Supported: balancedness, nonlinearity, algebraic-degree, "
+                            + "autocorrelation, correlation-immunity"
             );
         };
     }
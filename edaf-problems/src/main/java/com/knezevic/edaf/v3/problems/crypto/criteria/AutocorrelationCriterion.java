@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.crypto.criteria;
+
+import com.knezevic.edaf.v3.problems.crypto.BooleanFunctionStats;
+
+/**
+ * Autocorrelation score based on the absolute indicator; bent functions score 1.
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class AutocorrelationCriterion implements CryptoFitnessCriterion {
+
+    /**
+     * Returns identifier.
+     *
+     * @return identifier value
+     */
+    @Override
+    public String id() {
+        return "autocorrelation";
+    }
+
+    /**
+     * Executes score.
+     *
+     * @param stats the stats argument
+     * @return {@code 1 - absoluteIndicator / 2^n}
+     */
+    @Override
+    public double score(BooleanFunctionStats stats) {
+        return Math.max(0.0, 1.0 - stats.absoluteIndicator() / (double) stats.size());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.crypto.criteria;
+
+import com.knezevic.edaf.v3.problems.crypto.BooleanFunctionStats;
+
+/**
+ * Normalized correlation-immunity order read from the Walsh spectrum.
+ *
+ * <p>Combine with {@code balancedness} to reward resilient functions.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class CorrelationImmunityCriterion implements CryptoFitnessCriterion {
+
+    /**
+     * Returns identifier.
+     *
+     * @return identifier value
+     */
+    @Override
+    public String id() {
+        return "correlation-immunity";
+    }
+
+    /**
+     * Executes score.
+     *
+     * @param stats the stats argument
+     * @return correlation-immunity order divided by {@code n}
+     */
+    @Override
+    public double score(BooleanFunctionStats stats) {
+        if (stats.n() <= 0) {
+            return 0.0;
+        }
+        return stats.correlationImmunity() / (double) stats.n();
+    }
+}
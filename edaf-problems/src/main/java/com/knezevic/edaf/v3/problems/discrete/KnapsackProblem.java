@@ -6,8 +6,8 @@
 package com.knezevic.edaf.v3.problems.discrete;
 
 import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.IncrementalProblem;
 import com.knezevic.edaf.v3.core.api.ObjectiveSense;
-import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
@@ -15,10 +15,12 @@ import java.util.List;
 
 /**
  * 0/1 knapsack benchmark with linear overweight penalty.
+ *
+ * <p>Delta evaluation keeps running weight and value sums and adjusts them per changed item.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public final class KnapsackProblem implements Problem<BitString> {
+public final class KnapsackProblem implements IncrementalProblem<BitString, KnapsackProblem.State> {
 
     private final int[] weights;
     private final int[] values;
@@ -77,18 +79,92 @@ public final class KnapsackProblem implements Problem<BitString> {
         int length = Math.min(genotype.length(), weights.length);
         int totalWeight = 0;
         int totalValue = 0;
-        boolean[] genes = genotype.genes();
+        int words = BitString.wordCount(length);
 
-        for (int i = 0; i < length; i++) {
-            if (genes[i]) {
+        for (int w = 0; w < words; w++) {
+            long word = genotype.word(w);
+            if (w == words - 1 && (length & 63) != 0) {
+                word &= (1L << length) - 1L;
+            }
+            while (word != 0L) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
                 totalWeight += weights[i];
                 totalValue += values[i];
+                word &= word - 1;
             }
         }
 
-        int overweight = Math.max(0, totalWeight - capacity);
-        double penalized = totalValue - penaltyPerUnit * overweight;
-        return new ScalarFitness(penalized);
+        return penalized(totalWeight, totalValue);
+    }
+
+    /**
+     * Evaluates a genotype and returns its running sums.
+     *
+     * @param genotype genotype to evaluate
+     * @return evaluation state
+     */
+    @Override
+    public State evaluationState(BitString genotype) {
+        State state = new State();
+        int length = Math.min(genotype.length(), weights.length);
+        for (int i = 0; i < length; i++) {
+            if (genotype.get(i)) {
+                state.weight += weights[i];
+                state.value += values[i];
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Returns the penalized fitness described by a state.
+     *
+     * @param state evaluation state
+     * @return fitness
+     */
+    @Override
+    public Fitness fitness(State state) {
+        return penalized(state.weight, state.value);
+    }
+
+    /**
+     * Adds or removes the weight and value of changed items.
+     *
+     * @param base genotype described by state
+     * @param state evaluation state updated in place
+     * @param candidate changed genotype
+     * @param changedPositions item indices that may differ
+     * @return candidate fitness
+     */
+    @Override
+    public Fitness evaluateDelta(BitString base, State state, BitString candidate, int[] changedPositions) {
+        int length = Math.min(Math.min(base.length(), candidate.length()), weights.length);
+        for (int i : changedPositions) {
+            if (i >= length) {
+                continue;
+            }
+            boolean selected = candidate.get(i);
+            if (base.get(i) != selected) {
+                int sign = selected ? 1 : -1;
+                state.weight += sign * weights[i];
+                state.value += sign * values[i];
+            }
+        }
+        return fitness(state);
+    }
+
+    /**
+     * Copies a state.
+     *
+     * @param state evaluation state
+     * @return independent copy
+     */
+    @Override
+    public State copyState(State state) {
+        State copy = new State();
+        copy.weight = state.weight;
+        copy.value = state.value;
+        return copy;
     }
 
     /**
@@ -122,4 +198,17 @@ public final class KnapsackProblem implements Problem<BitString> {
     public int capacity() {
         return capacity;
     }
+
+    private Fitness penalized(int totalWeight, int totalValue) {
+        int overweight = Math.max(0, totalWeight - capacity);
+        return new ScalarFitness(totalValue - penaltyPerUnit * overweight);
+    }
+
+    /**
+     * Running weight and value sums of one selection.
+     */
+    public static final class State {
+        private int weight;
+        private int value;
+    }
 }
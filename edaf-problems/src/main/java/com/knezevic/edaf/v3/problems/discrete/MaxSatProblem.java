@@ -6,8 +6,8 @@
 package com.knezevic.edaf.v3.problems.discrete;
 
 import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.core.api.IncrementalProblem;
 import com.knezevic.edaf.v3.core.api.ObjectiveSense;
-import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
@@ -15,13 +15,19 @@ import java.util.List;
 
 /**
  * MAX-SAT benchmark over fixed CNF formula.
+ *
+ * <p>Delta evaluation keeps the number of true literals per clause. A clause-occurrence index
+ * built once in the constructor lists, per variable, the clauses it appears in and with which
+ * sign, so flipping a variable touches only its occurrences instead of rescanning the formula.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public final class MaxSatProblem implements Problem<BitString> {
+public final class MaxSatProblem implements IncrementalProblem<BitString, MaxSatProblem.State> {
 
     private final int variableCount;
     private final int[][] clauses;
+    private final int[] occurrenceStart;
+    private final int[] occurrences;
 
     /**
      * Creates a new MaxSatProblem instance.
@@ -32,6 +38,30 @@ public final class MaxSatProblem implements Problem<BitString> {
     public MaxSatProblem(int variableCount, int[][] clauses) {
         this.variableCount = variableCount;
         this.clauses = clauses;
+
+        int indexed = 0;
+        for (int[] clause : clauses) {
+            for (int literal : clause) {
+                indexed = Math.max(indexed, Math.abs(literal));
+            }
+        }
+        this.occurrenceStart = new int[indexed + 1];
+        for (int[] clause : clauses) {
+            for (int literal : clause) {
+                occurrenceStart[Math.abs(literal)]++;
+            }
+        }
+        for (int v = 0; v < indexed; v++) {
+            occurrenceStart[v + 1] += occurrenceStart[v];
+        }
+        // Each occurrence packs (clause << 1) | negated, grouped by 0-based variable.
+        this.occurrences = new int[occurrenceStart[indexed]];
+        int[] cursor = java.util.Arrays.copyOf(occurrenceStart, indexed);
+        for (int c = 0; c < clauses.length; c++) {
+            for (int literal : clauses[c]) {
+                occurrences[cursor[Math.abs(literal) - 1]++] = (c << 1) | (literal < 0 ? 1 : 0);
+            }
+        }
     }
 
     /**
@@ -62,11 +92,10 @@ public final class MaxSatProblem implements Problem<BitString> {
      */
     @Override
     public Fitness evaluate(BitString genotype) {
-        boolean[] assignment = genotype.genes();
         int satisfied = 0;
 
         for (int[] clause : clauses) {
-            if (isClauseSatisfied(clause, assignment)) {
+            if (isClauseSatisfied(clause, genotype)) {
                 satisfied++;
             }
         }
@@ -105,13 +134,104 @@ public final class MaxSatProblem implements Problem<BitString> {
         return clauses.length;
     }
 
-    private static boolean isClauseSatisfied(int[] clause, boolean[] assignment) {
+    /**
+     * Counts true literals of every clause.
+     *
+     * @param genotype genotype to evaluate
+     * @return evaluation state
+     */
+    @Override
+    public State evaluationState(BitString genotype) {
+        State state = new State(clauses.length);
+        int length = genotype.length();
+        for (int c = 0; c < clauses.length; c++) {
+            int trueLiterals = 0;
+            for (int literal : clauses[c]) {
+                int index = Math.abs(literal) - 1;
+                if (index < 0 || index >= length) {
+                    continue;
+                }
+                if (genotype.get(index) == (literal > 0)) {
+                    trueLiterals++;
+                }
+            }
+            state.trueLiterals[c] = trueLiterals;
+            if (trueLiterals > 0) {
+                state.satisfied++;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Returns the fitness described by a state.
+     *
+     * @param state evaluation state
+     * @return satisfied clause count
+     */
+    @Override
+    public Fitness fitness(State state) {
+        return new ScalarFitness(state.satisfied);
+    }
+
+    /**
+     * Updates true-literal counts of the clauses containing changed variables.
+     *
+     * @param base genotype described by state
+     * @param state evaluation state updated in place
+     * @param candidate changed genotype
+     * @param changedPositions variable indices that may differ
+     * @return candidate fitness
+     */
+    @Override
+    public Fitness evaluateDelta(BitString base, State state, BitString candidate, int[] changedPositions) {
+        int length = Math.min(base.length(), candidate.length());
+        int indexed = occurrenceStart.length - 1;
+        for (int index : changedPositions) {
+            if (index >= length || index >= indexed) {
+                continue;
+            }
+            boolean value = candidate.get(index);
+            if (base.get(index) == value) {
+                continue;
+            }
+            for (int o = occurrenceStart[index]; o < occurrenceStart[index + 1]; o++) {
+                int clause = occurrences[o] >>> 1;
+                boolean negated = (occurrences[o] & 1) != 0;
+                if (value != negated) {
+                    if (state.trueLiterals[clause]++ == 0) {
+                        state.satisfied++;
+                    }
+                } else if (--state.trueLiterals[clause] == 0) {
+                    state.satisfied--;
+                }
+            }
+        }
+        return fitness(state);
+    }
+
+    /**
+     * Copies a state.
+     *
+     * @param state evaluation state
+     * @return independent copy
+     */
+    @Override
+    public State copyState(State state) {
+        State copy = new State(state.trueLiterals.length);
+        System.arraycopy(state.trueLiterals, 0, copy.trueLiterals, 0, state.trueLiterals.length);
+        copy.satisfied = state.satisfied;
+        return copy;
+    }
+
+    private static boolean isClauseSatisfied(int[] clause, BitString assignment) {
+        int length = assignment.length();
         for (int literal : clause) {
             int index = Math.abs(literal) - 1;
-            if (index < 0 || index >= assignment.length) {
+            if (index < 0 || index >= length) {
                 continue;
             }
-            boolean value = assignment[index];
+            boolean value = (assignment.word(index >>> 6) & (1L << index)) != 0L;
             if (literal < 0) {
                 value = !value;
             }
@@ -121,4 +241,16 @@ public final class MaxSatProblem implements Problem<BitString> {
         }
         return false;
     }
+
+    /**
+     * Per-clause true-literal counts of one assignment.
+     */
+    public static final class State {
+        private final int[] trueLiterals;
+        private int satisfied;
+
+        private State(int clauses) {
+            this.trueLiterals = new int[clauses];
+        }
+    }
 }
@@ -164,13 +164,15 @@ abstract class AbstractDisjunctMatrixProblem implements Problem<BitString> {
      * @return the computed sampling seed
      */
     protected final long samplingSeed(BitString genotype) {
-        return evaluationConfig.samplingSeed() ^ fnv1a64(genotype.genes());
+        return evaluationConfig.samplingSeed() ^ fnv1a64(genotype);
     }
 
-    private static long fnv1a64(boolean[] genes) {
+    private static long fnv1a64(BitString genes) {
         long hash = 0xcbf29ce484222325L;
-        for (boolean gene : genes) {
-            hash ^= gene ? 0x9E3779B97F4A7C15L : 0xD6E8FEB86659FD93L;
+        int length = genes.length();
+        for (int i = 0; i < length; i++) {
+            long word = genes.word(i >>> 6);
+            hash ^= (word & (1L << i)) != 0L ? 0x9E3779B97F4A7C15L : 0xD6E8FEB86659FD93L;
             hash *= 0x100000001b3L;
         }
         return hash;
@@ -58,6 +58,69 @@ public final class DisjunctCombinatorics {
         }
     }
 
+    /**
+     * Returns the rank of a sorted {@code k}-combination in revolving-door (Gray-code) order,
+     * where consecutive combinations differ by exactly one element swapped out and one in:
+     * {@code rank = sum_{i=1..k} (-1)^(k-i) C(c_i + 1, i) - (k mod 2)} for
+     * {@code c_1 < ... < c_k}.
+     * @param combination increasing indices in {@code [0, n-1]}
+     * @return zero-based rank
+     */
+    public static long revolvingDoorRank(int[] combination) {
+        int k = combination.length;
+        long rank = -(k & 1);
+        long sign = 1L;
+        for (int i = k; i >= 1; i--) {
+            rank += sign * binomialCoefficientCapped(combination[i - 1] + 1, i, Long.MAX_VALUE - 1L);
+            sign = -sign;
+        }
+        return rank;
+    }
+
+    /**
+     * Writes the {@code k}-combination with a given revolving-door rank into {@code output},
+     * sorted increasingly. Costs {@code O(n + k)} after the binomial table is built, so a long
+     * enumeration can be split into rank ranges that start independently.
+     * @param rank zero-based rank in {@code [0, C(n,k))}
+     * @param n problem dimension
+     * @param output combination of length {@code k}
+     */
+    public static void revolvingDoorUnrank(long rank, int n, int[] output) {
+        int k = output.length;
+        if (k < 1 || k > n) {
+            throw new IllegalArgumentException("invalid combination the input values: n=" + n + ", k=" + k);
+        }
+        long[][] binomial = binomialTable(n, k);
+        if (rank < 0L || rank >= binomial[n][k]) {
+            throw new IllegalArgumentException("rank must be in [0, C(n,k)), got " + rank);
+        }
+        long r = rank;
+        int x = n;
+        for (int i = k; i >= 1; i--) {
+            while (binomial[x][i] > r) {
+                x--;
+            }
+            output[i - 1] = x;
+            r = binomial[x + 1][i] - r - 1L;
+        }
+    }
+
+    /**
+     * Returns {@code C(x, i)} for {@code x <= n}, {@code i <= k}, saturated at
+     * {@link Long#MAX_VALUE}.
+     */
+    static long[][] binomialTable(int n, int k) {
+        long[][] table = new long[n + 1][k + 1];
+        for (int x = 0; x <= n; x++) {
+            table[x][0] = 1L;
+            for (int i = 1; i <= Math.min(x, k); i++) {
+                long sum = table[x - 1][i - 1] + table[x - 1][i];
+                table[x][i] = sum < 0L ? Long.MAX_VALUE : sum;
+            }
+        }
+        return table;
+    }
+
     /**
      * Samples one {@code k}-combination uniformly without replacement into {@code output}.
      * Output is sorted increasingly.
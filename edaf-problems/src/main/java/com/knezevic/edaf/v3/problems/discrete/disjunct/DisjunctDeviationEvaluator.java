@@ -6,12 +6,15 @@
 package com.knezevic.edaf.v3.problems.discrete.disjunct;
 
 import java.util.Arrays;
-import java.util.BitSet;
 
 /**
   * Stateful evaluator for deviation.
  * {@code delta(S) = |{x_j notin S : supp(x_j) subseteq union_{x_i in S} supp(x_i)}|}.
  *
+ * <p>The union is built from the matrix's word-packed supports, and containment is tested
+ * one word at a time as {@code (supp & ~union) == 0}. Exhaustive evaluation goes through
+ * {@link DisjunctExactEvaluator}, which updates the union incrementally instead.</p>
+ *
  * <p>This class is intentionally mutable to reduce allocations during repeated
  * combination traversals. It is not thread-safe.</p>
  * @author Karlo Knezevic
@@ -20,24 +23,31 @@ import java.util.BitSet;
 final class DisjunctDeviationEvaluator {
 
     private final DisjunctMatrix matrix;
-    private final BitSet supportUnion;
+    private final long[] supports;
+    private final int wordsPerColumn;
+    private final long[] supportUnion;
     private final int[] membershipMarker;
     private int markerToken = 1;
 
     DisjunctDeviationEvaluator(DisjunctMatrix matrix) {
         this.matrix = matrix;
-        this.supportUnion = new BitSet(matrix.rows());
+        this.supports = matrix.packedSupportsRef();
+        this.wordsPerColumn = matrix.wordsPerColumn();
+        this.supportUnion = new long[wordsPerColumn];
         this.membershipMarker = new int[matrix.columns()];
     }
 
     int deviationForSubset(int[] subset) {
         int token = nextMarkerToken();
-        supportUnion.clear();
+        Arrays.fill(supportUnion, 0L);
         for (int columnIndex : subset) {
             if (columnIndex < 0 || columnIndex >= matrix.columns()) {
                 throw new IllegalArgumentException("subset contains invalid column index " + columnIndex);
             }
-            supportUnion.or(matrix.supportRef(columnIndex));
+            int base = columnIndex * wordsPerColumn;
+            for (int w = 0; w < wordsPerColumn; w++) {
+                supportUnion[w] |= supports[base + w];
+            }
             membershipMarker[columnIndex] = token;
         }
 
@@ -46,7 +56,7 @@ final class DisjunctDeviationEvaluator {
             if (membershipMarker[column] == token) {
                 continue;
             }
-            if (isSubset(matrix.supportRef(column), supportUnion)) {
+            if (isCovered(supports, column * wordsPerColumn, supportUnion)) {
                 deviation++;
             }
         }
@@ -62,9 +72,12 @@ final class DisjunctDeviationEvaluator {
         return markerToken;
     }
 
-    private static boolean isSubset(BitSet candidate, BitSet superset) {
-        for (int bit = candidate.nextSetBit(0); bit >= 0; bit = candidate.nextSetBit(bit + 1)) {
-            if (!superset.get(bit)) {
+    /**
+     * Returns whether the column starting at {@code base} is contained in {@code union}.
+     */
+    static boolean isCovered(long[] supports, int base, long[] union) {
+        for (int w = 0; w < union.length; w++) {
+            if ((supports[base + w] & ~union[w]) != 0L) {
                 return false;
             }
         }
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.discrete.disjunct;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntPredicate;
+
+/**
+ * Exhaustive deviation scan over all {@code C(N,t)} column subsets.
+ *
+ * <p>Subsets are visited in revolving-door order, so each step swaps one column out and one
+ * in. The support union is maintained through per-row cover counts: a swap touches only the
+ * two columns' supports instead of rebuilding the union from all {@code t} columns. Each
+ * column's containment test is a word loop over {@code (supp & ~union) == 0}; members of the
+ * subset are always contained, so {@code delta(S)} is the covered-column count minus
+ * {@code t}.</p>
+ *
+ * <p>Large scans are cut into rank ranges. Each range starts from its first subset via
+ * {@link DisjunctCombinatorics#revolvingDoorUnrank} and runs on the fork-join common pool.
+ * Partial results are merged in rank order, so totals and the reported witness do not depend
+ * on the split.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+final class DisjunctExactEvaluator {
+
+    /** Minimum subsets times support words before a scan is split across the common pool. */
+    private static final long PARALLEL_WORK_THRESHOLD = 1L << 20;
+    private static final long MIN_SUBSETS_PER_RANGE = 1L << 10;
+    private static final int RANGES_PER_WORKER = 4;
+
+    private DisjunctExactEvaluator() {
+        // utility class
+    }
+
+    /**
+     * Aggregate of one exhaustive scan.
+     *
+     * @param subsets number of subsets visited
+     * @param deviationSum sum of {@code delta(S)} over all subsets
+     * @param violations number of subsets matched by the violation predicate
+     * @param witness first violating subset in revolving-door order, or {@code null}
+     * @param witnessDeviation deviation of {@code witness}, or {@code -1}
+     */
+    record Summary(long subsets, long deviationSum, long violations, int[] witness, int witnessDeviation) {
+    }
+
+    /**
+     * Visits every {@code t}-subset of columns.
+     *
+     * @param matrix matrix to scan
+     * @param t subset size in {@code [1, N)}
+     * @param violation predicate over {@code delta(S)}; called concurrently
+     * @return scan summary
+     */
+    static Summary scan(DisjunctMatrix matrix, int t, IntPredicate violation) {
+        int columns = matrix.columns();
+        if (t < 1 || t >= columns) {
+            throw new IllegalArgumentException("t must be in [1, N), got " + t);
+        }
+        long total = DisjunctCombinatorics.binomialCoefficientCapped(columns, t, Long.MAX_VALUE - 1L);
+        if (total > Long.MAX_VALUE - 1L) {
+            throw new IllegalArgumentException("C(N,t) exceeds the exact evaluation range");
+        }
+
+        long wordsPerSubset = Math.max(1L, (long) columns * matrix.wordsPerColumn());
+        int workers = ForkJoinPool.commonPool().getParallelism();
+        long ranges = Math.min(total / MIN_SUBSETS_PER_RANGE, (long) workers * RANGES_PER_WORKER);
+        if (ranges <= 1L || total < PARALLEL_WORK_THRESHOLD / wordsPerSubset) {
+            return new RangeScan(matrix, t, violation, 0L, total).compute();
+        }
+
+        long rangeSize = (total + ranges - 1L) / ranges;
+        List<RangeScan> tasks = new ArrayList<>((int) ranges);
+        for (long from = 0L; from < total; from += rangeSize) {
+            tasks.add(new RangeScan(matrix, t, violation, from, Math.min(total, from + rangeSize)));
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                ForkJoinTask.invokeAll(tasks);
+                return null;
+            }
+        });
+
+        long subsets = 0L;
+        long deviationSum = 0L;
+        long violations = 0L;
+        int[] witness = null;
+        int witnessDeviation = -1;
+        for (RangeScan task : tasks) {
+            Summary partial = task.join();
+            subsets += partial.subsets();
+            deviationSum += partial.deviationSum();
+            violations += partial.violations();
+            if (witness == null && partial.witness() != null) {
+                witness = partial.witness();
+                witnessDeviation = partial.witnessDeviation();
+            }
+        }
+        return new Summary(subsets, deviationSum, violations, witness, witnessDeviation);
+    }
+
+    /**
+     * Scans revolving-door ranks {@code [from, to)} with private union state.
+     */
+    private static final class RangeScan extends RecursiveTask<Summary> {
+
+        private final DisjunctMatrix matrix;
+        private final int t;
+        private final IntPredicate violation;
+        private final long from;
+        private final long to;
+
+        private final long[] supports;
+        private final int wordsPerColumn;
+        private final long[] union;
+        private final int[] rowCover;
+        /** Current subset, increasing, with sentinel {@code combination[t] = N}. */
+        private final int[] combination;
+        private int removed;
+        private int added;
+
+        RangeScan(DisjunctMatrix matrix, int t, IntPredicate violation, long from, long to) {
+            this.matrix = matrix;
+            this.t = t;
+            this.violation = violation;
+            this.from = from;
+            this.to = to;
+            this.supports = matrix.packedSupportsRef();
+            this.wordsPerColumn = matrix.wordsPerColumn();
+            this.union = new long[wordsPerColumn];
+            this.rowCover = new int[matrix.rows()];
+            this.combination = new int[t + 1];
+        }
+
+        @Override
+        protected Summary compute() {
+            int[] first = new int[t];
+            DisjunctCombinatorics.revolvingDoorUnrank(from, matrix.columns(), first);
+            System.arraycopy(first, 0, combination, 0, t);
+            combination[t] = matrix.columns();
+            for (int i = 0; i < t; i++) {
+                addColumn(combination[i]);
+            }
+
+            long deviationSum = 0L;
+            long violations = 0L;
+            int[] witness = null;
+            int witnessDeviation = -1;
+            for (long rank = from; rank < to; rank++) {
+                if (rank > from) {
+                    advance();
+                    removeColumn(removed);
+                    addColumn(added);
+                }
+                int deviation = coveredColumns() - t;
+                deviationSum += deviation;
+                if (violation.test(deviation)) {
+                    violations++;
+                    if (witness == null) {
+                        witness = new int[t];
+                        System.arraycopy(combination, 0, witness, 0, t);
+                        witnessDeviation = deviation;
+                    }
+                }
+            }
+            return new Summary(to - from, deviationSum, violations, witness, witnessDeviation);
+        }
+
+        private int coveredColumns() {
+            int covered = 0;
+            int columns = matrix.columns();
+            for (int column = 0, base = 0; column < columns; column++, base += wordsPerColumn) {
+                if (DisjunctDeviationEvaluator.isCovered(supports, base, union)) {
+                    covered++;
+                }
+            }
+            return covered;
+        }
+
+        private void addColumn(int column) {
+            int base = column * wordsPerColumn;
+            for (int w = 0; w < wordsPerColumn; w++) {
+                long bits = supports[base + w];
+                while (bits != 0L) {
+                    int row = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    if (rowCover[row]++ == 0) {
+                        union[w] |= bits & -bits;
+                    }
+                    bits &= bits - 1L;
+                }
+            }
+        }
+
+        private void removeColumn(int column) {
+            int base = column * wordsPerColumn;
+            for (int w = 0; w < wordsPerColumn; w++) {
+                long bits = supports[base + w];
+                while (bits != 0L) {
+                    int row = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    if (--rowCover[row] == 0) {
+                        union[w] &= ~(bits & -bits);
+                    }
+                    bits &= bits - 1L;
+                }
+            }
+        }
+
+        /**
+         * Moves to the next subset in revolving-door order (Knuth, TAOCP 7.2.1.3, Algorithm R)
+         * and records the swapped columns. Callers stop at the range end, so the last subset
+         * is never advanced past.
+         */
+        private void advance() {
+            int[] c = combination;
+            boolean decrease;
+            if ((t & 1) == 1) {
+                if (c[0] + 1 < c[1]) {
+                    removed = c[0];
+                    added = ++c[0];
+                    return;
+                }
+                decrease = true;
+            } else {
+                if (c[0] > 0) {
+                    removed = c[0];
+                    added = --c[0];
+                    return;
+                }
+                decrease = false;
+            }
+            for (int j = 2; j <= t; j++) {
+                if (decrease) {
+                    // c_j = c_{j-1} + 1
+                    if (c[j - 1] >= j) {
+                        removed = c[j - 1];
+                        c[j - 1] = c[j - 2];
+                        c[j - 2] = j - 2;
+                        added = j - 2;
+                        return;
+                    }
+                } else {
+                    // c_{j-1} = j - 2
+                    if (c[j - 1] + 1 < c[j]) {
+                        removed = c[j - 2];
+                        c[j - 2] = c[j - 1];
+                        added = ++c[j - 1];
+                        return;
+                    }
+                }
+                decrease = !decrease;
+            }
+            throw new IllegalStateException("revolving-door enumeration advanced past its last subset");
+        }
+    }
+}
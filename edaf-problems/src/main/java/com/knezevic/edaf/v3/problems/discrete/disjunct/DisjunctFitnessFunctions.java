@@ -15,6 +15,9 @@ import java.util.Random;
  *     <li>{@code fit2(A) = |{S in S_t : delta(S) > f}|}</li>
  *     <li>{@code fit3(A) = fit1(A) / (C(N,t) * (N-t))}</li>
  * </ul>
+ *
+ * <p>Exact variants scan all subsets through {@link DisjunctExactEvaluator}; sampled
+ * variants draw uniform subsets.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
@@ -32,11 +35,7 @@ public final class DisjunctFitnessFunctions {
      */
     public static long fit1(DisjunctMatrix matrix, int t) {
         validateT(matrix, t);
-        DisjunctDeviationEvaluator evaluator = new DisjunctDeviationEvaluator(matrix);
-        long[] sum = new long[]{0L};
-        DisjunctCombinatorics.forEachCombination(matrix.columns(), t, subset ->
-                sum[0] += evaluator.deviationForSubset(subset));
-        return sum[0];
+        return DisjunctExactEvaluator.scan(matrix, t, deviation -> false).deviationSum();
     }
 
     /**
@@ -51,15 +50,7 @@ public final class DisjunctFitnessFunctions {
         if (f < 0) {
             throw new IllegalArgumentException("f must be >= 0");
         }
-        DisjunctDeviationEvaluator evaluator = new DisjunctDeviationEvaluator(matrix);
-        long[] count = new long[]{0L};
-        DisjunctCombinatorics.forEachCombination(matrix.columns(), t, subset -> {
-            int deviation = evaluator.deviationForSubset(subset);
-            if (deviation > f) {
-                count[0]++;
-            }
-        });
-        return count[0];
+        return DisjunctExactEvaluator.scan(matrix, t, deviation -> deviation > f).violations();
     }
 
     /**
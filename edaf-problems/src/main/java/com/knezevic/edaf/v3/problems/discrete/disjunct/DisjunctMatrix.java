@@ -15,7 +15,9 @@ import java.util.BitSet;
  * disjunct/resolvable/almost-disjunct definitions.
  *
  * <p>The matrix is represented by support bitsets of each column:
- * {@code supp(x_j) = { i in [M] : A[i,j] = 1 }}.</p>
+ * {@code supp(x_j) = { i in [M] : A[i,j] = 1 }}. The same supports are also kept word-packed,
+ * {@code ceil(M/64)} longs per column in one contiguous array, for the exact and sampled
+ * deviation kernels.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
@@ -24,13 +26,19 @@ public final class DisjunctMatrix {
     private final int rows;
     private final int columns;
     private final BitSet[] columnSupports;
+    private final int wordsPerColumn;
+    private final long[] packedSupports;
 
     private DisjunctMatrix(int rows, int columns, BitSet[] columnSupports) {
         this.rows = rows;
         this.columns = columns;
         this.columnSupports = new BitSet[columnSupports.length];
+        this.wordsPerColumn = BitString.wordCount(rows);
+        this.packedSupports = new long[columns * wordsPerColumn];
         for (int i = 0; i < columnSupports.length; i++) {
             this.columnSupports[i] = (BitSet) columnSupports[i].clone();
+            long[] words = columnSupports[i].toLongArray();
+            System.arraycopy(words, 0, packedSupports, i * wordsPerColumn, Math.min(words.length, wordsPerColumn));
         }
     }
 
@@ -56,17 +64,21 @@ public final class DisjunctMatrix {
             );
         }
 
-        boolean[] genes = genotype.genes();
+        // Each column is an unaligned M-bit slice of the packed genotype; copy it out a
+        // word at a time instead of testing bits individually.
+        int columnWords = BitString.wordCount(rows);
+        int tail = rows & 63;
         BitSet[] supports = new BitSet[columns];
+        long[] buffer = new long[columnWords];
         for (int column = 0; column < columns; column++) {
-            BitSet support = new BitSet(rows);
             int offset = column * rows;
-            for (int row = 0; row < rows; row++) {
-                if (genes[offset + row]) {
-                    support.set(row);
-                }
+            for (int w = 0; w < columnWords; w++) {
+                buffer[w] = genotype.bitsAt(offset + (w << 6));
+            }
+            if (tail != 0) {
+                buffer[columnWords - 1] &= (1L << tail) - 1L;
             }
-            supports[column] = support;
+            supports[column] = BitSet.valueOf(buffer);
         }
         return new DisjunctMatrix(rows, columns, supports);
     }
@@ -136,4 +148,16 @@ public final class DisjunctMatrix {
     BitSet supportRef(int columnIndex) {
         return columnSupports[columnIndex];
     }
+
+    int wordsPerColumn() {
+        return wordsPerColumn;
+    }
+
+    /**
+     * Column {@code j} occupies words {@code [j * wordsPerColumn(), (j + 1) * wordsPerColumn())}.
+     * Shared, not copied; callers must not modify it.
+     */
+    long[] packedSupportsRef() {
+        return packedSupports;
+    }
 }
@@ -13,7 +13,8 @@ import java.util.Random;
 /**
  * Validator for formal DM/RM/ADM properties from the paper.
  *
- * <p>For small instances, validation is exhaustive over all {@code C(N,t)} subsets.
+ * <p>For small instances, validation is exhaustive over all {@code C(N,t)} subsets, and the
+ * reported witness is the first violating subset in revolving-door order.
  * For larger instances, validation switches to random subset sampling with a
  * Hoeffding-style confidence bound.</p>
  * @author Karlo Knezevic
@@ -151,26 +152,14 @@ public final class DisjunctMatrixValidator {
                                                                 ViolationPredicate violationPredicate,
                                                                 String requirementDescription) {
         int remainingColumns = matrix.columns() - t;
-        DisjunctDeviationEvaluator evaluator = new DisjunctDeviationEvaluator(matrix);
-        long[] evaluated = new long[]{0L};
-        long[] violations = new long[]{0L};
-        int[][] witnessSubset = new int[1][];
-        int[] witnessDeviation = new int[]{-1};
-
-        DisjunctCombinatorics.forEachCombination(matrix.columns(), t, subset -> {
-            evaluated[0]++;
-            int deviation = evaluator.deviationForSubset(subset);
-            if (violationPredicate.isViolation(deviation, remainingColumns)) {
-                violations[0]++;
-                if (witnessSubset[0] == null) {
-                    witnessSubset[0] = Arrays.copyOf(subset, subset.length);
-                    witnessDeviation[0] = deviation;
-                }
-            }
-        });
+        DisjunctExactEvaluator.Summary summary = DisjunctExactEvaluator.scan(
+                matrix,
+                t,
+                deviation -> violationPredicate.isViolation(deviation, remainingColumns)
+        );
 
-        boolean valid = violations[0] == 0L;
-        double rate = evaluated[0] == 0L ? 0.0 : violations[0] / (double) evaluated[0];
+        boolean valid = summary.violations() == 0L;
+        double rate = summary.subsets() == 0L ? 0.0 : summary.violations() / (double) summary.subsets();
         String message = valid
                 ? "Exact validation passed: " + requirementDescription + "."
                 : "Exact validation failed: violating subset found.";
@@ -180,15 +169,15 @@ public final class DisjunctMatrixValidator {
                 DisjunctMatrixValidationMode.EXACT,
                 valid,
                 true,
-                evaluated[0],
+                summary.subsets(),
                 totalSubsets,
-                violations[0],
+                summary.violations(),
                 rate,
                 1.0,
                 0.0,
                 rate,
-                witnessDeviation[0],
-                witnessSubset[0],
+                summary.witnessDeviation(),
+                summary.witness(),
                 message
         );
     }
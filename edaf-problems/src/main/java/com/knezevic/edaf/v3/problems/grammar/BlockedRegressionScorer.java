@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.grammar;
+
+import com.knezevic.edaf.v3.repr.grammar.eval.CompiledProgram;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mean regression error of many compiled programs on one dataset.
+ *
+ * <p>The dataset is walked once in blocks of {@link CompiledProgram#BATCH_SIZE} rows and every
+ * program runs on a block before the next one is loaded, so column and target slices are read
+ * from cache by all but the first program. Each program keeps its own accumulator, summed in
+ * row order, so its error equals a row-by-row pass over the whole dataset.</p>
+ *
+ * <p>The {@link ColumnarDataset} overload streams each block of the referenced columns from the
+ * dataset store into block-sized scratch arrays instead of reading whole heap columns. It walks
+ * the same blocks in the same order and therefore returns bit-identical errors.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+final class BlockedRegressionScorer {
+
+    private BlockedRegressionScorer() {
+        // utility class
+    }
+
+    /**
+     * Returns the mean squared or absolute error of every program.
+     * @param programs compiled programs
+     * @param columns dataset columns keyed by variable name
+     * @param targets target value per row
+     * @param absolute true for mean absolute error, false for mean squared error
+     * @return one mean error per program, in input order
+     */
+    static double[] meanErrors(List<CompiledProgram> programs,
+                               Map<String, double[]> columns,
+                               double[] targets,
+                               boolean absolute) {
+        int count = programs.size();
+        double[][][] bound = new double[count][][];
+        for (int k = 0; k < count; k++) {
+            bound[k] = programs.get(k).bind(columns);
+        }
+
+        int rows = targets.length;
+        double[] errors = new double[count];
+        double[] predictions = new double[CompiledProgram.BATCH_SIZE];
+        for (int start = 0; start < rows; start += CompiledProgram.BATCH_SIZE) {
+            int n = Math.min(CompiledProgram.BATCH_SIZE, rows - start);
+            for (int k = 0; k < count; k++) {
+                programs.get(k).evaluate(bound[k], start, n, predictions);
+                errors[k] = accumulate(errors[k], predictions, targets, start, n, absolute);
+            }
+        }
+        for (int k = 0; k < count; k++) {
+            errors[k] /= rows;
+        }
+        return errors;
+    }
+
+    /**
+     * Returns the mean squared or absolute error of every program, streaming row blocks.
+     * @param programs compiled programs
+     * @param dataset columnar dataset with a numeric target
+     * @param absolute true for mean absolute error, false for mean squared error
+     * @return one mean error per program, in input order
+     */
+    static double[] meanErrors(List<CompiledProgram> programs, ColumnarDataset dataset, boolean absolute) {
+        Map<String, double[]> blockColumns = new HashMap<>();
+        for (CompiledProgram program : programs) {
+            for (String variable : program.variables()) {
+                if (dataset.featureIndex(variable) >= 0) {
+                    blockColumns.computeIfAbsent(variable, ignored -> new double[CompiledProgram.BATCH_SIZE]);
+                }
+            }
+        }
+        int[] features = new int[blockColumns.size()];
+        double[][] blocks = new double[blockColumns.size()][];
+        int referenced = 0;
+        for (Map.Entry<String, double[]> entry : blockColumns.entrySet()) {
+            features[referenced] = dataset.featureIndex(entry.getKey());
+            blocks[referenced++] = entry.getValue();
+        }
+
+        int count = programs.size();
+        double[][][] bound = new double[count][][];
+        for (int k = 0; k < count; k++) {
+            bound[k] = programs.get(k).bind(blockColumns);
+        }
+
+        int rows = dataset.rows();
+        double[] errors = new double[count];
+        double[] predictions = new double[CompiledProgram.BATCH_SIZE];
+        double[] targets = new double[CompiledProgram.BATCH_SIZE];
+        for (int start = 0; start < rows; start += CompiledProgram.BATCH_SIZE) {
+            int n = Math.min(CompiledProgram.BATCH_SIZE, rows - start);
+            for (int c = 0; c < features.length; c++) {
+                dataset.readFeature(features[c], start, n, blocks[c]);
+            }
+            dataset.readTargets(start, n, targets);
+            for (int k = 0; k < count; k++) {
+                programs.get(k).evaluate(bound[k], 0, n, predictions);
+                errors[k] = accumulate(errors[k], predictions, targets, 0, n, absolute);
+            }
+        }
+        for (int k = 0; k < count; k++) {
+            errors[k] /= rows;
+        }
+        return errors;
+    }
+
+    private static double accumulate(double aggregate,
+                                     double[] predictions,
+                                     double[] targets,
+                                     int offset,
+                                     int n,
+                                     boolean absolute) {
+        for (int i = 0; i < n; i++) {
+            double error = predictions[i] - targets[offset + i];
+            aggregate += absolute ? Math.abs(error) : (error * error);
+        }
+        return aggregate;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.grammar;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read-only column store of one parsed dataset: {@code double} feature columns and either a
+ * numeric target column or dictionary-encoded labels.
+ *
+ * <p>Columns are buffers over a memory-mapped cache file written by {@link DatasetStore}, or
+ * over heap arrays when no cache file could be written. Three access paths are offered.
+ * {@link #featureColumn} returns a read-only view of the column buffer and copies nothing.
+ * {@link #featureArray} and {@link #targets} copy a column to the heap once and hand the same
+ * array to every caller, so concurrent runs on one dataset share a single copy.
+ * {@link #readFeature} and {@link #readTargets} copy a row window into caller buffers and never
+ * materialize a column, which lets very large datasets be streamed block by block.</p>
+ *
+ * <p>Instances are immutable and thread-safe. Shared column arrays must not be modified.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class ColumnarDataset {
+
+    private final String source;
+    private final List<String> featureNames;
+    private final String targetName;
+    private final List<String> labels;
+    private final int rows;
+    private final DoubleBuffer[] features;
+    private final DoubleBuffer numericTargets;
+    private final IntBuffer labelCodes;
+    private final AtomicReferenceArray<double[]> featureArrays;
+    private volatile double[] targetArray;
+    private volatile int[] labelArray;
+
+    ColumnarDataset(String source,
+                    List<String> featureNames,
+                    String targetName,
+                    List<String> labels,
+                    int rows,
+                    DoubleBuffer[] features,
+                    DoubleBuffer numericTargets,
+                    IntBuffer labelCodes) {
+        this.source = source;
+        this.featureNames = List.copyOf(featureNames);
+        this.targetName = targetName;
+        this.labels = List.copyOf(labels);
+        this.rows = rows;
+        this.features = features;
+        this.numericTargets = numericTargets;
+        this.labelCodes = labelCodes;
+        this.featureArrays = new AtomicReferenceArray<>(features.length);
+    }
+
+    /**
+     * Dataset path the columns were parsed from.
+     * @return source description
+     */
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Number of valid rows.
+     * @return row count
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Feature names in CSV header order, without the target column.
+     * @return feature names
+     */
+    public List<String> featureNames() {
+        return featureNames;
+    }
+
+    /**
+     * Target column name.
+     * @return target name
+     */
+    public String targetName() {
+        return targetName;
+    }
+
+    /**
+     * Whether the target column holds labels rather than numbers.
+     * @return true for a labelled target
+     */
+    public boolean labelled() {
+        return labelCodes != null;
+    }
+
+    /**
+     * Distinct labels in order of first appearance; label code {@code i} stands for
+     * {@code labels().get(i)}. Empty for numeric targets.
+     * @return label dictionary
+     */
+    public List<String> labels() {
+        return labels;
+    }
+
+    /**
+     * Resolves a feature name to its column index.
+     * @param name feature name
+     * @return column index, or {@code -1} when absent
+     */
+    public int featureIndex(String name) {
+        return featureNames.indexOf(name);
+    }
+
+    /**
+     * Returns a read-only view of one feature column, backed by the mapped cache file when there
+     * is one. Each call returns an independent view positioned at row zero.
+     * @param feature column index
+     * @return column values, {@link #rows()} entries
+     */
+    public DoubleBuffer featureColumn(int feature) {
+        return features[feature].asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns one feature column as a shared heap array, copied from the column buffer on first use.
+     * @param feature column index
+     * @return column values; must not be modified
+     */
+    public double[] featureArray(int feature) {
+        double[] column = featureArrays.get(feature);
+        if (column == null) {
+            column = new double[rows];
+            features[feature].get(0, column, 0, rows);
+            if (!featureArrays.compareAndSet(feature, null, column)) {
+                column = featureArrays.get(feature);
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Returns all feature columns as shared heap arrays, aligned with {@link #featureNames()}.
+     * @return column-major feature values
+     */
+    public double[][] featureColumns() {
+        double[][] columns = new double[features.length][];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = featureArray(c);
+        }
+        return columns;
+    }
+
+    /**
+     * Feature columns keyed by feature name.
+     * @return the columns by name
+     */
+    public Map<String, double[]> columnsByName() {
+        Map<String, double[]> columns = new LinkedHashMap<>();
+        for (int c = 0; c < features.length; c++) {
+            columns.put(featureNames.get(c), featureArray(c));
+        }
+        return columns;
+    }
+
+    /**
+     * Returns the numeric target column as a shared heap array.
+     * @return target values; must not be modified
+     */
+    public double[] targets() {
+        if (numericTargets == null) {
+            throw new IllegalStateException("Target column '" + targetName + "' of " + source + " holds labels");
+        }
+        double[] values = targetArray;
+        if (values == null) {
+            values = new double[rows];
+            numericTargets.get(0, values, 0, rows);
+            targetArray = values;
+        }
+        return values;
+    }
+
+    /**
+     * Returns per-row label codes as a shared heap array.
+     * @return codes into {@link #labels()}; must not be modified
+     */
+    public int[] labelCodes() {
+        if (labelCodes == null) {
+            throw new IllegalStateException("Target column '" + targetName + "' of " + source + " is numeric");
+        }
+        int[] codes = labelArray;
+        if (codes == null) {
+            codes = new int[rows];
+            labelCodes.get(0, codes, 0, rows);
+            labelArray = codes;
+        }
+        return codes;
+    }
+
+    /**
+     * Copies rows {@code [fromRow, fromRow + count)} of one feature column.
+     * @param feature column index
+     * @param fromRow first row
+     * @param count number of rows
+     * @param out destination of at least {@code count} entries
+     */
+    public void readFeature(int feature, int fromRow, int count, double[] out) {
+        features[feature].get(fromRow, out, 0, count);
+    }
+
+    /**
+     * Copies rows {@code [fromRow, fromRow + count)} of the numeric target column.
+     * @param fromRow first row
+     * @param count number of rows
+     * @param out destination of at least {@code count} entries
+     */
+    public void readTargets(int fromRow, int count, double[] out) {
+        if (numericTargets == null) {
+            throw new IllegalStateException("Target column '" + targetName + "' of " + source + " holds labels");
+        }
+        numericTargets.get(fromRow, out, 0, count);
+    }
+}
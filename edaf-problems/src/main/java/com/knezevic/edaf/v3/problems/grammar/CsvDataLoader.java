@@ -5,22 +5,18 @@
 
 package com.knezevic.edaf.v3.problems.grammar;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * Lightweight CSV loader for symbolic regression and classification datasets.
+ *
+ * <p>Parsing and storage are delegated to {@link DatasetStore}: every dataset is parsed once
+ * into a memory-mapped columnar cache shared by all runs in the JVM. This class resolves the
+ * task-specific view on top of it, i.e. the numeric target or the class index of every row.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
@@ -37,30 +33,7 @@ public final class CsvDataLoader {
      * @return the load regression
      */
     public static RegressionData loadRegression(String path, String targetColumn) {
-        ParsedCsv parsed = parseCsv(path);
-        int targetIndex = columnIndex(parsed.header(), targetColumn, parsed.pathDescription());
-        List<RegressionData.Row> rows = new ArrayList<>();
-
-        for (String[] values : parsed.rows()) {
-            if (values.length != parsed.header().length) {
-                continue;
-            }
-            Map<String, Double> features = new LinkedHashMap<>();
-            for (int i = 0; i < parsed.header().length; i++) {
-                if (i == targetIndex) {
-                    continue;
-                }
-                features.put(parsed.header()[i], parseDouble(values[i], parsed.pathDescription(), parsed.header()[i]));
-            }
-            double target = parseDouble(values[targetIndex], parsed.pathDescription(), targetColumn);
-            rows.add(new RegressionData.Row(features, target));
-        }
-
-        if (rows.isEmpty()) {
-            throw new IllegalArgumentException("Regression dataset has no valid rows: " + parsed.pathDescription());
-        }
-
-        return new RegressionData(List.copyOf(rows), inferFeatureOrder(rows));
+        return new RegressionData(DatasetStore.numeric(path, targetColumn));
     }
 
     /**
@@ -82,51 +55,41 @@ public final class CsvDataLoader {
      * @return the load classification
      */
     public static ClassificationData loadClassification(String path, String targetColumn, List<String> classValues) {
-        ParsedCsv parsed = parseCsv(path);
-        int targetIndex = columnIndex(parsed.header(), targetColumn, parsed.pathDescription());
+        ColumnarDataset dataset = DatasetStore.labelled(path, targetColumn);
         List<String> normalizedClassValues = normalizeClassValues(classValues);
-        Set<String> allowedLabels = new LinkedHashSet<>(normalizedClassValues);
-        Set<String> discoveredLabels = new LinkedHashSet<>();
-
-        List<ClassificationData.Row> rows = new ArrayList<>();
-        for (String[] values : parsed.rows()) {
-            if (values.length != parsed.header().length) {
-                continue;
-            }
-            Map<String, Double> features = new LinkedHashMap<>();
-            for (int i = 0; i < parsed.header().length; i++) {
-                if (i == targetIndex) {
-                    continue;
+        List<String> discoveredLabels = dataset.labels();
+        if (!normalizedClassValues.isEmpty()) {
+            Set<String> allowedLabels = new LinkedHashSet<>(normalizedClassValues);
+            for (String label : discoveredLabels) {
+                if (!allowedLabels.contains(label)) {
+                    throw new IllegalArgumentException("Label '" + label + "' from " + dataset.source()
+                            + " is not listed in classValues=" + normalizedClassValues);
                 }
-                features.put(parsed.header()[i], parseDouble(values[i], parsed.pathDescription(), parsed.header()[i]));
-            }
-            String label = parseLabelRaw(values[targetIndex], parsed.pathDescription(), targetColumn);
-            if (!allowedLabels.isEmpty() && !allowedLabels.contains(label)) {
-                throw new IllegalArgumentException("Label '" + label + "' from " + parsed.pathDescription()
-                        + " is not listed in classValues=" + normalizedClassValues);
             }
-            discoveredLabels.add(label);
-            rows.add(new ClassificationData.Row(features, label));
-        }
-
-        if (rows.isEmpty()) {
-            throw new IllegalArgumentException("Classification dataset has no valid rows: " + parsed.pathDescription());
         }
 
         List<String> resolvedClassValues = !normalizedClassValues.isEmpty()
                 ? normalizedClassValues
-                : List.copyOf(discoveredLabels);
+                : discoveredLabels;
         if (resolvedClassValues.size() < 2) {
             throw new IllegalArgumentException("Classification dataset must contain at least 2 classes: "
-                    + parsed.pathDescription() + ", found=" + resolvedClassValues);
+                    + dataset.source() + ", found=" + resolvedClassValues);
         }
 
         Map<String, Integer> indexByLabel = new LinkedHashMap<>();
         for (int i = 0; i < resolvedClassValues.size(); i++) {
             indexByLabel.put(resolvedClassValues.get(i), i);
         }
-
-        return new ClassificationData(List.copyOf(rows), inferFeatureOrder(rows), resolvedClassValues, Map.copyOf(indexByLabel));
+        int[] classOfCode = new int[discoveredLabels.size()];
+        for (int code = 0; code < classOfCode.length; code++) {
+            classOfCode[code] = indexByLabel.get(discoveredLabels.get(code));
+        }
+        return new ClassificationData(
+                dataset,
+                resolvedClassValues,
+                Map.copyOf(indexByLabel),
+                labelIndices(dataset, classOfCode)
+        );
     }
 
     /**
@@ -140,81 +103,26 @@ public final class CsvDataLoader {
         ClassificationData generic = loadClassification(path, targetColumn);
         String positive = normalizePositiveLabel(positiveLabel);
 
-        List<ClassificationData.Row> rows = new ArrayList<>(generic.rows().size());
-        for (ClassificationData.Row row : generic.rows()) {
-            boolean isPositive = isPositiveLabel(row.label(), positive);
-            rows.add(new ClassificationData.Row(row.features(), isPositive ? "1" : "0"));
+        List<String> discoveredLabels = generic.dataset().labels();
+        int[] classOfCode = new int[discoveredLabels.size()];
+        for (int code = 0; code < classOfCode.length; code++) {
+            classOfCode[code] = isPositiveLabel(discoveredLabels.get(code), positive) ? 1 : 0;
         }
-
-        Map<String, Integer> indexByLabel = Map.of("0", 0, "1", 1);
-        return new ClassificationData(List.copyOf(rows), generic.featureOrder(), List.of("0", "1"), indexByLabel);
+        return new ClassificationData(
+                generic.dataset(),
+                List.of("0", "1"),
+                Map.of("0", 0, "1", 1),
+                labelIndices(generic.dataset(), classOfCode)
+        );
     }
 
-    private static List<String> inferFeatureOrder(List<? extends FeatureRow> rows) {
-        if (rows.isEmpty()) {
-            return List.of();
+    private static int[] labelIndices(ColumnarDataset dataset, int[] classOfCode) {
+        int[] codes = dataset.labelCodes();
+        int[] indices = new int[codes.length];
+        for (int r = 0; r < indices.length; r++) {
+            indices[r] = classOfCode[codes[r]];
         }
-        return List.copyOf(rows.getFirst().features().keySet());
-    }
-
-    private static ParsedCsv parseCsv(String path) {
-        if (path == null || path.isBlank()) {
-            throw new IllegalArgumentException("dataset path must not be blank");
-        }
-
-        List<String> lines = readLines(path);
-        if (lines.isEmpty()) {
-            throw new IllegalArgumentException("Dataset is empty: " + path);
-        }
-
-        String[] header = splitCsvLine(lines.getFirst());
-        if (header.length < 2) {
-            throw new IllegalArgumentException("Dataset must have at least two columns: " + path);
-        }
-        for (int i = 0; i < header.length; i++) {
-            header[i] = header[i].trim();
-        }
-
-        List<String[]> rows = new ArrayList<>();
-        for (int i = 1; i < lines.size(); i++) {
-            String line = lines.get(i);
-            if (line == null || line.isBlank()) {
-                continue;
-            }
-            rows.add(splitCsvLine(line));
-        }
-
-        return new ParsedCsv(header, rows, path);
-    }
-
-    private static int columnIndex(String[] header, String targetColumn, String source) {
-        if (targetColumn == null || targetColumn.isBlank()) {
-            throw new IllegalArgumentException("targetColumn is required for dataset " + source);
-        }
-        String normalized = targetColumn.trim();
-        for (int i = 0; i < header.length; i++) {
-            if (header[i].equals(normalized)) {
-                return i;
-            }
-        }
-        throw new IllegalArgumentException("Target column '" + targetColumn + "' not found in dataset " + source);
-    }
-
-    private static double parseDouble(String value, String source, String column) {
-        try {
-            return Double.parseDouble(value.trim());
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Failed parsing numeric value in " + source
-                    + " column '" + column + "': '" + value + "'");
-        }
-    }
-
-    private static String parseLabelRaw(String value, String source, String column) {
-        String normalized = value.trim();
-        if (normalized.isBlank()) {
-            throw new IllegalArgumentException("Empty label in " + source + " column '" + column + "'");
-        }
-        return normalized;
+        return indices;
     }
 
     private static String normalizePositiveLabel(String positiveLabel) {
@@ -246,97 +154,106 @@ public final class CsvDataLoader {
         return List.copyOf(normalized);
     }
 
-    private static List<String> readLines(String path) {
-        Path file = Path.of(path);
-        if (Files.exists(file)) {
-            try {
-                return Files.readAllLines(file, StandardCharsets.UTF_8);
-            } catch (IOException e) {
-                throw new IllegalArgumentException("Failed reading dataset file: " + path, e);
-            }
-        }
+    /**
+     * Regression dataset view over a shared {@link ColumnarDataset} with a numeric target.
+     *
+     * <p>Feature columns are column-major ({@code featureColumns()[feature][row]}, aligned with
+     * {@code featureOrder()}) so compiled grammar programs can evaluate whole columns at once.
+     * Heap columns are materialized on first access and shared; streaming callers read row
+     * windows from {@link #dataset()} instead.</p>
+     *
+     * @param dataset shared columnar store
+     */
+    public record RegressionData(ColumnarDataset dataset) {
 
-        String classpath = path;
-        if (classpath.startsWith("classpath:")) {
-            classpath = classpath.substring("classpath:".length());
-        }
-        if (classpath.startsWith("/")) {
-            classpath = classpath.substring(1);
+        /**
+         * Number of rows.
+         * @return the row count
+         */
+        public int rowCount() {
+            return dataset.rows();
         }
 
-        try (InputStream stream = CsvDataLoader.class.getClassLoader().getResourceAsStream(classpath)) {
-            if (stream == null) {
-                throw new IllegalArgumentException("Dataset not found: " + path);
-            }
-            List<String> lines = new ArrayList<>();
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    lines.add(line);
-                }
-            }
-            return lines;
-        } catch (IOException e) {
-            throw new IllegalArgumentException("Failed reading dataset resource: " + path, e);
+        /**
+         * Feature names in column order.
+         * @return the feature order
+         */
+        public List<String> featureOrder() {
+            return dataset.featureNames();
         }
-    }
 
-    private static String[] splitCsvLine(String line) {
-        List<String> values = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-        for (int i = 0; i < line.length(); i++) {
-            char ch = line.charAt(i);
-            if (ch == '"') {
-                inQuotes = !inQuotes;
-                continue;
-            }
-            if (ch == ',' && !inQuotes) {
-                values.add(current.toString());
-                current.setLength(0);
-                continue;
-            }
-            current.append(ch);
+        /**
+         * Column-major feature values.
+         * @return the feature columns
+         */
+        public double[][] featureColumns() {
+            return dataset.featureColumns();
         }
-        values.add(current.toString());
-        return values.toArray(String[]::new);
-    }
 
-    private record ParsedCsv(String[] header, List<String[]> rows, String pathDescription) {
-    }
+        /**
+         * Target value per row.
+         * @return the targets
+         */
+        public double[] targets() {
+            return dataset.targets();
+        }
 
-    private interface FeatureRow {
-        Map<String, Double> features();
+        /**
+         * Feature columns keyed by feature name.
+         * @return the columns by name
+         */
+        public Map<String, double[]> columnsByName() {
+            return dataset.columnsByName();
+        }
     }
 
     /**
-     * Regression dataset rows and feature order.
- * @author Karlo Knezevic
- * @version EDAF 3.0.0
- *
+     * Classification dataset view over a shared {@link ColumnarDataset} with labelled target.
+     *
+     * <p>Features are column-major ({@code featureColumns()[feature][row]}) and
+     * {@code labelIndices} holds the dense class index of every row.</p>
+     *
+     * @param dataset shared columnar store
+     * @param classValues class labels in class index order
+     * @param classIndexByLabel class index per label
+     * @param labelIndices class index per row
      */
-    public record RegressionData(List<Row> rows, List<String> featureOrder) {
+    public record ClassificationData(ColumnarDataset dataset,
+                                     List<String> classValues,
+                                     Map<String, Integer> classIndexByLabel,
+                                     int[] labelIndices) {
 
         /**
-         * One regression row.
- * @author Karlo Knezevic
- * @version EDAF 3.0.0
- *
+         * Number of rows.
+         * @return the row count
          */
-        public record Row(Map<String, Double> features, double target) implements FeatureRow {
+        public int rowCount() {
+            return dataset.rows();
         }
-    }
 
-    /**
-     * Classification dataset rows and feature order.
- * @author Karlo Knezevic
- * @version EDAF 3.0.0
- *
-     */
-    public record ClassificationData(List<Row> rows,
-                                     List<String> featureOrder,
-                                     List<String> classValues,
-                                     Map<String, Integer> classIndexByLabel) {
+        /**
+         * Feature names in column order.
+         * @return the feature order
+         */
+        public List<String> featureOrder() {
+            return dataset.featureNames();
+        }
+
+        /**
+         * Column-major feature values.
+         * @return the feature columns
+         */
+        public double[][] featureColumns() {
+            return dataset.featureColumns();
+        }
+
+        /**
+         * Feature columns keyed by feature name.
+         * @return the columns by name
+         */
+        public Map<String, double[]> columnsByName() {
+            return dataset.columnsByName();
+        }
 
         /**
          * Number of distinct classes.
@@ -358,14 +275,5 @@ public final class CsvDataLoader {
             }
             return index;
         }
-
-        /**
-         * One classification row.
- * @author Karlo Knezevic
- * @version EDAF 3.0.0
- *
-         */
-        public record Row(Map<String, Double> features, String label) implements FeatureRow {
-        }
     }
 }
@@ -0,0 +1,602 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.grammar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Parses CSV datasets once into binary columnar cache files and shares the memory-mapped
+ * columns across every run in the JVM.
+ *
+ * <p>A cache file is named after a digest of the CSV source (path or classpath URL, size and
+ * modification time), the target column and the target kind, so an edited CSV gets a new file
+ * and later runs, in this or another JVM, skip parsing entirely. The same source identity is
+ * stored in the file header and compared on every open, so a file is only trusted when it was
+ * written for exactly this source version; anything else is rebuilt. Files live in the directory
+ * named by the {@value #CACHE_DIR_PROPERTY} system property, or {@code .cache/edaf/datasets}
+ * under {@code user.home}, which keeps them private to the user instead of sharing a
+ * world-writable temporary directory. They are written to a temporary file and moved into place,
+ * so concurrent writers never expose a partial file.</p>
+ *
+ * <p>Layout, little-endian: a 32-byte header (magic, format version, flags, rows, feature
+ * count, label count, data offset), length-prefixed UTF-8 source identity, feature names,
+ * target name and labels, padding to 8 bytes, then one {@code double} column per feature and
+ * finally the target column as {@code double} values or {@code int} label codes. Each column is
+ * mapped separately with {@link FileChannel#map}.</p>
+ *
+ * <p>Open datasets are shared through a map keyed by source location, target column and target
+ * kind. Each key holds the cache file it was loaded from and a weak reference to the dataset, so
+ * a dataset stays shared while a run uses it and is released once no run does. Reopening an
+ * edited CSV replaces the key's entry instead of adding a second one. Loading happens outside
+ * the map: the first caller for a key installs a pending entry and parses, later callers for the
+ * same key wait on it, and other keys are never blocked.</p>
+ *
+ * <p>When the cache directory is not writable the parsed columns are served from the heap
+ * instead.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class DatasetStore {
+
+    /**
+     * System property naming the cache directory.
+     */
+    public static final String CACHE_DIR_PROPERTY = "edaf.dataset.cacheDir";
+
+    /** ASCII {@code EDAFCOL1} read as a little-endian long. */
+    private static final long MAGIC = 0x314C4F4346414445L;
+    private static final int FORMAT_VERSION = 2;
+    private static final int FIXED_HEADER_BYTES = 32;
+    private static final int FLAG_LABELLED = 1;
+    private static final int WRITE_CHUNK_BYTES = 1 << 16;
+    private static final int INITIAL_ROWS = 1024;
+
+    private static final ConcurrentMap<String, Shared> OPEN = new ConcurrentHashMap<>();
+
+    private DatasetStore() {
+        // utility class
+    }
+
+    /**
+     * Opens a dataset whose target column is numeric.
+     * @param path file path or {@code classpath:} resource
+     * @param targetColumn target column name
+     * @return shared columnar dataset
+     */
+    public static ColumnarDataset numeric(String path, String targetColumn) {
+        return open(defaultCacheDirectory(), path, targetColumn, false);
+    }
+
+    /**
+     * Opens a dataset whose target column holds class labels.
+     * @param path file path or {@code classpath:} resource
+     * @param targetColumn target column name
+     * @return shared columnar dataset
+     */
+    public static ColumnarDataset labelled(String path, String targetColumn) {
+        return open(defaultCacheDirectory(), path, targetColumn, true);
+    }
+
+    static ColumnarDataset open(Path cacheDirectory, String path, String targetColumn, boolean labelled) {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("dataset path must not be blank");
+        }
+        if (targetColumn == null || targetColumn.isBlank()) {
+            throw new IllegalArgumentException("targetColumn is required for dataset " + path);
+        }
+        Source source = Source.resolve(path);
+        String target = targetColumn.trim();
+        Path cacheFile = cacheDirectory.resolve(cacheFileName(source, target, labelled))
+                .toAbsolutePath()
+                .normalize();
+        String key = cacheDirectory.toAbsolutePath().normalize() + "|" + source.location() + "|" + target + "|" + labelled;
+        while (true) {
+            Shared shared = OPEN.get(key);
+            if (shared != null && shared.cacheFile().equals(cacheFile)) {
+                ColumnarDataset dataset = shared.await();
+                if (dataset != null) {
+                    return dataset;
+                }
+            }
+            Shared pending = new Shared(cacheFile, new CompletableFuture<>());
+            boolean installed = shared == null
+                    ? OPEN.putIfAbsent(key, pending) == null
+                    : OPEN.replace(key, shared, pending);
+            if (!installed) {
+                continue;
+            }
+            try {
+                ColumnarDataset dataset = load(cacheFile, source, targetColumn, labelled);
+                pending.loading().complete(new WeakReference<>(dataset));
+                return dataset;
+            } catch (RuntimeException e) {
+                OPEN.remove(key, pending);
+                pending.loading().completeExceptionally(e);
+                throw e;
+            } finally {
+                OPEN.values().removeIf(Shared::released);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of shared entries whose dataset is still loading or in use.
+     * @return live shared entries
+     */
+    static int sharedCount() {
+        OPEN.values().removeIf(Shared::released);
+        return OPEN.size();
+    }
+
+    /**
+     * Maps an existing cache file of a dataset.
+     * @param file cache file
+     * @param path file path or {@code classpath:} resource the cache was written for
+     * @return mapped dataset, or {@code null} when the file is not a complete cache of this format
+     *         for the current version of the source
+     */
+    static ColumnarDataset map(Path file, String path) throws IOException {
+        return map(file, Source.resolve(path));
+    }
+
+    private static ColumnarDataset map(Path file, Source source) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < FIXED_HEADER_BYTES) {
+                return null;
+            }
+            ByteBuffer fixed = readFully(channel, 0L, FIXED_HEADER_BYTES);
+            if (fixed.getLong() != MAGIC || fixed.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            boolean labelled = (fixed.getInt() & FLAG_LABELLED) != 0;
+            int rows = fixed.getInt();
+            int featureCount = fixed.getInt();
+            int labelCount = fixed.getInt();
+            int dataOffset = fixed.getInt();
+            long columnBytes = (long) rows * Double.BYTES;
+            long targetBytes = (long) rows * (labelled ? Integer.BYTES : Double.BYTES);
+            if (rows < 0 || featureCount < 0 || labelCount < 0 || dataOffset < FIXED_HEADER_BYTES
+                    || size != dataOffset + featureCount * columnBytes + targetBytes) {
+                return null;
+            }
+
+            ByteBuffer names = readFully(channel, FIXED_HEADER_BYTES, dataOffset - FIXED_HEADER_BYTES);
+            if (!source.identity().equals(getString(names))) {
+                return null;
+            }
+            List<String> featureNames = new ArrayList<>(featureCount);
+            for (int c = 0; c < featureCount; c++) {
+                featureNames.add(getString(names));
+            }
+            String targetName = getString(names);
+            List<String> labels = new ArrayList<>(labelCount);
+            for (int l = 0; l < labelCount; l++) {
+                labels.add(getString(names));
+            }
+
+            DoubleBuffer[] features = new DoubleBuffer[featureCount];
+            long offset = dataOffset;
+            for (int c = 0; c < featureCount; c++) {
+                features[c] = channel.map(FileChannel.MapMode.READ_ONLY, offset, columnBytes)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asDoubleBuffer();
+                offset += columnBytes;
+            }
+            ByteBuffer target = channel.map(FileChannel.MapMode.READ_ONLY, offset, targetBytes)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            return new ColumnarDataset(
+                    source.description(),
+                    featureNames,
+                    targetName,
+                    labels,
+                    rows,
+                    features,
+                    labelled ? null : target.asDoubleBuffer(),
+                    labelled ? target.asIntBuffer() : null
+            );
+        }
+    }
+
+    private static ColumnarDataset load(Path cacheFile, Source source, String targetColumn, boolean labelled) {
+        if (Files.isRegularFile(cacheFile)) {
+            try {
+                ColumnarDataset cached = map(cacheFile, source);
+                if (cached != null && cached.labelled() == labelled) {
+                    return cached;
+                }
+            } catch (IOException e) {
+                // unreadable cache: rebuild it below
+            }
+        }
+
+        Parsed parsed = parse(source, targetColumn, labelled);
+        try {
+            write(cacheFile, parsed, source.identity());
+            ColumnarDataset mapped = map(cacheFile, source);
+            if (mapped != null) {
+                return mapped;
+            }
+        } catch (IOException e) {
+            // read-only or full cache directory: serve the parsed columns from the heap
+        }
+        return parsed.onHeap(source.description());
+    }
+
+    private static Parsed parse(Source source, String targetColumn, boolean labelled) {
+        String description = source.description();
+        try (BufferedReader reader = source.open()) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IllegalArgumentException("Dataset is empty: " + description);
+            }
+            String[] header = splitCsvLine(headerLine);
+            if (header.length < 2) {
+                throw new IllegalArgumentException("Dataset must have at least two columns: " + description);
+            }
+            for (int i = 0; i < header.length; i++) {
+                header[i] = header[i].trim();
+            }
+            int targetIndex = columnIndex(header, targetColumn, description);
+
+            List<String> featureNames = new ArrayList<>(header.length - 1);
+            for (int i = 0; i < header.length; i++) {
+                if (i != targetIndex) {
+                    featureNames.add(header[i]);
+                }
+            }
+            double[][] features = new double[featureNames.size()][INITIAL_ROWS];
+            double[] targets = labelled ? null : new double[INITIAL_ROWS];
+            int[] codes = labelled ? new int[INITIAL_ROWS] : null;
+            Map<String, Integer> dictionary = new LinkedHashMap<>();
+            int rows = 0;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] values = splitCsvLine(line);
+                if (values.length != header.length) {
+                    continue;
+                }
+                if (rows == (labelled ? codes.length : targets.length)) {
+                    int grown = Math.max(INITIAL_ROWS, rows + (rows >> 1));
+                    for (int c = 0; c < features.length; c++) {
+                        features[c] = Arrays.copyOf(features[c], grown);
+                    }
+                    targets = targets == null ? null : Arrays.copyOf(targets, grown);
+                    codes = codes == null ? null : Arrays.copyOf(codes, grown);
+                }
+                for (int i = 0, c = 0; i < header.length; i++) {
+                    if (i != targetIndex) {
+                        features[c++][rows] = parseDouble(values[i], description, header[i]);
+                    }
+                }
+                if (labelled) {
+                    String label = parseLabel(values[targetIndex], description, targetColumn);
+                    Integer code = dictionary.putIfAbsent(label, dictionary.size());
+                    codes[rows] = code == null ? dictionary.size() - 1 : code;
+                } else {
+                    targets[rows] = parseDouble(values[targetIndex], description, targetColumn);
+                }
+                rows++;
+            }
+
+            if (rows == 0) {
+                throw new IllegalArgumentException((labelled ? "Classification" : "Regression")
+                        + " dataset has no valid rows: " + description);
+            }
+            return new Parsed(featureNames, header[targetIndex], List.copyOf(dictionary.keySet()), rows,
+                    features, targets, codes);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading dataset: " + description, e);
+        }
+    }
+
+    private static void write(Path cacheFile, Parsed parsed, String identity) throws IOException {
+        Path directory = cacheFile.getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writeFully(channel, parsed.header(identity));
+                ByteBuffer chunk = ByteBuffer.allocate(WRITE_CHUNK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                for (double[] column : parsed.features()) {
+                    writeDoubles(channel, chunk, column, parsed.rows());
+                }
+                if (parsed.codes() != null) {
+                    for (int row = 0; row < parsed.rows(); row++) {
+                        if (chunk.remaining() < Integer.BYTES) {
+                            flush(channel, chunk);
+                        }
+                        chunk.putInt(parsed.codes()[row]);
+                    }
+                    flush(channel, chunk);
+                } else {
+                    writeDoubles(channel, chunk, parsed.targets(), parsed.rows());
+                }
+            }
+            try {
+                Files.move(temp, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeDoubles(FileChannel channel, ByteBuffer chunk, double[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            if (chunk.remaining() < Double.BYTES) {
+                flush(channel, chunk);
+            }
+            chunk.putDouble(values[i]);
+        }
+        flush(channel, chunk);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        writeFully(channel, chunk);
+        chunk.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Truncated dataset cache");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static String getString(ByteBuffer buffer) throws IOException {
+        int length = buffer.remaining() < Integer.BYTES ? -1 : buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Corrupt dataset cache header");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Path defaultCacheDirectory() {
+        String configured = System.getProperty(CACHE_DIR_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return Path.of(System.getProperty("user.home"), ".cache", "edaf", "datasets");
+    }
+
+    private static String cacheFileName(Source source, String targetColumn, boolean labelled) {
+        String identity = FORMAT_VERSION + "|" + source.identity() + "|" + targetColumn + "|" + labelled;
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(identity.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        String base = source.description().replaceAll(".*[/\\\\:]", "").replaceAll("[^A-Za-z0-9._-]", "_");
+        return base + "-" + HexFormat.of().formatHex(digest, 0, 8) + ".edafcol";
+    }
+
+    private static int columnIndex(String[] header, String targetColumn, String source) {
+        String normalized = targetColumn.trim();
+        for (int i = 0; i < header.length; i++) {
+            if (header[i].equals(normalized)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Target column '" + targetColumn + "' not found in dataset " + source);
+    }
+
+    private static double parseDouble(String value, String source, String column) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Failed parsing numeric value in " + source
+                    + " column '" + column + "': '" + value + "'");
+        }
+    }
+
+    private static String parseLabel(String value, String source, String column) {
+        String normalized = value.trim();
+        if (normalized.isBlank()) {
+            throw new IllegalArgumentException("Empty label in " + source + " column '" + column + "'");
+        }
+        return normalized;
+    }
+
+    private static String[] splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (ch == '"') {
+                inQuotes = !inQuotes;
+                continue;
+            }
+            if (ch == ',' && !inQuotes) {
+                values.add(current.toString());
+                current.setLength(0);
+                continue;
+            }
+            current.append(ch);
+        }
+        values.add(current.toString());
+        return values.toArray(String[]::new);
+    }
+
+    /**
+     * Shared map entry: the cache file a dataset was loaded from and the pending or loaded dataset.
+     */
+    private record Shared(Path cacheFile, CompletableFuture<Reference<ColumnarDataset>> loading) {
+
+        /**
+         * Waits for the load and returns the dataset, or {@code null} when it was collected.
+         */
+        ColumnarDataset await() {
+            try {
+                return loading.join().get();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException failure) {
+                    throw failure;
+                }
+                throw e;
+            }
+        }
+
+        boolean released() {
+            return loading.isDone() && (loading.isCompletedExceptionally() || loading.join().get() == null);
+        }
+    }
+
+    /**
+     * CSV location: an existing file, otherwise a classpath resource.
+     */
+    private record Source(String description, Path file, URL resource) {
+
+        static Source resolve(String path) {
+            Path file = Path.of(path);
+            if (Files.exists(file)) {
+                return new Source(path, file.toAbsolutePath().normalize(), null);
+            }
+            String classpath = path;
+            if (classpath.startsWith("classpath:")) {
+                classpath = classpath.substring("classpath:".length());
+            }
+            if (classpath.startsWith("/")) {
+                classpath = classpath.substring(1);
+            }
+            URL resource = DatasetStore.class.getClassLoader().getResource(classpath);
+            if (resource == null) {
+                throw new IllegalArgumentException("Dataset not found: " + path);
+            }
+            return new Source(path, null, resource);
+        }
+
+        String location() {
+            return file != null ? file.toUri().toString() : resource.toString();
+        }
+
+        String identity() {
+            try {
+                if (file != null) {
+                    return file.toUri() + "|" + Files.size(file) + "|" + Files.getLastModifiedTime(file).toMillis();
+                }
+                URLConnection connection = resource.openConnection();
+                return resource + "|" + connection.getContentLengthLong() + "|" + connection.getLastModified();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Failed reading dataset: " + description, e);
+            }
+        }
+
+        BufferedReader open() throws IOException {
+            if (file != null) {
+                return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+            }
+            return new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Columns of one CSV parse, sized to at least {@code rows} entries.
+     */
+    private record Parsed(List<String> featureNames,
+                          String targetName,
+                          List<String> labels,
+                          int rows,
+                          double[][] features,
+                          double[] targets,
+                          int[] codes) {
+
+        ByteBuffer header(String identity) {
+            List<byte[]> strings = new ArrayList<>();
+            strings.add(identity.getBytes(StandardCharsets.UTF_8));
+            for (String name : featureNames) {
+                strings.add(name.getBytes(StandardCharsets.UTF_8));
+            }
+            strings.add(targetName.getBytes(StandardCharsets.UTF_8));
+            for (String label : labels) {
+                strings.add(label.getBytes(StandardCharsets.UTF_8));
+            }
+            int length = FIXED_HEADER_BYTES;
+            for (byte[] bytes : strings) {
+                length += Integer.BYTES + bytes.length;
+            }
+            int dataOffset = (length + 7) & ~7;
+
+            ByteBuffer header = ByteBuffer.allocate(dataOffset).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(codes != null ? FLAG_LABELLED : 0)
+                    .putInt(rows)
+                    .putInt(featureNames.size())
+                    .putInt(labels.size())
+                    .putInt(dataOffset);
+            for (byte[] bytes : strings) {
+                header.putInt(bytes.length).put(bytes);
+            }
+            return header.position(0);
+        }
+
+        ColumnarDataset onHeap(String description) {
+            DoubleBuffer[] columns = new DoubleBuffer[features.length];
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = DoubleBuffer.wrap(features[c], 0, rows).slice();
+            }
+            return new ColumnarDataset(
+                    description,
+                    featureNames,
+                    targetName,
+                    labels,
+                    rows,
+                    columns,
+                    targets == null ? null : DoubleBuffer.wrap(targets, 0, rows).slice(),
+                    codes == null ? null : IntBuffer.wrap(codes, 0, rows).slice()
+            );
+        }
+    }
+}
@@ -7,7 +7,7 @@ package com.knezevic.edaf.v3.problems.grammar;
 
 import com.knezevic.edaf.v3.core.api.Fitness;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
-import com.knezevic.edaf.v3.repr.grammar.eval.EvaluationContext;
+import com.knezevic.edaf.v3.repr.grammar.eval.CompiledProgram;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
 import java.util.Map;
@@ -25,6 +25,7 @@ public final class GrammarCsvClassificationProblem extends AbstractGrammarBitStr
     private final String classificationMode;
     private final String positiveLabel;
     private final double binaryThreshold;
+    private final Map<String, double[]> columns;
 
     public GrammarCsvClassificationProblem(Map<String, Object> params,
                                            CsvDataLoader.ClassificationData dataset,
@@ -41,6 +42,7 @@ public final class GrammarCsvClassificationProblem extends AbstractGrammarBitStr
         this.positiveLabel = positiveLabel == null ? "1" : positiveLabel.trim();
         this.score = score == null ? "accuracy" : score.trim().toLowerCase(Locale.ROOT);
         this.binaryThreshold = binaryThreshold;
+        this.columns = dataset.columnsByName();
     }
 
     /**
@@ -69,17 +71,17 @@ public final class GrammarCsvClassificationProblem extends AbstractGrammarBitStr
         int positiveIndex = resolvePositiveClassIndex();
         int negativeIndex = resolveNegativeClassIndex(positiveIndex);
 
-        for (CsvDataLoader.ClassificationData.Row row : dataset.rows()) {
-            int actualIndex = dataset.classIndex(row.label());
+        CompiledProgram program = inspection.program();
+        int[] labels = dataset.labelIndices();
+        double[] values = program.evaluate(program.bind(columns), labels.length);
+        for (int i = 0; i < labels.length; i++) {
             int predictedIndex;
             if (mode == Mode.BINARY) {
-                boolean predictedPositive = treeEngine.evaluate(genotype, EvaluationContext.real(row.features())) > binaryThreshold;
-                predictedIndex = predictedPositive ? positiveIndex : negativeIndex;
+                predictedIndex = values[i] > binaryThreshold ? positiveIndex : negativeIndex;
             } else {
-                double value = treeEngine.evaluate(genotype, EvaluationContext.real(row.features()));
-                predictedIndex = toMulticlassIndex(value, classCount);
+                predictedIndex = toMulticlassIndex(values[i], classCount);
             }
-            confusion[actualIndex][predictedIndex]++;
+            confusion[labels[i]][predictedIndex]++;
         }
 
         double accuracy = ClassificationMetrics.accuracy(confusion);
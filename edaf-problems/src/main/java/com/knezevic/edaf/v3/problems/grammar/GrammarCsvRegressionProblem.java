@@ -5,22 +5,38 @@
 
 package com.knezevic.edaf.v3.problems.grammar;
 
+import com.knezevic.edaf.v3.core.api.BatchProblem;
 import com.knezevic.edaf.v3.core.api.Fitness;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
-import com.knezevic.edaf.v3.repr.grammar.eval.EvaluationContext;
+import com.knezevic.edaf.v3.repr.grammar.GrammarTreeEngine;
+import com.knezevic.edaf.v3.repr.grammar.eval.CompiledProgram;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Symbolic regression over CSV dataset.
+ *
+ * <p>Batches are scored by {@link BlockedRegressionScorer}, which runs all programs over one
+ * row block of the dataset before moving to the next. Datasets above {@link #STREAMING_ROWS}
+ * rows are streamed block by block from the columnar store and never copied to the heap.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public final class GrammarCsvRegressionProblem extends AbstractGrammarBitStringProblem {
+public final class GrammarCsvRegressionProblem extends AbstractGrammarBitStringProblem
+        implements BatchProblem<BitString> {
+
+    /**
+     * Row count above which batches stream row blocks instead of scoring heap columns.
+     */
+    static final int STREAMING_ROWS = 1 << 20;
 
     private final CsvDataLoader.RegressionData dataset;
     private final String metric;
+    private final Map<String, double[]> columns;
+    private final double[] targets;
 
     public GrammarCsvRegressionProblem(Map<String, Object> params,
                                        CsvDataLoader.RegressionData dataset,
@@ -29,6 +45,9 @@ public final class GrammarCsvRegressionProblem extends AbstractGrammarBitStringP
         super(params, complexityPenalty);
         this.dataset = dataset;
         this.metric = metric == null ? "mse" : metric.trim().toLowerCase();
+        boolean streaming = dataset.rowCount() > STREAMING_ROWS;
+        this.columns = streaming ? null : dataset.columnsByName();
+        this.targets = streaming ? null : dataset.targets();
     }
 
     /**
@@ -49,16 +68,32 @@ public final class GrammarCsvRegressionProblem extends AbstractGrammarBitStringP
      */
     @Override
     public Fitness evaluate(BitString genotype) {
-        var inspection = inspect(genotype);
-        double aggregate = 0.0;
+        return evaluateBatch(List.of(genotype)).getFirst();
+    }
 
-        for (CsvDataLoader.RegressionData.Row row : dataset.rows()) {
-            double prediction = treeEngine.evaluate(genotype, EvaluationContext.real(row.features()));
-            double error = prediction - row.target();
-            aggregate += "mae".equals(metric) ? Math.abs(error) : (error * error);
+    /**
+     * Evaluates candidate solutions against the dataset in shared row blocks.
+     *
+     * @param genotypes candidate genotypes
+     * @return fitness values in input order
+     */
+    @Override
+    public List<Fitness> evaluateBatch(List<BitString> genotypes) {
+        List<GrammarTreeEngine.TreeInspection> inspections = new ArrayList<>(genotypes.size());
+        List<CompiledProgram> programs = new ArrayList<>(genotypes.size());
+        for (BitString genotype : genotypes) {
+            var inspection = inspect(genotype);
+            inspections.add(inspection);
+            programs.add(inspection.program());
         }
-
-        aggregate /= dataset.rows().size();
-        return new ScalarFitness(aggregate + complexityTerm(inspection));
+        boolean absolute = "mae".equals(metric);
+        double[] errors = columns == null
+                ? BlockedRegressionScorer.meanErrors(programs, dataset.dataset(), absolute)
+                : BlockedRegressionScorer.meanErrors(programs, columns, targets, absolute);
+        List<Fitness> fitness = new ArrayList<>(errors.length);
+        for (int i = 0; i < errors.length; i++) {
+            fitness.add(new ScalarFitness(errors[i] + complexityTerm(inspections.get(i))));
+        }
+        return fitness;
     }
 }
@@ -69,7 +69,7 @@ public final class GrammarMajorityProblem extends AbstractGrammarBitStringProble
                 }
                 inputs.put(variablePrefix + i, value);
             }
-            boolean predicted = treeEngine.evaluateBoolean(genotype, EvaluationContext.bool(inputs));
+            boolean predicted = treeEngine.evaluateBoolean(inspection.tree(), EvaluationContext.bool(inputs));
             boolean expected = ones >= (bits / 2 + 1);
             if (predicted != expected) {
                 mismatches++;
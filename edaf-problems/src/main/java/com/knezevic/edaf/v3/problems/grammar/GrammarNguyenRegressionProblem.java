@@ -5,12 +5,15 @@
 
 package com.knezevic.edaf.v3.problems.grammar;
 
+import com.knezevic.edaf.v3.core.api.BatchProblem;
 import com.knezevic.edaf.v3.core.api.Fitness;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
-import com.knezevic.edaf.v3.repr.grammar.eval.EvaluationContext;
+import com.knezevic.edaf.v3.repr.grammar.GrammarTreeEngine;
+import com.knezevic.edaf.v3.repr.grammar.eval.CompiledProgram;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -18,13 +21,16 @@ import java.util.Map;
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public final class GrammarNguyenRegressionProblem extends AbstractGrammarBitStringProblem {
+public final class GrammarNguyenRegressionProblem extends AbstractGrammarBitStringProblem
+        implements BatchProblem<BitString> {
 
     private final int variant;
     private final int sampleCount;
     private final double minX;
     private final double maxX;
     private final String variableName;
+    private final double[] targets;
+    private final Map<String, double[]> columns;
 
     public GrammarNguyenRegressionProblem(Map<String, Object> params,
                                           int variant,
@@ -39,6 +45,15 @@ public final class GrammarNguyenRegressionProblem extends AbstractGrammarBitStri
         this.minX = minX;
         this.maxX = maxX;
         this.variableName = variableName == null || variableName.isBlank() ? "x" : variableName;
+
+        double[] xs = new double[this.sampleCount];
+        this.targets = new double[this.sampleCount];
+        for (int i = 0; i < this.sampleCount; i++) {
+            double t = this.sampleCount == 1 ? 0.5 : i / (double) (this.sampleCount - 1);
+            xs[i] = this.minX + t * (this.maxX - this.minX);
+            targets[i] = targetFunction(xs[i]);
+        }
+        this.columns = Map.of(this.variableName, xs);
     }
 
     /**
@@ -59,23 +74,30 @@ public final class GrammarNguyenRegressionProblem extends AbstractGrammarBitStri
      */
     @Override
     public Fitness evaluate(BitString genotype) {
-        var inspection = inspect(genotype);
-        double mse = 0.0;
-
-        for (int i = 0; i < sampleCount; i++) {
-            double t = sampleCount == 1 ? 0.5 : i / (double) (sampleCount - 1);
-            double x = minX + t * (maxX - minX);
-            Map<String, Double> vars = new LinkedHashMap<>();
-            vars.put(variableName, x);
+        return evaluateBatch(List.of(genotype)).getFirst();
+    }
 
-            double prediction = treeEngine.evaluate(genotype, EvaluationContext.real(vars));
-            double target = targetFunction(x);
-            double error = prediction - target;
-            mse += error * error;
+    /**
+     * Evaluates candidate solutions over the sample grid in shared row blocks.
+     *
+     * @param genotypes candidate genotypes
+     * @return fitness values in input order
+     */
+    @Override
+    public List<Fitness> evaluateBatch(List<BitString> genotypes) {
+        List<GrammarTreeEngine.TreeInspection> inspections = new ArrayList<>(genotypes.size());
+        List<CompiledProgram> programs = new ArrayList<>(genotypes.size());
+        for (BitString genotype : genotypes) {
+            var inspection = inspect(genotype);
+            inspections.add(inspection);
+            programs.add(inspection.program());
         }
-
-        mse /= sampleCount;
-        return new ScalarFitness(mse + complexityTerm(inspection));
+        double[] mse = BlockedRegressionScorer.meanErrors(programs, columns, targets, false);
+        List<Fitness> fitness = new ArrayList<>(mse.length);
+        for (int i = 0; i < mse.length; i++) {
+            fitness.add(new ScalarFitness(mse[i] + complexityTerm(inspections.get(i))));
+        }
+        return fitness;
     }
 
     private double targetFunction(double x) {
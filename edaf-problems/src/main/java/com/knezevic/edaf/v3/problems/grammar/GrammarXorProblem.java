@@ -70,7 +70,7 @@ public final class GrammarXorProblem extends AbstractGrammarBitStringProblem {
                 }
                 inputs.put(variablePrefix + i, value);
             }
-            boolean predicted = treeEngine.evaluateBoolean(genotype, EvaluationContext.bool(inputs));
+            boolean predicted = treeEngine.evaluateBoolean(inspection.tree(), EvaluationContext.bool(inputs));
             boolean expected = (ones % 2) == 1;
             if (predicted != expected) {
                 mismatches++;
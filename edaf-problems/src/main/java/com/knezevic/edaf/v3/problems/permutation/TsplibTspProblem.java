@@ -9,29 +9,61 @@ import com.knezevic.edaf.v3.core.api.Fitness;
 import com.knezevic.edaf.v3.core.api.ObjectiveSense;
 import com.knezevic.edaf.v3.core.api.Problem;
 import com.knezevic.edaf.v3.core.api.ScalarFitness;
+import com.knezevic.edaf.v3.problems.permutation.tsplib.TsplibDistanceProvider;
+import com.knezevic.edaf.v3.problems.permutation.tsplib.TsplibInstance;
+import com.knezevic.edaf.v3.repr.distance.CoordinateEmbedding;
+import com.knezevic.edaf.v3.repr.distance.DistanceProvider;
+import com.knezevic.edaf.v3.repr.distance.TourDistances;
 import com.knezevic.edaf.v3.repr.types.PermutationVector;
 
 import java.util.List;
 
 /**
- * TSP problem backed by TSPLIB coordinates.
+ * TSP problem backed by a TSPLIB instance.
+ *
+ * <p>Tour length is summed from a {@link TsplibDistanceProvider}, which precomputes an integer
+ * matrix for small instances and computes distances on demand for large ones. Local searches can
+ * score 2-opt and swap moves in {@code O(1)} through {@link #distances()}.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public final class TsplibTspProblem implements Problem<PermutationVector> {
+public final class TsplibTspProblem implements Problem<PermutationVector>, CoordinateEmbedding, TourDistances {
+
+    /**
+     * Default largest instance that gets a precomputed distance matrix.
+     */
+    public static final int DEFAULT_MATRIX_LIMIT = 2000;
+
+    /**
+     * Default nearest-neighbour list length.
+     */
+    public static final int DEFAULT_NEIGHBORS = 16;
 
     private final String instanceName;
     private final double[][] coordinates;
+    private final TsplibDistanceProvider distances;
 
     /**
-     * Creates a new TsplibTspProblem instance.
+     * Creates a new TsplibTspProblem instance with {@code EUC_2D} distances.
      *
      * @param instanceName the instanceName argument
      * @param coordinates the coordinates argument
      */
     public TsplibTspProblem(String instanceName, double[][] coordinates) {
-        this.instanceName = instanceName;
-        this.coordinates = coordinates;
+        this(new TsplibInstance(instanceName, coordinates), DEFAULT_MATRIX_LIMIT, DEFAULT_NEIGHBORS);
+    }
+
+    /**
+     * Creates a problem from a parsed instance.
+     *
+     * @param instance parsed TSPLIB instance
+     * @param matrixLimit largest coordinate instance that gets a precomputed distance matrix
+     * @param neighbors nearest neighbours cached per city
+     */
+    public TsplibTspProblem(TsplibInstance instance, int matrixLimit, int neighbors) {
+        this.instanceName = instance.name();
+        this.coordinates = instance.coordinates();
+        this.distances = instance.distances(matrixLimit, neighbors);
     }
 
     /**
@@ -62,14 +94,7 @@ public final class TsplibTspProblem implements Problem<PermutationVector> {
      */
     @Override
     public Fitness evaluate(PermutationVector genotype) {
-        int[] order = genotype.order();
-        double length = 0.0;
-        for (int i = 0; i < order.length; i++) {
-            int from = order[i];
-            int to = order[(i + 1) % order.length];
-            length += distance(coordinates[from], coordinates[to]);
-        }
-        return new ScalarFitness(length);
+        return new ScalarFitness(distances.tourLength(genotype.order()));
     }
 
     /**
@@ -80,8 +105,8 @@ public final class TsplibTspProblem implements Problem<PermutationVector> {
      */
     @Override
     public List<String> violations(PermutationVector genotype) {
-        if (genotype.size() != coordinates.length) {
-            return List.of("Permutation size must equal TSPLIB city count " + coordinates.length);
+        if (genotype.size() != distances.size()) {
+            return List.of("Permutation size must equal TSPLIB city count " + distances.size());
         }
         return List.of();
     }
@@ -92,12 +117,26 @@ public final class TsplibTspProblem implements Problem<PermutationVector> {
      * @return the computed city count
      */
     public int cityCount() {
-        return coordinates.length;
+        return distances.size();
     }
 
-    private static double distance(double[] a, double[] b) {
-        double dx = a[0] - b[0];
-        double dy = a[1] - b[1];
-        return Math.rint(Math.sqrt(dx * dx + dy * dy));
+    /**
+     * Returns city coordinates, empty for explicit-weight instances without display data.
+     *
+     * @return shared coordinate rows
+     */
+    @Override
+    public double[][] coordinates() {
+        return coordinates;
+    }
+
+    /**
+     * Returns the TSPLIB distance provider used for evaluation.
+     *
+     * @return distance provider with neighbour lists and move deltas
+     */
+    @Override
+    public DistanceProvider distances() {
+        return distances;
     }
 }
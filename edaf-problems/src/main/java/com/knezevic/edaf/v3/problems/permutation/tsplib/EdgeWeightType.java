@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.permutation.tsplib;
+
+import java.util.Locale;
+
+/**
+ * TSPLIB {@code EDGE_WEIGHT_TYPE} values with their integer distance functions.
+ *
+ * <p>Formulas follow G. Reinelt, "TSPLIB 95", Universitat Heidelberg, 1995, section 2.
+ * {@code nint} rounds half up.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public enum EdgeWeightType {
+    EUC_2D,
+    CEIL_2D,
+    MAN_2D,
+    MAX_2D,
+    ATT,
+    GEO,
+    EXPLICIT;
+
+    private static final double GEO_PI = 3.141592;
+    private static final double EARTH_RADIUS = 6378.388;
+
+    /**
+     * Parses a TSPLIB header value.
+     *
+     * @param value header value such as {@code EUC_2D}
+     * @return edge weight type
+     */
+    public static EdgeWeightType parse(String value) {
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        for (EdgeWeightType type : values()) {
+            if (type.name().equals(normalized)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported TSPLIB EDGE_WEIGHT_TYPE: " + value);
+    }
+
+    /**
+     * Returns whether distances are computed from node coordinates.
+     *
+     * @return true for coordinate-based types
+     */
+    public boolean coordinateBased() {
+        return this != EXPLICIT;
+    }
+
+    /**
+     * Returns whether distances never decrease as the planar Euclidean distance grows, so
+     * Euclidean nearest-neighbour search ranks nodes correctly for this type.
+     *
+     * @return true for {@code EUC_2D}, {@code CEIL_2D} and {@code ATT}
+     */
+    public boolean monotoneInEuclidean() {
+        return this == EUC_2D || this == CEIL_2D || this == ATT;
+    }
+
+    /**
+     * Computes the TSPLIB distance between two coordinate rows.
+     *
+     * @param a first node coordinates
+     * @param b second node coordinates
+     * @return integer distance
+     */
+    public int distance(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        return switch (this) {
+            case EUC_2D -> nint(Math.sqrt(dx * dx + dy * dy));
+            case CEIL_2D -> (int) Math.ceil(Math.sqrt(dx * dx + dy * dy));
+            case MAN_2D -> nint(Math.abs(dx) + Math.abs(dy));
+            case MAX_2D -> Math.max(nint(Math.abs(dx)), nint(Math.abs(dy)));
+            case ATT -> {
+                double r = Math.sqrt((dx * dx + dy * dy) / 10.0);
+                int t = nint(r);
+                yield t < r ? t + 1 : t;
+            }
+            case GEO -> geo(a, b);
+            case EXPLICIT -> throw new IllegalStateException("EXPLICIT weights are not coordinate based");
+        };
+    }
+
+    private static int geo(double[] a, double[] b) {
+        double latitudeA = radians(a[0]);
+        double longitudeA = radians(a[1]);
+        double latitudeB = radians(b[0]);
+        double longitudeB = radians(b[1]);
+        double q1 = Math.cos(longitudeA - longitudeB);
+        double q2 = Math.cos(latitudeA - latitudeB);
+        double q3 = Math.cos(latitudeA + latitudeB);
+        return (int) (EARTH_RADIUS * Math.acos(0.5 * ((1.0 + q1) * q2 - (1.0 - q1) * q3)) + 1.0);
+    }
+
+    /**
+     * Converts TSPLIB {@code DDD.MM} degrees-minutes notation to radians.
+     */
+    private static double radians(double value) {
+        int degrees = (int) value;
+        double minutes = value - degrees;
+        return GEO_PI * (degrees + 5.0 * minutes / 3.0) / 180.0;
+    }
+
+    private static int nint(double value) {
+        return (int) (value + 0.5);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.permutation.tsplib;
+
+import com.knezevic.edaf.v3.repr.distance.DistanceProvider;
+import com.knezevic.edaf.v3.repr.distance.NearestNeighborLists;
+
+import java.util.stream.IntStream;
+
+/**
+ * Distance provider for parsed TSPLIB instances.
+ *
+ * <p>Instances up to {@code matrixLimit} nodes, and every {@code EXPLICIT} instance, are served
+ * from a precomputed row-major {@code int} matrix, so evaluation never repeats a square root.
+ * Larger coordinate instances, and any instance whose {@code n x n} cells would not fit in one
+ * Java array, compute distances on demand and stay at {@code O(n)} memory.
+ * Nearest-neighbour lists are built lazily on first use and then shared by all callers. Types
+ * whose distance grows with planar Euclidean distance use the grid search of
+ * {@link NearestNeighborLists}; {@code MAN_2D}, {@code MAX_2D}, {@code GEO} and {@code EXPLICIT}
+ * instances rank every node by its TSPLIB distance, in parallel across nodes.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class TsplibDistanceProvider implements DistanceProvider {
+
+    /**
+     * Largest cell count a single {@code int[]} can hold on common JVMs.
+     */
+    static final long MAX_MATRIX_CELLS = Integer.MAX_VALUE - 8L;
+
+    private final int size;
+    private final EdgeWeightType type;
+    private final double[][] coordinates;
+    private final int[] matrix;
+    private final int neighborCount;
+    private volatile int[][] neighbors;
+
+    /**
+     * Creates a provider for an instance.
+     *
+     * @param instance parsed TSPLIB instance
+     * @param matrixLimit largest coordinate instance that gets a precomputed matrix
+     * @param neighborCount nearest neighbours kept per node
+     */
+    public TsplibDistanceProvider(TsplibInstance instance, int matrixLimit, int neighborCount) {
+        this.size = instance.dimension();
+        this.type = instance.edgeWeightType();
+        this.coordinates = instance.coordinates();
+        this.neighborCount = Math.max(0, Math.min(neighborCount, size - 1));
+        if (!type.coordinateBased()) {
+            this.matrix = instance.explicitWeights();
+        } else if (size <= matrixLimit && fitsMatrix(size)) {
+            int[] values = new int[size * size];
+            IntStream.range(0, size).parallel().forEach(i -> {
+                for (int j = 0; j < size; j++) {
+                    values[i * size + j] = i == j ? 0 : type.distance(coordinates[i], coordinates[j]);
+                }
+            });
+            this.matrix = values;
+        } else {
+            this.matrix = null;
+        }
+    }
+
+    /**
+     * Returns node count.
+     *
+     * @return node count
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns TSPLIB distance between two nodes.
+     *
+     * @param from source node
+     * @param to target node
+     * @return integer distance as double
+     */
+    @Override
+    public double distance(int from, int to) {
+        if (matrix != null) {
+            return matrix[from * size + to];
+        }
+        return from == to ? 0.0 : type.distance(coordinates[from], coordinates[to]);
+    }
+
+    /**
+     * Returns cached nearest neighbours of a node.
+     *
+     * @param item node index
+     * @return shared neighbour list, nearest first; ties by lower index, except that grid-searched
+     *         types order nodes at equal rounded distance by their exact Euclidean distance
+     */
+    @Override
+    public int[] neighbors(int item) {
+        int[][] lists = neighbors;
+        if (lists == null) {
+            synchronized (this) {
+                lists = neighbors;
+                if (lists == null) {
+                    lists = buildNeighbors();
+                    neighbors = lists;
+                }
+            }
+        }
+        return lists[item];
+    }
+
+    /**
+     * Returns whether distances are served from a precomputed matrix.
+     *
+     * @return true if a matrix is held
+     */
+    public boolean precomputed() {
+        return matrix != null;
+    }
+
+    /**
+     * Returns whether a full {@code n x n} matrix can be allocated as one array.
+     *
+     * @param size node count
+     * @return true if {@code size * size} cells fit in an {@code int[]}
+     */
+    static boolean fitsMatrix(int size) {
+        return (long) size * size <= MAX_MATRIX_CELLS;
+    }
+
+    private int[][] buildNeighbors() {
+        if (type.monotoneInEuclidean()) {
+            return NearestNeighborLists.nearest(coordinates, neighborCount);
+        }
+        int[][] lists = new int[size][];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            int[] index = new int[neighborCount];
+            double[] distance = new double[neighborCount];
+            int found = 0;
+            for (int j = 0; j < size && neighborCount > 0; j++) {
+                if (j == i) {
+                    continue;
+                }
+                double value = distance(i, j);
+                if (found == neighborCount && value >= distance[found - 1]) {
+                    continue;
+                }
+                int position = found == neighborCount ? found - 1 : found;
+                while (position > 0 && value < distance[position - 1]) {
+                    distance[position] = distance[position - 1];
+                    index[position] = index[position - 1];
+                    position--;
+                }
+                distance[position] = value;
+                index[position] = j;
+                found = Math.min(neighborCount, found + 1);
+            }
+            lists[i] = index;
+        });
+        return lists;
+    }
+}
@@ -6,59 +6,217 @@
 package com.knezevic.edaf.v3.problems.permutation.tsplib;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 /**
- * Parsed TSPLIB NODE_COORD_SECTION instance.
+ * Parsed TSPLIB instance.
+ *
+ * <p>Supports coordinate types {@code EUC_2D}, {@code CEIL_2D}, {@code MAN_2D},
+ * {@code MAX_2D}, {@code ATT}, {@code GEO} and {@code EXPLICIT} weights in the
+ * {@code FULL_MATRIX}, {@code UPPER_ROW}, {@code LOWER_ROW}, {@code UPPER_DIAG_ROW},
+ * {@code LOWER_DIAG_ROW} formats and their column-wise twins. {@code DISPLAY_DATA_SECTION}
+ * coordinates are kept for explicit instances that provide them; otherwise
+ * {@code coordinates} is empty.</p>
+ *
+ * @param name instance name
+ * @param coordinates node coordinates, or an empty array when only explicit weights exist
+ * @param edgeWeightType distance function
+ * @param explicitWeights row-major {@code n x n} weights for {@code EXPLICIT}, otherwise null
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public record TsplibInstance(String name, double[][] coordinates) {
+public record TsplibInstance(String name, double[][] coordinates, EdgeWeightType edgeWeightType, int[] explicitWeights) {
 
     /**
-     * Parses TSPLIB text containing NODE_COORD_SECTION and EOF.
-     * @param text the text argument
-     * @return the parse
+     * Creates a Euclidean {@code EUC_2D} instance from coordinates.
+     *
+     * @param name instance name
+     * @param coordinates node coordinates
+     */
+    public TsplibInstance(String name, double[][] coordinates) {
+        this(name, coordinates, EdgeWeightType.EUC_2D, null);
+    }
+
+    /**
+     * Returns node count.
+     *
+     * @return dimension
+     */
+    public int dimension() {
+        return edgeWeightType.coordinateBased()
+                ? coordinates.length
+                : (int) Math.round(Math.sqrt(explicitWeights.length));
+    }
+
+    /**
+     * Creates a distance provider for this instance.
+     *
+     * @param matrixLimit largest coordinate instance that gets a precomputed matrix
+     * @param neighbors nearest neighbours cached per node
+     * @return distance provider
+     */
+    public TsplibDistanceProvider distances(int matrixLimit, int neighbors) {
+        return new TsplibDistanceProvider(this, matrixLimit, neighbors);
+    }
+
+    /**
+     * Parses TSPLIB text.
+     *
+     * <p>The specification part ({@code KEY : value} lines) reads {@code NAME}, {@code DIMENSION},
+     * {@code EDGE_WEIGHT_TYPE} and {@code EDGE_WEIGHT_FORMAT}; other keys are ignored. The data part
+     * reads {@code NODE_COORD_SECTION}, {@code DISPLAY_DATA_SECTION} and {@code EDGE_WEIGHT_SECTION}
+     * up to {@code EOF} or the end of the text. Without an {@code EDGE_WEIGHT_TYPE}, an instance with
+     * only edge weights is {@code EXPLICIT} and any other is {@code EUC_2D}; the format defaults to
+     * {@code FULL_MATRIX}.</p>
+     *
+     * @param text TSPLIB file content
+     * @return parsed instance with coordinates or a full row-major weight matrix
+     * @throws IllegalArgumentException if a type or format is unsupported, sections are missing,
+     *         the coordinate or weight count does not match {@code DIMENSION}, or an
+     *         {@code EXPLICIT} instance is too large for one {@code int} matrix
      */
     public static TsplibInstance parse(String text) {
         String name = "tsplib";
-        boolean inCoords = false;
+        int dimension = -1;
+        EdgeWeightType type = null;
+        String format = "FULL_MATRIX";
+        String section = "";
         List<double[]> coords = new ArrayList<>();
+        List<double[]> display = new ArrayList<>();
+        List<String> weightTokens = new ArrayList<>();
 
         for (String raw : text.lines().toList()) {
             String line = raw.trim();
             if (line.isEmpty()) {
                 continue;
             }
-            String upper = line.toUpperCase();
-            if (upper.startsWith("NAME")) {
+            if (Character.isLetter(line.charAt(0))) {
                 String[] parts = line.split(":", 2);
-                name = parts.length == 2 ? parts[1].trim() : line;
+                String key = parts[0].trim().toUpperCase(Locale.ROOT);
+                String value = parts.length == 2 ? parts[1].trim() : "";
+                if (key.equals("EOF")) {
+                    break;
+                }
+                section = key.endsWith("_SECTION") ? key : "";
+                switch (key) {
+                    case "NAME" -> name = value;
+                    case "DIMENSION" -> dimension = Integer.parseInt(value);
+                    case "EDGE_WEIGHT_TYPE" -> type = EdgeWeightType.parse(value);
+                    case "EDGE_WEIGHT_FORMAT" -> format = value.toUpperCase(Locale.ROOT);
+                    default -> {
+                        // other specification keys do not affect distances
+                    }
+                }
                 continue;
             }
-            if (upper.startsWith("NODE_COORD_SECTION")) {
-                inCoords = true;
-                continue;
+
+            String[] parts = line.split("\\s+");
+            switch (section) {
+                case "NODE_COORD_SECTION" -> {
+                    if (parts.length >= 3) {
+                        coords.add(new double[]{Double.parseDouble(parts[1]), Double.parseDouble(parts[2])});
+                    }
+                }
+                case "DISPLAY_DATA_SECTION" -> {
+                    if (parts.length >= 3) {
+                        display.add(new double[]{Double.parseDouble(parts[1]), Double.parseDouble(parts[2])});
+                    }
+                }
+                case "EDGE_WEIGHT_SECTION" -> weightTokens.addAll(Arrays.asList(parts));
+                default -> {
+                    // tour, fixed-edge and demand sections are not used
+                }
             }
-            if (upper.startsWith("EOF")) {
-                break;
+        }
+
+        if (type == null) {
+            type = coords.isEmpty() && !weightTokens.isEmpty() ? EdgeWeightType.EXPLICIT : EdgeWeightType.EUC_2D;
+        }
+        if (type.coordinateBased()) {
+            if (coords.isEmpty()) {
+                throw new IllegalArgumentException("TSPLIB instance has no NODE_COORD_SECTION entries");
             }
-            if (!inCoords) {
-                continue;
+            if (dimension >= 0 && coords.size() != dimension) {
+                throw new IllegalArgumentException("TSPLIB DIMENSION " + dimension
+                        + " does not match " + coords.size() + " coordinates");
             }
+            return new TsplibInstance(name, coords.toArray(double[][]::new), type, null);
+        }
 
-            String[] parts = line.split("\\s+");
-            if (parts.length < 3) {
-                continue;
-            }
-            double x = Double.parseDouble(parts[1]);
-            double y = Double.parseDouble(parts[2]);
-            coords.add(new double[]{x, y});
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("TSPLIB EXPLICIT instance requires DIMENSION");
         }
+        int[] weights = explicitMatrix(dimension, format, weightTokens);
+        double[][] shown = display.size() == dimension ? display.toArray(double[][]::new) : new double[0][];
+        return new TsplibInstance(name, shown, type, weights);
+    }
 
-        if (coords.isEmpty()) {
-            throw new IllegalArgumentException("TSPLIB instance has no NODE_COORD_SECTION entries");
+    private static int[] explicitMatrix(int n, String format, List<String> tokens) {
+        if (!TsplibDistanceProvider.fitsMatrix(n)) {
+            throw new IllegalArgumentException("TSPLIB EXPLICIT DIMENSION " + n
+                    + " is too large for a full weight matrix");
         }
-        return new TsplibInstance(name, coords.toArray(double[][]::new));
+        int[] matrix = new int[n * n];
+        int next = 0;
+        try {
+            switch (format) {
+                case "FULL_MATRIX" -> {
+                    for (int i = 0; i < n * n; i++) {
+                        matrix[i] = weight(tokens.get(next++));
+                    }
+                }
+                case "UPPER_ROW", "LOWER_COL" -> {
+                    for (int i = 0; i < n; i++) {
+                        for (int j = i + 1; j < n; j++) {
+                            setSymmetric(matrix, n, i, j, weight(tokens.get(next++)));
+                        }
+                    }
+                }
+                case "LOWER_ROW", "UPPER_COL" -> {
+                    for (int i = 0; i < n; i++) {
+                        for (int j = 0; j < i; j++) {
+                            setSymmetric(matrix, n, i, j, weight(tokens.get(next++)));
+                        }
+                    }
+                }
+                case "UPPER_DIAG_ROW", "LOWER_DIAG_COL" -> {
+                    for (int i = 0; i < n; i++) {
+                        for (int j = i; j < n; j++) {
+                            setSymmetric(matrix, n, i, j, weight(tokens.get(next++)));
+                        }
+                    }
+                }
+                case "LOWER_DIAG_ROW", "UPPER_DIAG_COL" -> {
+                    for (int i = 0; i < n; i++) {
+                        for (int j = 0; j <= i; j++) {
+                            setSymmetric(matrix, n, i, j, weight(tokens.get(next++)));
+                        }
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unsupported TSPLIB EDGE_WEIGHT_FORMAT: " + format);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("TSPLIB EDGE_WEIGHT_SECTION is too short for " + format
+                    + " with DIMENSION " + n);
+        }
+        if (next != tokens.size()) {
+            throw new IllegalArgumentException("TSPLIB EDGE_WEIGHT_SECTION has " + (tokens.size() - next)
+                    + " extra values for " + format);
+        }
+        for (int i = 0; i < n; i++) {
+            matrix[i * n + i] = 0;
+        }
+        return matrix;
+    }
+
+    private static void setSymmetric(int[] matrix, int n, int i, int j, int value) {
+        matrix[i * n + j] = value;
+        matrix[j * n + i] = value;
+    }
+
+    private static int weight(String token) {
+        return (int) Math.round(Double.parseDouble(token));
     }
 }
@@ -38,7 +38,7 @@ public final class TsplibTspProblemPlugin implements ProblemPlugin<PermutationVe
      */
     @Override
     public String description() {
-        return "TSP from TSPLIB NODE_COORD_SECTION instance";
+        return "TSP from TSPLIB instance (EUC_2D, CEIL_2D, MAN_2D, MAX_2D, ATT, GEO, EXPLICIT)";
     }
 
     /**
@@ -51,6 +51,10 @@ public final class TsplibTspProblemPlugin implements ProblemPlugin<PermutationVe
     public TsplibTspProblem create(Map<String, Object> params) {
         String instance = Params.str(params, "instance", "classpath:tsplib/berlin52.tsp");
         TsplibInstance parsed = TsplibInstance.parse(ProblemResourceLoader.readText(instance));
-        return new TsplibTspProblem(parsed.name(), parsed.coordinates());
+        return new TsplibTspProblem(
+                parsed,
+                Params.integer(params, "matrixLimit", TsplibTspProblem.DEFAULT_MATRIX_LIMIT),
+                Params.integer(params, "neighbors", TsplibTspProblem.DEFAULT_NEIGHBORS)
+        );
     }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.continuous;
+
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.problems.CocoBbobProblem;
+import com.knezevic.edaf.v3.problems.coco.BbobFunctions;
+import com.knezevic.edaf.v3.problems.continuous.cec.Cec2014Functions;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the allocation-free and batched BBOB/CEC kernels against the scalar reference
+ * implementation.
+ */
+class BenchmarkKernelReferenceTest {
+
+    private static final int[] DIMENSIONS = {2, 3, 10, 40};
+    private static final int[] INSTANCES = {1, 7};
+
+    /**
+     * Per-function sums of {@code log1p|f(x)|} from the original per-call-allocating scalar
+     * implementation over {@link #DIMENSIONS} x {@link #INSTANCES} x three points. The kernels
+     * reproduce it bit for bit on HotSpot/x86-64; the tolerance only absorbs last-ulp
+     * differences of {@code Math} intrinsics on other platforms.
+     */
+    private static final double[] BBOB_REFERENCE = {
+            106.97896804522892, 381.621241234437, 120.28878451019898, 318.168914188348,
+            89.30767812286908, 259.53743014183505, 375.0656585933648, 284.37819787572585,
+            293.2208320018516, 398.9791999915161, 367.22671816538184, 431.7562243088816,
+            154.25116160926035, 116.44299583811883, 120.63715797903845, 66.79167614337204,
+            33.585211584484, 48.6457335195379, 369.9004708349516, 66.59667875953802,
+            137.76906844831987, 124.35372011493556, 132.7940338444885, 165.84616275775645
+    };
+    private static final double[] CEC_REFERENCE = {
+            250.1430186791747, 529.6578146841769, 577.7263832283063, 519.6442701001079,
+            575.1297619402308, 74.77564349397801, 63.782932774927744, 58.170608137663116,
+            258.0852915912214, 189.43387455688986, 126.42273358042193, 190.9191737253911,
+            250.6731897758313, 963.6262500690376, 38.788756218871946, 379.9045200244736,
+            195.14088771437784, 431.52928020125955, 224.58056034457317, 208.02950660546867,
+            314.6268950900784, 387.0555651957766, 700.8230821907562, 66.46712022375716,
+            404.94971642541674, 424.5794240095699, 388.4953815537332, 744.4934082953766,
+            417.684544992247, 303.38418410819605
+    };
+    private static final double TOLERANCE = 1.0e-9;
+
+    @Test
+    void kernelsReproduceScalarReference() {
+        for (int f = 1; f <= BBOB_REFERENCE.length; f++) {
+            int functionId = f;
+            assertEquals(BBOB_REFERENCE[f - 1],
+                    logMagnitudeSum(4.5, (x, instance) -> BbobFunctions.evaluate(functionId, x, instance)),
+                    TOLERANCE,
+                    "bbob f" + f);
+        }
+        for (int f = 1; f <= CEC_REFERENCE.length; f++) {
+            int functionId = f;
+            assertEquals(CEC_REFERENCE[f - 1],
+                    logMagnitudeSum(90.0, (x, instance) -> Cec2014Functions.evaluate(functionId, x, instance)),
+                    TOLERANCE,
+                    "cec f" + f);
+        }
+    }
+
+    @Test
+    void rowBlockedRotationMatchesNaiveProductAndConcurrentCallsAgree() {
+        Random random = new Random(23L);
+        for (int n = 1; n <= 9; n++) {
+            double[][] matrix = new double[n][n];
+            double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = random.nextGaussian();
+                for (int j = 0; j < n; j++) {
+                    matrix[i][j] = random.nextGaussian();
+                }
+            }
+            double[] expected = new double[n];
+            for (int i = 0; i < n; i++) {
+                double sum = 0.0;
+                for (int j = 0; j < n; j++) {
+                    sum += matrix[i][j] * x[j];
+                }
+                expected[i] = sum;
+            }
+            double[] actual = new double[n];
+            TransformKernels.rotate(TransformKernels.flatten(matrix), x, actual);
+            assertArrayEquals(expected, actual, 0.0);
+        }
+
+        IntToDoubleFunction evaluation = i -> BbobFunctions.evaluate(1 + i % 24, point(17, i % 5, 4.5), 3)
+                + Cec2014Functions.evaluate(1 + i % 30, point(17, i % 5, 90.0), 3);
+        double[] sequential = IntStream.range(0, 600).mapToDouble(evaluation).toArray();
+        double[] parallel = IntStream.range(0, 600).parallel().mapToDouble(evaluation).toArray();
+        assertArrayEquals(sequential, parallel, 0.0);
+
+        // pooled scratch vectors move between virtual threads and change dimension between calls
+        IntToDoubleFunction mixed = i -> BbobFunctions.evaluate(1 + i % 24, point(DIMENSIONS[i % 4], i % 5, 4.5), 3)
+                + Cec2014Functions.evaluate(1 + i % 30, point(DIMENSIONS[(i + 1) % 4], i % 5, 90.0), 3);
+        double[] expected = IntStream.range(0, 600).mapToDouble(mixed).toArray();
+        List<Future<Double>> futures = new ArrayList<>();
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 600; i++) {
+                int index = i;
+                futures.add(virtualThreads.submit(() -> mixed.applyAsDouble(index)));
+            }
+        }
+        for (int i = 0; i < 600; i++) {
+            assertEquals(expected[i], futures.get(i).resultNow(), 0.0);
+        }
+    }
+
+    @Test
+    void batchEvaluationMatchesSingleEvaluationBitForBit() {
+        Random random = new Random(24L);
+        for (int n : DIMENSIONS) {
+            // 37 points leave a partial block and an odd point pair in the blocked rotation.
+            double[][] xs = new double[37][n];
+            for (double[] x : xs) {
+                for (int i = 0; i < n; i++) {
+                    x[i] = 4.5 * (2.0 * random.nextDouble() - 1.0);
+                }
+            }
+            double[] out = new double[xs.length];
+            for (int f = 1; f <= BBOB_REFERENCE.length; f++) {
+                BbobFunctions.evaluateBatch(f, xs, 7, out);
+                for (int p = 0; p < xs.length; p++) {
+                    assertEquals(BbobFunctions.evaluate(f, xs[p], 7), out[p], 0.0, "bbob f" + f + " n=" + n);
+                }
+            }
+            for (int f = 1; f <= CEC_REFERENCE.length; f++) {
+                Cec2014Functions.evaluateBatch(f, xs, 7, out);
+                for (int p = 0; p < xs.length; p++) {
+                    assertEquals(Cec2014Functions.evaluate(f, xs[p], 7), out[p], 0.0, "cec f" + f + " n=" + n);
+                }
+            }
+        }
+    }
+
+    @Test
+    void problemBatchesClipLongGenotypesAndFallBackForShortOnes() {
+        CocoBbobProblem bbob = new CocoBbobProblem("bbob", 10, 5, 2);
+        Cec2014Problem cec = new Cec2014Problem(21, 5, 2);
+        Random random = new Random(11L);
+        List<RealVector> genotypes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            double[] values = new double[i % 4 == 0 ? 7 : 5];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = random.nextGaussian();
+            }
+            genotypes.add(new RealVector(values));
+        }
+        assertBatchMatches(bbob.evaluateBatch(genotypes), genotypes, bbob::evaluate);
+        assertBatchMatches(cec.evaluateBatch(genotypes), genotypes, cec::evaluate);
+
+        genotypes.add(new RealVector(new double[]{0.5, -0.5, 1.0}));
+        assertBatchMatches(bbob.evaluateBatch(genotypes), genotypes, bbob::evaluate);
+        assertBatchMatches(cec.evaluateBatch(genotypes), genotypes, cec::evaluate);
+    }
+
+    private static void assertBatchMatches(List<Fitness> batch,
+                                           List<RealVector> genotypes,
+                                           Function<RealVector, Fitness> single) {
+        assertEquals(genotypes.size(), batch.size());
+        for (int i = 0; i < genotypes.size(); i++) {
+            assertEquals(single.apply(genotypes.get(i)).scalar(), batch.get(i).scalar(), 0.0);
+        }
+    }
+
+    private static double logMagnitudeSum(double range, Evaluation evaluation) {
+        double sum = 0.0;
+        for (int n : DIMENSIONS) {
+            for (int instance : INSTANCES) {
+                for (int p = 0; p < 3; p++) {
+                    sum += Math.log1p(Math.abs(evaluation.evaluate(point(n, p, range), instance)));
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static double[] point(int n, int p, double range) {
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = range * StrictMath.sin(1.3 * i + 0.7 * p + 0.1);
+        }
+        return x;
+    }
+
+    @FunctionalInterface
+    private interface Evaluation {
+        double evaluate(double[] x, int instance);
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.crypto;
+
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.repr.types.BitString;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the bit-packed boolean-function engine against brute-force references.
+ */
+class BooleanFunctionEngineTest {
+
+    @Test
+    void incrementalFlipsMatchFullReload() {
+        int n = 7;
+        Random random = new Random(21L);
+        int[] table = randomTable(n, random);
+        BooleanFunctionEngine engine = new BooleanFunctionEngine(n);
+        engine.load(table);
+
+        for (int round = 0; round < 40; round++) {
+            int count = 1 + random.nextInt(round % 5 == 0 ? 2 * n : 3);
+            int[] positions = distinctPositions(1 << n, count, random);
+            for (int x : positions) {
+                table[x] ^= 1;
+            }
+            BooleanFunctionStats updated = engine.flip(positions);
+            BooleanFunctionStats reference = BooleanFunctionStats.of(n, table);
+
+            assertEquals(reference.ones(), updated.ones());
+            for (int a = 0; a < 1 << n; a++) {
+                assertEquals(reference.walsh(a), updated.walsh(a), "W(" + a + ")");
+            }
+            assertEquals(reference.nonlinearity(), updated.nonlinearity(), 1e-9);
+            assertEquals(reference.algebraicDegree(), updated.algebraicDegree());
+        }
+    }
+
+    @Test
+    void packedStatisticsMatchBruteForceReferences() {
+        Random random = new Random(7L);
+        for (int n = 1; n <= 8; n++) {
+            for (int trial = 0; trial < 5; trial++) {
+                int[] table = randomTable(n, random);
+                BooleanFunctionStats stats = BooleanFunctionStats.of(n, table);
+
+                assertEquals(bruteForceDegree(n, table), stats.algebraicDegree(), "degree n=" + n);
+                assertEquals(bruteForceAbsoluteIndicator(n, table), stats.absoluteIndicator(), "AI n=" + n);
+            }
+        }
+    }
+
+    @Test
+    void bentFunctionHasZeroAbsoluteIndicator() {
+        // f = x1 x2 XOR x3 x4 is bent: every nonzero derivative is balanced.
+        int[] table = new int[16];
+        for (int x = 0; x < 16; x++) {
+            table[x] = ((x & 1) & (x >> 1 & 1)) ^ ((x >> 2 & 1) & (x >> 3 & 1));
+        }
+        BooleanFunctionStats stats = BooleanFunctionStats.of(4, table);
+
+        assertEquals(0, stats.absoluteIndicator());
+        assertEquals(6.0, stats.nonlinearity(), 1e-9);
+        assertEquals(0, stats.correlationImmunity());
+    }
+
+    @Test
+    void correlationImmunityReadsWalshZeroPattern() {
+        // x1 XOR x2 ignores either input alone, so it is first-order correlation immune.
+        BooleanFunctionStats xor = BooleanFunctionStats.of(2, new int[]{0, 1, 1, 0});
+        assertEquals(1, xor.correlationImmunity());
+        assertEquals(4, xor.absoluteIndicator());
+
+        // x1 XOR x2 XOR x3 is immune of order 2.
+        int[] parity = new int[8];
+        for (int x = 0; x < 8; x++) {
+            parity[x] = Integer.bitCount(x) & 1;
+        }
+        assertEquals(2, BooleanFunctionStats.of(3, parity).correlationImmunity());
+        assertEquals(0, BooleanFunctionStats.of(2, new int[]{0, 0, 0, 1}).correlationImmunity());
+    }
+
+    @Test
+    void bitStringLoadAndDeltaEvaluationMatchFullEvaluation() {
+        BooleanFunctionProblem problem = new BooleanFunctionProblem(
+                6,
+                List.of("balancedness", "nonlinearity", "algebraic-degree", "autocorrelation"),
+                Map.of("balancedness", 1.0, "nonlinearity", 1.0, "algebraic-degree", 0.5, "autocorrelation", 0.5)
+        );
+        Random random = new Random(3L);
+        boolean[] genes = new boolean[64];
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = random.nextBoolean();
+        }
+        BitString base = new BitString(genes);
+        BooleanFunctionEngine state = problem.evaluationState(base);
+        assertEquals(problem.evaluate(base).scalar(), problem.fitness(state).scalar(), 1e-12);
+
+        for (int step = 0; step < 20; step++) {
+            // sizes past n take the full-transform path and grow the engine's reused position buffer
+            int[] changed = distinctPositions(genes.length, 1 + random.nextInt(8), random);
+            for (int position : changed) {
+                genes[position] = !genes[position];
+            }
+            BitString candidate = new BitString(genes);
+            Fitness delta = problem.evaluateDelta(base, state, candidate, changed);
+
+            assertEquals(problem.evaluate(candidate).scalar(), delta.scalar(), 1e-12);
+            base = candidate;
+        }
+    }
+
+    @Test
+    void pooledEnginesScoreConcurrentVirtualThreadEvaluations() throws Exception {
+        BooleanFunctionProblem problem = new BooleanFunctionProblem(
+                8, List.of("balancedness", "nonlinearity", "algebraic-degree"), Map.of());
+        Random random = new Random(21L);
+        List<BitString> functions = new ArrayList<>();
+        double[] expected = new double[200];
+        for (int i = 0; i < expected.length; i++) {
+            boolean[] genes = new boolean[256];
+            for (int x = 0; x < genes.length; x++) {
+                genes[x] = random.nextBoolean();
+            }
+            functions.add(new BitString(genes));
+            expected[i] = problem.evaluate(functions.get(i)).scalar();
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Double>> scores = new ArrayList<>();
+            for (BitString function : functions) {
+                scores.add(executor.submit(() -> problem.evaluate(function).scalar()));
+            }
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], scores.get(i).get(), 0.0);
+            }
+        }
+    }
+
+    private static int[] randomTable(int n, Random random) {
+        int[] table = new int[1 << n];
+        for (int x = 0; x < table.length; x++) {
+            table[x] = random.nextInt(2);
+        }
+        return table;
+    }
+
+    private static int[] distinctPositions(int size, int count, Random random) {
+        boolean[] used = new boolean[size];
+        int[] positions = new int[count];
+        for (int i = 0; i < count; i++) {
+            int x;
+            do {
+                x = random.nextInt(size);
+            } while (used[x]);
+            used[x] = true;
+            positions[i] = x;
+        }
+        return positions;
+    }
+
+    private static int bruteForceDegree(int n, int[] table) {
+        int[] anf = table.clone();
+        for (int bit = 0; bit < n; bit++) {
+            for (int x = 0; x < anf.length; x++) {
+                if ((x & (1 << bit)) != 0) {
+                    anf[x] ^= anf[x ^ (1 << bit)];
+                }
+            }
+        }
+        int degree = 0;
+        for (int x = 0; x < anf.length; x++) {
+            if (anf[x] != 0) {
+                degree = Math.max(degree, Integer.bitCount(x));
+            }
+        }
+        return degree;
+    }
+
+    private static int bruteForceAbsoluteIndicator(int n, int[] table) {
+        int max = 0;
+        for (int d = 1; d < 1 << n; d++) {
+            int r = 0;
+            for (int x = 0; x < 1 << n; x++) {
+                r += (table[x] ^ table[x ^ d]) == 0 ? 1 : -1;
+            }
+            max = Math.max(max, Math.abs(r));
+        }
+        return max;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.discrete;
+
+import com.knezevic.edaf.v3.core.api.IncrementalProblem;
+import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.problems.OneMaxProblem;
+import com.knezevic.edaf.v3.problems.discrete.maxsat.DimacsCnf;
+import com.knezevic.edaf.v3.problems.util.ProblemResourceLoader;
+import com.knezevic.edaf.v3.repr.types.BitString;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests that delta evaluation tracks full evaluation across random flip walks.
+ */
+class IncrementalEvaluationTest {
+
+    @Test
+    void maxSatOccurrenceIndexMatchesFullEvaluation() {
+        DimacsCnf cnf = DimacsCnf.parse(ProblemResourceLoader.readText("classpath:maxsat/uf20-01.cnf"));
+        // Duplicate and complementary literals exercise the true-literal counts.
+        int[][] clauses = java.util.Arrays.copyOf(cnf.clauses(), cnf.clauses().length + 2);
+        clauses[clauses.length - 2] = new int[]{3, 3, -5};
+        clauses[clauses.length - 1] = new int[]{7, -7};
+        walk(new MaxSatProblem(cnf.variableCount(), clauses), cnf.variableCount(), 11L);
+    }
+
+    @Test
+    void knapsackRunningSumsMatchFullEvaluation() {
+        int[] weights = new int[70];
+        int[] values = new int[70];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 3 + (i * 7) % 19;
+            values[i] = 5 + (i * 11) % 23;
+        }
+        walk(new KnapsackProblem(weights, values, 300, 2.5), weights.length, 12L);
+    }
+
+    @Test
+    void oneMaxPopcountDeltasMatchFullEvaluation() {
+        walk(new OneMaxProblem(), 130, 13L);
+    }
+
+    private static <S> void walk(IncrementalProblem<BitString, S> problem, int length, long seed) {
+        RngStream rng = new RngManager(seed).stream("walk");
+        boolean[] genes = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            genes[i] = rng.nextDouble() < 0.5;
+        }
+        BitString current = new BitString(genes);
+        S state = problem.evaluationState(current);
+        assertEquals(problem.evaluate(current).scalar(), problem.fitness(state).scalar(), 1e-9);
+
+        for (int step = 0; step < 300; step++) {
+            int flips = 1 + rng.nextInt(3);
+            int[] changed = new int[flips + 1];
+            changed[0] = rng.nextInt(length);
+            boolean[] next = current.genes();
+            for (int f = 0; f <= flips; f++) {
+                changed[f] = (changed[0] + f * 37) % length;
+                // The last listed position stays unchanged and must be ignored.
+                if (f < flips) {
+                    next[changed[f]] = !next[changed[f]];
+                }
+            }
+            BitString candidate = new BitString(next);
+
+            S before = problem.copyState(state);
+            double delta = problem.evaluateDelta(current, state, candidate, changed).scalar();
+            assertEquals(problem.evaluate(candidate).scalar(), delta, 1e-9);
+
+            if (rng.nextDouble() < 0.5) {
+                double reverted = problem.evaluateDelta(candidate, state, current, changed).scalar();
+                assertEquals(problem.evaluate(current).scalar(), reverted, 1e-9);
+                assertEquals(problem.fitness(before).scalar(), reverted, 1e-9);
+            } else {
+                current = candidate;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.discrete.disjunct;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests revolving-door enumeration and the exhaustive deviation scan against brute force.
+ */
+class DisjunctExactEvaluatorTest {
+
+    @Test
+    void revolvingDoorUnrankVisitsEverySubsetWithSingleSwaps() {
+        for (int n = 1; n <= 9; n++) {
+            for (int k = 1; k <= n; k++) {
+                long total = DisjunctCombinatorics.binomialCoefficientCapped(n, k, Long.MAX_VALUE - 1L);
+                Set<String> seen = new HashSet<>();
+                int[] previous = null;
+                for (long rank = 0L; rank < total; rank++) {
+                    int[] combination = new int[k];
+                    DisjunctCombinatorics.revolvingDoorUnrank(rank, n, combination);
+                    for (int i = 1; i < k; i++) {
+                        assertTrue(combination[i - 1] < combination[i]);
+                    }
+                    assertEquals(rank, DisjunctCombinatorics.revolvingDoorRank(combination));
+                    assertTrue(seen.add(Arrays.toString(combination)));
+                    if (previous != null) {
+                        assertEquals(1, swappedElements(previous, combination), "n=" + n + " k=" + k);
+                    }
+                    previous = combination;
+                }
+                assertEquals(total, seen.size());
+            }
+        }
+    }
+
+    @Test
+    void exactScanMatchesBruteForceDeviations() {
+        Random random = new Random(22L);
+        for (int t = 1; t <= 4; t++) {
+            DisjunctMatrix matrix = randomMatrix(random, 70, 11, 0.3);
+            long[] expected = bruteForce(matrix, t, 2);
+            DisjunctExactEvaluator.Summary summary = DisjunctExactEvaluator.scan(matrix, t, deviation -> deviation > 2);
+
+            assertEquals(expected[0], summary.subsets());
+            assertEquals(expected[1], summary.deviationSum());
+            assertEquals(expected[2], summary.violations());
+            assertEquals(expected[1], DisjunctFitnessFunctions.fit1(matrix, t));
+            assertEquals(expected[2], DisjunctFitnessFunctions.fit2(matrix, t, 2));
+        }
+    }
+
+    @Test
+    void splitScanMatchesBruteForceAndReportsFirstWitness() {
+        // C(60,3) subsets clear the parallel threshold, so the scan is split into rank ranges.
+        DisjunctMatrix matrix = randomMatrix(new Random(5L), 20, 60, 0.15);
+        long[] expected = bruteForce(matrix, 3, 4);
+        DisjunctExactEvaluator.Summary summary = DisjunctExactEvaluator.scan(matrix, 3, deviation -> deviation > 4);
+
+        assertEquals(expected[0], summary.subsets());
+        assertEquals(expected[1], summary.deviationSum());
+        assertEquals(expected[2], summary.violations());
+        assertTrue(summary.violations() > 0L);
+
+        long firstViolatingRank = -1L;
+        DisjunctDeviationEvaluator evaluator = new DisjunctDeviationEvaluator(matrix);
+        int[] subset = new int[3];
+        for (long rank = 0L; rank < summary.subsets() && firstViolatingRank < 0L; rank++) {
+            DisjunctCombinatorics.revolvingDoorUnrank(rank, matrix.columns(), subset);
+            if (evaluator.deviationForSubset(subset) > 4) {
+                firstViolatingRank = rank;
+            }
+        }
+        assertArrayEquals(subset, summary.witness());
+        assertEquals(evaluator.deviationForSubset(subset), summary.witnessDeviation());
+    }
+
+    private static int swappedElements(int[] previous, int[] next) {
+        Set<Integer> before = new HashSet<>();
+        for (int value : previous) {
+            before.add(value);
+        }
+        int entered = 0;
+        for (int value : next) {
+            if (!before.contains(value)) {
+                entered++;
+            }
+        }
+        return entered;
+    }
+
+    private static DisjunctMatrix randomMatrix(Random random, int rows, int columns, double density) {
+        boolean[][] values = new boolean[rows][columns];
+        for (boolean[] row : values) {
+            for (int column = 0; column < columns; column++) {
+                row[column] = random.nextDouble() < density;
+            }
+        }
+        return DisjunctMatrix.fromDense(values);
+    }
+
+    /**
+     * Returns {subsets, sum of delta(S), subsets with delta(S) > f} from lexicographic
+     * enumeration and per-subset set arithmetic.
+     */
+    private static long[] bruteForce(DisjunctMatrix matrix, int t, int f) {
+        long[] totals = new long[3];
+        DisjunctCombinatorics.forEachCombination(matrix.columns(), t, subset -> {
+            BitSet union = new BitSet();
+            Set<Integer> members = new HashSet<>();
+            for (int column : subset) {
+                union.or(matrix.support(column));
+                members.add(column);
+            }
+            int deviation = 0;
+            for (int column = 0; column < matrix.columns(); column++) {
+                BitSet support = matrix.support(column);
+                support.andNot(union);
+                if (!members.contains(column) && support.isEmpty()) {
+                    deviation++;
+                }
+            }
+            totals[0]++;
+            totals[1] += deviation;
+            if (deviation > f) {
+                totals[2]++;
+            }
+        });
+        return totals;
+    }
+}
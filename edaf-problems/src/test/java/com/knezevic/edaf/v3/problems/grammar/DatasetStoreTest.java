@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.grammar;
+
+import com.knezevic.edaf.v3.repr.grammar.GrammarTreeEngine;
+import com.knezevic.edaf.v3.repr.grammar.eval.CompiledProgram;
+import com.knezevic.edaf.v3.repr.types.BitString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the memory-mapped columnar dataset cache.
+ */
+class DatasetStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void csvIsParsedOnceIntoSharedMappedColumns() throws Exception {
+        Path csv = directory.resolve("points.csv");
+        Files.writeString(csv, """
+                x, y ,target
+                1.0,2.0,3.5
+
+                4.0,5.0
+                -1.5,0.25,7.0
+                2.0,8.0,-2.0
+                """);
+        Path cache = directory.resolve("cache");
+
+        ColumnarDataset dataset = DatasetStore.open(cache, csv.toString(), "target", false);
+        assertEquals(3, dataset.rows());
+        assertEquals(List.of("x", "y"), dataset.featureNames());
+        assertArrayEquals(new double[]{1.0, -1.5, 2.0}, dataset.featureArray(0), 0.0);
+        assertArrayEquals(new double[]{2.0, 0.25, 8.0}, dataset.featureArray(1), 0.0);
+        assertArrayEquals(new double[]{3.5, 7.0, -2.0}, dataset.targets(), 0.0);
+        assertSame(dataset.featureArray(0), dataset.columnsByName().get("x"));
+        DoubleBuffer view = dataset.featureColumn(1);
+        assertTrue(view.isReadOnly());
+        assertTrue(view.isDirect());
+        assertEquals(3, view.remaining());
+        assertEquals(0.25, view.get(1), 0.0);
+        assertThrows(IllegalStateException.class, dataset::labelCodes);
+
+        List<Path> files = cacheFiles(cache);
+        assertEquals(1, files.size());
+        ColumnarDataset mapped = DatasetStore.map(files.getFirst(), csv.toString());
+        assertNotNull(mapped);
+        assertArrayEquals(dataset.featureArray(1), mapped.featureArray(1), 0.0);
+        assertArrayEquals(dataset.targets(), mapped.targets(), 0.0);
+        double[] window = new double[2];
+        mapped.readTargets(1, 2, window);
+        assertArrayEquals(new double[]{7.0, -2.0}, window, 0.0);
+
+        assertSame(dataset, DatasetStore.open(cache, csv.toString(), "target", false));
+        int shared = DatasetStore.sharedCount();
+
+        Files.writeString(csv, """
+                x,y,target
+                10.0,20.0,30.0
+                """);
+        ColumnarDataset edited = DatasetStore.open(cache, csv.toString(), "target", false);
+        assertNotSame(dataset, edited);
+        assertEquals(1, edited.rows());
+        assertArrayEquals(new double[]{30.0}, edited.targets(), 0.0);
+        assertEquals(2, cacheFiles(cache).size());
+        // the edited source replaced the shared entry of the old version; unrelated entries may only be released
+        assertTrue(DatasetStore.sharedCount() <= shared);
+    }
+
+    @Test
+    void cacheWrittenForAnotherSourceVersionIsRebuilt() throws Exception {
+        Path csv = directory.resolve("versions.csv");
+        Files.writeString(csv, "x,y\n1.0,2.0\n");
+        Path stale = directory.resolve("stale");
+        DatasetStore.open(stale, csv.toString(), "y", false);
+        byte[] staleBytes = Files.readAllBytes(cacheFiles(stale).getFirst());
+
+        Files.writeString(csv, "x,y\n3.0,4.0\n");
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(Files.getLastModifiedTime(csv).toMillis() + 10_000L));
+        Path fresh = directory.resolve("fresh");
+        DatasetStore.open(fresh, csv.toString(), "y", false);
+        Path expected = cacheFiles(fresh).getFirst();
+        assertNotNull(DatasetStore.map(expected, csv.toString()));
+
+        // a complete, well-formed cache of the old version planted under the current file name
+        Path planted = directory.resolve("planted");
+        Files.createDirectories(planted);
+        Files.write(planted.resolve(expected.getFileName()), staleBytes);
+        assertNull(DatasetStore.map(planted.resolve(expected.getFileName()), csv.toString()));
+        ColumnarDataset reopened = DatasetStore.open(planted, csv.toString(), "y", false);
+        assertArrayEquals(new double[]{4.0}, reopened.targets(), 0.0);
+        assertNotNull(DatasetStore.map(planted.resolve(expected.getFileName()), csv.toString()));
+    }
+
+    @Test
+    void concurrentOpenersShareOneLoad() throws Exception {
+        StringBuilder content = new StringBuilder("x,y\n");
+        for (int i = 0; i < 5_000; i++) {
+            content.append(i).append(',').append(i * 0.5).append('\n');
+        }
+        Path csv = directory.resolve("concurrent.csv");
+        Files.writeString(csv, content);
+        Path cache = directory.resolve("cache");
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ColumnarDataset>> opened = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                opened.add(pool.submit(() -> DatasetStore.open(cache, csv.toString(), "y", false)));
+            }
+            ColumnarDataset first = opened.getFirst().get();
+            for (Future<ColumnarDataset> future : opened) {
+                assertSame(first, future.get());
+            }
+            assertEquals(5_000, first.rows());
+            assertEquals(1, cacheFiles(cache).size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void labelledTargetsAreDictionaryEncoded() throws Exception {
+        Path csv = directory.resolve("labels.csv");
+        Files.writeString(csv, """
+                a,label,b
+                1.0,dog,2.0
+                3.0,cat,4.0
+                5.0,dog,6.0
+                """);
+        Path cache = directory.resolve("cache");
+
+        ColumnarDataset dataset = DatasetStore.open(cache, csv.toString(), "label", true);
+        assertTrue(dataset.labelled());
+        assertEquals(List.of("a", "b"), dataset.featureNames());
+        assertEquals(List.of("dog", "cat"), dataset.labels());
+        assertArrayEquals(new int[]{0, 1, 0}, dataset.labelCodes());
+        assertArrayEquals(new double[]{2.0, 4.0, 6.0}, dataset.featureArray(1), 0.0);
+
+        ColumnarDataset mapped = DatasetStore.map(cacheFiles(cache).getFirst(), csv.toString());
+        assertNotNull(mapped);
+        assertEquals(dataset.labels(), mapped.labels());
+        assertArrayEquals(dataset.labelCodes(), mapped.labelCodes());
+    }
+
+    @Test
+    void streamedScoringMatchesHeapColumnsBitForBit() throws Exception {
+        int rows = CompiledProgram.BATCH_SIZE * 2 + 187;
+        StringBuilder content = new StringBuilder("x,noise,y\n");
+        SplittableRandom random = new SplittableRandom(25L);
+        for (int i = 0; i < rows; i++) {
+            double x = random.nextDouble(-2.0, 2.0);
+            content.append(x).append(',').append(random.nextDouble()).append(',')
+                    .append(x * x - Math.sin(x) + 0.1 * random.nextGaussian()).append('\n');
+        }
+        Path csv = directory.resolve("regression.csv");
+        Files.writeString(csv, content);
+        ColumnarDataset dataset = DatasetStore.open(directory.resolve("cache"), csv.toString(), "y", false);
+
+        Map<String, Object> params = Map.of("mode", "auto", "variables", List.of("x", "noise"), "max_depth", 6);
+        GrammarTreeEngine engine = new GrammarTreeEngine(params);
+        List<CompiledProgram> programs = new ArrayList<>();
+        for (int candidate = 0; candidate < 20; candidate++) {
+            boolean[] genes = new boolean[engine.encoding().genomeLength()];
+            for (int i = 0; i < genes.length; i++) {
+                genes[i] = random.nextBoolean();
+            }
+            programs.add(engine.inspect(new BitString(genes)).program());
+        }
+
+        for (boolean absolute : new boolean[]{false, true}) {
+            double[] heap = BlockedRegressionScorer.meanErrors(
+                    programs, dataset.columnsByName(), dataset.targets(), absolute);
+            double[] streamed = BlockedRegressionScorer.meanErrors(programs, dataset, absolute);
+            assertArrayEquals(heap, streamed, 0.0);
+        }
+    }
+
+    private static List<Path> cacheFiles(Path cache) throws Exception {
+        try (Stream<Path> files = Files.list(cache)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".edafcol")).toList();
+        }
+    }
+}
@@ -44,7 +44,7 @@ class GrammarClassificationSupportTest {
                 "label"
         );
 
-        assertEquals(150, data.rows().size());
+        assertEquals(150, data.rowCount());
         assertEquals(3, data.classCount());
         assertEquals(List.of("0", "1", "2"), data.classValues());
     }
@@ -57,7 +57,7 @@ class GrammarClassificationSupportTest {
                 List.of("0", "1", "2")
         );
 
-        assertEquals(178, data.rows().size());
+        assertEquals(178, data.rowCount());
         assertEquals(3, data.classCount());
         assertEquals(List.of("0", "1", "2"), data.classValues());
     }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.grammar;
+
+import com.knezevic.edaf.v3.core.api.Fitness;
+import com.knezevic.edaf.v3.repr.grammar.GrammarTreeEngine;
+import com.knezevic.edaf.v3.repr.grammar.eval.CompiledProgram;
+import com.knezevic.edaf.v3.repr.types.BitString;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests row-blocked batch scoring of grammar regression programs.
+ */
+class GrammarRegressionBatchTest {
+
+    @Test
+    void blockedBatchMatchesWholeDatasetPassPerProgram() {
+        Map<String, Object> params = Map.of("mode", "auto", "variables", List.of("x"), "max_depth", 6);
+        // More samples than one program batch, so scoring walks a full and a partial row block.
+        int samples = CompiledProgram.BATCH_SIZE * 2 + 19;
+        double penalty = 1.0e-3;
+        GrammarNguyenRegressionProblem problem = new GrammarNguyenRegressionProblem(
+                params, 5, samples, -1.0, 1.0, "x", penalty);
+        GrammarTreeEngine engine = new GrammarTreeEngine(params);
+
+        double[] xs = new double[samples];
+        double[] targets = new double[samples];
+        for (int i = 0; i < samples; i++) {
+            xs[i] = -1.0 + 2.0 * i / (samples - 1);
+            targets[i] = Math.sin(xs[i] * xs[i]) * Math.cos(xs[i]) - 1.0;
+        }
+
+        SplittableRandom random = new SplittableRandom(24L);
+        List<BitString> genotypes = new ArrayList<>();
+        for (int candidate = 0; candidate < 30; candidate++) {
+            boolean[] genes = new boolean[engine.encoding().genomeLength()];
+            for (int i = 0; i < genes.length; i++) {
+                genes[i] = random.nextBoolean();
+            }
+            genotypes.add(new BitString(genes));
+        }
+
+        List<Fitness> batch = problem.evaluateBatch(genotypes);
+        assertEquals(genotypes.size(), batch.size());
+        for (int k = 0; k < genotypes.size(); k++) {
+            GrammarTreeEngine.TreeInspection inspection = engine.inspect(genotypes.get(k));
+            CompiledProgram program = inspection.program();
+            double[] predictions = program.evaluate(program.bind(Map.of("x", xs)), samples);
+            double mse = 0.0;
+            for (int i = 0; i < samples; i++) {
+                double error = predictions[i] - targets[i];
+                mse += error * error;
+            }
+            mse /= samples;
+            double expected = mse + penalty * inspection.metrics().size();
+
+            assertEquals(expected, batch.get(k).scalar(), 0.0, inspection.infix());
+            assertEquals(expected, problem.evaluate(genotypes.get(k)).scalar(), 0.0);
+        }
+    }
+}
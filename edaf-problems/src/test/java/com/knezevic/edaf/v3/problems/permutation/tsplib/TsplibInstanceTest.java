@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.problems.permutation.tsplib;
+
+import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.problems.permutation.TsplibTspProblem;
+import com.knezevic.edaf.v3.problems.util.ProblemResourceLoader;
+import com.knezevic.edaf.v3.repr.distance.DistanceProvider;
+import com.knezevic.edaf.v3.repr.types.PermutationVector;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests TSPLIB parsing, edge weight functions and distance providers.
+ */
+class TsplibInstanceTest {
+
+    @Test
+    void explicitFormatsProduceSameSymmetricMatrix() {
+        String header = "NAME: tiny\nTYPE: TSP\nDIMENSION: 4\nEDGE_WEIGHT_TYPE: EXPLICIT\n";
+        TsplibInstance full = TsplibInstance.parse(header
+                + "EDGE_WEIGHT_FORMAT: FULL_MATRIX\nEDGE_WEIGHT_SECTION\n"
+                + "0 3 5 7\n3 0 2 4\n5 2 0 6\n7 4 6 0\nEOF\n");
+        TsplibInstance upper = TsplibInstance.parse(header
+                + "EDGE_WEIGHT_FORMAT: UPPER_ROW\nEDGE_WEIGHT_SECTION\n3 5 7\n2 4\n6\nEOF\n");
+        TsplibInstance lowerDiag = TsplibInstance.parse(header
+                + "EDGE_WEIGHT_FORMAT: LOWER_DIAG_ROW\nEDGE_WEIGHT_SECTION\n0 3 0 5 2 0\n7 4 6 0\nEOF\n");
+
+        assertEquals(EdgeWeightType.EXPLICIT, full.edgeWeightType());
+        assertEquals(4, full.dimension());
+        assertArrayEquals(full.explicitWeights(), upper.explicitWeights());
+        assertArrayEquals(full.explicitWeights(), lowerDiag.explicitWeights());
+        assertEquals(0, full.coordinates().length);
+
+        TsplibTspProblem problem = new TsplibTspProblem(upper, 0, 2);
+        assertEquals(3.0 + 2.0 + 6.0 + 7.0, problem.evaluate(new PermutationVector(new int[]{0, 1, 2, 3})).scalar());
+        assertArrayEquals(new int[]{2, 0}, problem.distances().neighbors(1));
+
+        assertThrows(IllegalArgumentException.class, () -> TsplibInstance.parse(header
+                + "EDGE_WEIGHT_FORMAT: UPPER_ROW\nEDGE_WEIGHT_SECTION\n3 5 7\n2 4\nEOF\n"));
+    }
+
+    @Test
+    void coordinateWeightTypesFollowTsplibDefinitions() {
+        double[] origin = {0.0, 0.0};
+        assertEquals(4, EdgeWeightType.ATT.distance(origin, new double[]{10.0, 0.0}));
+        assertEquals(2, EdgeWeightType.CEIL_2D.distance(origin, new double[]{1.0, 1.0}));
+        assertEquals(1, EdgeWeightType.EUC_2D.distance(origin, new double[]{1.0, 1.0}));
+        assertEquals(7, EdgeWeightType.MAN_2D.distance(origin, new double[]{3.0, 4.0}));
+        assertEquals(4, EdgeWeightType.MAX_2D.distance(origin, new double[]{3.0, 4.0}));
+        // One degree of longitude on the equator is about 111.3 km; TSPLIB truncates after adding 1.
+        assertEquals(112, EdgeWeightType.GEO.distance(origin, new double[]{0.0, 1.0}));
+
+        TsplibInstance geo = TsplibInstance.parse("""
+                NAME: geo3
+                TYPE: TSP
+                DIMENSION: 3
+                EDGE_WEIGHT_TYPE : GEO
+                NODE_COORD_SECTION
+                1 38.24 20.42
+                2 39.57 26.15
+                3 40.56 25.32
+                EOF
+                """);
+        assertEquals(EdgeWeightType.GEO, geo.edgeWeightType());
+        DistanceProvider distances = geo.distances(10, 2);
+        assertEquals(distances.distance(0, 1), distances.distance(1, 0));
+        assertTrue(distances.distance(0, 1) > distances.distance(1, 2));
+    }
+
+    @Test
+    void matrixAndOnDemandProvidersAgreeIncludingNeighbors() {
+        TsplibInstance berlin = TsplibInstance.parse(ProblemResourceLoader.readText("classpath:tsplib/berlin52.tsp"));
+        TsplibDistanceProvider matrix = berlin.distances(1000, 8);
+        TsplibDistanceProvider onDemand = berlin.distances(0, 8);
+        assertTrue(matrix.precomputed());
+        assertFalse(onDemand.precomputed());
+        for (int i = 0; i < berlin.dimension(); i++) {
+            for (int j = 0; j < berlin.dimension(); j++) {
+                assertEquals(matrix.distance(i, j), onDemand.distance(i, j));
+            }
+            assertArrayEquals(matrix.neighbors(i), onDemand.neighbors(i));
+            assertEquals(8, matrix.neighbors(i).length);
+            // grid lists must hold the same TSPLIB distances as a brute-force ranking
+            final int from = i;
+            double[] expected = java.util.stream.IntStream.range(0, berlin.dimension())
+                    .filter(j -> j != from)
+                    .mapToDouble(j -> matrix.distance(from, j))
+                    .sorted()
+                    .limit(8)
+                    .toArray();
+            double[] actual = java.util.Arrays.stream(matrix.neighbors(i)).mapToDouble(j -> matrix.distance(from, j)).toArray();
+            assertArrayEquals(expected, actual);
+        }
+        int[] identity = java.util.stream.IntStream.range(0, 52).toArray();
+        assertEquals(matrix.tourLength(identity),
+                new TsplibTspProblem(berlin, 0, 8).evaluate(new PermutationVector(identity)).scalar());
+    }
+
+    @Test
+    void instancesBeyondOneArrayFallBackOrAreRejected() {
+        double[][] points = new double[50_000][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[]{i, 0.0};
+        }
+        TsplibDistanceProvider large = new TsplibInstance("line50k", points).distances(Integer.MAX_VALUE, 0);
+        assertFalse(large.precomputed());
+        assertEquals(49_999.0, large.distance(0, 49_999));
+        assertTrue(TsplibDistanceProvider.fitsMatrix(46_340));
+        assertFalse(TsplibDistanceProvider.fitsMatrix(46_341));
+
+        assertThrows(IllegalArgumentException.class, () -> TsplibInstance.parse(
+                "DIMENSION: 50000\nEDGE_WEIGHT_TYPE: EXPLICIT\nEDGE_WEIGHT_SECTION\n0\nEOF\n"));
+    }
+
+    @Test
+    void moveDeltasMatchFullReevaluation() {
+        TsplibInstance berlin = TsplibInstance.parse(ProblemResourceLoader.readText("classpath:tsplib/berlin52.tsp"));
+        DistanceProvider distances = berlin.distances(1000, 8);
+        RngStream rng = new RngManager(52L).stream("moves");
+        int n = berlin.dimension();
+        int[] order = java.util.stream.IntStream.range(0, n).toArray();
+        for (int i = n - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        double base = distances.tourLength(order);
+        int[][] pairs = {{0, 1}, {0, n - 1}, {0, n - 2}, {n - 2, n - 1}, {5, 9}, {10, 11}};
+        for (int trial = 0; trial < 200 + pairs.length; trial++) {
+            int i = trial < pairs.length ? pairs[trial][0] : rng.nextInt(n);
+            int j = trial < pairs.length ? pairs[trial][1] : rng.nextInt(n);
+
+            int[] swapped = order.clone();
+            swapped[i] = order[j];
+            swapped[j] = order[i];
+            assertEquals(distances.tourLength(swapped) - base, distances.swapDelta(order, i, j), 1e-9);
+
+            if (i != j) {
+                int low = Math.min(i, j);
+                int high = Math.max(i, j);
+                int[] reversed = order.clone();
+                for (int a = low + 1, b = high; a < b; a++, b--) {
+                    int tmp = reversed[a];
+                    reversed[a] = reversed[b];
+                    reversed[b] = tmp;
+                }
+                assertEquals(distances.tourLength(reversed) - base, distances.twoOptDelta(order, low, high), 1e-9);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.batch;
+
+import com.knezevic.edaf.v3.core.api.SampleBatch;
+import com.knezevic.edaf.v3.repr.types.BitString;
+
+import java.util.Objects;
+
+/**
+ * Bitstring population stored as packed words in one {@code long[count * wordsPerRow]} buffer.
+ *
+ * <p>Row layout matches {@link BitString#words()}: bit {@code j} of sample {@code i} is bit
+ * {@code j & 63} of word {@code offset(i) + (j >>> 6)}. Writers must keep bits past
+ * {@link #length()} in the last word of each row cleared.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class BitStringBatch implements SampleBatch<BitString> {
+
+    private final int length;
+    private final int wordsPerRow;
+    private long[] words;
+    private int size;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param length bitstring length
+     * @param capacity initial number of rows
+     */
+    public BitStringBatch(int length, int capacity) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must be >= 0");
+        }
+        this.length = length;
+        this.wordsPerRow = BitString.wordCount(length);
+        this.words = new long[Math.max(0, capacity) * wordsPerRow];
+    }
+
+    /**
+     * Returns bitstring length.
+     *
+     * @return number of bits per sample
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of packed words per row.
+     *
+     * @return words per row
+     */
+    public int wordsPerRow() {
+        return wordsPerRow;
+    }
+
+    /**
+     * Returns the live packed backing buffer; only the first {@code size() * wordsPerRow()}
+     * words are meaningful.
+     *
+     * @return backing buffer
+     */
+    public long[] words() {
+        return words;
+    }
+
+    /**
+     * Returns the buffer offset of one row.
+     *
+     * @param index sample index
+     * @return first word index of the row
+     */
+    public int offset(int index) {
+        return Objects.checkIndex(index, size) * wordsPerRow;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void reset(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        int required = Math.multiplyExact(count, wordsPerRow);
+        if (required > words.length) {
+            words = new long[required];
+        }
+        size = count;
+    }
+
+    @Override
+    public BitString get(int index) {
+        return BitString.builder(length).setWords(words, offset(index)).build();
+    }
+
+    @Override
+    public void set(int index, BitString genotype) {
+        if (genotype.length() != length) {
+            throw new IllegalArgumentException("Expected length " + length + " but got " + genotype.length());
+        }
+        genotype.copyWordsTo(words, offset(index));
+    }
+}
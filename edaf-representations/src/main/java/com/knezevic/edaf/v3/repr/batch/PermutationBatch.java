@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.batch;
+
+import com.knezevic.edaf.v3.core.api.SampleBatch;
+import com.knezevic.edaf.v3.repr.types.PermutationVector;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Permutation population stored row-major in one {@code int[count * length]} buffer.
+ *
+ * <p>Sample {@code i} occupies {@code order()[offset(i) .. offset(i) + length()]}.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class PermutationBatch implements SampleBatch<PermutationVector> {
+
+    private final int length;
+    private final int[] scratch;
+    private final int[] seen;
+    private int stamp;
+    private int[] order;
+    private int size;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param length permutation length
+     * @param capacity initial number of rows
+     */
+    public PermutationBatch(int length, int capacity) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("length must be > 0");
+        }
+        this.length = length;
+        this.scratch = new int[length];
+        this.seen = new int[length];
+        this.order = new int[Math.max(0, capacity) * length];
+    }
+
+    /**
+     * Returns permutation length.
+     *
+     * @return number of elements per sample
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the live row-major backing buffer; only the first {@code size() * length()}
+     * entries are meaningful.
+     *
+     * @return backing buffer
+     */
+    public int[] order() {
+        return order;
+    }
+
+    /**
+     * Returns the buffer offset of one row.
+     *
+     * @param index sample index
+     * @return first buffer index of the row
+     */
+    public int offset(int index) {
+        return Objects.checkIndex(index, size) * length;
+    }
+
+    /**
+     * Checks whether one row holds every index in {@code [0, length)} exactly once.
+     *
+     * @param index sample index
+     * @return true when the row is a valid permutation
+     */
+    public boolean isPermutation(int index) {
+        int offset = offset(index);
+        if (++stamp == 0) {
+            Arrays.fill(seen, 0);
+            stamp = 1;
+        }
+        for (int i = 0; i < length; i++) {
+            int value = order[offset + i];
+            if (value < 0 || value >= length || seen[value] == stamp) {
+                return false;
+            }
+            seen[value] = stamp;
+        }
+        return true;
+    }
+
+    /**
+     * Overwrites one row with the identity permutation.
+     *
+     * @param index sample index
+     */
+    public void setIdentity(int index) {
+        int offset = offset(index);
+        for (int i = 0; i < length; i++) {
+            order[offset + i] = i;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void reset(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        int required = Math.multiplyExact(count, length);
+        if (required > order.length) {
+            order = new int[required];
+        }
+        size = count;
+    }
+
+    @Override
+    public PermutationVector get(int index) {
+        // PermutationVector copies its input, so a shared staging row keeps this to one allocation.
+        System.arraycopy(order, offset(index), scratch, 0, length);
+        return new PermutationVector(scratch);
+    }
+
+    @Override
+    public void set(int index, PermutationVector genotype) {
+        int[] source = genotype.order();
+        if (source.length != length) {
+            throw new IllegalArgumentException("Expected length " + length + " but got " + source.length);
+        }
+        System.arraycopy(source, 0, order, offset(index), length);
+    }
+}
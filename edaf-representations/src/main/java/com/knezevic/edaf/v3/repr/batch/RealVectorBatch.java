@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.batch;
+
+import com.knezevic.edaf.v3.core.api.SampleBatch;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+
+import java.util.Objects;
+
+/**
+ * Real-vector population stored row-major in one {@code double[count * dimension]} buffer.
+ *
+ * <p>Sample {@code i} occupies {@code values()[offset(i) .. offset(i) + dimension()]}. Writers may
+ * fill rows directly; {@link #get(int)} materializes an immutable {@link RealVector} copy.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class RealVectorBatch implements SampleBatch<RealVector> {
+
+    private final int dimension;
+    private final double[] scratch;
+    private double[] values;
+    private int size;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param dimension vector dimension
+     * @param capacity initial number of rows
+     */
+    public RealVectorBatch(int dimension, int capacity) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("dimension must be > 0");
+        }
+        this.dimension = dimension;
+        this.scratch = new double[dimension];
+        this.values = new double[Math.max(0, capacity) * dimension];
+    }
+
+    /**
+     * Returns vector dimension.
+     *
+     * @return dimension
+     */
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * Returns the live row-major backing buffer; only the first {@code size() * dimension()}
+     * entries are meaningful.
+     *
+     * @return backing buffer
+     */
+    public double[] values() {
+        return values;
+    }
+
+    /**
+     * Returns the buffer offset of one row.
+     *
+     * @param index sample index
+     * @return first buffer index of the row
+     */
+    public int offset(int index) {
+        return Objects.checkIndex(index, size) * dimension;
+    }
+
+    /**
+     * Clamps every stored value into {@code [lower, upper]} in place.
+     *
+     * @param lower lower bound
+     * @param upper upper bound
+     */
+    public void clamp(double lower, double upper) {
+        int end = size * dimension;
+        for (int i = 0; i < end; i++) {
+            values[i] = Math.max(lower, Math.min(upper, values[i]));
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void reset(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        int required = Math.multiplyExact(count, dimension);
+        if (required > values.length) {
+            values = new double[required];
+        }
+        size = count;
+    }
+
+    @Override
+    public RealVector get(int index) {
+        // RealVector copies its input, so a shared staging row keeps this to one allocation.
+        System.arraycopy(values, offset(index), scratch, 0, dimension);
+        return new RealVector(scratch);
+    }
+
+    @Override
+    public void set(int index, RealVector genotype) {
+        double[] source = genotype.values();
+        if (source.length != dimension) {
+            throw new IllegalArgumentException("Expected dimension " + dimension + " but got " + source.length);
+        }
+        System.arraycopy(source, 0, values, offset(index), dimension);
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+/**
+ * Flat primitive population buffers for batch sampling.
+ *
+ * <p>Each batch keeps a whole population in one row-major primitive array so models can sample
+ * and representations can repair without allocating per-individual objects.</p>
+ */
+package com.knezevic.edaf.v3.repr.batch;
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.distance;
+
+/**
+ * Optional capability of problems whose items have planar coordinates, such as TSP cities.
+ *
+ * <p>Models may use the embedding to restrict sampling to geometric neighbours without depending
+ * on concrete problem classes.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public interface CoordinateEmbedding {
+
+    /**
+     * Returns item coordinates, one {@code {x, y}} row per item.
+     *
+     * <p>The array is shared with the problem and must be treated as read-only.</p>
+     *
+     * @return coordinate rows
+     */
+    double[][] coordinates();
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.distance;
+
+/**
+ * Pairwise item distances of a closed-tour problem, with constant-time move deltas.
+ *
+ * <p>Tour positions are cyclic, so position {@code n - 1} is followed by position {@code 0}.
+ * Delta methods return {@code length(after) - length(before)} for a move applied to
+ * {@code order}, reading only the handful of edges the move touches. Negative deltas are
+ * improvements. Implementations must be safe for concurrent readers.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public interface DistanceProvider {
+
+    /**
+     * Returns the number of items.
+     *
+     * @return item count
+     */
+    int size();
+
+    /**
+     * Returns the distance of edge {@code from -> to}.
+     *
+     * @param from source item
+     * @param to target item
+     * @return edge distance
+     */
+    double distance(int from, int to);
+
+    /**
+     * Returns candidate neighbours of an item, nearest first.
+     *
+     * @param item item index
+     * @return shared read-only neighbour list, possibly empty
+     */
+    int[] neighbors(int item);
+
+    /**
+     * Computes closed tour length in {@code O(n)}.
+     *
+     * @param order tour as a permutation of items
+     * @return tour length
+     */
+    default double tourLength(int[] order) {
+        double length = 0.0;
+        int n = order.length;
+        for (int i = 0; i < n; i++) {
+            length += distance(order[i], order[(i + 1) % n]);
+        }
+        return length;
+    }
+
+    /**
+     * Delta of the 2-opt move that reverses positions {@code i + 1 .. j}.
+     *
+     * <p>Edges {@code (order[i], order[i+1])} and {@code (order[j], order[j+1])} are replaced by
+     * {@code (order[i], order[j])} and {@code (order[i+1], order[j+1])}. The formula assumes
+     * symmetric distances.</p>
+     *
+     * @param order current tour
+     * @param i first cut position, {@code 0 <= i < j}
+     * @param j second cut position, {@code j < n}
+     * @return length change
+     */
+    default double twoOptDelta(int[] order, int i, int j) {
+        int n = order.length;
+        if (i < 0 || j >= n || i >= j) {
+            throw new IllegalArgumentException("2-opt positions must satisfy 0 <= i < j < n");
+        }
+        int a = order[i];
+        int b = order[i + 1];
+        int c = order[j];
+        int d = order[(j + 1) % n];
+        if (a == d) {
+            return 0.0;
+        }
+        return distance(a, c) + distance(b, d) - distance(a, b) - distance(c, d);
+    }
+
+    /**
+     * Delta of exchanging the items at positions {@code i} and {@code j}.
+     *
+     * @param order current tour
+     * @param i first position
+     * @param j second position
+     * @return length change
+     */
+    default double swapDelta(int[] order, int i, int j) {
+        int n = order.length;
+        if (i < 0 || j < 0 || i >= n || j >= n) {
+            throw new IllegalArgumentException("swap positions must be in [0, n)");
+        }
+        if (i == j || n < 3) {
+            return 0.0;
+        }
+        if (n == 3) {
+            int[] swapped = order.clone();
+            swapped[i] = order[j];
+            swapped[j] = order[i];
+            return tourLength(swapped) - tourLength(order);
+        }
+        int low = Math.min(i, j);
+        int high = Math.max(i, j);
+        if (high - low == 1 || high - low == n - 1) {
+            // Adjacent on the cycle: first precedes second, the tour becomes before, y, x, after.
+            int first = high - low == 1 ? low : high;
+            int second = (first + 1) % n;
+            int before = order[(first - 1 + n) % n];
+            int x = order[first];
+            int y = order[second];
+            int after = order[(second + 1) % n];
+            return distance(before, y) + distance(y, x) + distance(x, after)
+                    - distance(before, x) - distance(x, y) - distance(y, after);
+        }
+        int before = order[low - 1 < 0 ? n - 1 : low - 1];
+        int x = order[low];
+        int xNext = order[low + 1];
+        int yPrev = order[high - 1];
+        int y = order[high];
+        int after = order[(high + 1) % n];
+        return distance(before, y) + distance(y, xNext) + distance(yPrev, x) + distance(x, after)
+                - distance(before, x) - distance(x, xNext) - distance(yPrev, y) - distance(y, after);
+    }
+}
@@ -29,12 +29,6 @@ public final class HammingDistance {
         if (a.length() != b.length()) {
             throw new IllegalArgumentException("Bitstrings must have same length");
         }
-        int distance = 0;
-        for (int i = 0; i < a.length(); i++) {
-            if (a.genes()[i] != b.genes()[i]) {
-                distance++;
-            }
-        }
-        return distance;
+        return a.hammingDistance(b);
     }
 }
@@ -5,10 +5,14 @@
 
 package com.knezevic.edaf.v3.repr.distance;
 
+import com.knezevic.edaf.v3.core.metrics.PermutationMetrics;
 import com.knezevic.edaf.v3.repr.types.PermutationVector;
 
 /**
  * Kendall tau inversion count distance for permutations.
+ *
+ * <p>Delegates to {@link PermutationMetrics#kendallDistance(int[], int[])}, which runs in
+ * {@code O(n log n)}.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
@@ -24,28 +28,12 @@ public final class KendallTauDistance {
      * @param a first permutation
      * @param b second permutation
      * @return the number of pairwise inversions between {@code a} and {@code b}
+     * @throws ArithmeticException when the distance exceeds {@code int} range
      */
     public static int between(PermutationVector a, PermutationVector b) {
         if (a.size() != b.size()) {
             throw new IllegalArgumentException("Permutations must have same size");
         }
-        int n = a.size();
-        int[] position = new int[n];
-        for (int i = 0; i < n; i++) {
-            position[b.order()[i]] = i;
-        }
-        int inversions = 0;
-        int[] mapped = new int[n];
-        for (int i = 0; i < n; i++) {
-            mapped[i] = position[a.order()[i]];
-        }
-        for (int i = 0; i < n; i++) {
-            for (int j = i + 1; j < n; j++) {
-                if (mapped[i] > mapped[j]) {
-                    inversions++;
-                }
-            }
-        }
-        return inversions;
+        return Math.toIntExact(PermutationMetrics.kendallDistance(a.order(), b.order()));
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.distance;
+
+/**
+ * Builds k-nearest-neighbour candidate lists over planar coordinates.
+ *
+ * <p>Points are bucketed into a uniform grid with about two points per cell. Each query scans grid
+ * rings outward from its own cell and stops once the k-th best distance cannot be beaten by any
+ * farther ring, so uniformly spread instances cost about {@code O(n k)} instead of the
+ * {@code O(n^2)} brute-force scan. Ties are broken by lower index.</p>
+ *
+ * <p>Neighbours are ranked by Euclidean distance, so the lists also hold for any metric that is
+ * a non-decreasing function of it, such as rounded or scaled planar distances, up to the order
+ * of points whose rounded distances tie.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class NearestNeighborLists {
+
+    private NearestNeighborLists() {
+        // utility class
+    }
+
+    /**
+     * Returns the {@code k} nearest other points of every point, nearest first.
+     *
+     * @param coordinates {@code {x, y}} rows
+     * @param k neighbours per point, capped at {@code n - 1}
+     * @return neighbour index rows
+     */
+    public static int[][] nearest(double[][] coordinates, int k) {
+        int n = coordinates.length;
+        int size = Math.max(0, Math.min(k, n - 1));
+        int[][] result = new int[n][];
+        if (size == 0) {
+            for (int i = 0; i < n; i++) {
+                result[i] = new int[0];
+            }
+            return result;
+        }
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (double[] point : coordinates) {
+            minX = Math.min(minX, point[0]);
+            maxX = Math.max(maxX, point[0]);
+            minY = Math.min(minY, point[1]);
+            maxY = Math.max(maxY, point[1]);
+        }
+        int grid = Math.max(1, (int) Math.ceil(Math.sqrt(n / 2.0)));
+        double cellWidth = maxX > minX ? (maxX - minX) / grid : 1.0;
+        double cellHeight = maxY > minY ? (maxY - minY) / grid : 1.0;
+        double ringStep = Math.min(cellWidth, cellHeight);
+
+        int[] cellOf = new int[n];
+        int[] cellStart = new int[grid * grid + 1];
+        for (int i = 0; i < n; i++) {
+            int cx = cell(coordinates[i][0], minX, cellWidth, grid);
+            int cy = cell(coordinates[i][1], minY, cellHeight, grid);
+            cellOf[i] = cy * grid + cx;
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < grid * grid; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] cursor = java.util.Arrays.copyOf(cellStart, grid * grid);
+        int[] members = new int[n];
+        for (int i = 0; i < n; i++) {
+            members[cursor[cellOf[i]]++] = i;
+        }
+
+        int[] bestIndex = new int[size];
+        double[] bestDistance = new double[size];
+        for (int i = 0; i < n; i++) {
+            int found = 0;
+            int cx = cellOf[i] % grid;
+            int cy = cellOf[i] / grid;
+            for (int ring = 0; ring <= grid; ring++) {
+                for (int y = cy - ring; y <= cy + ring; y++) {
+                    if (y < 0 || y >= grid) {
+                        continue;
+                    }
+                    boolean edgeRow = y == cy - ring || y == cy + ring;
+                    int stride = edgeRow ? 1 : Math.max(1, 2 * ring);
+                    for (int x = cx - ring; x <= cx + ring; x += stride) {
+                        if (x < 0 || x >= grid) {
+                            continue;
+                        }
+                        int c = y * grid + x;
+                        for (int m = cellStart[c]; m < cellStart[c + 1]; m++) {
+                            int j = members[m];
+                            if (j == i) {
+                                continue;
+                            }
+                            double dx = coordinates[i][0] - coordinates[j][0];
+                            double dy = coordinates[i][1] - coordinates[j][1];
+                            found = offer(bestIndex, bestDistance, found, j, dx * dx + dy * dy);
+                        }
+                    }
+                }
+                double reach = ring * ringStep;
+                if (found == size && bestDistance[size - 1] < reach * reach) {
+                    break;
+                }
+            }
+            result[i] = java.util.Arrays.copyOf(bestIndex, size);
+        }
+        return result;
+    }
+
+    private static int cell(double value, double origin, double width, int grid) {
+        int index = (int) ((value - origin) / width);
+        return Math.max(0, Math.min(grid - 1, index));
+    }
+
+    /**
+     * Inserts a point into the sorted bounded best list and returns the new list size.
+     */
+    private static int offer(int[] index, double[] distance, int found, int candidate, double value) {
+        int capacity = index.length;
+        if (found == capacity && !closer(value, candidate, distance[capacity - 1], index[capacity - 1])) {
+            return found;
+        }
+        int position = found == capacity ? capacity - 1 : found;
+        while (position > 0 && closer(value, candidate, distance[position - 1], index[position - 1])) {
+            distance[position] = distance[position - 1];
+            index[position] = index[position - 1];
+            position--;
+        }
+        distance[position] = value;
+        index[position] = candidate;
+        return Math.min(capacity, found + 1);
+    }
+
+    private static boolean closer(double value, int candidate, double otherValue, int other) {
+        return value < otherValue || (value == otherValue && candidate < other);
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.distance;
+
+/**
+ * Optional capability of permutation problems whose fitness is a closed tour length.
+ *
+ * <p>Local searches and models can use the provider for neighbour lists and {@code O(1)} move
+ * deltas instead of re-evaluating whole tours.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public interface TourDistances {
+
+    /**
+     * Returns the distance provider that defines the tour length.
+     *
+     * @return distance provider
+     */
+    DistanceProvider distances();
+}
@@ -9,6 +9,7 @@ import com.knezevic.edaf.v3.repr.grammar.build.GrammarConfig;
 import com.knezevic.edaf.v3.repr.grammar.build.GrammarFactory;
 import com.knezevic.edaf.v3.repr.grammar.encoding.GrammarDecisionCodec;
 import com.knezevic.edaf.v3.repr.grammar.encoding.GrammarEncoding;
+import com.knezevic.edaf.v3.repr.grammar.eval.CompiledProgram;
 import com.knezevic.edaf.v3.repr.grammar.eval.EvaluationContext;
 import com.knezevic.edaf.v3.repr.grammar.eval.TreeEvaluator;
 import com.knezevic.edaf.v3.repr.grammar.model.DerivationTree;
@@ -34,6 +35,7 @@ public final class GrammarTreeEngine {
     private final TreeEvaluator evaluator;
     private final TreePrinter printer;
     private final TreeSerializer serializer;
+    private final TreeInspectionCache cache;
 
     /**
      * Creates engine from plugin the input values.
@@ -48,28 +50,19 @@ public final class GrammarTreeEngine {
         this.evaluator = new TreeEvaluator();
         this.printer = new TreePrinter();
         this.serializer = new TreeSerializer();
+        this.cache = new TreeInspectionCache(config.treeCacheSize());
     }
 
     /**
-     * Decodes genotype into tree and export strings.
+     * Decodes genotype into tree; export strings are rendered lazily on first access.
+     *
+     * <p>Results are memoized in a bounded genotype-keyed cache, so repeated calls for the same
+     * genotype (across dataset rows or across generations) decode only once.</p>
      * @param genotype encoded genotype value
      * @return the inspect
      */
     public TreeInspection inspect(BitString genotype) {
-        GrammarDecisionCodec.DecodedTree decoded = codec.decode(genotype, grammar, encoding);
-        DerivationTree tree = decoded.tree();
-        return new TreeInspection(
-                tree,
-                decoded.decisionVector(),
-                decoded.ercValues(),
-                printer.toInfix(tree),
-                printer.toPrefix(tree),
-                printer.toLatex(tree),
-                printer.toDot(tree),
-                serializer.toMap(tree),
-                serializer.toJson(tree),
-                TreeMetrics.summarize(tree)
-        );
+        return cache.get(genotype, this::decode);
     }
 
     /**
@@ -82,6 +75,16 @@ public final class GrammarTreeEngine {
         return evaluator.evaluate(inspect(genotype).tree(), context);
     }
 
+    /**
+     * Evaluates an already decoded tree as numeric expression.
+     * @param tree derivation tree
+     * @param context evaluation context
+     * @return evaluation result
+     */
+    public double evaluate(DerivationTree tree, EvaluationContext context) {
+        return evaluator.evaluate(tree, context);
+    }
+
     /**
      * Evaluates genotype as boolean expression.
      * @param genotype encoded genotype value
@@ -92,6 +95,45 @@ public final class GrammarTreeEngine {
         return evaluator.evaluateBoolean(inspect(genotype).tree(), context);
     }
 
+    /**
+     * Evaluates an already decoded tree as boolean expression.
+     * @param tree derivation tree
+     * @param context evaluation context
+     * @return true if the condition is satisfied; otherwise false
+     */
+    public boolean evaluateBoolean(DerivationTree tree, EvaluationContext context) {
+        return evaluator.evaluateBoolean(tree, context);
+    }
+
+    /**
+     * Number of {@link #inspect(BitString)} calls served from the tree cache.
+     * @return cache hit count
+     */
+    public long treeCacheHits() {
+        return cache.hits();
+    }
+
+    /**
+     * Number of {@link #inspect(BitString)} calls that required decoding.
+     * @return cache miss count
+     */
+    public long treeCacheMisses() {
+        return cache.misses();
+    }
+
+    private TreeInspection decode(BitString genotype) {
+        GrammarDecisionCodec.DecodedTree decoded = codec.decode(genotype, grammar, encoding);
+        DerivationTree tree = decoded.tree();
+        return new TreeInspection(
+                tree,
+                decoded.decisionVector(),
+                decoded.ercValues(),
+                TreeMetrics.summarize(tree),
+                printer,
+                serializer
+        );
+    }
+
     /**
      * Grammar instance.
      * @return the grammar
@@ -110,21 +152,163 @@ public final class GrammarTreeEngine {
 
     /**
      * Tree inspection bundle.
- * @author Karlo Knezevic
- * @version EDAF 3.0.0
- *
+     *
+     * <p>The tree, decision vector and metrics are computed eagerly because fitness functions
+     * need them; textual and AST renderings and the compiled program are produced on first
+     * access and memoized, so they are only paid for when actually requested.</p>
+     * @author Karlo Knezevic
+     * @version EDAF 3.0.0
      */
-    public record TreeInspection(
-            DerivationTree tree,
-            List<Integer> decisionVector,
-            List<Double> ercValues,
-            String infix,
-            String prefix,
-            String latex,
-            String dot,
-            Map<String, Object> ast,
-            String astJson,
-            TreeMetrics.Summary metrics
-    ) {
+    public static final class TreeInspection {
+        private final DerivationTree tree;
+        private final List<Integer> decisionVector;
+        private final List<Double> ercValues;
+        private final TreeMetrics.Summary metrics;
+        private final TreePrinter printer;
+        private final TreeSerializer serializer;
+        private volatile String infix;
+        private volatile String prefix;
+        private volatile String latex;
+        private volatile String dot;
+        private volatile Map<String, Object> ast;
+        private volatile String astJson;
+        private volatile CompiledProgram program;
+
+        private TreeInspection(DerivationTree tree,
+                               List<Integer> decisionVector,
+                               List<Double> ercValues,
+                               TreeMetrics.Summary metrics,
+                               TreePrinter printer,
+                               TreeSerializer serializer) {
+            this.tree = tree;
+            this.decisionVector = decisionVector;
+            this.ercValues = ercValues;
+            this.metrics = metrics;
+            this.printer = printer;
+            this.serializer = serializer;
+        }
+
+        /**
+         * Decoded derivation tree.
+         * @return the tree
+         */
+        public DerivationTree tree() {
+            return tree;
+        }
+
+        /**
+         * Decision vector consumed while decoding.
+         * @return the decision vector
+         */
+        public List<Integer> decisionVector() {
+            return decisionVector;
+        }
+
+        /**
+         * Ephemeral constant values consumed while decoding.
+         * @return the erc values
+         */
+        public List<Double> ercValues() {
+            return ercValues;
+        }
+
+        /**
+         * Infix rendering.
+         * @return the infix
+         */
+        public String infix() {
+            String value = infix;
+            if (value == null) {
+                value = printer.toInfix(tree);
+                infix = value;
+            }
+            return value;
+        }
+
+        /**
+         * Prefix rendering.
+         * @return the prefix
+         */
+        public String prefix() {
+            String value = prefix;
+            if (value == null) {
+                value = printer.toPrefix(tree);
+                prefix = value;
+            }
+            return value;
+        }
+
+        /**
+         * LaTeX rendering.
+         * @return the latex
+         */
+        public String latex() {
+            String value = latex;
+            if (value == null) {
+                value = printer.toLatex(tree);
+                latex = value;
+            }
+            return value;
+        }
+
+        /**
+         * Graphviz DOT rendering.
+         * @return the dot
+         */
+        public String dot() {
+            String value = dot;
+            if (value == null) {
+                value = printer.toDot(tree);
+                dot = value;
+            }
+            return value;
+        }
+
+        /**
+         * AST as nested map.
+         * @return the ast
+         */
+        public Map<String, Object> ast() {
+            Map<String, Object> value = ast;
+            if (value == null) {
+                value = serializer.toMap(tree);
+                ast = value;
+            }
+            return value;
+        }
+
+        /**
+         * AST as JSON string.
+         * @return the ast json
+         */
+        public String astJson() {
+            String value = astJson;
+            if (value == null) {
+                value = serializer.toJson(tree);
+                astJson = value;
+            }
+            return value;
+        }
+
+        /**
+         * Tree compiled to a postfix program for columnar batch evaluation.
+         * @return the compiled program
+         */
+        public CompiledProgram program() {
+            CompiledProgram value = program;
+            if (value == null) {
+                value = CompiledProgram.compile(tree);
+                program = value;
+            }
+            return value;
+        }
+
+        /**
+         * Structural metrics summary.
+         * @return the metrics
+         */
+        public TreeMetrics.Summary metrics() {
+            return metrics;
+        }
     }
 }
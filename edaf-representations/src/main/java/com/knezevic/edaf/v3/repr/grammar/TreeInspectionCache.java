@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.grammar;
+
+import com.knezevic.edaf.v3.repr.types.BitString;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded least-recently-used cache of decoded genotypes.
+ *
+ * <p>Elites and converged samples re-appear across generations, so the engine keeps their
+ * decoded trees keyed by genotype content. Decoding happens outside the lock; two threads
+ * racing on the same genotype may both decode, and the first stored result wins.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+final class TreeInspectionCache {
+
+    private final int capacity;
+    private final LinkedHashMap<BitString, GrammarTreeEngine.TreeInspection> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    TreeInspectionCache(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BitString, GrammarTreeEngine.TreeInspection> eldest) {
+                return size() > TreeInspectionCache.this.capacity;
+            }
+        };
+    }
+
+    GrammarTreeEngine.TreeInspection get(BitString genotype,
+                                         Function<BitString, GrammarTreeEngine.TreeInspection> decoder) {
+        if (capacity == 0 || genotype == null) {
+            return decoder.apply(genotype);
+        }
+        synchronized (entries) {
+            GrammarTreeEngine.TreeInspection cached = entries.get(genotype);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+        misses.incrementAndGet();
+        GrammarTreeEngine.TreeInspection decoded = decoder.apply(genotype);
+        synchronized (entries) {
+            GrammarTreeEngine.TreeInspection existing = entries.putIfAbsent(genotype, decoded);
+            return existing == null ? decoded : existing;
+        }
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
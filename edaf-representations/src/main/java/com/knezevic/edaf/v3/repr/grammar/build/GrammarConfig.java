@@ -37,6 +37,7 @@ public final class GrammarConfig {
     private final int bitsPerDecision;
     private final int bitsPerErc;
     private final int maxNodes;
+    private final int treeCacheSize;
 
     private GrammarConfig(String mode,
                           String file,
@@ -55,7 +56,8 @@ public final class GrammarConfig {
                           boolean booleanMode,
                           int bitsPerDecision,
                           int bitsPerErc,
-                          int maxNodes) {
+                          int maxNodes,
+                          int treeCacheSize) {
         this.mode = mode;
         this.file = file;
         this.variables = List.copyOf(variables);
@@ -74,6 +76,7 @@ public final class GrammarConfig {
         this.bitsPerDecision = bitsPerDecision;
         this.bitsPerErc = bitsPerErc;
         this.maxNodes = maxNodes;
+        this.treeCacheSize = treeCacheSize;
     }
 
     /**
@@ -131,6 +134,7 @@ public final class GrammarConfig {
         int bitsPerErc = Math.max(4, Params.integer(source, "bits_per_erc", 16));
         int maxNodes = Math.max(4, Params.integer(source, "max_nodes", 2048));
         String ercDistribution = Params.str(source, "ephemeral_distribution", "uniform");
+        int treeCacheSize = Math.max(0, Params.integer(source, "tree_cache_size", 4096));
 
         return new GrammarConfig(
                 mode,
@@ -150,7 +154,8 @@ public final class GrammarConfig {
                 booleanMode,
                 bitsPerDecision,
                 bitsPerErc,
-                maxNodes
+                maxNodes,
+                treeCacheSize
         );
     }
 
@@ -369,4 +374,13 @@ public final class GrammarConfig {
     public int maxNodes() {
         return maxNodes;
     }
+
+    /**
+     * Maximum number of decoded genotypes kept by the tree engine cache; {@code 0} disables caching.
+     *
+     * @return the computed tree cache size
+     */
+    public int treeCacheSize() {
+        return treeCacheSize;
+    }
 }
@@ -5,6 +5,8 @@
 
 package com.knezevic.edaf.v3.repr.grammar.encoding;
 
+import com.knezevic.edaf.v3.repr.types.BitString;
+
 /**
  * Cyclic bit reader used for deterministic genotype decoding.
  * @author Karlo Knezevic
@@ -12,11 +14,13 @@ package com.knezevic.edaf.v3.repr.grammar.encoding;
  */
 final class BitCursor {
 
-    private final boolean[] bits;
+    private final BitString bits;
+    private final int length;
     private int offset;
 
-    BitCursor(boolean[] bits) {
-        this.bits = bits == null ? new boolean[0] : bits;
+    BitCursor(BitString bits) {
+        this.bits = bits;
+        this.length = bits == null ? 0 : bits.length();
         this.offset = 0;
     }
 
@@ -24,7 +28,7 @@ final class BitCursor {
         if (width <= 0) {
             return 0;
         }
-        if (bits.length == 0) {
+        if (length == 0) {
             return 0;
         }
 
@@ -43,7 +47,7 @@ final class BitCursor {
     }
 
     private boolean nextBit() {
-        boolean value = bits[offset % bits.length];
+        boolean value = bits.get(offset % length);
         offset++;
         return value;
     }
@@ -50,7 +50,7 @@ public final class GrammarDecisionCodec {
             throw new IllegalArgumentException("encoding must not be null");
         }
 
-        BitCursor cursor = new BitCursor(genotype.genes());
+        BitCursor cursor = new BitCursor(genotype);
         MutableNode root = MutableNode.nonTerminal(grammar.startSymbol(), 0);
 
         Deque<MutableNode> queue = new ArrayDeque<>();
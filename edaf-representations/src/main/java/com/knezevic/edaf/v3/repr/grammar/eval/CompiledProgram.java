@@ -0,0 +1,424 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.grammar.eval;
+
+import com.knezevic.edaf.v3.repr.grammar.model.BooleanConstantTerminal;
+import com.knezevic.edaf.v3.repr.grammar.model.ConstantTerminal;
+import com.knezevic.edaf.v3.repr.grammar.model.DerivationTree;
+import com.knezevic.edaf.v3.repr.grammar.model.EphemeralConstantTerminal;
+import com.knezevic.edaf.v3.repr.grammar.model.OperatorTerminal;
+import com.knezevic.edaf.v3.repr.grammar.model.Terminal;
+import com.knezevic.edaf.v3.repr.grammar.model.VariableTerminal;
+import com.knezevic.edaf.v3.repr.grammar.ops.OperatorDefinition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Derivation tree compiled to a flat postfix stack program over primitive column batches.
+ *
+ * <p>Each instruction processes a whole batch of up to {@link #BATCH_SIZE} dataset rows before
+ * the next instruction runs, so operators execute as tight loops over {@code double[]}
+ * registers instead of recursing per row and boxing arguments. Semantics match
+ * {@link TreeEvaluator}: terminal loads and operator results are sanitized identically and
+ * operators run through the same primitive kernels.</p>
+ *
+ * <p>Instances are immutable and thread-safe; register scratch space is kept per thread.</p>
+ * @author Karlo Knezevic
+ * @version EDAF 3.0.0
+ */
+public final class CompiledProgram {
+
+    /**
+     * Number of rows processed per instruction sweep.
+     */
+    public static final int BATCH_SIZE = 256;
+
+    private static final byte LOAD_VAR = 0;
+    private static final byte LOAD_CONST = 1;
+    private static final byte ADD = 2;
+    private static final byte SUB = 3;
+    private static final byte MUL = 4;
+    private static final byte MIN = 5;
+    private static final byte MAX = 6;
+    private static final byte NEG = 7;
+    private static final byte ABS = 8;
+    private static final byte KERNEL_1 = 9;
+    private static final byte KERNEL_2 = 10;
+    private static final byte KERNEL_3 = 11;
+    private static final byte BOXED = 12;
+
+    private static final ThreadLocal<double[][]> SCRATCH = ThreadLocal.withInitial(() -> new double[0][]);
+
+    private final byte[] opcodes;
+    private final int[] operands;
+    private final double[] constants;
+    private final OperatorDefinition[] operators;
+    private final List<String> variables;
+    private final int maxStackDepth;
+
+    private CompiledProgram(byte[] opcodes,
+                            int[] operands,
+                            double[] constants,
+                            OperatorDefinition[] operators,
+                            List<String> variables,
+                            int maxStackDepth) {
+        this.opcodes = opcodes;
+        this.operands = operands;
+        this.constants = constants;
+        this.operators = operators;
+        this.variables = variables;
+        this.maxStackDepth = maxStackDepth;
+    }
+
+    /**
+     * Compiles a derivation tree into postfix form.
+     * @param tree derivation tree
+     * @return compiled program
+     */
+    public static CompiledProgram compile(DerivationTree tree) {
+        Compiler compiler = new Compiler();
+        if (tree == null) {
+            compiler.emitConstant(0.0);
+        } else {
+            compiler.emit(tree);
+        }
+        return compiler.build();
+    }
+
+    /**
+     * Variable names referenced by the program; column arrays are bound in this order.
+     * @return variable names
+     */
+    public List<String> variables() {
+        return variables;
+    }
+
+    /**
+     * Number of postfix instructions.
+     * @return instruction count
+     */
+    public int instructionCount() {
+        return opcodes.length;
+    }
+
+    /**
+     * Maximum operand stack depth reached during evaluation.
+     * @return stack depth
+     */
+    public int maxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * Resolves named columns into the slot order expected by {@link #evaluate(double[][], int, double[])}.
+     *
+     * <p>Variables without a column are bound to {@code null}, which reads as zero just like a
+     * missing variable in {@link EvaluationContext}.</p>
+     * @param columnsByName column arrays keyed by variable name
+     * @return column arrays aligned with {@link #variables()}
+     */
+    public double[][] bind(Map<String, double[]> columnsByName) {
+        double[][] bound = new double[variables.size()][];
+        for (int i = 0; i < bound.length; i++) {
+            bound[i] = columnsByName.get(variables.get(i));
+        }
+        return bound;
+    }
+
+    /**
+     * Evaluates program for every row of a columnar dataset.
+     * @param columns column arrays aligned with {@link #variables()}
+     * @param rows row count
+     * @param out destination buffer of at least {@code rows} entries
+     */
+    public void evaluate(double[][] columns, int rows, double[] out) {
+        evaluate(columns, 0, rows, out);
+    }
+
+    /**
+     * Evaluates program for a contiguous row range of a columnar dataset.
+     *
+     * <p>Callers scoring many programs on one dataset can walk the dataset in blocks of
+     * {@link #BATCH_SIZE} rows and run every program on a block while its column slices are
+     * still in cache.</p>
+     * @param columns column arrays aligned with {@link #variables()}
+     * @param from first row
+     * @param rows number of rows
+     * @param out destination; {@code out[i]} receives row {@code from + i}
+     */
+    public void evaluate(double[][] columns, int from, int rows, double[] out) {
+        double[][] registers = registers();
+        int end = from + rows;
+        for (int start = from; start < end; start += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, end - start);
+            int sp = 0;
+            for (int pc = 0; pc < opcodes.length; pc++) {
+                switch (opcodes[pc]) {
+                    case LOAD_VAR -> {
+                        double[] target = registers[sp++];
+                        double[] column = columns[operands[pc]];
+                        if (column == null) {
+                            Arrays.fill(target, 0, n, 0.0);
+                        } else {
+                            for (int i = 0; i < n; i++) {
+                                target[i] = TreeEvaluator.sanitize(column[start + i]);
+                            }
+                        }
+                    }
+                    case LOAD_CONST -> Arrays.fill(registers[sp++], 0, n, constants[operands[pc]]);
+                    case ADD -> {
+                        double[] a = registers[sp - 2];
+                        double[] b = registers[--sp];
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(a[i] + b[i]);
+                        }
+                    }
+                    case SUB -> {
+                        double[] a = registers[sp - 2];
+                        double[] b = registers[--sp];
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(a[i] - b[i]);
+                        }
+                    }
+                    case MUL -> {
+                        double[] a = registers[sp - 2];
+                        double[] b = registers[--sp];
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(a[i] * b[i]);
+                        }
+                    }
+                    case MIN -> {
+                        double[] a = registers[sp - 2];
+                        double[] b = registers[--sp];
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(Math.min(a[i], b[i]));
+                        }
+                    }
+                    case MAX -> {
+                        double[] a = registers[sp - 2];
+                        double[] b = registers[--sp];
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(Math.max(a[i], b[i]));
+                        }
+                    }
+                    case NEG -> {
+                        double[] a = registers[sp - 1];
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(-a[i]);
+                        }
+                    }
+                    case ABS -> {
+                        double[] a = registers[sp - 1];
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(Math.abs(a[i]));
+                        }
+                    }
+                    case KERNEL_1 -> {
+                        OperatorDefinition.Kernel kernel = operators[operands[pc]].kernel();
+                        double[] a = registers[sp - 1];
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(kernel.apply(a[i], 0.0, 0.0));
+                        }
+                    }
+                    case KERNEL_2 -> {
+                        OperatorDefinition.Kernel kernel = operators[operands[pc]].kernel();
+                        double[] a = registers[sp - 2];
+                        double[] b = registers[--sp];
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(kernel.apply(a[i], b[i], 0.0));
+                        }
+                    }
+                    case KERNEL_3 -> {
+                        OperatorDefinition.Kernel kernel = operators[operands[pc]].kernel();
+                        double[] a = registers[sp - 3];
+                        double[] b = registers[sp - 2];
+                        double[] c = registers[sp - 1];
+                        sp -= 2;
+                        for (int i = 0; i < n; i++) {
+                            a[i] = TreeEvaluator.sanitize(kernel.apply(a[i], b[i], c[i]));
+                        }
+                    }
+                    case BOXED -> {
+                        OperatorDefinition operator = operators[operands[pc]];
+                        int arity = operator.arity();
+                        int base = sp - arity;
+                        List<Double> args = new ArrayList<>(arity);
+                        for (int i = 0; i < n; i++) {
+                            args.clear();
+                            for (int k = 0; k < arity; k++) {
+                                args.add(registers[base + k][i]);
+                            }
+                            registers[base][i] = TreeEvaluator.sanitize(operator.evaluate(args));
+                        }
+                        sp = base + 1;
+                    }
+                    default -> throw new IllegalStateException("Unknown opcode " + opcodes[pc]);
+                }
+            }
+            System.arraycopy(registers[0], 0, out, start - from, n);
+        }
+    }
+
+    /**
+     * Evaluates program for every row of a columnar dataset into a fresh array.
+     * @param columns column arrays aligned with {@link #variables()}
+     * @param rows row count
+     * @return one prediction per row
+     */
+    public double[] evaluate(double[][] columns, int rows) {
+        double[] out = new double[rows];
+        evaluate(columns, rows, out);
+        return out;
+    }
+
+    private double[][] registers() {
+        double[][] registers = SCRATCH.get();
+        if (registers.length < maxStackDepth) {
+            registers = new double[maxStackDepth][BATCH_SIZE];
+            SCRATCH.set(registers);
+        }
+        return registers;
+    }
+
+    private static final class Compiler {
+        private final List<Byte> opcodes = new ArrayList<>();
+        private final List<Integer> operands = new ArrayList<>();
+        private final List<Double> constants = new ArrayList<>();
+        private final List<OperatorDefinition> operators = new ArrayList<>();
+        private final Map<String, Integer> variableSlots = new LinkedHashMap<>();
+        private int depth;
+        private int maxDepth;
+
+        void emit(DerivationTree node) {
+            if (node instanceof DerivationTree.TerminalNode terminalNode) {
+                emitTerminal(terminalNode);
+                return;
+            }
+
+            DerivationTree.RuleNode ruleNode = (DerivationTree.RuleNode) node;
+            OperatorTerminal operatorTerminal = ruleNode.productionRule().operator();
+            List<DerivationTree> children = ruleNode.children();
+            if (operatorTerminal == null) {
+                // Alias-like rules pass through their first child, exactly as TreeEvaluator does.
+                if (children.isEmpty()) {
+                    emitConstant(0.0);
+                } else {
+                    emit(children.getFirst());
+                }
+                return;
+            }
+
+            OperatorDefinition operator = operatorTerminal.operator();
+            if (children.size() != operator.arity()) {
+                throw new IllegalArgumentException("Operator '" + operator.name() + "' expects "
+                        + operator.arity() + " args");
+            }
+            for (DerivationTree child : children) {
+                emit(child);
+            }
+            emitOperator(operator);
+        }
+
+        private void emitTerminal(DerivationTree.TerminalNode terminalNode) {
+            Terminal terminal = terminalNode.terminal();
+            if (terminal instanceof VariableTerminal variable) {
+                int slot = variableSlots.computeIfAbsent(variable.variableName(), ignored -> variableSlots.size());
+                push(LOAD_VAR, slot);
+            } else if (terminal instanceof ConstantTerminal constant) {
+                emitConstant(TreeEvaluator.sanitize(constant.value()));
+            } else if (terminal instanceof EphemeralConstantTerminal erc) {
+                double sampled = terminalNode.sampledValue() == null
+                        ? (erc.min() + erc.max()) * 0.5
+                        : terminalNode.sampledValue();
+                emitConstant(TreeEvaluator.sanitize(sampled));
+            } else if (terminal instanceof BooleanConstantTerminal boolConstant) {
+                emitConstant(boolConstant.value() ? 1.0 : 0.0);
+            } else {
+                emitConstant(0.0);
+            }
+        }
+
+        void emitConstant(double value) {
+            constants.add(value);
+            push(LOAD_CONST, constants.size() - 1);
+        }
+
+        private void emitOperator(OperatorDefinition operator) {
+            int arity = operator.arity();
+            byte opcode = specialized(operator);
+            int operand = 0;
+            if (opcode < 0) {
+                operators.add(operator);
+                operand = operators.size() - 1;
+                if (operator.kernel() == null || arity > 3) {
+                    opcode = BOXED;
+                } else {
+                    opcode = arity == 1 ? KERNEL_1 : (arity == 2 ? KERNEL_2 : KERNEL_3);
+                }
+            }
+            opcodes.add(opcode);
+            operands.add(operand);
+            depth -= arity - 1;
+        }
+
+        private static byte specialized(OperatorDefinition operator) {
+            // only registry defaults are known to match the inlined opcode; custom operators may reuse a name
+            if (!operator.builtin() || operator.kernel() == null) {
+                return -1;
+            }
+            if (operator.arity() == 2) {
+                return switch (operator.name()) {
+                    case "+" -> ADD;
+                    case "-" -> SUB;
+                    case "*" -> MUL;
+                    case "min" -> MIN;
+                    case "max" -> MAX;
+                    default -> -1;
+                };
+            }
+            if (operator.arity() == 1) {
+                return switch (operator.name()) {
+                    case "neg" -> NEG;
+                    case "abs" -> ABS;
+                    default -> -1;
+                };
+            }
+            return -1;
+        }
+
+        private void push(byte opcode, int operand) {
+            opcodes.add(opcode);
+            operands.add(operand);
+            depth++;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        CompiledProgram build() {
+            byte[] code = new byte[opcodes.size()];
+            int[] args = new int[operands.size()];
+            for (int i = 0; i < code.length; i++) {
+                code[i] = opcodes.get(i);
+                args[i] = operands.get(i);
+            }
+            double[] values = new double[constants.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = constants.get(i);
+            }
+            return new CompiledProgram(
+                    code,
+                    args,
+                    values,
+                    operators.toArray(OperatorDefinition[]::new),
+                    List.copyOf(variableSlots.keySet()),
+                    Math.max(1, maxDepth)
+            );
+        }
+    }
+}
@@ -103,7 +103,7 @@ public final class TreeEvaluator {
         return 0.0;
     }
 
-    private static double sanitize(double value) {
+    static double sanitize(double value) {
         if (!Double.isFinite(value)) {
             return 0.0;
         }
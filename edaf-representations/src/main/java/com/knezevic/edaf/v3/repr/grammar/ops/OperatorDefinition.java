@@ -23,6 +23,22 @@ public final class OperatorDefinition {
     private final OperatorKind kind;
     private final TypeSignature typeSignature;
     private final Function<List<Double>, Double> evaluator;
+    private final Kernel kernel;
+    private final boolean builtin;
+
+    /**
+     * Creates one operator definition backed by a primitive kernel.
+     *
+     * <p>The boxed {@link #evaluate(List)} path delegates to the same kernel, so tree-walking
+     * and compiled evaluation produce bit-identical results.</p>
+     */
+    public OperatorDefinition(String name,
+                              int arity,
+                              OperatorKind kind,
+                              TypeSignature typeSignature,
+                              Kernel kernel) {
+        this(name, arity, kind, typeSignature, boxed(kernel), kernel, false);
+    }
 
     /**
      * Creates one operator definition.
@@ -32,6 +48,16 @@ public final class OperatorDefinition {
                               OperatorKind kind,
                               TypeSignature typeSignature,
                               Function<List<Double>, Double> evaluator) {
+        this(name, arity, kind, typeSignature, evaluator, null, false);
+    }
+
+    private OperatorDefinition(String name,
+                               int arity,
+                               OperatorKind kind,
+                               TypeSignature typeSignature,
+                               Function<List<Double>, Double> evaluator,
+                               Kernel kernel,
+                               boolean builtin) {
         if (name == null || name.isBlank()) {
             throw new IllegalArgumentException("Operator name must not be blank");
         }
@@ -48,6 +74,20 @@ public final class OperatorDefinition {
         if (this.evaluator == null) {
             throw new IllegalArgumentException("Operator evaluator must not be null");
         }
+        this.kernel = kernel;
+        this.builtin = builtin;
+    }
+
+    /**
+     * Creates one of the registry's default operators, whose semantics the compiled evaluator may
+     * inline by name.
+     */
+    static OperatorDefinition builtin(String name,
+                                      int arity,
+                                      OperatorKind kind,
+                                      TypeSignature typeSignature,
+                                      Kernel kernel) {
+        return new OperatorDefinition(name, arity, kind, typeSignature, boxed(kernel), kernel, true);
     }
 
     /**
@@ -93,4 +133,51 @@ public final class OperatorDefinition {
         }
         return evaluator.apply(args);
     }
+
+    /**
+     * Primitive kernel, or {@code null} when the operator only provides a boxed evaluator.
+     * @return the kernel
+     */
+    public Kernel kernel() {
+        return kernel;
+    }
+
+    /**
+     * Whether this is a default {@link OperatorRegistry} operator. User-defined operators are never
+     * built in, even when they reuse a default name.
+     * @return true for registry defaults
+     */
+    public boolean builtin() {
+        return builtin;
+    }
+
+    private static Function<List<Double>, Double> boxed(Kernel kernel) {
+        if (kernel == null) {
+            return null;
+        }
+        return args -> kernel.apply(
+                args.size() > 0 ? args.get(0) : 0.0,
+                args.size() > 1 ? args.get(1) : 0.0,
+                args.size() > 2 ? args.get(2) : 0.0
+        );
+    }
+
+    /**
+     * Allocation-free operator body over up to three primitive arguments.
+     *
+     * <p>Arguments beyond the operator arity are passed as zero and must be ignored.</p>
+     * @author Karlo Knezevic
+     * @version EDAF 3.0.0
+     */
+    @FunctionalInterface
+    public interface Kernel {
+        /**
+         * Applies operator to primitive arguments.
+         * @param a first argument
+         * @param b second argument
+         * @param c third argument
+         * @return operator result
+         */
+        double apply(double a, double b, double c);
+    }
 }
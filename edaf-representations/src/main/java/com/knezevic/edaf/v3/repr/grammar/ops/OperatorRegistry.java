@@ -74,57 +74,57 @@ public final class OperatorRegistry {
 
         // Real-valued binary operators.
         register(map, op("+", 2, OperatorKind.REAL_BINARY, ValueType.REAL,
-                args -> args.get(0) + args.get(1)));
+                (a, b, c) -> a + b));
         register(map, op("-", 2, OperatorKind.REAL_BINARY, ValueType.REAL,
-                args -> args.get(0) - args.get(1)));
+                (a, b, c) -> a - b));
         register(map, op("*", 2, OperatorKind.REAL_BINARY, ValueType.REAL,
-                args -> args.get(0) * args.get(1)));
+                (a, b, c) -> a * b));
         register(map, op("/", 2, OperatorKind.REAL_BINARY, ValueType.REAL,
-                args -> protectedDivision(args.get(0), args.get(1))));
+                (a, b, c) -> protectedDivision(a, b)));
         register(map, op("pow", 2, OperatorKind.REAL_BINARY, ValueType.REAL,
-                args -> protectedPow(args.get(0), args.get(1))));
+                (a, b, c) -> protectedPow(a, b)));
         register(map, op("min", 2, OperatorKind.REAL_BINARY, ValueType.REAL,
-                args -> Math.min(args.get(0), args.get(1))));
+                (a, b, c) -> Math.min(a, b)));
         register(map, op("max", 2, OperatorKind.REAL_BINARY, ValueType.REAL,
-                args -> Math.max(args.get(0), args.get(1))));
+                (a, b, c) -> Math.max(a, b)));
 
         // Real-valued unary operators.
         register(map, op("sin", 1, OperatorKind.REAL_UNARY, ValueType.REAL,
-                args -> Math.sin(args.get(0))));
+                (a, b, c) -> Math.sin(a)));
         register(map, op("cos", 1, OperatorKind.REAL_UNARY, ValueType.REAL,
-                args -> Math.cos(args.get(0))));
+                (a, b, c) -> Math.cos(a)));
         register(map, op("tan", 1, OperatorKind.REAL_UNARY, ValueType.REAL,
-                args -> Math.tan(args.get(0))));
+                (a, b, c) -> Math.tan(a)));
         register(map, op("exp", 1, OperatorKind.REAL_UNARY, ValueType.REAL,
-                args -> clamp(Math.exp(clamp(args.get(0), -40.0, 40.0)), -1.0e12, 1.0e12)));
+                (a, b, c) -> clamp(Math.exp(clamp(a, -40.0, 40.0)), -1.0e12, 1.0e12)));
         register(map, op("log", 1, OperatorKind.REAL_UNARY, ValueType.REAL,
-                args -> protectedLog(args.get(0))));
+                (a, b, c) -> protectedLog(a)));
         register(map, op("sqrt", 1, OperatorKind.REAL_UNARY, ValueType.REAL,
-                args -> protectedSqrt(args.get(0))));
+                (a, b, c) -> protectedSqrt(a)));
         register(map, op("abs", 1, OperatorKind.REAL_UNARY, ValueType.REAL,
-                args -> Math.abs(args.get(0))));
+                (a, b, c) -> Math.abs(a)));
         register(map, op("neg", 1, OperatorKind.REAL_UNARY, ValueType.REAL,
-                args -> -args.get(0)));
+                (a, b, c) -> -a));
 
         // Ternary real operator.
         register(map, op("if_then_else", 3, OperatorKind.REAL_TERNARY, ValueType.REAL,
-                args -> truthy(args.get(0)) ? args.get(1) : args.get(2)));
+                (a, b, c) -> truthy(a) ? b : c));
 
         // Boolean operators (encoded as 1.0 true / 0.0 false for evaluator interoperability).
         register(map, op("and", 2, OperatorKind.BOOLEAN_BINARY, ValueType.BOOL,
-                args -> bool(truthy(args.get(0)) && truthy(args.get(1)))));
+                (a, b, c) -> bool(truthy(a) && truthy(b))));
         register(map, op("or", 2, OperatorKind.BOOLEAN_BINARY, ValueType.BOOL,
-                args -> bool(truthy(args.get(0)) || truthy(args.get(1)))));
+                (a, b, c) -> bool(truthy(a) || truthy(b))));
         register(map, op("xor", 2, OperatorKind.BOOLEAN_BINARY, ValueType.BOOL,
-                args -> bool(truthy(args.get(0)) ^ truthy(args.get(1)))));
+                (a, b, c) -> bool(truthy(a) ^ truthy(b))));
         register(map, op("not", 1, OperatorKind.BOOLEAN_UNARY, ValueType.BOOL,
-                args -> bool(!truthy(args.get(0)))));
+                (a, b, c) -> bool(!truthy(a))));
         register(map, op("nand", 2, OperatorKind.BOOLEAN_BINARY, ValueType.BOOL,
-                args -> bool(!(truthy(args.get(0)) && truthy(args.get(1))))));
+                (a, b, c) -> bool(!(truthy(a) && truthy(b)))));
         register(map, op("nor", 2, OperatorKind.BOOLEAN_BINARY, ValueType.BOOL,
-                args -> bool(!(truthy(args.get(0)) || truthy(args.get(1))))));
+                (a, b, c) -> bool(!(truthy(a) || truthy(b)))));
         register(map, op("if", 3, OperatorKind.BOOLEAN_TERNARY, ValueType.BOOL,
-                args -> bool(truthy(args.get(0)) ? truthy(args.get(1)) : truthy(args.get(2)))));
+                (a, b, c) -> bool(truthy(a) ? truthy(b) : truthy(c))));
 
         return map;
     }
@@ -133,12 +133,12 @@ public final class OperatorRegistry {
                                          int arity,
                                          OperatorKind kind,
                                          ValueType output,
-                                         java.util.function.Function<List<Double>, Double> evaluator) {
+                                         OperatorDefinition.Kernel kernel) {
         List<ValueType> input = new ArrayList<>(arity);
         for (int i = 0; i < arity; i++) {
             input.add(ValueType.ANY);
         }
-        return new OperatorDefinition(name, arity, kind, new TypeSignature(output, input), evaluator);
+        return OperatorDefinition.builtin(name, arity, kind, new TypeSignature(output, input), kernel);
     }
 
     private static void register(Map<String, OperatorDefinition> map, OperatorDefinition definition) {
@@ -7,6 +7,7 @@ package com.knezevic.edaf.v3.repr.impl;
 
 import com.knezevic.edaf.v3.core.api.Representation;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
 import com.knezevic.edaf.v3.repr.types.CategoricalVector;
 
 import java.util.Arrays;
@@ -105,6 +106,23 @@ public final class CategoricalVectorRepresentation implements Representation<Cat
         return new CategoricalVector(repaired);
     }
 
+    /**
+     * Feeds the primitive genotype contents into a fingerprint hasher.
+     *
+     * @param genotype genotype to digest
+     * @param hasher hasher receiving the contents
+     * @return true
+     */
+    @Override
+    public boolean hashContents(CategoricalVector genotype, GenotypeHasher hasher) {
+        String[] categories = genotype.categories();
+        hasher.putLong(categories.length);
+        for (String category : categories) {
+            hasher.putString(category);
+        }
+        return true;
+    }
+
     /**
      * Returns compact value summary.
      *
@@ -6,7 +6,10 @@
 package com.knezevic.edaf.v3.repr.impl;
 
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
+import com.knezevic.edaf.v3.repr.batch.BitStringBatch;
 import com.knezevic.edaf.v3.repr.grammar.GrammarTreeEngine;
 import com.knezevic.edaf.v3.repr.types.BitString;
 
@@ -53,11 +56,11 @@ public final class GrammarBitStringRepresentation implements Representation<BitS
      */
     @Override
     public BitString random(RngStream rng) {
-        boolean[] genes = new boolean[length];
-        for (int i = 0; i < genes.length; i++) {
-            genes[i] = rng.nextDouble() < 0.5;
+        BitString.Builder genes = BitString.builder(length);
+        for (int i = 0; i < length; i++) {
+            genes.set(i, rng.nextDouble() < 0.5);
         }
-        return new BitString(genes);
+        return genes.build();
     }
 
     /**
@@ -82,7 +85,50 @@ public final class GrammarBitStringRepresentation implements Representation<BitS
         if (genotype == null) {
             return new BitString(new boolean[length]);
         }
-        return new BitString(Arrays.copyOf(genotype.genes(), length));
+        if (genotype.length() == length) {
+            return genotype;
+        }
+        return BitString.fromWords(Arrays.copyOf(genotype.words(), BitString.wordCount(length)), length);
+    }
+
+    /**
+     * Creates a packed-word sample batch.
+     *
+     * @param capacity initial number of samples
+     * @return empty bitstring batch
+     */
+    @Override
+    public SampleBatch<BitString> newSampleBatch(int capacity) {
+        return new BitStringBatch(length, capacity);
+    }
+
+    /**
+     * Repairs batch samples; packed rows already have the representation length.
+     *
+     * @param batch batch to repair
+     */
+    @Override
+    public void repairBatch(SampleBatch<BitString> batch) {
+        if (batch instanceof BitStringBatch packed && packed.length() == length) {
+            return;
+        }
+        Representation.super.repairBatch(batch);
+    }
+
+    /**
+     * Feeds the primitive genotype contents into a fingerprint hasher.
+     *
+     * @param genotype genotype to digest
+     * @param hasher hasher receiving the contents
+     * @return true
+     */
+    @Override
+    public boolean hashContents(BitString genotype, GenotypeHasher hasher) {
+        hasher.putLong(genotype.length());
+        for (int w = 0; w < genotype.wordCount(); w++) {
+            hasher.putLong(genotype.word(w));
+        }
+        return true;
     }
 
     /**
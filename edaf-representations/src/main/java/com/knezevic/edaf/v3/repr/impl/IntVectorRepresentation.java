@@ -7,6 +7,7 @@ package com.knezevic.edaf.v3.repr.impl;
 
 import com.knezevic.edaf.v3.core.api.Representation;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
 import com.knezevic.edaf.v3.repr.types.IntVector;
 
 import java.util.Arrays;
@@ -104,6 +105,19 @@ public final class IntVectorRepresentation implements Representation<IntVector>
         return new IntVector(repaired);
     }
 
+    /**
+     * Feeds the primitive genotype contents into a fingerprint hasher.
+     *
+     * @param genotype genotype to digest
+     * @param hasher hasher receiving the contents
+     * @return true
+     */
+    @Override
+    public boolean hashContents(IntVector genotype, GenotypeHasher hasher) {
+        hasher.putInts(genotype.values());
+        return true;
+    }
+
     /**
      * Returns compact value summary.
      *
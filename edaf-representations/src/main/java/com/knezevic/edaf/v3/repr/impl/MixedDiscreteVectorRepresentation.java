@@ -7,6 +7,7 @@ package com.knezevic.edaf.v3.repr.impl;
 
 import com.knezevic.edaf.v3.core.api.Representation;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
 import com.knezevic.edaf.v3.repr.types.MixedDiscreteVector;
 
 import java.util.Arrays;
@@ -99,6 +100,19 @@ public final class MixedDiscreteVectorRepresentation implements Representation<M
         return new MixedDiscreteVector(repaired);
     }
 
+    /**
+     * Feeds the primitive genotype contents into a fingerprint hasher.
+     *
+     * @param genotype genotype to digest
+     * @param hasher hasher receiving the contents
+     * @return true
+     */
+    @Override
+    public boolean hashContents(MixedDiscreteVector genotype, GenotypeHasher hasher) {
+        hasher.putInts(genotype.encodedValues());
+        return true;
+    }
+
     /**
      * Returns compact value summary.
      *
@@ -7,6 +7,7 @@ package com.knezevic.edaf.v3.repr.impl;
 
 import com.knezevic.edaf.v3.core.api.Representation;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
 import com.knezevic.edaf.v3.repr.types.MixedRealDiscreteVector;
 
 import java.util.Arrays;
@@ -127,6 +128,20 @@ public final class MixedRealDiscreteVectorRepresentation implements Representati
         return new MixedRealDiscreteVector(repairedReal, repairedDiscrete);
     }
 
+    /**
+     * Feeds the primitive genotype contents into a fingerprint hasher.
+     *
+     * @param genotype genotype to digest
+     * @param hasher hasher receiving the contents
+     * @return true
+     */
+    @Override
+    public boolean hashContents(MixedRealDiscreteVector genotype, GenotypeHasher hasher) {
+        hasher.putDoubles(genotype.realPart());
+        hasher.putInts(genotype.discretePart());
+        return true;
+    }
+
     /**
      * Returns compact value summary.
      *
@@ -6,7 +6,10 @@
 package com.knezevic.edaf.v3.repr.impl;
 
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
+import com.knezevic.edaf.v3.repr.batch.PermutationBatch;
 import com.knezevic.edaf.v3.repr.types.PermutationVector;
 
 import java.util.Arrays;
@@ -103,6 +106,48 @@ public final class PermutationVectorRepresentation implements Representation<Per
         return new PermutationVector(identity);
     }
 
+    /**
+     * Creates a flat row-major sample batch.
+     *
+     * @param capacity initial number of samples
+     * @return empty permutation batch
+     */
+    @Override
+    public SampleBatch<PermutationVector> newSampleBatch(int capacity) {
+        return new PermutationBatch(size, capacity);
+    }
+
+    /**
+     * Validates batch rows in place and resets invalid ones to the identity permutation.
+     *
+     * @param batch batch to repair
+     */
+    @Override
+    public void repairBatch(SampleBatch<PermutationVector> batch) {
+        if (batch instanceof PermutationBatch flat && flat.length() == size) {
+            for (int i = 0; i < flat.size(); i++) {
+                if (!flat.isPermutation(i)) {
+                    flat.setIdentity(i);
+                }
+            }
+            return;
+        }
+        Representation.super.repairBatch(batch);
+    }
+
+    /**
+     * Feeds the primitive genotype contents into a fingerprint hasher.
+     *
+     * @param genotype genotype to digest
+     * @param hasher hasher receiving the contents
+     * @return true
+     */
+    @Override
+    public boolean hashContents(PermutationVector genotype, GenotypeHasher hasher) {
+        hasher.putInts(genotype.order());
+        return true;
+    }
+
     /**
      * Returns compact value summary.
      *
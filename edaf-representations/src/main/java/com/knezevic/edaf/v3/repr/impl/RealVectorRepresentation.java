@@ -6,7 +6,10 @@
 package com.knezevic.edaf.v3.repr.impl;
 
 import com.knezevic.edaf.v3.core.api.Representation;
+import com.knezevic.edaf.v3.core.api.SampleBatch;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
+import com.knezevic.edaf.v3.repr.batch.RealVectorBatch;
 import com.knezevic.edaf.v3.repr.types.RealVector;
 
 import java.util.Arrays;
@@ -97,6 +100,9 @@ public final class RealVectorRepresentation implements Representation<RealVector
         if (genotype == null) {
             return new RealVector(new double[length]);
         }
+        if (isValid(genotype)) {
+            return genotype;
+        }
         double[] repaired = Arrays.copyOf(genotype.values(), length);
         for (int i = 0; i < repaired.length; i++) {
             repaired[i] = Math.max(lower, Math.min(upper, repaired[i]));
@@ -104,6 +110,44 @@ public final class RealVectorRepresentation implements Representation<RealVector
         return new RealVector(repaired);
     }
 
+    /**
+     * Creates a flat row-major sample batch.
+     *
+     * @param capacity initial number of samples
+     * @return empty real-vector batch
+     */
+    @Override
+    public SampleBatch<RealVector> newSampleBatch(int capacity) {
+        return new RealVectorBatch(length, capacity);
+    }
+
+    /**
+     * Clamps all batch samples into bounds in one pass over the flat buffer.
+     *
+     * @param batch batch to repair
+     */
+    @Override
+    public void repairBatch(SampleBatch<RealVector> batch) {
+        if (batch instanceof RealVectorBatch flat && flat.dimension() == length) {
+            flat.clamp(lower, upper);
+            return;
+        }
+        Representation.super.repairBatch(batch);
+    }
+
+    /**
+     * Feeds the primitive genotype contents into a fingerprint hasher.
+     *
+     * @param genotype genotype to digest
+     * @param hasher hasher receiving the contents
+     * @return true
+     */
+    @Override
+    public boolean hashContents(RealVector genotype, GenotypeHasher hasher) {
+        hasher.putDoubles(genotype.values());
+        return true;
+    }
+
     /**
      * Returns compact value summary.
      *
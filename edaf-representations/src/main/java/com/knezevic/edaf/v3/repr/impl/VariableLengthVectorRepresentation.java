@@ -7,6 +7,7 @@ package com.knezevic.edaf.v3.repr.impl;
 
 import com.knezevic.edaf.v3.core.api.Representation;
 import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.core.runtime.GenotypeHasher;
 import com.knezevic.edaf.v3.repr.types.VariableLengthVector;
 
 import java.util.ArrayList;
@@ -109,6 +110,22 @@ public final class VariableLengthVectorRepresentation implements Representation<
         return new VariableLengthVector<>(repaired);
     }
 
+    /**
+     * Feeds the primitive genotype contents into a fingerprint hasher.
+     *
+     * @param genotype genotype to digest
+     * @param hasher hasher receiving the contents
+     * @return true
+     */
+    @Override
+    public boolean hashContents(VariableLengthVector<Integer> genotype, GenotypeHasher hasher) {
+        hasher.putLong(genotype.size());
+        for (Integer value : genotype.values()) {
+            hasher.putLong(value == null ? Long.MIN_VALUE : value);
+        }
+        return true;
+    }
+
     /**
      * Returns compact value summary.
      *
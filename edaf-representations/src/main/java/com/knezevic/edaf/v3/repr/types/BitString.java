@@ -9,13 +9,83 @@ import java.util.Arrays;
 
 /**
  * Fixed-length binary vector genotype.
+ *
+ * <p>Bits are packed 64 per {@code long} word in little-endian bit order: bit {@code i}
+ * lives in word {@code i >>> 6} at position {@code i & 63}. Unused high bits of the last
+ * word are always zero, so word-level kernels (popcount, xor, and/andnot) can operate on
+ * full words without masking the tail.</p>
+ *
+ * <p>Instances are immutable. {@link #BitString(boolean[])} and {@link #fromWords(long[], int)}
+ * copy their input; {@link Builder#build()} hands its buffer over without copying.</p>
  * @author Karlo Knezevic
  * @version EDAF 3.0.0
  */
-public record BitString(boolean[] genes) {
+public final class BitString {
 
-    public BitString {
-        genes = Arrays.copyOf(genes, genes.length);
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = 63;
+
+    private final long[] words;
+    private final int length;
+
+    /**
+     * Creates a bitstring from an unpacked gene array.
+     *
+     * @param genes one boolean per bit
+     */
+    public BitString(boolean[] genes) {
+        this.length = genes.length;
+        this.words = new long[wordCount(genes.length)];
+        for (int i = 0; i < genes.length; i++) {
+            if (genes[i]) {
+                words[i >>> WORD_SHIFT] |= 1L << i;
+            }
+        }
+    }
+
+    private BitString(long[] words, int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    /**
+     * Creates a bitstring from packed words, copying the input array.
+     *
+     * @param words packed words; at least {@code wordCount(length)} entries
+     * @param length number of bits
+     * @return packed bitstring
+     */
+    public static BitString fromWords(long[] words, int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must be >= 0");
+        }
+        int count = wordCount(length);
+        if (words.length < count) {
+            throw new IllegalArgumentException("expected at least " + count + " words for " + length + " bits");
+        }
+        long[] copy = Arrays.copyOf(words, count);
+        clearTail(copy, length);
+        return new BitString(copy, length);
+    }
+
+    /**
+     * Returns the number of 64-bit words needed to hold {@code length} bits.
+     *
+     * @param length bit count
+     * @return word count
+     */
+    public static int wordCount(int length) {
+        return (length + WORD_MASK) >>> WORD_SHIFT;
+    }
+
+    /**
+     * Creates a mutable builder for a bitstring of the given length with all bits cleared.
+     *
+     * @param length number of bits
+     * @return builder
+     */
+    public static Builder builder(int length) {
+        return new Builder(length);
     }
 
     /**
@@ -24,7 +94,101 @@ public record BitString(boolean[] genes) {
      * @return the computed length
      */
     public int length() {
-        return genes.length;
+        return length;
+    }
+
+    /**
+     * Returns the number of packed words.
+     *
+     * @return word count
+     */
+    public int wordCount() {
+        return words.length;
+    }
+
+    /**
+     * Returns bit value at index.
+     *
+     * @param index bit index
+     * @return bit value
+     */
+    public boolean get(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("bit index " + index + " out of range [0, " + length + ")");
+        }
+        return (words[index >>> WORD_SHIFT] & (1L << index)) != 0L;
+    }
+
+    /**
+     * Returns packed word at index without copying.
+     *
+     * @param index word index
+     * @return packed 64-bit word
+     */
+    public long word(int index) {
+        return words[index];
+    }
+
+    /**
+     * Returns up to 64 bits starting at an arbitrary (unaligned) bit index.
+     *
+     * <p>Bit {@code fromIndex} lands in bit 0 of the result; positions past {@link #length()}
+     * read as zero.</p>
+     *
+     * @param fromIndex first bit index
+     * @return packed 64-bit window
+     */
+    public long bitsAt(int fromIndex) {
+        if (fromIndex < 0 || fromIndex > length) {
+            throw new IndexOutOfBoundsException("bit index " + fromIndex + " out of range [0, " + length + "]");
+        }
+        int w = fromIndex >>> WORD_SHIFT;
+        if (w >= words.length) {
+            return 0L;
+        }
+        int shift = fromIndex & WORD_MASK;
+        long low = words[w] >>> shift;
+        if (shift == 0 || w + 1 >= words.length) {
+            return low;
+        }
+        return low | (words[w + 1] << (Long.SIZE - shift));
+    }
+
+    /**
+     * Returns a copy of the packed words.
+     *
+     * @return packed words
+     */
+    public long[] words() {
+        return Arrays.copyOf(words, words.length);
+    }
+
+    /**
+     * Copies packed words into a caller-owned buffer.
+     *
+     * @param target destination buffer
+     * @param offset destination offset
+     */
+    public void copyWordsTo(long[] target, int offset) {
+        System.arraycopy(words, 0, target, offset, words.length);
+    }
+
+    /**
+     * Returns an unpacked copy of the bits, one boolean per bit.
+     *
+     * @return gene array
+     */
+    public boolean[] genes() {
+        boolean[] genes = new boolean[length];
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0L) {
+                int bit = Long.numberOfTrailingZeros(word);
+                genes[(w << WORD_SHIFT) + bit] = true;
+                word &= word - 1;
+            }
+        }
+        return genes;
     }
 
     /**
@@ -34,14 +198,45 @@ public record BitString(boolean[] genes) {
      */
     public int ones() {
         int count = 0;
-        for (boolean gene : genes) {
-            if (gene) {
-                count++;
-            }
+        for (long word : words) {
+            count += Long.bitCount(word);
         }
         return count;
     }
 
+    /**
+     * Returns number of positions where this bitstring differs from another of equal length.
+     *
+     * @param other other bitstring
+     * @return Hamming distance
+     */
+    public int hammingDistance(BitString other) {
+        if (other.length != length) {
+            throw new IllegalArgumentException("Bitstrings must have equal length");
+        }
+        int count = 0;
+        for (int w = 0; w < words.length; w++) {
+            count += Long.bitCount(words[w] ^ other.words[w]);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BitString other)) {
+            return false;
+        }
+        return length == other.length && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(words) + length;
+    }
+
     /**
      * Converts to string.
      *
@@ -49,10 +244,109 @@ public record BitString(boolean[] genes) {
      */
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder(genes.length);
-        for (boolean gene : genes) {
-            sb.append(gene ? '1' : '0');
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((words[i >>> WORD_SHIFT] & (1L << i)) != 0L ? '1' : '0');
         }
         return sb.toString();
     }
+
+    private static void clearTail(long[] words, int length) {
+        int tail = length & WORD_MASK;
+        if (tail != 0) {
+            words[words.length - 1] &= (1L << tail) - 1L;
+        }
+    }
+
+    /**
+     * Mutable packed bit buffer used to assemble a {@link BitString} without an extra copy.
+     *
+     * <p>{@link #build()} transfers ownership of the buffer to the produced bitstring; the
+     * builder must not be used afterwards.</p>
+     * @author Karlo Knezevic
+     * @version EDAF 3.0.0
+     */
+    public static final class Builder {
+        private long[] words;
+        private final int length;
+
+        private Builder(int length) {
+            if (length < 0) {
+                throw new IllegalArgumentException("length must be >= 0");
+            }
+            this.length = length;
+            this.words = new long[wordCount(length)];
+        }
+
+        /**
+         * Sets one bit.
+         *
+         * @param index bit index
+         * @param value bit value
+         * @return this builder
+         */
+        public Builder set(int index, boolean value) {
+            long mask = 1L << index;
+            if (value) {
+                buffer()[index >>> WORD_SHIFT] |= mask;
+            } else {
+                buffer()[index >>> WORD_SHIFT] &= ~mask;
+            }
+            return this;
+        }
+
+        /**
+         * Returns bit value at index.
+         *
+         * @param index bit index
+         * @return bit value
+         */
+        public boolean get(int index) {
+            return (buffer()[index >>> WORD_SHIFT] & (1L << index)) != 0L;
+        }
+
+        /**
+         * Replaces one packed word.
+         *
+         * @param index word index
+         * @param word packed word
+         * @return this builder
+         */
+        public Builder setWord(int index, long word) {
+            buffer()[index] = word;
+            return this;
+        }
+
+        /**
+         * Replaces all packed words from a source buffer region.
+         *
+         * @param source source buffer
+         * @param offset source offset
+         * @return this builder
+         */
+        public Builder setWords(long[] source, int offset) {
+            long[] target = buffer();
+            System.arraycopy(source, offset, target, 0, target.length);
+            return this;
+        }
+
+        /**
+         * Builds the bitstring, handing over the internal buffer.
+         *
+         * @return immutable bitstring
+         */
+        public BitString build() {
+            long[] target = buffer();
+            clearTail(target, length);
+            words = null;
+            return new BitString(target, length);
+        }
+
+        private long[] buffer() {
+            if (words == null) {
+                throw new IllegalStateException("Builder has already been consumed by build()");
+            }
+            return words;
+        }
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr;
+
+import com.knezevic.edaf.v3.repr.types.BitString;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Property test verifying packed bitstring storage round-trips across word boundaries.
+ */
+class BitStringPackingProperties {
+
+    @Property
+    void packedBitsMatchUnpackedGenes(@ForAll @IntRange(min = 0, max = 300) int length,
+                                      @ForAll @IntRange(min = 0, max = 1000) int seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        boolean[] genes = new boolean[length];
+        int ones = 0;
+        for (int i = 0; i < length; i++) {
+            genes[i] = random.nextBoolean();
+            ones += genes[i] ? 1 : 0;
+        }
+
+        BitString packed = new BitString(genes);
+        assertEquals(length, packed.length());
+        assertEquals(ones, packed.ones());
+        assertArrayEquals(genes, packed.genes());
+
+        BitString.Builder builder = BitString.builder(length);
+        for (int i = 0; i < length; i++) {
+            builder.set(i, genes[i]);
+        }
+        BitString built = builder.build();
+        assertEquals(packed, built);
+        assertEquals(packed, BitString.fromWords(packed.words(), length));
+
+        for (int from = 0; from < length; from += 17) {
+            long window = packed.bitsAt(from);
+            for (int b = 0; b < 64; b++) {
+                boolean expected = from + b < length && genes[from + b];
+                assertEquals(expected, ((window >>> b) & 1L) != 0L);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr;
+
+import com.knezevic.edaf.v3.core.api.SampleBatch;
+import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import com.knezevic.edaf.v3.repr.batch.PermutationBatch;
+import com.knezevic.edaf.v3.repr.impl.BitStringRepresentation;
+import com.knezevic.edaf.v3.repr.impl.PermutationVectorRepresentation;
+import com.knezevic.edaf.v3.repr.impl.RealVectorRepresentation;
+import com.knezevic.edaf.v3.repr.types.BitString;
+import com.knezevic.edaf.v3.repr.types.PermutationVector;
+import com.knezevic.edaf.v3.repr.types.RealVector;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property test verifying primitive sample batches round-trip genotypes and that batch repair
+ * matches per-genotype repair.
+ */
+class SampleBatchProperties {
+
+    @Property(tries = 50)
+    void realBatchRepairMatchesElementRepair(@ForAll @IntRange(min = 1, max = 12) int dimension,
+                                             @ForAll @IntRange(min = 0, max = 40) int count) {
+        RealVectorRepresentation representation = new RealVectorRepresentation(dimension, -1.0, 1.0);
+        RngStream rng = new RngManager(31L * dimension + count).stream("batch");
+        List<RealVector> raw = new ArrayList<>();
+        SampleBatch<RealVector> batch = representation.newSampleBatch(1);
+        batch.reset(count);
+        for (int i = 0; i < count; i++) {
+            double[] values = new double[dimension];
+            for (int d = 0; d < dimension; d++) {
+                values[d] = 3.0 * rng.nextGaussian();
+            }
+            raw.add(new RealVector(values));
+            batch.set(i, raw.get(i));
+        }
+
+        representation.repairBatch(batch);
+
+        for (int i = 0; i < count; i++) {
+            assertArrayEquals(representation.repair(raw.get(i)).values(), batch.get(i).values());
+        }
+    }
+
+    @Property(tries = 50)
+    void bitStringBatchRoundTripsAcrossWordBoundaries(@ForAll @IntRange(min = 1, max = 200) int length) {
+        BitStringRepresentation representation = new BitStringRepresentation(length);
+        RngStream rng = new RngManager(length).stream("batch");
+        SampleBatch<BitString> batch = representation.newSampleBatch(2);
+        List<BitString> expected = new ArrayList<>();
+        batch.reset(9);
+        for (int i = 0; i < 9; i++) {
+            expected.add(representation.random(rng));
+            batch.set(i, expected.get(i));
+        }
+        representation.repairBatch(batch);
+        assertEquals(expected, batch.toList());
+    }
+
+    @Property(tries = 50)
+    void permutationBatchRepairResetsOnlyInvalidRows(@ForAll @IntRange(min = 2, max = 30) int size) {
+        PermutationVectorRepresentation representation = new PermutationVectorRepresentation(size);
+        RngStream rng = new RngManager(size).stream("batch");
+        PermutationBatch batch = (PermutationBatch) representation.newSampleBatch(4);
+        batch.reset(6);
+        List<PermutationVector> valid = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            valid.add(representation.random(rng));
+            batch.set(i, valid.get(i));
+        }
+        int broken = batch.offset(3);
+        batch.order()[broken] = batch.order()[broken + 1];
+
+        representation.repairBatch(batch);
+
+        for (int i = 0; i < 6; i++) {
+            PermutationVector row = batch.get(i);
+            assertTrue(representation.isValid(row));
+            if (i != 3) {
+                assertArrayEquals(valid.get(i).order(), row.order());
+            } else {
+                for (int k = 0; k < size; k++) {
+                    assertEquals(k, row.order()[k]);
+                }
+            }
+        }
+    }
+}
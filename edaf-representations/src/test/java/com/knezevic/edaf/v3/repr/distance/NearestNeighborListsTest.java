@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Dr. Karlo Knezevic
+ * Licensed under the Apache License, Version 2.0
+ */
+
+package com.knezevic.edaf.v3.repr.distance;
+
+import com.knezevic.edaf.v3.core.rng.RngManager;
+import com.knezevic.edaf.v3.core.rng.RngStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * Tests grid-bucketed nearest-neighbour candidate lists.
+ */
+class NearestNeighborListsTest {
+
+    @Test
+    void gridNeighborListsMatchBruteForce() {
+        RngStream rng = new RngManager(7L).stream("coords");
+        double[][] coordinates = new double[600][];
+        for (int i = 0; i < coordinates.length; i++) {
+            // Clustered rows stress rings that cross many empty cells.
+            double spread = i % 3 == 0 ? 1000.0 : 40.0;
+            coordinates[i] = new double[]{Math.floor(rng.nextDouble() * spread), Math.floor(rng.nextDouble() * spread)};
+        }
+
+        int[][] grid = NearestNeighborLists.nearest(coordinates, 8);
+        for (int i = 0; i < coordinates.length; i++) {
+            final int from = i;
+            int[] expected = IntStream.range(0, coordinates.length)
+                    .filter(j -> j != from)
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingDouble(j -> squaredDistance(coordinates[from], coordinates[j]))
+                            .thenComparingInt(j -> j))
+                    .limit(8)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            assertArrayEquals(expected, grid[i], "neighbours of " + i);
+        }
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        return dx * dx + dy * dy;
+    }
+}
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -84,4 +85,27 @@ class GrammarDecisionCodecDeterminismTest {
 
         assertTrue(decoded.ercValues().stream().allMatch(value -> value >= -2.0 && value <= 2.0));
     }
+
+    @Test
+    void engineDecodesEqualGenomesOnceThroughTreeCache() {
+        Map<String, Object> params = Map.of(
+                "mode", "auto",
+                "variables", List.of("x"),
+                "max_depth", 4,
+                "tree_cache_size", 8
+        );
+        GrammarTreeEngine engine = new GrammarTreeEngine(params);
+        boolean[] genes = new boolean[engine.encoding().genomeLength()];
+        for (int i = 0; i < genes.length; i++) {
+            genes[i] = (i % 5) == 1;
+        }
+
+        GrammarTreeEngine.TreeInspection first = engine.inspect(new BitString(genes));
+        GrammarTreeEngine.TreeInspection second = engine.inspect(new BitString(genes));
+
+        assertSame(first, second);
+        assertEquals(1L, engine.treeCacheMisses());
+        assertEquals(1L, engine.treeCacheHits());
+        assertSame(first.infix(), second.infix());
+    }
 }
@@ -5,6 +5,7 @@
 
 package com.knezevic.edaf.v3.repr.grammar;
 
+import com.knezevic.edaf.v3.repr.grammar.eval.CompiledProgram;
 import com.knezevic.edaf.v3.repr.grammar.eval.EvaluationContext;
 import com.knezevic.edaf.v3.repr.grammar.eval.TreeEvaluator;
 import com.knezevic.edaf.v3.repr.grammar.model.ConstantTerminal;
@@ -16,11 +17,14 @@ import com.knezevic.edaf.v3.repr.grammar.model.TypeSignature;
 import com.knezevic.edaf.v3.repr.grammar.model.ValueType;
 import com.knezevic.edaf.v3.repr.grammar.model.VariableTerminal;
 import com.knezevic.edaf.v3.repr.grammar.ops.OperatorDefinition;
+import com.knezevic.edaf.v3.repr.grammar.ops.OperatorKind;
 import com.knezevic.edaf.v3.repr.grammar.ops.OperatorRegistry;
+import com.knezevic.edaf.v3.repr.types.BitString;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -80,4 +84,66 @@ class TreeEvaluatorAndOperatorRegistryTest {
         assertTrue(evaluator.evaluateBoolean(trueLeaf, EvaluationContext.real(Map.of())));
         assertFalse(evaluator.evaluateBoolean(falseLeaf, EvaluationContext.real(Map.of())));
     }
+
+    @Test
+    void compiledProgramMatchesRecursiveEvaluatorAcrossBatches() {
+        GrammarTreeEngine engine = new GrammarTreeEngine(Map.of(
+                "mode", "auto",
+                "variables", List.of("x", "y"),
+                "max_depth", 6
+        ));
+        int rows = CompiledProgram.BATCH_SIZE + 37;
+        SplittableRandom random = new SplittableRandom(42L);
+        double[] xs = new double[rows];
+        double[] ys = new double[rows];
+        for (int r = 0; r < rows; r++) {
+            xs[r] = random.nextDouble(-4.0, 4.0);
+            ys[r] = random.nextDouble(-4.0, 4.0);
+        }
+
+        TreeEvaluator evaluator = new TreeEvaluator();
+        for (int candidate = 0; candidate < 40; candidate++) {
+            boolean[] genes = new boolean[engine.encoding().genomeLength()];
+            for (int i = 0; i < genes.length; i++) {
+                genes[i] = random.nextBoolean();
+            }
+            GrammarTreeEngine.TreeInspection inspection = engine.inspect(new BitString(genes));
+            CompiledProgram program = inspection.program();
+            double[] compiled = program.evaluate(program.bind(Map.of("x", xs, "y", ys)), rows);
+            for (int r = 0; r < rows; r++) {
+                double expected = evaluator.evaluate(
+                        inspection.tree(),
+                        EvaluationContext.real(Map.of("x", xs[r], "y", ys[r]))
+                );
+                assertEquals(expected, compiled[r], 0.0, inspection.infix());
+            }
+        }
+    }
+
+    @Test
+    void customOperatorReusingBuiltInNameIsNotInlined() {
+        OperatorDefinition plus = new OperatorDefinition("+", 2, OperatorKind.REAL_BINARY, null, (a, b, c) -> a - b);
+        assertTrue(new OperatorRegistry().find("+").orElseThrow().builtin());
+        assertFalse(plus.builtin());
+
+        NonTerminal expr = new NonTerminal("Expr", TypeSignature.leaf(ValueType.REAL));
+        VariableTerminal x = new VariableTerminal("x", ValueType.REAL);
+        ConstantTerminal three = new ConstantTerminal(3.0);
+        ProductionRule rule = new ProductionRule("R1", expr, List.of(new OperatorTerminal(plus), x, three));
+        DerivationTree tree = new DerivationTree.RuleNode(
+                expr,
+                rule,
+                List.of(
+                        new DerivationTree.TerminalNode(x, null, 1),
+                        new DerivationTree.TerminalNode(three, null, 1)
+                ),
+                0
+        );
+
+        CompiledProgram program = CompiledProgram.compile(tree);
+        double[] compiled = program.evaluate(program.bind(Map.of("x", new double[]{10.0, -2.0})), 2);
+        assertEquals(7.0, compiled[0], 0.0);
+        assertEquals(-5.0, compiled[1], 0.0);
+        assertEquals(7.0, new TreeEvaluator().evaluate(tree, EvaluationContext.real(Map.of("x", 10.0))), 0.0);
+    }
 }